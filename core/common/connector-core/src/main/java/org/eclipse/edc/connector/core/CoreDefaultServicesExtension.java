@@ -21,12 +21,15 @@ import org.eclipse.edc.connector.core.base.EdcHttpClientImpl;
 import org.eclipse.edc.connector.core.base.OkHttpClientFactory;
 import org.eclipse.edc.connector.core.base.RetryPolicyFactory;
 import org.eclipse.edc.connector.core.base.agent.NoOpParticipantIdMapper;
+import org.eclipse.edc.connector.core.entity.InMemoryStateEntityNotificationChannel;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.connector.core.vault.InMemoryVault;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -47,6 +50,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Core Default Services";
 
+    private static final int DEFAULT_EVENT_THREADS = 4;
+
+    @Setting(value = "Number of threads on which the asynchronous event subscribers are called", type = "int", defaultValue = DEFAULT_EVENT_THREADS + "", min = 1)
+    public static final String EVENT_THREADS_SETTING = "edc.core.event.threads";
+
     /**
      * An optional OkHttp {@link EventListener} that can be used to instrument OkHttp client for collecting metrics.
      */
@@ -76,8 +84,13 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
     }
 
     @Provider(isDefault = true)
-    public EventExecutorServiceContainer eventExecutorServiceContainer() {
-        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1));
+    public StateEntityNotificationChannel stateEntityNotificationChannel() {
+        return new InMemoryStateEntityNotificationChannel();
+    }
+
+    @Provider(isDefault = true)
+    public EventExecutorServiceContainer eventExecutorServiceContainer(ServiceExtensionContext context) {
+        return new EventExecutorServiceContainer(Executors.newFixedThreadPool(context.getSetting(EVENT_THREADS_SETTING, DEFAULT_EVENT_THREADS)));
     }
 
     @Provider(isDefault = true)
@@ -18,7 +18,10 @@ import org.eclipse.edc.connector.core.base.CommandHandlerRegistryImpl;
 import org.eclipse.edc.connector.core.base.RemoteMessageDispatcherRegistryImpl;
 import org.eclipse.edc.connector.core.base.agent.ParticipantAgentServiceImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
+import org.eclipse.edc.connector.core.event.EventOverflowPolicy;
 import org.eclipse.edc.connector.core.event.EventRouterImpl;
+import org.eclipse.edc.connector.core.event.EventSubscriberQueueConfiguration;
+import org.eclipse.edc.connector.core.event.EventSubscriberQueueHealthCheck;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceConfiguration;
 import org.eclipse.edc.connector.core.health.HealthCheckServiceImpl;
 import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
@@ -46,12 +49,14 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.Config;
 import org.eclipse.edc.spi.system.health.HealthCheckService;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
 import java.time.Duration;
 
 import static org.eclipse.edc.spi.agent.ParticipantAgentService.DEFAULT_IDENTITY_CLAIM_KEY;
@@ -77,6 +82,31 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    @Setting(value = "Max number of events waiting for an asynchronous subscriber. Can be overridden per subscriber with edc.core.event.subscriber.<subscriber class simple name>.queue.capacity",
+            type = "int", defaultValue = EventSubscriberQueueConfiguration.DEFAULT_CAPACITY + "", min = 1)
+    public static final String EVENT_QUEUE_CAPACITY_SETTING = "edc.core.event.queue.capacity";
+
+    @Setting(value = "Max number of events delivered concurrently to an asynchronous subscriber, 1 keeps them in order. Can be overridden per subscriber with edc.core.event.subscriber.<subscriber class simple name>.queue.parallelism",
+            type = "int", defaultValue = EventSubscriberQueueConfiguration.DEFAULT_PARALLELISM + "", min = 1)
+    public static final String EVENT_QUEUE_PARALLELISM_SETTING = "edc.core.event.queue.parallelism";
+
+    @Setting(value = "What happens when the queue of an asynchronous subscriber is full: BLOCK, DROP_OLDEST or SPILL. DROP_OLDEST loses events, so it should only be set " +
+            "per subscriber, for the ones that can afford it, with edc.core.event.subscriber.<subscriber class simple name>.queue.overflow",
+            defaultValue = "SPILL")
+    public static final String EVENT_QUEUE_OVERFLOW_SETTING = "edc.core.event.queue.overflow";
+
+    @Setting(value = "Max number of events spilled by an asynchronous subscriber whose queue is full, before the publisher waits. Can be overridden per subscriber with " +
+            "edc.core.event.subscriber.<subscriber class simple name>.queue.spill-capacity",
+            type = "int", defaultValue = EventSubscriberQueueConfiguration.DEFAULT_SPILL_CAPACITY + "", min = 0)
+    public static final String EVENT_QUEUE_SPILL_CAPACITY_SETTING = "edc.core.event.queue.spill-capacity";
+
+    @Setting(value = "Max time in seconds an event can wait for an asynchronous subscriber before the runtime is reported as not ready. 0 (default) disables the check, " +
+            "as a slow external subscriber would take the whole runtime out of load balancing",
+            type = "long", defaultValue = "0", min = 0)
+    public static final String EVENT_QUEUE_MAX_LAG_SETTING = "edc.core.event.queue.health.max-lag";
+
+    private static final String EVENT_SUBSCRIBER_CONFIG_PREFIX = "edc.core.event.subscriber";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
@@ -94,6 +124,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistry ruleBindingRegistry;
 
@@ -164,10 +197,32 @@ public class CoreServicesExtension implements ServiceExtension {
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var defaults = new EventSubscriberQueueConfiguration(
+                context.getSetting(EVENT_QUEUE_CAPACITY_SETTING, EventSubscriberQueueConfiguration.DEFAULT_CAPACITY),
+                context.getSetting(EVENT_QUEUE_PARALLELISM_SETTING, EventSubscriberQueueConfiguration.DEFAULT_PARALLELISM),
+                EventOverflowPolicy.valueOf(context.getSetting(EVENT_QUEUE_OVERFLOW_SETTING, EventSubscriberQueueConfiguration.DEFAULT_OVERFLOW_POLICY.name())),
+                context.getSetting(EVENT_QUEUE_SPILL_CAPACITY_SETTING, EventSubscriberQueueConfiguration.DEFAULT_SPILL_CAPACITY));
+        var subscriberConfigs = context.getConfig(EVENT_SUBSCRIBER_CONFIG_PREFIX);
+
+        var eventRouter = new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(),
+                subscriber -> subscriberQueueConfiguration(subscriberConfigs.getConfig(subscriber.getClass().getSimpleName() + ".queue"), defaults), clock);
+
+        var maxLag = Duration.ofSeconds(context.getSetting(EVENT_QUEUE_MAX_LAG_SETTING, 0L));
+        if (!maxLag.isZero()) {
+            healthCheckService.addReadinessProvider(new EventSubscriberQueueHealthCheck(eventRouter::getStatistics, maxLag));
+        }
+        return eventRouter;
     }
 
 
+    private EventSubscriberQueueConfiguration subscriberQueueConfiguration(Config config, EventSubscriberQueueConfiguration defaults) {
+        return new EventSubscriberQueueConfiguration(
+                config.getInteger("capacity", defaults.capacity()),
+                config.getInteger("parallelism", defaults.parallelism()),
+                EventOverflowPolicy.valueOf(config.getString("overflow", defaults.overflowPolicy().name())),
+                config.getInteger("spill-capacity", defaults.spillCapacity()));
+    }
+
     @Provider
     public HealthCheckService healthCheckService() {
         return healthCheckService;
@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.core.security.keyparsers.PemParser;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.KeyParserRegistry;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
@@ -30,6 +31,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.eclipse.edc.connector.core.SecurityDefaultServicesExtension.NAME;
 
 /**
@@ -41,6 +45,12 @@ import static org.eclipse.edc.connector.core.SecurityDefaultServicesExtension.NA
 public class SecurityDefaultServicesExtension implements ServiceExtension {
     public static final String NAME = "Security Default Services Extension";
 
+    private static final long DEFAULT_PRIVATE_KEY_CACHE_TTL_SECONDS = 300;
+
+    @Setting(value = "Time-to-live in seconds of the private keys resolved from the vault, after which the key material is fetched again to pick up a rotated key. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_PRIVATE_KEY_CACHE_TTL_SECONDS + "", min = 0)
+    private static final String PRIVATE_KEY_CACHE_TTL_SECONDS = "edc.core.security.privatekey.cache.ttl-seconds";
+
     private KeyParserRegistry keyParserRegistry;
 
     @Inject
@@ -49,12 +59,17 @@ public class SecurityDefaultServicesExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
+    @Inject
+    private Clock clock;
+
     private PrivateKeyResolver privateKeyResolver;
 
     @Provider(isDefault = true)
     public PrivateKeyResolver privateKeyResolver(ServiceExtensionContext context) {
         if (privateKeyResolver == null) {
-            privateKeyResolver = new VaultPrivateKeyResolver(keyParserRegistry(context), vault, context.getMonitor().withPrefix("PrivateKeyResolution"), context.getConfig());
+            var cacheTtl = Duration.ofSeconds(context.getSetting(PRIVATE_KEY_CACHE_TTL_SECONDS, DEFAULT_PRIVATE_KEY_CACHE_TTL_SECONDS));
+            privateKeyResolver = new VaultPrivateKeyResolver(keyParserRegistry(context), vault, context.getMonitor().withPrefix("PrivateKeyResolution"), context.getConfig(),
+                    cacheTtl, clock);
         }
         return privateKeyResolver;
     }
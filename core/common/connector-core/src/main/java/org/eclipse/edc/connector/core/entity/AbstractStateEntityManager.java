@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.core.entity;
 
 import org.eclipse.edc.spi.entity.StateEntityManager;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
@@ -22,9 +23,12 @@ import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ExecutionMode;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -45,6 +49,8 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+    protected int workers = 0;
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
@@ -52,14 +58,19 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
+    protected StateEntityNotificationChannel notificationChannel = new InMemoryStateEntityNotificationChannel();
+    protected TransactionContext transactionContext = new NoopTransactionContext();
     protected S store;
 
     @Override
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .executionMode(executionMode)
+                .workers(workers);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
+        notificationChannel.subscribe(notificationTopic(), this::wakeUp);
 
         stateMachineManager.start();
     }
@@ -79,16 +90,39 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
      */
     protected abstract StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder);
 
+    /**
+     * The topic on which the state transitions of the managed entities are notified, usually
+     * {@link StateEntityNotificationChannel#topic(Class)} of the entity type.
+     *
+     * @return the topic.
+     */
+    protected abstract String notificationTopic();
+
     @NotNull
     private EntityRetryProcessConfiguration defaultEntityRetryProcessConfiguration() {
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
     }
 
+    /**
+     * Persists the entity and, once the transaction commits, wakes up the processors of its new state.
+     *
+     * @param entity the entity.
+     */
     protected void update(E entity) {
         store.save(entity);
         monitor.debug(() -> "[%s] %s %s is now in state %s"
                 .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                         entity.getId(), entity.stateAsString()));
+        var state = entity.getState();
+        transactionContext.afterCommit(() -> notificationChannel.publish(notificationTopic(), state));
+    }
+
+    private void wakeUp(int state) {
+        if (state == StateEntityNotificationChannel.ANY_STATE) {
+            stateMachineManager.wakeUp();
+        } else {
+            stateMachineManager.wakeUp(state);
+        }
     }
 
     protected void breakLease(E entity) {
@@ -115,6 +149,16 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B executionMode(ExecutionMode executionMode) {
+            manager.executionMode = executionMode;
+            return self();
+        }
+
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
@@ -140,6 +184,16 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B notificationChannel(StateEntityNotificationChannel notificationChannel) {
+            manager.notificationChannel = notificationChannel;
+            return self();
+        }
+
+        public B transactionContext(TransactionContext transactionContext) {
+            manager.transactionContext = transactionContext;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
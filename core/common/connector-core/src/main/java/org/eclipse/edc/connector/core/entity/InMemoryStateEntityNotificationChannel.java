@@ -0,0 +1,42 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.entity;
+
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+/**
+ * In-process implementation of the {@link StateEntityNotificationChannel}: listeners are called synchronously on the
+ * publishing thread, so they are expected to return immediately.
+ */
+public class InMemoryStateEntityNotificationChannel implements StateEntityNotificationChannel {
+
+    private final Map<String, List<IntConsumer>> listeners = new ConcurrentHashMap<>();
+
+    @Override
+    public void publish(String topic, int state) {
+        listeners.getOrDefault(topic, List.of()).forEach(listener -> listener.accept(state));
+    }
+
+    @Override
+    public void subscribe(String topic, IntConsumer listener) {
+        listeners.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+/**
+ * What happens to an event published to an asynchronous subscriber whose queue is full.
+ */
+public enum EventOverflowPolicy {
+
+    /**
+     * The publisher waits until the subscriber frees space in its queue. A subscriber must not publish events it is
+     * subscribed to with this policy, as it would wait for itself.
+     */
+    BLOCK,
+
+    /**
+     * The oldest queued event is discarded to make space for the new one. It bounds the memory used by a slow subscriber
+     * and never makes the publisher wait, but events are lost: it must only be chosen for subscribers that can afford
+     * it, e.g. ones publishing events to monitoring systems, never for the ones delivering EDRs or callbacks.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The event is moved to an overflow buffer, that is drained in order once the queue has space again. This is the
+     * default: nothing is lost and bursts are absorbed without making the publisher wait. The buffer is bounded by the
+     * spill capacity, when it is full the publisher waits as with {@link #BLOCK}.
+     */
+    SPILL
+}
@@ -12,7 +12,6 @@
  *       Masatake Iwasaki (NTT DATA) - refactored to use dedicated thread pool
  *
  */
-
 package org.eclipse.edc.connector.core.event;
 
 import org.eclipse.edc.spi.event.Event;
@@ -21,67 +20,92 @@ import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
 
-import java.util.ArrayList;
+import java.time.Clock;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
-
-import static java.lang.String.format;
-import static java.util.concurrent.CompletableFuture.runAsync;
+import java.util.function.Function;
 
+/**
+ * Default {@link EventRouter}. Synchronous subscribers are called on the publishing thread, every asynchronous subscriber
+ * gets its own bounded {@link EventSubscriberQueue}, drained on the shared executor, so that a slow subscriber does not
+ * delay the others. The subscribers of every concrete event class are resolved once and cached until the next
+ * registration.
+ */
 public class EventRouterImpl implements EventRouter {
 
-    private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
-    private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final List<Registration<EventSubscriber>> syncSubscribers = new CopyOnWriteArrayList<>();
+    private final List<Registration<EventSubscriberQueue>> subscribers = new CopyOnWriteArrayList<>();
+    // replaced on every registration, so that a resolution computed concurrently with a registration is never kept
+    private volatile Map<Class<?>, List<EventSubscriber>> resolvedSyncSubscribers = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<EventSubscriberQueue>> resolvedSubscribers = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final Function<EventSubscriber, EventSubscriberQueueConfiguration> configurationProvider;
+    private final Clock clock;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, subscriber -> EventSubscriberQueueConfiguration.defaults(), Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param monitor               the monitor.
+     * @param executor              the executor on which the asynchronous subscribers are called.
+     * @param configurationProvider provides the queue configuration of every asynchronous subscriber.
+     * @param clock                 the clock, used to measure the queue lag.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, Function<EventSubscriber, EventSubscriberQueueConfiguration> configurationProvider, Clock clock) {
         this.monitor = monitor;
         this.executor = executor;
+        this.configurationProvider = configurationProvider;
+        this.clock = clock;
     }
 
     @Override
     public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        syncSubscribers.add(new Registration<>(eventKind, subscriber));
+        resolvedSyncSubscribers = new ConcurrentHashMap<>();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        var queue = new EventSubscriberQueue(eventKind, subscriber, configurationProvider.apply(subscriber), executor, clock, monitor);
+        subscribers.add(new Registration<>(eventKind, queue));
+        resolvedSubscribers = new ConcurrentHashMap<>();
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
+        var eventClass = event.getPayload().getClass();
+
+        resolvedSyncSubscribers.computeIfAbsent(eventClass, c -> resolve(syncSubscribers, c))
+                .forEach(subscriber -> subscriber.on(event));
 
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        resolvedSubscribers.computeIfAbsent(eventClass, c -> resolve(subscribers, c))
+                .forEach(queue -> queue.enqueue(event));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    /**
+     * Returns the state of the queue of every asynchronous subscriber.
+     *
+     * @return the queue statistics.
+     */
+    public List<EventSubscriberQueueStatistics> getStatistics() {
+        return subscribers.stream().map(registration -> registration.target().statistics()).toList();
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private <T> List<T> resolve(List<Registration<T>> registrations, Class<?> eventClass) {
+        return registrations.stream()
+                .filter(registration -> registration.eventKind().isAssignableFrom(eventClass))
+                .map(Registration::target)
+                .toList();
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    private record Registration<T>(Class<?> eventKind, T target) {
     }
 }
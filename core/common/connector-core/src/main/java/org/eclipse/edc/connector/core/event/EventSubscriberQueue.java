@@ -0,0 +1,208 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded queue of the events published to an asynchronous subscriber. Events are delivered by drain tasks that run on
+ * the shared executor, at most {@code parallelism} of them at the same time. A drain task gives its thread back after a
+ * fixed number of events, so a subscriber with a deep queue does not starve the others.
+ */
+class EventSubscriberQueue {
+
+    private static final int MAX_EVENTS_PER_DRAIN = 64;
+
+    private final Class<?> eventKind;
+    private final EventSubscriber subscriber;
+    private final EventSubscriberQueueConfiguration configuration;
+    private final Executor executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<QueuedEvent> queue = new ArrayDeque<>();
+    private final Deque<QueuedEvent> spill = new ArrayDeque<>();
+    private int activeDrains;
+    private long dropped;
+    private boolean overflowing;
+
+    EventSubscriberQueue(Class<?> eventKind, EventSubscriber subscriber, EventSubscriberQueueConfiguration configuration,
+                         Executor executor, Clock clock, Monitor monitor) {
+        this.eventKind = eventKind;
+        this.subscriber = subscriber;
+        this.configuration = configuration;
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Queues the event, applying the overflow policy if the queue is full, and starts a drain task if allowed.
+     *
+     * @param event the event.
+     */
+    void enqueue(EventEnvelope<?> event) {
+        var queued = new QueuedEvent(event, clock.millis());
+        lock.lock();
+        try {
+            if (!accept(queued)) {
+                return;
+            }
+            if (activeDrains < configuration.parallelism()) {
+                activeDrains++;
+                submitDrain();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    EventSubscriberQueueStatistics statistics() {
+        lock.lock();
+        try {
+            var oldest = queue.peekFirst();
+            var lag = oldest == null ? Duration.ZERO : Duration.ofMillis(Math.max(0, clock.millis() - oldest.queuedAt()));
+            return new EventSubscriberQueueStatistics(subscriberName(), eventKind.getName(), queue.size(), spill.size(), dropped, lag);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean accept(QueuedEvent queued) {
+        var policy = configuration.overflowPolicy();
+        while (isFull(policy)) {
+            warnOverflow();
+            switch (policy) {
+                case BLOCK, SPILL -> {
+                    try {
+                        notFull.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped++;
+                        monitor.warning(format("Interrupted while waiting for the queue of subscriber %s, event %s dropped", subscriberName(), eventName(queued)));
+                        return false;
+                    }
+                }
+                case DROP_OLDEST -> {
+                    queue.pollFirst();
+                    dropped++;
+                }
+                default -> throw new IllegalStateException("Unexpected overflow policy: " + policy);
+            }
+        }
+
+        if (policy == EventOverflowPolicy.SPILL && (!spill.isEmpty() || queue.size() >= configuration.capacity())) {
+            spill.addLast(queued);
+        } else {
+            queue.addLast(queued);
+        }
+        return true;
+    }
+
+    private boolean isFull(EventOverflowPolicy policy) {
+        var queueFull = queue.size() >= configuration.capacity();
+        return policy == EventOverflowPolicy.SPILL ? queueFull && spill.size() >= configuration.spillCapacity() : queueFull;
+    }
+
+    private void drain() {
+        for (var i = 0; i < MAX_EVENTS_PER_DRAIN; i++) {
+            QueuedEvent next;
+            lock.lock();
+            try {
+                next = poll();
+                if (next == null) {
+                    activeDrains--;
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            deliver(next);
+        }
+
+        lock.lock();
+        try {
+            submitDrain();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private QueuedEvent poll() {
+        var next = queue.pollFirst();
+        if (next != null) {
+            var spilled = spill.pollFirst();
+            if (spilled != null) {
+                queue.addLast(spilled);
+            }
+            if (queue.size() < configuration.capacity()) {
+                overflowing = false;
+            }
+            // a slot got free either in the queue or in the spill buffer
+            notFull.signal();
+        }
+        return next;
+    }
+
+    private void deliver(QueuedEvent queued) {
+        try {
+            subscriber.on(queued.event());
+        } catch (Throwable throwable) {
+            monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName(), eventName(queued)), throwable);
+        }
+    }
+
+    private void submitDrain() {
+        try {
+            executor.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            activeDrains--;
+            monitor.warning(format("Cannot dispatch events to subscriber %s, %d events left in its queue", subscriberName(), queue.size() + spill.size()), e);
+        }
+    }
+
+    private void warnOverflow() {
+        if (!overflowing) {
+            overflowing = true;
+            monitor.warning(format("Event queue of subscriber %s is full (%d events), applying overflow policy %s",
+                    subscriberName(), configuration.capacity(), configuration.overflowPolicy()));
+        }
+    }
+
+    private String subscriberName() {
+        return subscriber.getClass().getSimpleName();
+    }
+
+    private String eventName(QueuedEvent queued) {
+        return queued.event().getPayload().getClass().getSimpleName();
+    }
+
+    private record QueuedEvent(EventEnvelope<?> event, long queuedAt) {
+    }
+}
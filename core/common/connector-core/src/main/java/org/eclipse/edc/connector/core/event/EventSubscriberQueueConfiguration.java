@@ -0,0 +1,53 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+/**
+ * Configuration of the queue of an asynchronous event subscriber.
+ *
+ * @param capacity       max number of events waiting for the subscriber, before the overflow policy kicks in.
+ * @param parallelism    max number of events delivered to the subscriber concurrently. With 1 the events are delivered in
+ *                       the order they were published.
+ * @param overflowPolicy what happens when the queue is full.
+ * @param spillCapacity  max number of events moved to the overflow buffer with {@link EventOverflowPolicy#SPILL}, before
+ *                       the publisher waits.
+ */
+public record EventSubscriberQueueConfiguration(int capacity, int parallelism, EventOverflowPolicy overflowPolicy, int spillCapacity) {
+
+    public static final int DEFAULT_CAPACITY = 1000;
+    public static final int DEFAULT_PARALLELISM = 1;
+    public static final EventOverflowPolicy DEFAULT_OVERFLOW_POLICY = EventOverflowPolicy.SPILL;
+    public static final int DEFAULT_SPILL_CAPACITY = 100_000;
+
+    public EventSubscriberQueueConfiguration {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Event subscriber queue capacity must be at least 1, was " + capacity);
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Event subscriber parallelism must be at least 1, was " + parallelism);
+        }
+        if (spillCapacity < 0) {
+            throw new IllegalArgumentException("Event subscriber spill capacity must not be negative, was " + spillCapacity);
+        }
+    }
+
+    public EventSubscriberQueueConfiguration(int capacity, int parallelism, EventOverflowPolicy overflowPolicy) {
+        this(capacity, parallelism, overflowPolicy, DEFAULT_SPILL_CAPACITY);
+    }
+
+    public static EventSubscriberQueueConfiguration defaults() {
+        return new EventSubscriberQueueConfiguration(DEFAULT_CAPACITY, DEFAULT_PARALLELISM, DEFAULT_OVERFLOW_POLICY, DEFAULT_SPILL_CAPACITY);
+    }
+}
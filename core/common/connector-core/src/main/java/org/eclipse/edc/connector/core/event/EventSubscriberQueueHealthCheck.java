@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.eclipse.edc.spi.system.health.HealthCheckResult;
+import org.eclipse.edc.spi.system.health.ReadinessProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * Reports the runtime as not ready when the oldest event waiting for an asynchronous subscriber has been queued for
+ * longer than the max lag, listing the depth, spilled and dropped counts of the lagging queues.
+ */
+public class EventSubscriberQueueHealthCheck implements ReadinessProvider {
+
+    private static final String COMPONENT = "Event subscriber queues";
+
+    private final Supplier<List<EventSubscriberQueueStatistics>> statistics;
+    private final Duration maxLag;
+
+    public EventSubscriberQueueHealthCheck(Supplier<List<EventSubscriberQueueStatistics>> statistics, Duration maxLag) {
+        this.statistics = statistics;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    public HealthCheckResult get() {
+        var lagging = statistics.get().stream()
+                .filter(queue -> queue.lag().compareTo(maxLag) > 0)
+                .map(queue -> format("Subscriber %s for %s lags by %d ms (depth %d, spilled %d, dropped %d)",
+                        queue.subscriber(), queue.eventKind(), queue.lag().toMillis(), queue.depth(), queue.spilled(), queue.dropped()))
+                .toArray(String[]::new);
+
+        var result = lagging.length == 0 ? HealthCheckResult.success() : HealthCheckResult.failed(lagging);
+        return result.forComponent(COMPONENT);
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.event;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the queue of an asynchronous event subscriber.
+ *
+ * @param subscriber the subscriber name, its class name.
+ * @param eventKind  the event kind the subscriber is registered for.
+ * @param depth      number of events waiting in the bounded queue.
+ * @param spilled    number of events waiting in the overflow buffer.
+ * @param dropped    total number of events dropped because the queue was full.
+ * @param lag        time the oldest waiting event has been queued for.
+ */
+public record EventSubscriberQueueStatistics(String subscriber, String eventKind, int depth, int spilled, long dropped, Duration lag) {
+}
@@ -21,15 +21,21 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +155,137 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldNotDelayOtherSubscribers_whenSubscriberIsSlow() throws InterruptedException {
+        var release = new CountDownLatch(1);
+        var slowSubscriber = mock(EventSubscriber.class);
+        doAnswer(i -> release.await(5, TimeUnit.SECONDS)).when(slowSubscriber).on(any());
+        var subscriber = mock(EventSubscriber.class);
+        var router = new EventRouterImpl(monitor, Executors.newFixedThreadPool(2));
+        router.register(TestEvent.class, slowSubscriber);
+        router.register(TestEvent.class, subscriber);
+
+        router.publish(event());
+        router.publish(event());
+
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(subscriber, times(2)).on(any()));
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> verify(slowSubscriber, times(2)).on(any()));
+    }
+
+    @Test
+    void shouldDropOldestEvent_whenQueueIsFull() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var received = new CopyOnWriteArrayList<EventEnvelope<?>>();
+        EventSubscriber subscriber = new BlockingSubscriber(started, release, received);
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(),
+                s -> new EventSubscriberQueueConfiguration(1, 1, EventOverflowPolicy.DROP_OLDEST), clock);
+        router.register(TestEvent.class, subscriber);
+        var first = event();
+        var dropped = event();
+        var last = event();
+
+        router.publish(first);
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        router.publish(dropped);
+        router.publish(last);
+
+        assertThat(router.getStatistics()).singleElement().satisfies(statistics -> {
+            assertThat(statistics.depth()).isEqualTo(1);
+            assertThat(statistics.dropped()).isEqualTo(1);
+        });
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactly(first, last));
+    }
+
+    @Test
+    void shouldSpillEventsInOrder_whenQueueIsFull() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var received = new CopyOnWriteArrayList<EventEnvelope<?>>();
+        EventSubscriber subscriber = new BlockingSubscriber(started, release, received);
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(),
+                s -> new EventSubscriberQueueConfiguration(1, 1, EventOverflowPolicy.SPILL), clock);
+        router.register(TestEvent.class, subscriber);
+        var events = List.of(event(), event(), event(), event());
+
+        router.publish(events.get(0));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        events.subList(1, 4).forEach(router::publish);
+
+        assertThat(router.getStatistics()).singleElement().satisfies(statistics -> {
+            assertThat(statistics.depth()).isEqualTo(1);
+            assertThat(statistics.spilled()).isEqualTo(2);
+            assertThat(statistics.dropped()).isZero();
+        });
+        release.countDown();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+    }
+
+    @Test
+    void shouldMakePublisherWait_whenSpillIsFull() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var received = new CopyOnWriteArrayList<EventEnvelope<?>>();
+        EventSubscriber subscriber = new BlockingSubscriber(started, release, received);
+        var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(),
+                s -> new EventSubscriberQueueConfiguration(1, 1, EventOverflowPolicy.SPILL, 1), clock);
+        router.register(TestEvent.class, subscriber);
+        var events = List.of(event(), event(), event(), event());
+
+        router.publish(events.get(0));
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+        router.publish(events.get(1));
+        router.publish(events.get(2));
+        var published = new CountDownLatch(1);
+        Executors.newSingleThreadExecutor().execute(() -> {
+            router.publish(events.get(3));
+            published.countDown();
+        });
+
+        assertThat(published.await(200, TimeUnit.MILLISECONDS)).isFalse();
+        release.countDown();
+        assertThat(published.await(1, TimeUnit.SECONDS)).isTrue();
+        await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(received).containsExactlyElementsOf(events));
+        assertThat(router.getStatistics()).singleElement().satisfies(statistics -> assertThat(statistics.dropped()).isZero());
+    }
+
+    @Test
+    void shouldResolveNewSubscriber_whenRegisteredAfterPublishing() {
+        var subscriberA = mock(EventSubscriber.class);
+        var subscriberB = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriberA);
+        eventRouter.publish(event());
+
+        eventRouter.registerSync(TestEventBase.class, subscriberB);
+        eventRouter.publish(event());
+
+        verify(subscriberA, times(2)).on(any());
+        verify(subscriberB).on(any());
+    }
+
+    private EventEnvelope<TestEvent> event() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
+    private record BlockingSubscriber(CountDownLatch started, CountDownLatch release, List<EventEnvelope<?>> received) implements EventSubscriber {
+
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> event) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event);
+        }
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.core.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSubscriberQueueHealthCheckTest {
+
+    @Test
+    void shouldSucceed_whenNoQueueLagsBehind() {
+        var statistics = List.of(new EventSubscriberQueueStatistics("Subscriber", "Event", 10, 0, 0, Duration.ofSeconds(1)));
+        var healthCheck = new EventSubscriberQueueHealthCheck(() -> statistics, Duration.ofSeconds(60));
+
+        var result = healthCheck.get();
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
+    @Test
+    void shouldFail_whenQueueLagsBehind() {
+        var statistics = List.of(
+                new EventSubscriberQueueStatistics("Fast", "Event", 1, 0, 0, Duration.ofSeconds(1)),
+                new EventSubscriberQueueStatistics("Slow", "Event", 1000, 5, 3, Duration.ofSeconds(90)));
+        var healthCheck = new EventSubscriberQueueHealthCheck(() -> statistics, Duration.ofSeconds(60));
+
+        var result = healthCheck.get();
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).singleElement().asString()
+                .contains("Slow", "90000 ms", "depth 1000", "spilled 5", "dropped 3");
+    }
+}
@@ -29,11 +29,14 @@ import org.eclipse.edc.policy.model.Rule;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -54,6 +57,7 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, EvaluationPlan> plans = new ConcurrentHashMap<>();
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
@@ -67,94 +71,53 @@ public class PolicyEngineImpl implements PolicyEngine {
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
-
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
-            if (!validator.apply(policy, context)) {
-                return failValidator("Pre-validator", validator, context);
-            }
-        }
-
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) -> entry.function.evaluate(key, operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
-
-        var filteredPolicy = scopeFilter.applyScope(policy, scope);
-
-        var result = evaluator.evaluate(filteredPolicy);
-
-        if (result.valid()) {
-
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
-                if (!validator.apply(policy, context)) {
-                    return failValidator("Post-validator", validator, context);
-                }
-            }
-
-            return success();
-        } else {
-            return failure(result.getProblems().stream().map(RuleProblem::getDescription).collect(toList()));
-        }
+        return plans.computeIfAbsent(scope, this::compile).evaluate(policy, context);
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        plans.clear();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function));
+        plans.clear();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        plans.clear();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        plans.clear();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        plans.clear();
+    }
+
+    /**
+     * Collects the validators and the functions that apply to the scope, to be reused by every evaluation on it.
+     */
+    private EvaluationPlan compile(String scope) {
+        var delimitedScope = scope + ".";
+        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
+        var scopedRuleFunctions = ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+        var scopedConstraintFunctions = constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+        var scopedDynamicConstraintFunctions = dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).toList();
+        var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
+        return new EvaluationPlan(scope, scopedPreValidators, scopedRuleFunctions, scopedConstraintFunctions, scopedDynamicConstraintFunctions, scopedPostValidators);
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -166,6 +129,146 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The validators and functions bound to a scope. Scope-filtered policies are cached by policy instance, so a policy
+     * evaluated repeatedly on the same scope is filtered once. Policies are weakly referenced and their entries are
+     * dropped once they have been garbage collected. As for function registrations, rule bindings are expected to be
+     * completed before the first evaluation.
+     */
+    private class EvaluationPlan {
+        private static final int MAX_FILTERED_POLICIES = 1000;
+
+        private final String scope;
+        private final List<BiFunction<Policy, PolicyContext, Boolean>> preValidators;
+        private final List<RuleFunctionEntry<Rule>> ruleFunctions;
+        private final List<ConstraintFunctionEntry<Rule>> constraintFunctions;
+        private final List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions;
+        private final List<BiFunction<Policy, PolicyContext, Boolean>> postValidators;
+        private final Map<PolicyReference, Policy> filteredPolicies = new ConcurrentHashMap<>();
+        private final ReferenceQueue<Policy> collectedPolicies = new ReferenceQueue<>();
+
+        EvaluationPlan(String scope, List<BiFunction<Policy, PolicyContext, Boolean>> preValidators, List<RuleFunctionEntry<Rule>> ruleFunctions,
+                       List<ConstraintFunctionEntry<Rule>> constraintFunctions, List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions,
+                       List<BiFunction<Policy, PolicyContext, Boolean>> postValidators) {
+            this.scope = scope;
+            this.preValidators = preValidators;
+            this.ruleFunctions = ruleFunctions;
+            this.constraintFunctions = constraintFunctions;
+            this.dynamicConstraintFunctions = dynamicConstraintFunctions;
+            this.postValidators = postValidators;
+        }
+
+        Result<Void> evaluate(Policy policy, PolicyContext context) {
+            for (var validator : preValidators) {
+                if (!validator.apply(policy, context)) {
+                    return failValidator("Pre-validator", validator, context);
+                }
+            }
+
+            var result = evaluator(context).evaluate(filter(policy));
+
+            if (result.valid()) {
+                for (var validator : postValidators) {
+                    if (!validator.apply(policy, context)) {
+                        return failValidator("Post-validator", validator, context);
+                    }
+                }
+
+                return success();
+            } else {
+                return failure(result.getProblems().stream().map(RuleProblem::getDescription).collect(toList()));
+            }
+        }
+
+        private Policy filter(Policy policy) {
+            var filtered = filteredPolicies.get(new PolicyReference(policy, null));
+            if (filtered == null) {
+                filtered = scopeFilter.applyScope(policy, scope);
+                expungeCollectedPolicies();
+                if (filteredPolicies.size() >= MAX_FILTERED_POLICIES) {
+                    filteredPolicies.clear();
+                }
+                filteredPolicies.put(new PolicyReference(policy, collectedPolicies), filtered);
+            }
+            return filtered;
+        }
+
+        private void expungeCollectedPolicies() {
+            for (var reference = collectedPolicies.poll(); reference != null; reference = collectedPolicies.poll()) {
+                filteredPolicies.remove(reference);
+            }
+        }
+
+        /**
+         * The {@link PolicyEvaluator} is stateful and its functions are bound to the context, so it is built for every evaluation.
+         */
+        private PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+
+            ruleFunctions.forEach(entry -> {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                }
+            });
+
+            constraintFunctions.forEach(entry -> {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+                }
+            });
+
+            dynamicConstraintFunctions.forEach(entry -> {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) -> entry.function.evaluate(key, operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
+                }
+            });
+
+            return evalBuilder.build();
+        }
+    }
+
+    /**
+     * Weak reference to a policy that is equal to another reference to the same policy instance. Rules do not
+     * implement structural equality, so policies are compared by identity.
+     */
+    private static class PolicyReference extends WeakReference<Policy> {
+        private final int hash;
+
+        PolicyReference(Policy policy, ReferenceQueue<Policy> queue) {
+            super(policy, queue);
+            this.hash = System.identityHashCode(policy);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PolicyReference other)) {
+                return false;
+            }
+            var policy = get();
+            return policy != null && policy == other.get();
+        }
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
@@ -46,7 +46,10 @@ import static org.eclipse.edc.policy.model.Operator.EQ;
 import static org.junit.jupiter.params.provider.Arguments.of;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -74,6 +77,34 @@ class PolicyEngineImplTest {
         assertThat(result).isSucceeded();
     }
 
+    @Test
+    void validateValidatorRegisteredAfterPreviousEvaluation() {
+        var emptyPolicy = Policy.Builder.newInstance().build();
+        var context = PolicyContextImpl.Builder.newInstance().build();
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, emptyPolicy, context)).isSucceeded();
+
+        policyEngine.registerPreValidator(TEST_SCOPE, (policy, ctx) -> false);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, emptyPolicy, context)).isFailed();
+    }
+
+    @Test
+    void evaluate_shouldFilterSamePolicyOnce() {
+        var scopeFilter = spy(new ScopeFilter(bindingRegistry));
+        var engine = new PolicyEngineImpl(scopeFilter);
+        var policy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().build()).build();
+        var equalPolicy = Policy.Builder.newInstance().permission(Permission.Builder.newInstance().build()).build();
+        var context = PolicyContextImpl.Builder.newInstance().build();
+
+        engine.evaluate(TEST_SCOPE, policy, context);
+        engine.evaluate(TEST_SCOPE, policy, context);
+        engine.evaluate(TEST_SCOPE, equalPolicy, context);
+
+        verify(scopeFilter, times(1)).applyScope(same(policy), eq(TEST_SCOPE));
+        verify(scopeFilter, times(1)).applyScope(same(equalPolicy), eq(TEST_SCOPE));
+    }
+
     @Test
     void validateUnsatisfiedDuty() {
         var context = PolicyContextImpl.Builder.newInstance().build();
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+/**
+ * Defines how the {@link StateMachineManager} schedules its {@link Processor}s.
+ */
+public enum ExecutionMode {
+
+    /**
+     * All the processors run one after another on a single loop.
+     */
+    SEQUENTIAL,
+
+    /**
+     * Every processor runs on its own loop (lane), so a slow processor does not stall the others.
+     */
+    PER_PROCESSOR
+}
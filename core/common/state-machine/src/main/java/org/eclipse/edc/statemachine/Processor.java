@@ -28,4 +28,26 @@ public interface Processor {
      * @return the processed states count
      */
     Long process();
+
+    /**
+     * Process states handing every entity to the passed {@link WorkerPool}, without waiting for their completion.
+     * By default, the entities are processed on the calling thread.
+     *
+     * @param workers the worker pool.
+     * @return the count of the states that the workers processed since the previous call
+     */
+    default Long process(WorkerPool workers) {
+        return process();
+    }
+
+    /**
+     * Tells if the processor handles the entities in the passed state, used to wake up only the processors that are
+     * concerned by a state transition. By default, every state is handled.
+     *
+     * @param state the state code.
+     * @return true if the processor handles the state, false otherwise.
+     */
+    default boolean handles(int state) {
+        return true;
+    }
 }
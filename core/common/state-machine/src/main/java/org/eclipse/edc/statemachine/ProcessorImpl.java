@@ -14,10 +14,13 @@
 
 package org.eclipse.edc.statemachine;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -33,40 +36,70 @@ import static java.util.function.Predicate.isEqual;
  * Additional features:
  * - An {@link Guard} can be registered, if its predicate is verified, the guard processor is executed instead of the standard one.
  * - A onNotProcessed listener can be registered, that will be called on every entity that has not been processed.
+ * - When a {@link WorkerPool} is passed, the entities are fetched up to the number of free workers and processed concurrently.
+ * The run method then returns the count of the entities that the workers processed since the previous run, so that
+ * entities that are not processed, e.g. because they are waiting for a retry, let the state machine apply the wait strategy.
  *
  * @param <E> the entity that is processed
  */
 public class ProcessorImpl<E> implements Processor {
 
-    private final Supplier<Collection<E>> entities;
+    private final IntFunction<Collection<E>> entities;
     private Function<E, Boolean> process;
     private Guard<E> guard = Guard.noop();
     private Consumer<E> onNotProcessed = e -> {};
+    private int[] states = new int[0];
+    private final AtomicLong processedByWorkers = new AtomicLong();
 
-    private ProcessorImpl(Supplier<Collection<E>> entitiesSupplier) {
+    private ProcessorImpl(IntFunction<Collection<E>> entitiesSupplier) {
         entities = entitiesSupplier;
     }
 
     @Override
     public Long process() {
-        return entities.get().stream()
-                .map(entity -> {
-                    var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
-                    var hasBeenProcessed = actualProcess.apply(entity);
-                    if (!hasBeenProcessed) {
-                        onNotProcessed.accept(entity);
-                    }
-                    return hasBeenProcessed;
-                })
+        return entities.apply(Integer.MAX_VALUE).stream()
+                .map(this::processEntity)
                 .filter(isEqual(true))
                 .count();
     }
 
+    @Override
+    public Long process(WorkerPool workers) {
+        var available = workers.available();
+        if (available > 0) {
+            var batch = entities.apply(available);
+            batch.forEach(entity -> workers.submit(() -> {
+                if (processEntity(entity)) {
+                    processedByWorkers.incrementAndGet();
+                }
+            }));
+        }
+        return processedByWorkers.getAndSet(0);
+    }
+
+    @Override
+    public boolean handles(int state) {
+        return states.length == 0 || Arrays.stream(states).anyMatch(it -> it == state);
+    }
+
+    private boolean processEntity(E entity) {
+        var actualProcess = guard.predicate().test(entity) ? guard.process() : process;
+        var hasBeenProcessed = actualProcess.apply(entity);
+        if (!hasBeenProcessed) {
+            onNotProcessed.accept(entity);
+        }
+        return hasBeenProcessed;
+    }
+
     public static class Builder<E> {
 
         private final ProcessorImpl<E> processor;
 
         public Builder(Supplier<Collection<E>> entitiesSupplier) {
+            this((IntFunction<Collection<E>>) max -> entitiesSupplier.get());
+        }
+
+        public Builder(IntFunction<Collection<E>> entitiesSupplier) {
             processor = new ProcessorImpl<>(entitiesSupplier);
         }
 
@@ -74,6 +107,17 @@ public class ProcessorImpl<E> implements Processor {
             return new Builder<>(entitiesSupplier);
         }
 
+        /**
+         * Creates a builder with a supplier that receives the maximum number of entities to be fetched, that's used to
+         * apply backpressure when the entities are processed by a {@link WorkerPool}.
+         *
+         * @param entitiesSupplier the entities supplier.
+         * @return the builder.
+         */
+        public static <E> Builder<E> newInstance(IntFunction<Collection<E>> entitiesSupplier) {
+            return new Builder<>(entitiesSupplier);
+        }
+
         public Builder<E> process(Function<E, Boolean> process) {
             processor.process = process;
             return this;
@@ -95,6 +139,18 @@ public class ProcessorImpl<E> implements Processor {
             return this;
         }
 
+        /**
+         * Defines the states of the entities provided by the supplier. When not set, the processor is considered to
+         * handle every state.
+         *
+         * @param states the state codes.
+         * @return the builder.
+         */
+        public Builder<E> states(int... states) {
+            processor.states = states;
+            return this;
+        }
+
         public ProcessorImpl<E> build() {
             Objects.requireNonNull(processor.process);
 
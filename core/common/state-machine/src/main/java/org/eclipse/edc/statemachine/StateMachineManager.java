@@ -18,14 +18,18 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,27 +39,29 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * With {@link ExecutionMode#PER_PROCESSOR} every processor runs on its own loop (lane), and when a number of workers
+ * is configured every lane hands the fetched entities to its own bounded {@link WorkerPool}.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final List<Lane> lanes = new ArrayList<>();
     private final AtomicBoolean active = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
+    private ScheduledExecutorService executor;
+    private ExecutionMode executionMode = ExecutionMode.SEQUENTIAL;
+    private int workers = 0;
     private int shutdownTimeout = 10;
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -65,7 +71,11 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        var futures = lanes.stream().map(lane -> lane.scheduleNextIterationIn(0L)).toList();
+        if (futures.size() == 1) {
+            return futures.get(0);
+        }
+        return CompletableFuture.runAsync(() -> futures.forEach(this::awaitQuietly));
     }
 
     /**
@@ -78,7 +88,13 @@ public class StateMachineManager {
 
         return CompletableFuture.supplyAsync(() -> {
             try {
-                return executor.awaitTermination(shutdownTimeout, SECONDS);
+                var terminated = executor.awaitTermination(shutdownTimeout, SECONDS);
+                for (var lane : lanes) {
+                    if (lane.workerPool != null) {
+                        terminated &= lane.workerPool.shutdown(shutdownTimeout, SECONDS);
+                    }
+                }
+                return terminated;
             } catch (InterruptedException e) {
                 monitor.severe(format("StateMachineManager [%s] await termination failed", name), e);
                 return false;
@@ -86,6 +102,31 @@ public class StateMachineManager {
         });
     }
 
+    /**
+     * Request an immediate iteration on every lane, e.g. because notifications could have been lost.
+     * A lane that is currently waiting is rescheduled right away, while a lane that is running will skip the next
+     * wait if its current iteration didn't process anything. Polling through the {@link WaitStrategy} stays in place,
+     * so lost wake-ups only cost latency.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            lanes.forEach(Lane::wakeUp);
+        }
+    }
+
+    /**
+     * Request an immediate iteration on the lanes that have a processor handling the state, e.g. because an entity has
+     * been created or transitioned to it.
+     *
+     * @param state the state code.
+     * @see #wakeUp()
+     */
+    public void wakeUp(int state) {
+        if (active.get()) {
+            lanes.stream().filter(lane -> lane.handles(state)).forEach(Lane::wakeUp);
+        }
+    }
+
     /**
      * Tells if the loop is active and running
      *
@@ -95,37 +136,110 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
-        return () -> {
-            if (active.get()) {
-                performLogic();
+    /**
+     * Returns the worker pools of the lanes, empty if no workers are configured. Can be used to collect metrics about
+     * in-flight and processed entities per processor.
+     *
+     * @return the worker pools.
+     */
+    public List<WorkerPool> getWorkerPools() {
+        return lanes.stream().map(lane -> lane.workerPool).filter(Objects::nonNull).toList();
+    }
+
+    private void initialize() {
+        if (executionMode == ExecutionMode.PER_PROCESSOR) {
+            for (var i = 0; i < processors.size(); i++) {
+                lanes.add(new Lane(name + "-" + i, List.of(processors.get(i))));
             }
-        };
+        } else {
+            lanes.add(new Lane(name, processors));
+        }
+
+        var threadCount = new AtomicInteger();
+        var threads = lanes.size();
+        var scheduledExecutor = threads == 1
+                ? Executors.newSingleThreadScheduledExecutor(r -> newThread(r, "StateMachineManager-" + name))
+                : Executors.newScheduledThreadPool(threads, r -> newThread(r, "StateMachineManager-" + name + "-" + threadCount.getAndIncrement()));
+        executor = instrumentation.instrument(scheduledExecutor, name);
     }
 
-    private void performLogic() {
+    private void awaitQuietly(Future<?> future) {
         try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+            future.get();
+        } catch (Exception e) {
+            monitor.severe(format("StateMachineManager [%s] start failed", name), e);
+        }
+    }
+
+    private Thread newThread(Runnable runnable, String threadName) {
+        var thread = Executors.defaultThreadFactory().newThread(runnable);
+        thread.setName(threadName);
+        return thread;
+    }
 
-            waitStrategy.success();
+    /**
+     * A loop that runs a set of processors, optionally handing their entities to a {@link WorkerPool}.
+     */
+    private class Lane {
+        private final String laneName;
+        private final List<Processor> laneProcessors;
+        private final @Nullable WorkerPool workerPool;
+        private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+        private ScheduledFuture<?> next;
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+        Lane(String laneName, List<Processor> laneProcessors) {
+            this.laneName = laneName;
+            this.laneProcessors = laneProcessors;
+            this.workerPool = workers > 0 ? new WorkerPool(laneName, workers, monitor, instrumentation) : null;
+        }
 
-            scheduleNextIterationIn(delay);
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+        private Runnable loop() {
+            return () -> {
+                if (active.get()) {
+                    performLogic();
+                }
+            };
         }
-    }
 
-    @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        private void performLogic() {
+            wakeUpRequested.set(false);
+            try {
+                var processed = laneProcessors.stream()
+                        .mapToLong(processor -> workerPool == null ? processor.process() : processor.process(workerPool))
+                        .sum();
+
+                waitStrategy.success();
+
+                var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+
+                scheduleNextIterationIn(delay);
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", laneName), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", laneName), e);
+                scheduleNextIterationIn(waitStrategy.retryInMillis());
+            }
+        }
+
+        private boolean handles(int state) {
+            return laneProcessors.stream().anyMatch(processor -> processor.handles(state));
+        }
+
+        private synchronized void wakeUp() {
+            wakeUpRequested.set(true);
+            if (next != null && next.getDelay(MILLISECONDS) > 0 && next.cancel(false)) {
+                wakeUpRequested.set(false);
+                next = executor.schedule(loop(), 0, MILLISECONDS);
+            }
+        }
+
+        @NotNull
+        private synchronized Future<?> scheduleNextIterationIn(long delayMillis) {
+            var delay = delayMillis > 0 && wakeUpRequested.getAndSet(false) ? 0 : delayMillis;
+            next = executor.schedule(loop(), delay, MILLISECONDS);
+            return next;
+        }
     }
 
     public static class Builder {
@@ -150,7 +264,31 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Defines how the processors are scheduled. Default is {@link ExecutionMode#SEQUENTIAL}.
+         *
+         * @param executionMode the execution mode.
+         * @return the builder.
+         */
+        public Builder executionMode(ExecutionMode executionMode) {
+            loop.executionMode = executionMode;
+            return this;
+        }
+
+        /**
+         * Number of workers that process the entities of every lane concurrently. With 0 (default) the entities are
+         * processed sequentially on the lane's thread.
+         *
+         * @param workers the workers count.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            loop.workers = workers;
+            return this;
+        }
+
         public StateMachineManager build() {
+            loop.initialize();
             return loop;
         }
     }
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.statemachine;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Bounded pool of workers used by a {@link Processor} to process the entities of a batch concurrently.
+ * At most {@code size} entities are processed at the same time: {@link #available()} permits to fetch only as many
+ * entities as there are free workers, and {@link #submit(Runnable)} blocks when all the workers are busy.
+ * <p>
+ * The underlying executor is decorated through the {@link ExecutorInstrumentation}, and the pool keeps track of the
+ * number of in-flight and processed entities and of the time spent processing them.
+ */
+public class WorkerPool {
+
+    private final String name;
+    private final int size;
+    private final Monitor monitor;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong processingTimeMillis = new AtomicLong();
+
+    public WorkerPool(String name, int size, Monitor monitor, ExecutorInstrumentation instrumentation) {
+        if (size < 1) {
+            throw new IllegalArgumentException("WorkerPool size must be greater than 0");
+        }
+        this.name = name;
+        this.size = size;
+        this.monitor = monitor;
+        this.permits = new Semaphore(size);
+        var threadCount = new AtomicInteger();
+        executor = instrumentation.instrument(
+                Executors.newFixedThreadPool(size, r -> {
+                    var thread = Executors.defaultThreadFactory().newThread(r);
+                    thread.setName("StateMachineWorker-" + name + "-" + threadCount.incrementAndGet());
+                    return thread;
+                }), name);
+    }
+
+    /**
+     * Number of workers that are currently free.
+     *
+     * @return the free workers count.
+     */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Hands a task to a worker, blocking until a worker is free.
+     *
+     * @param task the task.
+     */
+    public void submit(Runnable task) {
+        permits.acquireUninterruptibly();
+        inFlight.incrementAndGet();
+        try {
+            executor.execute(() -> run(task));
+        } catch (RuntimeException e) {
+            inFlight.decrementAndGet();
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops accepting tasks and waits for the in-flight ones to complete.
+     *
+     * @param timeout the timeout.
+     * @param unit the timeout unit.
+     * @return true if all the tasks completed before the timeout, false otherwise.
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        executor.shutdown();
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Number of entities that are currently being processed.
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Number of entities processed since the pool was created.
+     */
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    /**
+     * Cumulative time spent processing entities, in milliseconds.
+     */
+    public long getProcessingTimeMillis() {
+        return processingTimeMillis.get();
+    }
+
+    private void run(Runnable task) {
+        var start = System.currentTimeMillis();
+        try {
+            task.run();
+        } catch (Throwable e) {
+            monitor.severe(format("WorkerPool [%s] error caught processing entity", name), e);
+        } finally {
+            processingTimeMillis.addAndGet(System.currentTimeMillis() - start);
+            processed.incrementAndGet();
+            inFlight.decrementAndGet();
+            permits.release();
+        }
+    }
+}
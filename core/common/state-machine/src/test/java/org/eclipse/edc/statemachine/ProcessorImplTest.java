@@ -14,14 +14,20 @@
 
 package org.eclipse.edc.statemachine;
 
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
@@ -54,6 +60,26 @@ class ProcessorImplTest {
         assertThat(count).isEqualTo(0);
     }
 
+    @Test
+    void shouldHandleOnlyTheConfiguredStates() {
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.<TestEntity>of())
+                .process(e -> true)
+                .states(100)
+                .build();
+
+        assertThat(processor.handles(100)).isTrue();
+        assertThat(processor.handles(200)).isFalse();
+    }
+
+    @Test
+    void shouldHandleEveryState_whenNoStateIsConfigured() {
+        var processor = ProcessorImpl.Builder.newInstance(() -> List.<TestEntity>of())
+                .process(e -> true)
+                .build();
+
+        assertThat(processor.handles(100)).isTrue();
+    }
+
     @Test
     void shouldExecuteGuard_whenItsPredicateMatches() {
         var entity = TestEntity.Builder.newInstance().id("id").build();
@@ -117,4 +143,70 @@ class ProcessorImplTest {
 
         verifyNoInteractions(onNotProcessed);
     }
+
+    @Test
+    void shouldFetchUpToAvailableWorkers_whenWorkerPoolIsPassed() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var workers = new WorkerPool("test", 3, mock(Monitor.class), ExecutorInstrumentation.noop());
+        Function<TestEntity, Boolean> process = mock();
+        when(process.apply(any())).thenReturn(true);
+        var requested = new ArrayList<Integer>();
+        var processor = ProcessorImpl.Builder.<TestEntity>newInstance(max -> {
+                    requested.add(max);
+                    return List.of(entity);
+                })
+                .process(process)
+                .build();
+
+        processor.process(workers);
+
+        assertThat(requested).containsExactly(3);
+        await().untilAsserted(() -> {
+            verify(process).apply(entity);
+            assertThat(workers.getProcessed()).isEqualTo(1);
+            assertThat(workers.getInFlight()).isEqualTo(0);
+        });
+        assertThat(processor.process(busyWorkers())).isEqualTo(1);
+        assertThat(processor.process(busyWorkers())).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotCountEntitiesNotProcessedByWorkers() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var workers = new WorkerPool("test", 3, mock(Monitor.class), ExecutorInstrumentation.noop());
+        Consumer<TestEntity> onNotProcessed = mock();
+        var processor = ProcessorImpl.Builder.<TestEntity>newInstance(max -> List.of(entity))
+                .process(e -> false)
+                .onNotProcessed(onNotProcessed)
+                .build();
+
+        processor.process(workers);
+
+        await().untilAsserted(() -> {
+            verify(onNotProcessed).accept(entity);
+            assertThat(workers.getInFlight()).isEqualTo(0);
+        });
+        assertThat(processor.process(busyWorkers())).isEqualTo(0);
+    }
+
+    @Test
+    void shouldNotFetch_whenNoWorkerIsAvailable() {
+        var workers = mock(WorkerPool.class);
+        when(workers.available()).thenReturn(0);
+        IntFunction<Collection<TestEntity>> entities = mock();
+        var processor = ProcessorImpl.Builder.newInstance(entities)
+                .process(e -> true)
+                .build();
+
+        var count = processor.process(workers);
+
+        assertThat(count).isEqualTo(0);
+        verifyNoInteractions(entities);
+    }
+
+    private WorkerPool busyWorkers() {
+        var workers = mock(WorkerPool.class);
+        when(workers.available()).thenReturn(0);
+        return workers;
+    }
 }
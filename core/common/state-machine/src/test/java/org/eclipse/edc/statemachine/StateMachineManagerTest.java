@@ -18,16 +18,23 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.retry.TestEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +142,105 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunEveryProcessorOnItsOwnLane_whenExecutionModeIsPerProcessor() {
+        var slowProcessor = mock(Processor.class);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            Thread.sleep(2_000L);
+            return 1L;
+        });
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .executionMode(ExecutionMode.PER_PROCESSOR)
+                .processor(slowProcessor)
+                .processor(processor)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(processor, atLeast(2)).process());
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldHandEntitiesToWorkerPool_whenWorkersAreConfigured() {
+        var processor = mock(Processor.class);
+        when(processor.process(any())).thenReturn(0L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> {
+            verify(processor, atLeastOnce()).process(isA(WorkerPool.class));
+            verify(processor, never()).process();
+        });
+        assertThat(stateMachine.getWorkerPools()).hasSize(1).first().satisfies(pool -> assertThat(pool.getSize()).isEqualTo(2));
+    }
+
+    @Test
+    void shouldWait_whenWorkersDoNotProcessEntities() {
+        var entity = TestEntity.Builder.newInstance().id("id").build();
+        var processor = ProcessorImpl.Builder.<TestEntity>newInstance(max -> List.of(entity))
+                .process(e -> false) // e.g. the entity is waiting for a retry
+                .build();
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .workers(2)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(waitStrategy, atLeastOnce()).waitForMillis());
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy).waitForMillis());
+
+        stateMachine.wakeUp();
+
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunOnlyTheLanesHandlingTheState_whenWokenUpForAState() {
+        var handling = mock(Processor.class);
+        var other = mock(Processor.class);
+        when(handling.process()).thenReturn(0L);
+        when(handling.handles(1)).thenReturn(true);
+        when(other.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(handling)
+                .processor(other)
+                .executionMode(ExecutionMode.PER_PROCESSOR)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+        await().untilAsserted(() -> verify(waitStrategy, times(2)).waitForMillis());
+
+        stateMachine.wakeUp(1);
+
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(handling, times(2)).process());
+        verify(other, times(1)).process();
+        stateMachine.stop();
+    }
 }
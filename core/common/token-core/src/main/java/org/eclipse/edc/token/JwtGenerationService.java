@@ -18,6 +18,7 @@ package org.eclipse.edc.token;
 import com.nimbusds.jose.JOSEException;
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
 import com.nimbusds.jwt.JWTClaimsSet;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
@@ -38,6 +39,11 @@ import java.util.function.Supplier;
 
 public class JwtGenerationService implements TokenGenerationService {
 
+    /**
+     * The signer created for the last key. Key resolvers that cache the parsed keys return the same instance for the
+     * same key id, so this avoids creating a signer per token. A different key (e.g. after a rotation) replaces it.
+     */
+    private volatile CachedSigner lastSigner;
 
     @Override
     public Result<TokenRepresentation> generate(Supplier<PrivateKey> privateKeySupplier, @NotNull TokenDecorator... decorators) {
@@ -47,8 +53,9 @@ public class JwtGenerationService implements TokenGenerationService {
             return Result.failure("PrivateKey cannot be resolved.");
         }
 
-        var tokenSigner = CryptoConverter.createSignerFor(privateKey);
-        var jwsAlgorithm = CryptoConverter.getRecommendedAlgorithm(tokenSigner);
+        var signer = signerFor(privateKey);
+        var tokenSigner = signer.signer();
+        var jwsAlgorithm = signer.algorithm();
 
         var bldr = TokenParameters.Builder.newInstance();
         var allDecorators = new ArrayList<>(Arrays.asList(decorators));
@@ -68,6 +75,17 @@ public class JwtGenerationService implements TokenGenerationService {
         return Result.success(TokenRepresentation.Builder.newInstance().token(token.serialize()).build());
     }
 
+    private CachedSigner signerFor(PrivateKey privateKey) {
+        var cached = lastSigner;
+        if (cached != null && cached.key() == privateKey) {
+            return cached;
+        }
+        var signer = CryptoConverter.createSignerFor(privateKey);
+        cached = new CachedSigner(privateKey, signer, CryptoConverter.getRecommendedAlgorithm(signer));
+        lastSigner = cached;
+        return cached;
+    }
+
     private JWSHeader createHeader(Map<String, Object> headers) {
         try {
             return JWSHeader.parse(headers);
@@ -83,6 +101,9 @@ public class JwtGenerationService implements TokenGenerationService {
     }
 
 
+    private record CachedSigner(PrivateKey key, JWSSigner signer, JWSAlgorithm algorithm) {
+    }
+
     /**
      * Base JwtDecorator that provides the algorithm header value
      */
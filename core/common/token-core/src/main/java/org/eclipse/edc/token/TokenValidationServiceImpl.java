@@ -15,6 +15,7 @@
 package org.eclipse.edc.token;
 
 import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
 import com.nimbusds.jwt.SignedJWT;
 import org.eclipse.edc.security.token.jwt.CryptoConverter;
 import org.eclipse.edc.spi.iam.ClaimToken;
@@ -25,11 +26,21 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
+import java.security.PublicKey;
 import java.text.ParseException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TokenValidationServiceImpl implements TokenValidationService {
 
+    private static final int MAX_CACHED_VERIFIERS = 256;
+
+    /**
+     * Verifiers by key id. An entry is only reused if the resolved key is still the same, so a rotated key, or the same
+     * key id used by another issuer, gets its own verifier.
+     */
+    private final Map<String, CachedVerifier> verifiers = new ConcurrentHashMap<>();
 
     public TokenValidationServiceImpl() {
     }
@@ -48,7 +59,7 @@ public class TokenValidationServiceImpl implements TokenValidationService {
                 return publicKeyResolutionResult.mapTo();
             }
 
-            var verifierCreationResult = CryptoConverter.createVerifierFor(publicKeyResolutionResult.getContent());
+            var verifierCreationResult = verifierFor(publicKeyId, publicKeyResolutionResult.getContent());
 
             if (!signedJwt.verify(verifierCreationResult)) {
                 return Result.failure("Token verification failed");
@@ -84,4 +95,23 @@ public class TokenValidationServiceImpl implements TokenValidationService {
         }
     }
 
+    private JWSVerifier verifierFor(String keyId, PublicKey publicKey) {
+        if (keyId == null) {
+            return CryptoConverter.createVerifierFor(publicKey);
+        }
+        var cached = verifiers.get(keyId);
+        if (cached != null && (cached.key() == publicKey || cached.key().equals(publicKey))) {
+            return cached.verifier();
+        }
+        var verifier = CryptoConverter.createVerifierFor(publicKey);
+        if (verifiers.size() >= MAX_CACHED_VERIFIERS) {
+            verifiers.clear();
+        }
+        verifiers.put(keyId, new CachedVerifier(publicKey, verifier));
+        return verifier;
+    }
+
+    private record CachedVerifier(PublicKey key, JWSVerifier verifier) {
+    }
+
 }
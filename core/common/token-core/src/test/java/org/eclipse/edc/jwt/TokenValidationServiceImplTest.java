@@ -80,6 +80,20 @@ class TokenValidationServiceImplTest {
                 .hasEntrySatisfying(EXPIRATION_TIME, value -> assertThat((Date) value).isCloseTo(now, 1000));
     }
 
+    @Test
+    void validationFailure_whenKeyIdIsReusedWithAnotherKey() throws JOSEException {
+        var claims = createClaims(now);
+        tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()), publicKeyResolver);
+
+        var otherKey = testKey();
+        when(publicKeyResolver.resolveKey(eq(publicKeyId))).thenReturn(Result.success(otherKey.toPublicKey()));
+
+        var result = tokenValidationService.validate(createJwt(publicKeyId, claims, key.toPrivateKey()), publicKeyResolver);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.getFailureMessages()).containsExactly("Token verification failed");
+    }
+
     @Test
     void validationFailure_cannotResolvePublicKey() throws JOSEException {
         var claims = createClaims(now);
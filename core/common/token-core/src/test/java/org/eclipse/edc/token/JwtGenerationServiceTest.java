@@ -89,6 +89,22 @@ class JwtGenerationServiceTest {
         assertThat(result.failed()).isTrue();
     }
 
+    @Test
+    void shouldSignWithCurrentKey_whenKeyChanges() throws JOSEException, ParseException {
+        var privateKey = keys.toPrivateKey();
+        var rotatedKeys = testKey();
+        var rotatedPrivateKey = rotatedKeys.toPrivateKey();
+
+        var first = tokenGenerationService.generate(() -> privateKey, testDecorator()).getContent().getToken();
+        var second = tokenGenerationService.generate(() -> privateKey, testDecorator()).getContent().getToken();
+        var rotated = tokenGenerationService.generate(() -> rotatedPrivateKey, testDecorator()).getContent().getToken();
+
+        assertThat(SignedJWT.parse(first).verify(createVerifier(SignedJWT.parse(first).getHeader(), keys.toPublicKey()))).isTrue();
+        assertThat(SignedJWT.parse(second).verify(createVerifier(SignedJWT.parse(second).getHeader(), keys.toPublicKey()))).isTrue();
+        assertThat(SignedJWT.parse(rotated).verify(createVerifier(SignedJWT.parse(rotated).getHeader(), keys.toPublicKey()))).isFalse();
+        assertThat(SignedJWT.parse(rotated).verify(createVerifier(SignedJWT.parse(rotated).getHeader(), rotatedKeys.toPublicKey()))).isTrue();
+    }
+
     private JWSVerifier createVerifier(JWSHeader header, Key publicKey) throws JOSEException {
         return new DefaultJWSVerifierFactory().createJWSVerifier(header, publicKey);
     }
@@ -19,23 +19,34 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry} implementation.
+ * <p>
+ * The transformer for an input class and an output type is looked up once, walking through the registered transformers,
+ * and then kept in a lookup table, missing transformers included. The table is cleared on every registration.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
-    private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final List<TypeTransformer<?, ?>> transformers = new CopyOnWriteArrayList<>();
+    private final Map<LookupKey, Optional<TypeTransformer<?, ?>>> lookupTable = new ConcurrentHashMap<>();
     private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        lookupTable.clear();
     }
 
     @Override
@@ -45,11 +56,11 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var transformer = findTransformer(input, outputType);
+        if (transformer == null) {
+            throw new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType));
+        }
+        return transformer;
     }
 
     @Override
@@ -81,6 +92,24 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         aliases.put(alias, type);
     }
 
+    /**
+     * Returns the transformer registered for the input and the output type, null if none is registered.
+     */
+    @SuppressWarnings("unchecked")
+    protected @Nullable <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> findTransformer(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
+        var key = new LookupKey(input.getClass(), outputType);
+        return (TypeTransformer<INPUT, OUTPUT>) lookupTable.computeIfAbsent(key, this::lookup).orElse(null);
+    }
+
+    private Optional<TypeTransformer<?, ?>> lookup(LookupKey key) {
+        return transformers.stream()
+                .filter(t -> t.getInputType().isAssignableFrom(key.inputType()) && t.getOutputType().equals(key.outputType()))
+                .findFirst();
+    }
+
+    private record LookupKey(Class<?> inputType, Class<?> outputType) {
+    }
+
     private static class ContextTransformerRegistry extends TypeTransformerRegistryImpl {
 
         private final TypeTransformerRegistry parent;
@@ -96,11 +125,11 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
         @Override
         public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-            try {
-                return super.transformerFor(input, outputType);
-            } catch (EdcException e) {
+            var transformer = findTransformer(input, outputType);
+            if (transformer == null) {
                 return parent.transformerFor(input, outputType);
             }
+            return transformer;
         }
     }
 }
@@ -51,6 +51,15 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transformerFor(notString, Integer.class)).isInstanceOf(EdcException.class);
             assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
         }
+
+        @Test
+        void shouldReturnTransformerRegisteredAfterAFailedLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
     }
 
     @Nested
@@ -23,7 +23,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * <p>
  * This class extends {@link LinkedHashMap} and adds concurrency using a ReentrantReadWriteLock.
  * The cache uses a LinkedHashMap to store the entries and automatically evicts the least recently used entry
- * when the capacity is reached.
+ * when the capacity is reached. As the map is access-ordered, reads move the entry they return and therefore take the
+ * write lock too.
  *
  * @param <K> the type of keys maintained by this cache
  * @param <V> the type of mapped values
@@ -74,9 +75,39 @@ public class ConcurrentLruCache<K, V> extends LinkedHashMap<K, V> {
 
     @Override
     public V get(Object key) {
-        lock.readLock().lock();
+        lock.writeLock().lock();
         try {
             return super.get(key);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        lock.writeLock().lock();
+        try {
+            return super.getOrDefault(key, defaultValue);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        lock.readLock().lock();
+        try {
+            return super.containsKey(key);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return super.size();
         } finally {
             lock.readLock().unlock();
         }
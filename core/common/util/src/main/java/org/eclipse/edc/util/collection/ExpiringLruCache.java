@@ -0,0 +1,207 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe LRU cache with a specified capacity, whose entries expire after a time-to-live.
+ * <p>
+ * Expired entries are removed lazily when they are accessed or when the eldest entry gets evicted. Hits and misses are
+ * counted, so they can be exposed as metrics.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of mapped values
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final Map<K, Entry<V>> entries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    // incremented on every invalidation, guarded by entries
+    private long generation;
+
+    public ExpiringLruCache(int capacity, Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(capacity + 1, 1, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > capacity || eldest.getValue().isExpired(clock.instant());
+            }
+        };
+    }
+
+    /**
+     * Returns the value associated with the key, or null if it's not cached or it is expired.
+     *
+     * @param key the key.
+     * @return the value, null if not available.
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            var entry = entries.get(key);
+            if (entry == null || entry.isExpired(clock.instant())) {
+                if (entry != null) {
+                    entries.remove(key);
+                }
+                misses.incrementAndGet();
+                return null;
+            }
+            hits.incrementAndGet();
+            return entry.value();
+        }
+    }
+
+    /**
+     * Returns the cached value, or loads and caches it. The loader is called outside the lock, so concurrent misses
+     * on the same key could call it more than once. A null value returned by the loader is not cached, and neither is a
+     * value whose load overlapped with an invalidation, as it could have been read before the change that caused it.
+     *
+     * @param key the key.
+     * @param loader the function that loads the value.
+     * @return the value.
+     */
+    public V computeIfAbsent(K key, Function<K, V> loader) {
+        var loadGeneration = getGeneration();
+        var value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value, clock.instant().plus(ttl), loadGeneration);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of invalidations so far. Callers that load a value outside the cache read it before loading
+     * and pass it to {@link #put(Object, Object, Instant, long)}, so that the value is not cached if an invalidation
+     * happened meanwhile.
+     *
+     * @return the invalidation generation.
+     */
+    public long getGeneration() {
+        synchronized (entries) {
+            return generation;
+        }
+    }
+
+    /**
+     * Caches the value with the default time-to-live.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        put(key, value, clock.instant().plus(ttl));
+    }
+
+    /**
+     * Caches the value until the passed instant, if that comes before the default time-to-live.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @param expiresAt the expiration instant.
+     */
+    public void put(K key, V value, Instant expiresAt) {
+        synchronized (entries) {
+            put(key, value, expiresAt, generation);
+        }
+    }
+
+    /**
+     * Caches a loaded value until the passed instant, if that comes before the default time-to-live, unless the cache
+     * has been invalidated since the load started, as the value could have been read before the change that caused
+     * the invalidation.
+     *
+     * @param key the key.
+     * @param value the value.
+     * @param expiresAt the expiration instant.
+     * @param loadGeneration the {@link #getGeneration() generation} read before loading the value.
+     */
+    public void put(K key, V value, Instant expiresAt, long loadGeneration) {
+        var defaultExpiration = clock.instant().plus(ttl);
+        var expiration = expiresAt.isBefore(defaultExpiration) ? expiresAt : defaultExpiration;
+        synchronized (entries) {
+            if (generation == loadGeneration) {
+                entries.put(key, new Entry<>(value, expiration));
+            }
+        }
+    }
+
+    /**
+     * Removes the entry associated with the key.
+     *
+     * @param key the key.
+     */
+    public void invalidate(K key) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Removes all the entries whose key matches the predicate.
+     *
+     * @param predicate the predicate.
+     */
+    public void invalidateIf(Predicate<K> predicate) {
+        synchronized (entries) {
+            generation++;
+            entries.keySet().removeIf(predicate);
+        }
+    }
+
+    /**
+     * Removes all the entries.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            generation++;
+            entries.clear();
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+        boolean isExpired(Instant now) {
+            return !now.isBefore(expiresAt);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * De-duplicates concurrent loads of the same key: while a load is running, callers asking for the same key wait for
+ * its result instead of starting a new one. Results are not retained once the load completes.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the loaded values
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the loader on the calling thread, or waits for the load of the same key that is already running.
+     * Exceptions thrown by the loader are rethrown to all the waiting callers.
+     *
+     * @param key the key.
+     * @param loader the loader.
+     * @return the loaded value.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        var future = new CompletableFuture<V>();
+        var running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return join(running);
+        }
+        load(key, future, loader);
+        return join(future);
+    }
+
+    /**
+     * Runs the loader on the executor, unless a load of the same key is already running.
+     *
+     * @param key the key.
+     * @param loader the loader.
+     * @param executor the executor the loader is run on.
+     * @return the future of the running load.
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<V> loader, Executor executor) {
+        var future = new CompletableFuture<V>();
+        var running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            return running;
+        }
+        try {
+            executor.execute(() -> load(key, future, loader));
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * Tells if a load of the key is running.
+     *
+     * @param key the key.
+     * @return true if a load is running, false otherwise.
+     */
+    public boolean isInFlight(K key) {
+        return inFlight.containsKey(key);
+    }
+
+    private void load(K key, CompletableFuture<V> future, Supplier<V> loader) {
+        try {
+            var value = loader.get();
+            inFlight.remove(key, future);
+            future.complete(value);
+        } catch (Throwable e) {
+            inFlight.remove(key, future);
+            future.completeExceptionally(e);
+        }
+    }
+
+    private V join(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
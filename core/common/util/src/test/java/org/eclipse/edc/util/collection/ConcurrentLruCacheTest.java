@@ -16,6 +16,12 @@ package org.eclipse.edc.util.collection;
 
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class ConcurrentLruCacheTest {
@@ -35,4 +41,38 @@ class ConcurrentLruCacheTest {
                 .containsKey("bar")
                 .doesNotContainKey("foo");
     }
+
+    @Test
+    void verifyGetRefreshesRecency() {
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+
+        cache.get("foo");
+        cache.put("baz", "baz");
+
+        assertThat(cache)
+                .containsKey("foo")
+                .containsKey("baz")
+                .doesNotContainKey("bar");
+    }
+
+    @Test
+    void verifyConcurrentReadsAndWrites() {
+        var lruCache = new ConcurrentLruCache<Integer, Integer>(10);
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = new ArrayList<CompletableFuture<Void>>();
+            IntStream.range(0, 8).forEach(thread -> futures.add(CompletableFuture.runAsync(() -> {
+                for (var i = 0; i < 10_000; i++) {
+                    lruCache.put(i % 20, i);
+                    lruCache.get((i + thread) % 20);
+                }
+            }, executor)));
+
+            assertThat(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))).succeedsWithin(Duration.ofSeconds(30));
+            assertThat(lruCache.size()).isLessThanOrEqualTo(10);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
 }
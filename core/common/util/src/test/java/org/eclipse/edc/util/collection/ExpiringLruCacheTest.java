@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExpiringLruCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final ExpiringLruCache<String, String> cache = new ExpiringLruCache<>(2, Duration.ofSeconds(10), clock);
+
+    @Test
+    void shouldEvictLeastRecentlyUsed() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+        cache.get("foo");
+
+        cache.put("baz", "baz");
+
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("baz")).isEqualTo("baz");
+        assertThat(cache.get("bar")).isNull();
+    }
+
+    @Test
+    void shouldExpireEntries() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("foo", "foo");
+        cache.put("bar", "bar", now.plusSeconds(1));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(5));
+        assertThat(cache.get("foo")).isEqualTo("foo");
+        assertThat(cache.get("bar")).isNull();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldCountHitsAndMisses() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.computeIfAbsent("foo", k -> "value");
+        cache.computeIfAbsent("foo", k -> "other");
+
+        assertThat(cache.get("foo")).isEqualTo("value");
+        assertThat(cache.getHits()).isEqualTo(2);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldInvalidate() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("foo", "foo");
+        cache.put("bar", "bar");
+
+        cache.invalidateIf("foo"::equals);
+        assertThat(cache.get("foo")).isNull();
+        assertThat(cache.get("bar")).isEqualTo("bar");
+
+        cache.invalidateAll();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void shouldNotCacheValueLoaded_whenInvalidatedDuringLoad() {
+        when(clock.instant()).thenReturn(now);
+
+        var value = cache.computeIfAbsent("foo", k -> {
+            cache.invalidateAll();
+            return "stale";
+        });
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.computeIfAbsent("foo", k -> "fresh")).isEqualTo("fresh");
+        assertThat(cache.get("foo")).isEqualTo("fresh");
+    }
+
+    @Test
+    void shouldNotPutValueLoaded_whenInvalidatedDuringLoad() {
+        when(clock.instant()).thenReturn(now);
+        var loadGeneration = cache.getGeneration();
+
+        cache.invalidate("foo");
+        cache.put("foo", "stale", now.plusSeconds(5), loadGeneration);
+
+        assertThat(cache.get("foo")).isNull();
+        cache.put("foo", "fresh", now.plusSeconds(5), cache.getGeneration());
+        assertThat(cache.get("foo")).isEqualTo("fresh");
+    }
+}
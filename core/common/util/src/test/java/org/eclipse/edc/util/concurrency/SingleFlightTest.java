@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+    @Test
+    void execute_shouldReturnLoadedValue() {
+        var value = singleFlight.execute("key", () -> "value");
+
+        assertThat(value).isEqualTo("value");
+        assertThat(singleFlight.isInFlight("key")).isFalse();
+    }
+
+    @Test
+    void execute_shouldShareRunningLoad() throws InterruptedException {
+        var loads = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var executor = Executors.newFixedThreadPool(2);
+
+        var first = singleFlight.executeAsync("key", () -> {
+            loads.incrementAndGet();
+            started.countDown();
+            await(release);
+            return "value";
+        }, executor);
+        assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+        var second = executor.submit(() -> singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return "other";
+        }));
+        release.countDown();
+
+        assertThat(first).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo("value");
+        assertThat(second).succeedsWithin(1, TimeUnit.SECONDS).isEqualTo("value");
+        assertThat(loads).hasValue(1);
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_shouldRethrowLoaderException_andAllowNextLoad() {
+        assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+            throw new IllegalStateException("failure");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("failure");
+
+        assertThat(singleFlight.execute("key", () -> "value")).isEqualTo("value");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
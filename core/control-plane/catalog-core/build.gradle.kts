@@ -20,6 +20,8 @@ dependencies {
     api(project(":spi:common:catalog-spi"))
     api(project(":spi:control-plane:contract-spi"))
     api(project(":spi:control-plane:transfer-spi"))
+    implementation(project(":spi:control-plane:asset-spi"))
+    implementation(project(":core:common:util"))
 
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":core:control-plane:control-plane-core"))
@@ -16,20 +16,48 @@ package org.eclipse.edc.connector.catalog;
 
 import org.eclipse.edc.catalog.spi.DatasetResolver;
 import org.eclipse.edc.catalog.spi.DistributionResolver;
+import org.eclipse.edc.connector.asset.spi.event.AssetEvent;
+import org.eclipse.edc.connector.catalog.cache.CachingDatasetResolver;
+import org.eclipse.edc.connector.contract.spi.event.contractdefinition.ContractDefinitionEvent;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
 
 @Extension(CatalogCoreExtension.NAME)
 public class CatalogCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Catalog Core";
 
+    @Setting(value = "Enables the cache of the datasets resolved for a participant and a query", type = "boolean", defaultValue = "false")
+    public static final String CATALOG_CACHE_ENABLED = "edc.catalog.cache.enabled";
+
+    @Setting(value = "Max number of participant/query entries kept in the catalog cache", type = "int", defaultValue = "1000")
+    public static final String CATALOG_CACHE_MAX_ENTRIES = "edc.catalog.cache.max-entries";
+
+    @Setting(value = "Time-to-live of the catalog cache entries", type = "long", defaultValue = "30000")
+    public static final String CATALOG_CACHE_TTL_MILLIS = "edc.catalog.cache.ttl-millis";
+
+    @Setting(value = "Comma-separated names of the claims evaluated by the catalog policies, whose values make the catalog cache key along with the participant " +
+            "identity. If not set, all the claims but the ones that change on every token are part of the key")
+    public static final String CATALOG_CACHE_KEY_CLAIMS = "edc.catalog.cache.key-claims";
+
     @Inject
     private ContractDefinitionResolver contractDefinitionResolver;
 
@@ -45,14 +73,39 @@ public class CatalogCoreExtension implements ServiceExtension {
     @Inject
     private CriterionOperatorRegistry criterionOperatorRegistry;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private TypeManager typeManager;
+
     @Override
     public String name() {
         return NAME;
     }
 
     @Provider
-    public DatasetResolver datasetResolver() {
-        return new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
+    public DatasetResolver datasetResolver(ServiceExtensionContext context) {
+        var datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore,
                 distributionResolver, criterionOperatorRegistry);
+
+        if (!context.getSetting(CATALOG_CACHE_ENABLED, false)) {
+            return datasetResolver;
+        }
+
+        var maxEntries = context.getSetting(CATALOG_CACHE_MAX_ENTRIES, 1000);
+        var ttl = Duration.ofMillis(context.getSetting(CATALOG_CACHE_TTL_MILLIS, 30_000L));
+        var keyClaims = Arrays.stream(context.getSetting(CATALOG_CACHE_KEY_CLAIMS, "").split(","))
+                .map(String::trim)
+                .filter(claim -> !isNullOrBlank(claim))
+                .collect(Collectors.toSet());
+        var cachingDatasetResolver = new CachingDatasetResolver(datasetResolver, maxEntries, ttl, clock, typeManager.getMapper(), keyClaims);
+        eventRouter.registerSync(AssetEvent.class, cachingDatasetResolver);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, cachingDatasetResolver);
+        eventRouter.registerSync(ContractDefinitionEvent.class, cachingDatasetResolver);
+        return cachingDatasetResolver;
     }
 }
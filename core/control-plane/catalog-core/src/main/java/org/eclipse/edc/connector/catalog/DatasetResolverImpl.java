@@ -20,24 +20,44 @@ import org.eclipse.edc.catalog.spi.DistributionResolver;
 import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.Integer.MAX_VALUE;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.EQUAL;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.IN;
 
+/**
+ * Resolves the {@link Dataset}s offered to a participant.
+ * <p>
+ * On every request the contract definitions available to the participant are compiled once: their asset selectors
+ * are converted into a single predicate and their contract policies are fetched once per policy id. The selector
+ * criteria shared by all the definitions are pushed down to the {@link AssetIndex} query, and datasets are built only
+ * for the assets that fall into the requested page, so the assets stream is not consumed further once it's full.
+ */
 public class DatasetResolverImpl implements DatasetResolver {
 
+    private static final Set<String> PUSHABLE_OPERATORS = Set.of(EQUAL, IN);
+
     private final ContractDefinitionResolver contractDefinitionResolver;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyDefinitionStore;
@@ -57,48 +77,92 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
+        var definitions = compile(agent);
+        if (definitions.isEmpty()) {
+            return Stream.empty();
+        }
+
+        var filter = new ArrayList<>(querySpec.getFilterExpression());
+        commonCriteria(definitions).stream().filter(criterion -> !filter.contains(criterion)).forEach(filter::add);
+
+        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(filter).build();
         return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
+                .map(asset -> new AssetOffers(asset, matching(definitions, asset)))
+                .filter(AssetOffers::hasOffers)
                 .skip(querySpec.getOffset())
-                .limit(querySpec.getLimit());
+                .limit(querySpec.getLimit())
+                .map(this::toDataset);
     }
 
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> new AssetOffers(asset, matching(compile(agent), asset)))
+                .map(this::toDataset)
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    private List<CompiledDefinition> compile(ParticipantAgent agent) {
+        var offerPolicies = new HashMap<String, Optional<Policy>>();
+        return contractDefinitionResolver.definitionsFor(agent)
+                .map(definition -> offerPolicies.computeIfAbsent(definition.getContractPolicyId(), this::offerPolicy)
+                        .map(policy -> new CompiledDefinition(definition, selector(definition), policy))
+                        .orElse(null))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Optional<Policy> offerPolicy(String policyId) {
+        return Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                .map(PolicyDefinition::getPolicy)
+                .map(policy -> policy.toBuilder().type(PolicyType.OFFER).build());
+    }
+
+    private Predicate<Asset> selector(ContractDefinition definition) {
+        return definition.getAssetsSelector().stream()
+                .map(criterionOperatorRegistry::<Asset>toPredicate)
+                .reduce(x -> true, Predicate::and);
+    }
 
+    /**
+     * Criteria that every definition requires, thus they can be added to the asset query without excluding any
+     * asset that has offers. Only operators with the same semantics on all the asset index implementations are considered.
+     */
+    private Set<Criterion> commonCriteria(List<CompiledDefinition> definitions) {
+        var common = new LinkedHashSet<>(definitions.get(0).definition().getAssetsSelector());
+        definitions.stream().skip(1).forEach(compiled -> common.retainAll(compiled.definition().getAssetsSelector()));
+        common.removeIf(criterion -> !PUSHABLE_OPERATORS.contains(criterion.getOperator().toLowerCase()));
+        return common;
+    }
+
+    private List<CompiledDefinition> matching(List<CompiledDefinition> definitions, Asset asset) {
+        return definitions.stream().filter(definition -> definition.selector().test(asset)).toList();
+    }
+
+    private Dataset toDataset(AssetOffers assetOffers) {
+        var asset = assetOffers.asset();
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = Dataset.Builder.newInstance()
                 .id(asset.getId())
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
-                        datasetBuilder.offer(contractId.toString(), offerPolicy);
-                    }
-                });
+        assetOffers.definitions().forEach(compiled -> {
+            var contractId = ContractOfferId.create(compiled.definition().getId(), asset.getId());
+            datasetBuilder.offer(contractId.toString(), compiled.offerPolicy());
+        });
 
         return datasetBuilder.build();
     }
 
+    private record CompiledDefinition(ContractDefinition definition, Predicate<Asset> selector, Policy offerPolicy) {
+    }
+
+    private record AssetOffers(Asset asset, List<CompiledDefinition> definitions) {
+        boolean hasOffers() {
+            return !definitions.isEmpty();
+        }
+    }
+
 }
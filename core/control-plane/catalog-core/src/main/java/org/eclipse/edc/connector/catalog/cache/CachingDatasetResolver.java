@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.catalog.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * {@link DatasetResolver} decorator that caches the datasets resolved for a participant agent and a query.
+ * <p>
+ * The key is composed by the participant identity, the agent attributes, the query spec and the values of the claims
+ * evaluated by the policies. These are the configured key claims or, if none is configured, all the claims but the
+ * ones that change on every token (issued at, expiration, not before and token id). The claim values are converted to
+ * JSON trees, so that claims holding objects without value equality, e.g. the verifiable credentials, produce the same
+ * key for the same content. The whole cache is invalidated on every asset, policy definition and contract definition
+ * event, and entries are bounded in number and time-to-live, so changes that are not notified through events (e.g.
+ * policies that depend on time) become visible after the TTL. Datasets resolved while an event invalidated the cache
+ * are returned but not cached, since they could predate the change.
+ */
+public class CachingDatasetResolver implements DatasetResolver, EventSubscriber {
+
+    private static final Set<String> VOLATILE_CLAIMS = Set.of("iat", "exp", "nbf", "jti");
+
+    private final DatasetResolver delegate;
+    private final ExpiringLruCache<CacheKey, List<Dataset>> cache;
+    private final ObjectMapper mapper;
+    private final Set<String> keyClaims;
+
+    /**
+     * Constructor.
+     *
+     * @param delegate the resolver of the datasets.
+     * @param maxEntries max number of cached participant/query entries.
+     * @param ttl time-to-live of the entries.
+     * @param clock the clock.
+     * @param mapper the mapper that converts the claim values to JSON trees.
+     * @param keyClaims the claims evaluated by the policies, all the non-volatile claims if empty.
+     */
+    public CachingDatasetResolver(DatasetResolver delegate, int maxEntries, Duration ttl, Clock clock, ObjectMapper mapper, Set<String> keyClaims) {
+        this.delegate = delegate;
+        this.cache = new ExpiringLruCache<>(maxEntries, ttl, clock);
+        this.mapper = mapper;
+        this.keyClaims = keyClaims;
+    }
+
+    @Override
+    public @NotNull Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
+        var claims = keyClaims(agent);
+        if (claims == null) {
+            return delegate.query(agent, querySpec);
+        }
+        var key = new CacheKey(agent.getIdentity(), claims, agent.getAttributes(), querySpec);
+        var datasets = cache.computeIfAbsent(key, k -> {
+            try (var stream = delegate.query(agent, querySpec)) {
+                return stream.toList();
+            }
+        });
+        return datasets.stream();
+    }
+
+    @Override
+    public Dataset getById(ParticipantAgent agent, String id) {
+        return delegate.getById(agent, id);
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        cache.invalidateAll();
+    }
+
+    public long getHits() {
+        return cache.getHits();
+    }
+
+    public long getMisses() {
+        return cache.getMisses();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Returns the key claims as JSON trees, or null if one of them cannot be converted, in which case the datasets are
+     * resolved without caching.
+     */
+    private Map<String, JsonNode> keyClaims(ParticipantAgent agent) {
+        var claims = new HashMap<String, JsonNode>();
+        for (var claim : agent.getClaims().entrySet()) {
+            var name = claim.getKey();
+            if (keyClaims.isEmpty() ? !VOLATILE_CLAIMS.contains(name) : keyClaims.contains(name)) {
+                try {
+                    claims.put(name, mapper.valueToTree(claim.getValue()));
+                } catch (IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return claims;
+    }
+
+    private record CacheKey(String identity, Map<String, JsonNode> claims, Map<String, String> attributes, QuerySpec querySpec) {
+    }
+}
@@ -53,6 +53,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -157,6 +158,38 @@ class DatasetResolverImplTest {
         ));
     }
 
+    @Test
+    void query_shouldPushDownCriteriaSharedByAllDefinitions() {
+        var sharedCriterion = new Criterion(EDC_NAMESPACE + "type", "=", "shared");
+        var likeCriterion = new Criterion(EDC_NAMESPACE + "name", "like", "%name%");
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(sharedCriterion, likeCriterion, new Criterion(EDC_NAMESPACE + "id", "=", "1"))).build(),
+                contractDefinitionBuilder("definition2").assetsSelector(List.of(sharedCriterion, likeCriterion)).build()
+        ));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenReturn(Stream.empty());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        datasetResolver.query(createParticipantAgent(), QuerySpec.none()).toList();
+
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().equals(List.of(sharedCriterion))));
+    }
+
+    @Test
+    void query_shouldResolvePolicyOncePerRequest_andBuildOnlyPageDatasets() {
+        var contractDefinitions = range(0, 3).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).contractPolicyId("contractPolicyId").build()).toList();
+        var assets = range(0, 100).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(10, 15)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec).toList();
+
+        assertThat(datasets).hasSize(5).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(3));
+        verify(policyStore, times(1)).findById("contractPolicyId");
+        verify(distributionResolver, times(5)).getDistributions(any());
+    }
+
     @Test
     void query_shouldLimitDataset_whenSingleDefinitionAndMultipleAssets_contained() {
         var contractDefinition = contractDefinitionBuilder("definitionId").contractPolicyId("contractPolicyId").build();
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.catalog.cache;
+
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingDatasetResolverTest {
+
+    private final DatasetResolver delegate = mock();
+    private final TypeManager typeManager = new TypeManager();
+    private final CachingDatasetResolver resolver = new CachingDatasetResolver(delegate, 10, Duration.ofMinutes(1), Clock.systemUTC(),
+            typeManager.getMapper(), Set.of());
+
+    @Test
+    void query_shouldReturnCachedDatasets_whenSameAgentAndQuery() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("id")));
+
+        var first = resolver.query(agent("participant", 1), QuerySpec.none()).toList();
+        var second = resolver.query(agent("participant", 2), QuerySpec.none()).toList();
+
+        assertThat(first).hasSize(1);
+        assertThat(second).isEqualTo(first);
+        verify(delegate, times(1)).query(any(), any());
+        assertThat(resolver.getHits()).isEqualTo(1);
+        assertThat(resolver.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void query_shouldNotShareEntries_whenAgentOrQueryDiffer() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("id")));
+
+        resolver.query(agent("participant", 1), QuerySpec.none()).toList();
+        resolver.query(agent("another-participant", 1), QuerySpec.none()).toList();
+        resolver.query(agent("participant", 1), QuerySpec.Builder.newInstance().limit(5).build()).toList();
+
+        verify(delegate, times(3)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldReturnCachedDatasets_whenClaimsHoldEqualObjectsWithoutValueEquality() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("id")));
+
+        resolver.query(agent("participant", Map.of("vc", List.of(new Credential("credential-id", "MembershipCredential")))), QuerySpec.none()).toList();
+        resolver.query(agent("participant", Map.of("vc", List.of(new Credential("credential-id", "MembershipCredential")))), QuerySpec.none()).toList();
+
+        verify(delegate, times(1)).query(any(), any());
+        assertThat(resolver.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void query_shouldKeyOnConfiguredClaimsOnly() {
+        var keyedOnRegion = new CachingDatasetResolver(delegate, 10, Duration.ofMinutes(1), Clock.systemUTC(), typeManager.getMapper(), Set.of("region"));
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("id")));
+
+        keyedOnRegion.query(agent("participant", Map.of("region", "eu", "nonce", "1")), QuerySpec.none()).toList();
+        keyedOnRegion.query(agent("participant", Map.of("region", "eu", "nonce", "2")), QuerySpec.none()).toList();
+        keyedOnRegion.query(agent("participant", Map.of("region", "us", "nonce", "3")), QuerySpec.none()).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void on_shouldInvalidateCache() {
+        when(delegate.query(any(), any())).thenAnswer(i -> Stream.of(dataset("id")));
+        resolver.query(agent("participant", 1), QuerySpec.none()).toList();
+
+        resolver.on(mock(EventEnvelope.class));
+        resolver.query(agent("participant", 1), QuerySpec.none()).toList();
+
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    @Test
+    void query_shouldNotCacheDatasets_whenInvalidatedWhileResolving() {
+        when(delegate.query(any(), any())).thenAnswer(i -> {
+            resolver.on(mock(EventEnvelope.class));
+            return Stream.of(dataset("stale"));
+        }).thenAnswer(i -> Stream.of(dataset("fresh")));
+
+        var first = resolver.query(agent("participant", 1), QuerySpec.none()).toList();
+        var second = resolver.query(agent("participant", 1), QuerySpec.none()).toList();
+
+        assertThat(first).extracting(Dataset::getId).containsExactly("stale");
+        assertThat(second).extracting(Dataset::getId).containsExactly("fresh");
+        verify(delegate, times(2)).query(any(), any());
+    }
+
+    private ParticipantAgent agent(String participantId, long issuedAt) {
+        return new ParticipantAgent(Map.of("client_id", participantId, "iat", issuedAt), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, participantId));
+    }
+
+    private ParticipantAgent agent(String participantId, Map<String, Object> claims) {
+        return new ParticipantAgent(claims, Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, participantId));
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+
+    /**
+     * Bean without value equality, like the verifiable credentials held in the claims.
+     */
+    private static class Credential {
+        private final String id;
+        private final String type;
+
+        Credential(String id, String type) {
+            this.id = id;
+            this.type = type;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public String getType() {
+            return type;
+        }
+    }
+}
@@ -41,6 +41,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -51,7 +52,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.ExecutionMode;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -83,6 +86,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the execution mode of the negotiation state machine, SEQUENTIAL or PER_PROCESSOR (every state processed on its own lane)", defaultValue = "SEQUENTIAL")
+    private static final String NEGOTIATION_STATE_MACHINE_EXECUTION_MODE = "edc.negotiation.state-machine.execution-mode";
+
+    @Setting(value = "the number of workers that process the fetched entities concurrently on every lane of the negotiation state machine. 0 means the entities are processed on the lane thread", type = "int", defaultValue = "0")
+    private static final String NEGOTIATION_STATE_MACHINE_WORKERS = "edc.negotiation.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -144,6 +153,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateEntityNotificationChannel notificationChannel;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -202,9 +217,13 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .executionMode(ExecutionMode.valueOf(context.getSetting(NEGOTIATION_STATE_MACHINE_EXECUTION_MODE, ExecutionMode.SEQUENTIAL.name()).toUpperCase()))
+                .workers(context.getSetting(NEGOTIATION_STATE_MACHINE_WORKERS, 0))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
+                .notificationChannel(notificationChannel)
+                .transactionContext(transactionContext)
                 .build();
 
         providerNegotiationManager = ProviderContractNegotiationManagerImpl.Builder.newInstance()
@@ -219,9 +238,13 @@ public class ContractCoreExtension implements ServiceExtension {
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .executionMode(ExecutionMode.valueOf(context.getSetting(NEGOTIATION_STATE_MACHINE_EXECUTION_MODE, ExecutionMode.SEQUENTIAL.name()).toUpperCase()))
+                .workers(context.getSetting(NEGOTIATION_STATE_MACHINE_WORKERS, 0))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
+                .notificationChannel(notificationChannel)
+                .transactionContext(transactionContext)
                 .build();
 
         context.registerService(ConsumerContractNegotiationManager.class, consumerNegotiationManager);
@@ -64,6 +64,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.asset.AssetIndex;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
@@ -159,6 +160,9 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Inject
     private ProtocolVersionRegistry protocolVersionRegistry;
 
+    @Inject
+    private StateEntityNotificationChannel notificationChannel;
+
     @Override
     public String name() {
         return NAME;
@@ -203,7 +207,7 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     public ContractNegotiationProtocolService contractNegotiationProtocolService() {
         return new ContractNegotiationProtocolServiceImpl(contractNegotiationStore,
                 transactionContext, contractValidationService, consumerOfferResolver, protocolTokenValidator(), contractNegotiationObservable,
-                monitor, telemetry);
+                notificationChannel, monitor, telemetry);
     }
 
     @Provider
@@ -222,7 +226,8 @@ public class ControlPlaneServicesExtension implements ServiceExtension {
     @Provider
     public TransferProcessProtocolService transferProcessProtocolService() {
         return new TransferProcessProtocolServiceImpl(transferProcessStore, transactionContext, contractNegotiationStore,
-                contractValidationService, protocolTokenValidator(), dataAddressValidator, transferProcessObservable, clock, monitor, telemetry);
+                contractValidationService, protocolTokenValidator(), dataAddressValidator, transferProcessObservable, notificationChannel,
+                clock, monitor, telemetry);
     }
 
     @Provider
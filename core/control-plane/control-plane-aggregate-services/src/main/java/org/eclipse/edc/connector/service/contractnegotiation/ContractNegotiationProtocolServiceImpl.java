@@ -35,6 +35,7 @@ import org.eclipse.edc.connector.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -60,6 +61,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
     private final ConsumerOfferResolver consumerOfferResolver;
     private final ProtocolTokenValidator protocolTokenValidator;
     private final ContractNegotiationObservable observable;
+    private final StateEntityNotificationChannel notificationChannel;
     private final Monitor monitor;
     private final Telemetry telemetry;
 
@@ -69,6 +71,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
                                                   ConsumerOfferResolver consumerOfferResolver,
                                                   ProtocolTokenValidator protocolTokenValidator,
                                                   ContractNegotiationObservable observable,
+                                                  StateEntityNotificationChannel notificationChannel,
                                                   Monitor monitor, Telemetry telemetry) {
         this.store = store;
         this.transactionContext = transactionContext;
@@ -76,6 +79,7 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
         this.consumerOfferResolver = consumerOfferResolver;
         this.protocolTokenValidator = protocolTokenValidator;
         this.observable = observable;
+        this.notificationChannel = notificationChannel;
         this.monitor = monitor;
         this.telemetry = telemetry;
     }
@@ -335,6 +339,8 @@ public class ContractNegotiationProtocolServiceImpl implements ContractNegotiati
         store.save(negotiation);
         monitor.debug(() -> "[%s] ContractNegotiation %s is now in state %s."
                 .formatted(negotiation.getType(), negotiation.getId(), negotiation.stateAsString()));
+        var state = negotiation.getState();
+        transactionContext.afterCommit(() -> notificationChannel.publish(StateEntityNotificationChannel.topic(ContractNegotiation.class), state));
     }
 
 }
@@ -33,6 +33,7 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferStartMessag
 import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTerminationMessage;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.ServiceResult;
@@ -63,6 +64,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     private final ContractValidationService contractValidationService;
     private final DataAddressValidatorRegistry dataAddressValidator;
     private final TransferProcessObservable observable;
+    private final StateEntityNotificationChannel notificationChannel;
 
     private final ProtocolTokenValidator protocolTokenValidator;
 
@@ -75,7 +77,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
                                               ContractValidationService contractValidationService,
                                               ProtocolTokenValidator protocolTokenValidator,
                                               DataAddressValidatorRegistry dataAddressValidator, TransferProcessObservable observable,
-                                              Clock clock, Monitor monitor, Telemetry telemetry) {
+                                              StateEntityNotificationChannel notificationChannel, Clock clock, Monitor monitor, Telemetry telemetry) {
         this.transferProcessStore = transferProcessStore;
         this.transactionContext = transactionContext;
         this.negotiationStore = negotiationStore;
@@ -83,6 +85,7 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
         this.protocolTokenValidator = protocolTokenValidator;
         this.dataAddressValidator = dataAddressValidator;
         this.observable = observable;
+        this.notificationChannel = notificationChannel;
         this.clock = clock;
         this.monitor = monitor;
         this.telemetry = telemetry;
@@ -321,6 +324,8 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     private void update(TransferProcess transferProcess) {
         transferProcessStore.save(transferProcess);
         monitor.debug(format("TransferProcess %s is now in state %s", transferProcess.getId(), TransferProcessStates.from(transferProcess.getState())));
+        var state = transferProcess.getState();
+        transactionContext.afterCommit(() -> notificationChannel.publish(StateEntityNotificationChannel.topic(TransferProcess.class), state));
     }
 
     private record TransferRequestMessageContext(ContractAgreement agreement, TransferProcess transferProcess) {
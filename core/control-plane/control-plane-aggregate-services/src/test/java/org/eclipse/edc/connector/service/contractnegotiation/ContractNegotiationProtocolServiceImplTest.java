@@ -34,6 +34,7 @@ import org.eclipse.edc.connector.spi.contractnegotiation.ContractNegotiationProt
 import org.eclipse.edc.connector.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceFailure;
@@ -103,6 +104,7 @@ class ContractNegotiationProtocolServiceImplTest {
     private final ConsumerOfferResolver consumerOfferResolver = mock();
     private final ContractNegotiationListener listener = mock();
     private final ProtocolTokenValidator protocolTokenValidator = mock();
+    private final StateEntityNotificationChannel notificationChannel = mock();
     private ContractNegotiationProtocolService service;
 
     @BeforeEach
@@ -110,7 +112,7 @@ class ContractNegotiationProtocolServiceImplTest {
         var observable = new ContractNegotiationObservableImpl();
         observable.registerListener(listener);
         service = new ContractNegotiationProtocolServiceImpl(store, transactionContext, validationService,
-                consumerOfferResolver, protocolTokenValidator, observable, mock(), mock());
+                consumerOfferResolver, protocolTokenValidator, observable, notificationChannel, mock(), mock());
     }
 
     @Nested
@@ -152,6 +154,7 @@ class ContractNegotiationProtocolServiceImplTest {
             verify(listener).requested(any());
             verify(validationService).validateInitialOffer(participantAgent, validatableOffer);
             verify(transactionContext, atLeastOnce()).execute(any(TransactionContext.ResultTransactionBlock.class));
+            verify(notificationChannel).publish("ContractNegotiation", REQUESTED.code());
         }
 
         @Test
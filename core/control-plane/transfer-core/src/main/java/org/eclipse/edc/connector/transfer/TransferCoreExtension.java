@@ -44,6 +44,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
@@ -54,7 +55,9 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.statemachine.ExecutionMode;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -81,6 +84,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the execution mode of the transfer process state machine, SEQUENTIAL or PER_PROCESSOR (every state processed on its own lane)", defaultValue = "SEQUENTIAL")
+    private static final String TRANSFER_STATE_MACHINE_EXECUTION_MODE = "edc.transfer.state-machine.execution-mode";
+
+    @Setting(value = "the number of workers that process the fetched entities concurrently on every lane of the transfer process state machine. 0 means the entities are processed on the lane thread", type = "int", defaultValue = "0")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -141,6 +150,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateEntityNotificationChannel notificationChannel;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -185,12 +200,16 @@ public class TransferCoreExtension implements ServiceExtension {
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .executionMode(ExecutionMode.valueOf(context.getSetting(TRANSFER_STATE_MACHINE_EXECUTION_MODE, ExecutionMode.SEQUENTIAL.name()).toUpperCase()))
+                .workers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, 0))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
                 .provisionResponsesHandler(provisionResponsesHandler)
                 .deprovisionResponsesHandler(deprovisionResponsesHandler)
                 .pendingGuard(pendingGuard)
+                .notificationChannel(notificationChannel)
+                .transactionContext(transactionContext)
                 .build();
 
         context.registerService(TransferProcessManager.class, processManager);
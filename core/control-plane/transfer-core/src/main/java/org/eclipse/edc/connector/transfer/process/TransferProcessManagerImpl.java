@@ -45,6 +45,7 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferStartMessag
 import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTerminationMessage;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
 import org.eclipse.edc.spi.query.Criterion;
@@ -161,6 +162,11 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
         return StatusResult.success(process);
     }
 
+    @Override
+    protected String notificationTopic() {
+        return StateEntityNotificationChannel.topic(TransferProcess.class);
+    }
+
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
@@ -461,24 +467,25 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
 
     private Processor processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", CONSUMER.name()) };
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
     private Processor processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", PROVIDER.name()) };
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
     private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
-        return createProcessor(function, filter);
+        return createProcessor(state, function, filter);
     }
 
-    private ProcessorImpl<TransferProcess> createProcessor(Function<TransferProcess, Boolean> function, Criterion[] filter) {
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+    private ProcessorImpl<TransferProcess> createProcessor(TransferProcessStates state, Function<TransferProcess, Boolean> function, Criterion[] filter) {
+        return ProcessorImpl.Builder.newInstance(max -> store.nextNotLeased(Math.min(max, batchSize), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .guard(pendingGuard, this::setPending)
                 .onNotProcessed(this::breakLease)
+                .states(state.code())
                 .build();
     }
 
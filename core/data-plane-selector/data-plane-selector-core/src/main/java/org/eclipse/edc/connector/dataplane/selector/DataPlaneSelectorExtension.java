@@ -18,15 +18,33 @@ import org.eclipse.edc.connector.dataplane.selector.service.EmbeddedDataPlaneSel
 import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.strategy.DataPlaneLoadTracker;
+import org.eclipse.edc.connector.dataplane.selector.strategy.LeastActiveFlowsSelectionStrategy;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 @Extension(value = "DataPlane core selector")
 public class DataPlaneSelectorExtension implements ServiceExtension {
 
+    private static final long DEFAULT_ROUTING_REFRESH_SECONDS = 10;
+    private static final long DEFAULT_HEARTBEAT_TIMEOUT_SECONDS = 30;
+
+    @Setting(value = "Max age in seconds of the in-memory routing table of the data plane instances, after which it's reloaded from the store. 0 reloads it on every selection",
+            type = "long", defaultValue = DEFAULT_ROUTING_REFRESH_SECONDS + "", min = 0)
+    private static final String ROUTING_REFRESH_SECONDS = "edc.dataplane.selector.routing.refresh-seconds";
+
+    @Setting(value = "Time in seconds after which a data plane instance that stopped sending heartbeats is not selected anymore by the leastActiveFlows strategy",
+            type = "long", defaultValue = DEFAULT_HEARTBEAT_TIMEOUT_SECONDS + "", min = 1)
+    private static final String HEARTBEAT_TIMEOUT_SECONDS = "edc.dataplane.selector.heartbeat.timeout-seconds";
+
     @Inject
     private DataPlaneInstanceStore instanceStore;
 
@@ -36,9 +54,23 @@ public class DataPlaneSelectorExtension implements ServiceExtension {
     @Inject
     private SelectionStrategyRegistry selectionStrategyRegistry;
 
+    @Inject
+    private Clock clock;
+
+    private DataPlaneLoadTracker loadTracker;
+    private Duration routingRefreshPeriod;
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        routingRefreshPeriod = Duration.ofSeconds(context.getSetting(ROUTING_REFRESH_SECONDS, DEFAULT_ROUTING_REFRESH_SECONDS));
+        var heartbeatTimeout = Duration.ofSeconds(context.getSetting(HEARTBEAT_TIMEOUT_SECONDS, DEFAULT_HEARTBEAT_TIMEOUT_SECONDS));
+        loadTracker = new DataPlaneLoadTracker(clock, heartbeatTimeout);
+        selectionStrategyRegistry.add(new LeastActiveFlowsSelectionStrategy(loadTracker));
+    }
+
     @Provider
     public DataPlaneSelectorService dataPlaneSelectorService() {
-        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext);
+        return new EmbeddedDataPlaneSelectorService(instanceStore, selectionStrategyRegistry, transactionContext, loadTracker, routingRefreshPeriod, clock);
     }
 
 }
@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.service;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable snapshot of the {@link DataPlaneInstance}s, indexed by source type, destination type and transfer type, so
+ * that the instances that can handle a transfer are found with a single lookup instead of evaluating
+ * {@link DataPlaneInstance#canHandle(org.eclipse.edc.spi.types.domain.DataAddress, org.eclipse.edc.spi.types.domain.DataAddress, String)}
+ * on every instance.
+ */
+class DataPlaneRoutingTable {
+
+    private final List<DataPlaneInstance> instances;
+    private final Set<String> ids;
+    private final Map<RouteKey, List<DataPlaneInstance>> routes;
+    private final Instant loadedAt;
+    private final long generation;
+
+    private DataPlaneRoutingTable(List<DataPlaneInstance> instances, Map<RouteKey, List<DataPlaneInstance>> routes, Instant loadedAt, long generation) {
+        this.instances = instances;
+        this.ids = instances.stream().map(DataPlaneInstance::getId).collect(Collectors.toUnmodifiableSet());
+        this.routes = routes;
+        this.loadedAt = loadedAt;
+        this.generation = generation;
+    }
+
+    /**
+     * Builds the table. Every instance is indexed once per combination of its allowed source and destination types,
+     * without transfer type, and once more per allowed transfer type.
+     *
+     * @param instances the data plane instances.
+     * @param loadedAt when the instances were loaded.
+     * @param generation the number of changes known when the instances were loaded.
+     * @return the routing table.
+     */
+    static DataPlaneRoutingTable of(List<DataPlaneInstance> instances, Instant loadedAt, long generation) {
+        var routes = new HashMap<RouteKey, List<DataPlaneInstance>>();
+        for (var instance : instances) {
+            for (var source : instance.getAllowedSourceTypes()) {
+                for (var destination : instance.getAllowedDestTypes()) {
+                    routes.computeIfAbsent(new RouteKey(source, destination, null), k -> new ArrayList<>()).add(instance);
+                    for (var transferType : instance.getAllowedTransferTypes()) {
+                        routes.computeIfAbsent(new RouteKey(source, destination, transferType), k -> new ArrayList<>()).add(instance);
+                    }
+                }
+            }
+        }
+        routes.replaceAll((key, candidates) -> List.copyOf(candidates));
+        return new DataPlaneRoutingTable(List.copyOf(instances), routes, loadedAt, generation);
+    }
+
+    /**
+     * Returns the instances that can handle the transfer, in the order they were loaded.
+     *
+     * @param sourceType the source data address type.
+     * @param destinationType the destination data address type.
+     * @param transferType the transfer type, if null any transfer type matches.
+     * @return the instances, never null.
+     */
+    List<DataPlaneInstance> candidates(String sourceType, String destinationType, @Nullable String transferType) {
+        return routes.getOrDefault(new RouteKey(sourceType, destinationType, transferType), List.of());
+    }
+
+    List<DataPlaneInstance> getAll() {
+        return instances;
+    }
+
+    boolean contains(String instanceId) {
+        return ids.contains(instanceId);
+    }
+
+    Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    private record RouteKey(String sourceType, String destinationType, @Nullable String transferType) {
+    }
+}
@@ -18,32 +18,58 @@ import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService
 import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.strategy.DataPlaneLoadTracker;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
+import static java.lang.String.format;
+import static org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore.DATA_PLANE_INSTANCE_NOT_FOUND;
+
+/**
+ * {@link DataPlaneSelectorService} that selects among the instances of the local {@link DataPlaneInstanceStore}.
+ * <p>
+ * Instances are served from a {@link DataPlaneRoutingTable}, which is reloaded from the store when an instance is added
+ * through this service, or when it is older than the refresh period, so that instances added by other runtimes sharing
+ * the store are picked up as well. A zero refresh period reloads the store on every call.
+ */
 public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorService {
 
     private final DataPlaneInstanceStore store;
     private final SelectionStrategyRegistry selectionStrategyRegistry;
     private final TransactionContext transactionContext;
+    private final DataPlaneLoadTracker loadTracker;
+    private final Duration refreshPeriod;
+    private final Clock clock;
+    private final Object refreshLock = new Object();
+    private final AtomicLong generation = new AtomicLong();
+    private volatile DataPlaneRoutingTable routingTable;
 
     public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext) {
+        this(store, selectionStrategyRegistry, transactionContext, new DataPlaneLoadTracker(Clock.systemUTC(), Duration.ofSeconds(30)), Duration.ZERO, Clock.systemUTC());
+    }
+
+    public EmbeddedDataPlaneSelectorService(DataPlaneInstanceStore store, SelectionStrategyRegistry selectionStrategyRegistry, TransactionContext transactionContext,
+                                            DataPlaneLoadTracker loadTracker, Duration refreshPeriod, Clock clock) {
         this.store = store;
         this.selectionStrategyRegistry = selectionStrategyRegistry;
         this.transactionContext = transactionContext;
+        this.loadTracker = loadTracker;
+        this.refreshPeriod = refreshPeriod;
+        this.clock = clock;
     }
 
     @Override
     public List<DataPlaneInstance> getAll() {
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                return stream.toList();
-            }
-        });
+        return routingTable().getAll();
     }
 
     @Override
@@ -52,26 +78,75 @@ public class EmbeddedDataPlaneSelectorService implements DataPlaneSelectorServic
         if (strategy == null) {
             throw new IllegalArgumentException("Strategy " + selectionStrategy + " was not found");
         }
+        Objects.requireNonNull(source, "source cannot be null!");
+        Objects.requireNonNull(destination, "destination cannot be null");
 
-        return transactionContext.execute(() -> {
-            try (var stream = store.getAll()) {
-                var dataPlanes = stream.filter(dataPlane -> dataPlane.canHandle(source, destination, transferType)).toList();
-                return strategy.apply(dataPlanes);
-            }
-        });
+        var candidates = routingTable().candidates(source.getType(), destination.getType(), transferType);
+        var selected = strategy.apply(candidates);
+        if (selected != null) {
+            loadTracker.selected(selected.getId());
+        }
+        return selected;
     }
 
-
     @Override
     public ServiceResult<Void> addInstance(DataPlaneInstance instance) {
-        return transactionContext.execute(() -> {
-            StoreResult<Void> result;
+        var result = transactionContext.execute(() -> {
+            StoreResult<Void> storeResult;
             if (store.findById(instance.getId()) == null) {
-                result = store.create(instance);
+                storeResult = store.create(instance);
             } else {
-                result = store.update(instance);
+                storeResult = store.update(instance);
+            }
+            return ServiceResult.from(storeResult);
+        });
+        if (result.succeeded()) {
+            generation.incrementAndGet();
+        }
+        return result;
+    }
+
+    @Override
+    public ServiceResult<Void> heartbeat(String instanceId, int activeFlows) {
+        if (activeFlows < 0) {
+            return ServiceResult.badRequest("The number of active flows cannot be negative");
+        }
+        if (!routingTable().contains(instanceId) && transactionContext.execute(() -> store.findById(instanceId)) == null) {
+            return ServiceResult.notFound(format(DATA_PLANE_INSTANCE_NOT_FOUND, instanceId));
+        }
+        loadTracker.heartbeat(instanceId, activeFlows);
+        return ServiceResult.success();
+    }
+
+    private DataPlaneRoutingTable routingTable() {
+        var table = routingTable;
+        if (isFresh(table)) {
+            return table;
+        }
+        synchronized (refreshLock) {
+            table = routingTable;
+            if (!isFresh(table)) {
+                table = load();
+                routingTable = table;
+            }
+            return table;
+        }
+    }
+
+    private boolean isFresh(DataPlaneRoutingTable table) {
+        return table != null && table.getGeneration() == generation.get() && clock.instant().isBefore(table.getLoadedAt().plus(refreshPeriod));
+    }
+
+    private DataPlaneRoutingTable load() {
+        // read before loading, so that a change committed meanwhile triggers another reload
+        var currentGeneration = generation.get();
+        var now = clock.instant();
+        var instances = transactionContext.execute(() -> {
+            try (var stream = store.getAll()) {
+                return stream.toList();
             }
-            return ServiceResult.from(result);
         });
+        loadTracker.retain(instances.stream().map(DataPlaneInstance::getId).collect(Collectors.toSet()));
+        return DataPlaneRoutingTable.of(instances, now, currentGeneration);
     }
 }
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps track of the load of the {@link DataPlaneInstance}s, as reported by their heartbeats, plus the selections made
+ * since the last heartbeat, which are expected to have started a flow that the data plane did not report yet.
+ * <p>
+ * An instance is considered healthy if it never sent a heartbeat, so that data planes that do not send any keep on
+ * being selected, or if its last heartbeat is more recent than the timeout.
+ */
+public class DataPlaneLoadTracker {
+
+    private final Map<String, Load> loads = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final Duration heartbeatTimeout;
+
+    public DataPlaneLoadTracker(Clock clock, Duration heartbeatTimeout) {
+        this.clock = clock;
+        this.heartbeatTimeout = heartbeatTimeout;
+    }
+
+    /**
+     * Records a heartbeat, which replaces the load estimated from the previous selections.
+     *
+     * @param instanceId the data plane instance id.
+     * @param activeFlows the number of flows running on the data plane.
+     */
+    public void heartbeat(String instanceId, int activeFlows) {
+        loads.put(instanceId, new Load(activeFlows, 0, clock.instant()));
+    }
+
+    /**
+     * Records that the instance got selected for a transfer.
+     *
+     * @param instanceId the data plane instance id.
+     */
+    public void selected(String instanceId) {
+        loads.compute(instanceId, (id, load) -> load == null
+                ? new Load(0, 1, null)
+                : new Load(load.activeFlows, load.selections + 1, load.lastHeartbeat));
+    }
+
+    /**
+     * Returns the estimated number of active flows of the instance.
+     *
+     * @param instanceId the data plane instance id.
+     * @return the reported active flows plus the selections since the last heartbeat.
+     */
+    public long getActiveFlows(String instanceId) {
+        var load = loads.get(instanceId);
+        return load == null ? 0 : load.activeFlows + load.selections;
+    }
+
+    public boolean isHealthy(String instanceId) {
+        var load = loads.get(instanceId);
+        if (load == null || load.lastHeartbeat == null) {
+            return true;
+        }
+        return clock.instant().isBefore(load.lastHeartbeat.plus(heartbeatTimeout));
+    }
+
+    /**
+     * Forgets the instances that are not registered anymore.
+     *
+     * @param instanceIds the ids of the registered instances.
+     */
+    public void retain(Set<String> instanceIds) {
+        loads.keySet().retainAll(instanceIds);
+    }
+
+    private record Load(long activeFlows, long selections, Instant lastHeartbeat) {
+    }
+}
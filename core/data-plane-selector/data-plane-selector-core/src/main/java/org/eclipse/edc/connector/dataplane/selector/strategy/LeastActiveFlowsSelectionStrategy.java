@@ -0,0 +1,67 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the healthy {@link DataPlaneInstance} with the least active flows, according to the {@link DataPlaneLoadTracker}.
+ * Ties are broken in a round-robin fashion, so that instances that report the same load, or no load at all, get selected
+ * in turn. If none of the instances is healthy, all of them are considered.
+ */
+public class LeastActiveFlowsSelectionStrategy implements SelectionStrategy {
+
+    public static final String NAME = "leastActiveFlows";
+
+    private final DataPlaneLoadTracker loadTracker;
+    private final AtomicInteger offset = new AtomicInteger();
+
+    public LeastActiveFlowsSelectionStrategy(DataPlaneLoadTracker loadTracker) {
+        this.loadTracker = loadTracker;
+    }
+
+    @Override
+    public DataPlaneInstance apply(List<DataPlaneInstance> instances) {
+        if (instances.isEmpty()) {
+            return null;
+        }
+
+        var healthy = instances.stream().filter(instance -> loadTracker.isHealthy(instance.getId())).toList();
+        var candidates = healthy.isEmpty() ? instances : healthy;
+
+        var start = Math.floorMod(offset.getAndIncrement(), candidates.size());
+        DataPlaneInstance selected = null;
+        var minActiveFlows = Long.MAX_VALUE;
+        for (var i = 0; i < candidates.size(); i++) {
+            var candidate = candidates.get((start + i) % candidates.size());
+            var activeFlows = loadTracker.getActiveFlows(candidate.getId());
+            if (activeFlows < minActiveFlows) {
+                selected = candidate;
+                minActiveFlows = activeFlows;
+            }
+        }
+        return selected;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}
@@ -19,16 +19,24 @@ import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstan
 import org.eclipse.edc.connector.dataplane.selector.spi.store.DataPlaneInstanceStore;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategy;
 import org.eclipse.edc.connector.dataplane.selector.spi.strategy.SelectionStrategyRegistry;
+import org.eclipse.edc.connector.dataplane.selector.strategy.DataPlaneLoadTracker;
+import org.eclipse.edc.spi.result.ServiceFailure;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.selector.spi.testfixtures.TestFunctions.createAddress;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -62,12 +70,71 @@ public class EmbeddedDataPlaneSelectorServiceTest {
                 .isInstanceOf(IllegalArgumentException.class);
     }
 
+    @Test
+    void select_shouldFilterByTransferType() {
+        var instance1 = createInstanceBuilder("instance1", "srcTestType", "destTestType").allowedTransferType("push").build();
+        var instance2 = createInstanceBuilder("instance2", "srcTestType", "destTestType").allowedTransferType("pull").build();
+        when(store.getAll()).thenAnswer(i -> Stream.of(instance1, instance2));
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategy.apply(any())).thenAnswer(it -> it.getArgument(0, List.class).get(0));
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+
+        var result = selector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy", "pull");
+
+        assertThat(result).isSameAs(instance2);
+        verify(selectionStrategy).apply(List.of(instance2));
+    }
+
+    @Test
+    void select_shouldReuseRoutingTable_untilInstanceIsAdded() {
+        var instance1 = createInstanceMock("instance1", "srcTestType", "destTestType");
+        var instance2 = createInstanceMock("instance2", "srcTestType", "destTestType");
+        when(store.getAll()).thenAnswer(i -> Stream.of(instance1)).thenAnswer(i -> Stream.of(instance1, instance2));
+        when(store.create(any())).thenReturn(StoreResult.success());
+        SelectionStrategy selectionStrategy = mock();
+        when(selectionStrategyRegistry.find(any())).thenReturn(selectionStrategy);
+        var cachingSelector = new EmbeddedDataPlaneSelectorService(store, selectionStrategyRegistry, new NoopTransactionContext(),
+                new DataPlaneLoadTracker(Clock.systemUTC(), Duration.ofSeconds(30)), Duration.ofMinutes(1), Clock.systemUTC());
+
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+        verify(store, times(1)).getAll();
+
+        cachingSelector.addInstance(instance2);
+        cachingSelector.select(createAddress("srcTestType"), createAddress("destTestType"), "strategy");
+
+        verify(store, times(2)).getAll();
+        verify(selectionStrategy).apply(List.of(instance1, instance2));
+    }
+
+    @Test
+    void heartbeat_shouldFail_whenInstanceIsNotRegistered() {
+        when(store.getAll()).thenAnswer(i -> Stream.empty());
+
+        var result = selector.heartbeat("unknown", 1);
+
+        assertThat(result.failed()).isTrue();
+        assertThat(result.reason()).isEqualTo(ServiceFailure.Reason.NOT_FOUND);
+    }
+
+    @Test
+    void heartbeat_shouldSucceed_whenInstanceIsRegistered() {
+        when(store.getAll()).thenAnswer(i -> Stream.of(createInstanceMock("instance1", "srcTestType", "destTestType")));
+
+        var result = selector.heartbeat("instance1", 1);
+
+        assertThat(result.succeeded()).isTrue();
+    }
+
     private DataPlaneInstance createInstanceMock(String id, String srcType, String destType) {
+        return createInstanceBuilder(id, srcType, destType).build();
+    }
+
+    private DataPlaneInstance.Builder createInstanceBuilder(String id, String srcType, String destType) {
         return DataPlaneInstance.Builder.newInstance()
                 .url("http://any")
                 .id(id)
                 .allowedSourceType(srcType)
-                .allowedDestType(destType)
-                .build();
+                .allowedDestType(destType);
     }
 }
@@ -0,0 +1,94 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.selector.strategy;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.instance.DataPlaneInstance;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LeastActiveFlowsSelectionStrategyTest {
+
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final DataPlaneLoadTracker loadTracker = new DataPlaneLoadTracker(clock, Duration.ofSeconds(30));
+    private final LeastActiveFlowsSelectionStrategy strategy = new LeastActiveFlowsSelectionStrategy(loadTracker);
+
+    @Test
+    void apply_shouldReturnNull_whenNoInstance() {
+        assertThat(strategy.apply(List.of())).isNull();
+    }
+
+    @Test
+    void apply_shouldSelectInstanceWithLeastActiveFlows() {
+        when(clock.instant()).thenReturn(now);
+        var instances = List.of(instance("1"), instance("2"), instance("3"));
+        loadTracker.heartbeat("1", 5);
+        loadTracker.heartbeat("2", 1);
+        loadTracker.heartbeat("3", 3);
+
+        assertThat(strategy.apply(instances).getId()).isEqualTo("2");
+    }
+
+    @Test
+    void apply_shouldSpreadSelections_whenNoLoadIsReported() {
+        var instances = IntStream.range(0, 4).mapToObj(i -> instance(String.valueOf(i))).toList();
+
+        var selections = IntStream.range(0, 40)
+                .mapToObj(i -> {
+                    var selected = strategy.apply(instances);
+                    loadTracker.selected(selected.getId());
+                    return selected.getId();
+                })
+                .collect(groupingBy(id -> id, counting()));
+
+        assertThat(selections).hasSize(4).allSatisfy((id, count) -> assertThat(count).isEqualTo(10));
+    }
+
+    @Test
+    void apply_shouldSkipInstanceWithoutRecentHeartbeat() {
+        when(clock.instant()).thenReturn(now.minusSeconds(60));
+        loadTracker.heartbeat("1", 0);
+        when(clock.instant()).thenReturn(now);
+        loadTracker.heartbeat("2", 10);
+
+        assertThat(strategy.apply(List.of(instance("1"), instance("2"))).getId()).isEqualTo("2");
+    }
+
+    @Test
+    void apply_shouldConsiderAllInstances_whenNoneIsHealthy() {
+        when(clock.instant()).thenReturn(now.minusSeconds(60));
+        loadTracker.heartbeat("1", 3);
+        loadTracker.heartbeat("2", 1);
+        when(clock.instant()).thenReturn(now);
+
+        assertThat(strategy.apply(List.of(instance("1"), instance("2"))).getId()).isEqualTo("2");
+    }
+
+    private DataPlaneInstance instance(String id) {
+        return DataPlaneInstance.Builder.newInstance().id(id).url("http://any").build();
+    }
+}
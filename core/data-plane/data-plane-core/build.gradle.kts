@@ -23,6 +23,7 @@ dependencies {
     api(project(":spi:data-plane:data-plane-spi"))
 
     implementation(project(":spi:common:token-spi"))
+    implementation(project(":spi:data-plane-selector:data-plane-selector-spi"))
     implementation(project(":core:common:token-core")) // for the JwtGenerationService
     implementation(project(":core:common:connector-core"))
     implementation(project(":core:common:boot"))
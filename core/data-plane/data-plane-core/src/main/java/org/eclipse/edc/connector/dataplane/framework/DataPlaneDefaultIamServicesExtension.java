@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.connector.dataplane.framework;
 
+import org.eclipse.edc.connector.dataplane.framework.iam.AccessTokenDataCache;
+import org.eclipse.edc.connector.dataplane.framework.iam.AccessTokenDataSweeper;
 import org.eclipse.edc.connector.dataplane.framework.iam.DefaultDataPlaneAccessTokenServiceImpl;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
@@ -21,9 +23,11 @@ import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.LocalPublicKeyService;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.token.JwtGenerationService;
@@ -31,6 +35,9 @@ import org.eclipse.edc.token.spi.TokenValidationService;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.dataplane.spi.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
@@ -39,6 +46,31 @@ import static org.eclipse.edc.connector.dataplane.spi.TransferDataPlaneConfig.TO
 public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Framework Default IAM Services";
+
+    private static final int DEFAULT_TOKEN_CACHE_MAX_ENTRIES = 0;
+    private static final long DEFAULT_TOKEN_CACHE_TTL_SECONDS = 300;
+
+    @Setting(value = "Max number of resolved access tokens kept in memory by the data plane. 0, the default, disables the cache. The cache only sees " +
+            "the tokens revoked by this runtime, e.g. when a data flow is terminated, so enable it only if no other runtime deletes tokens from a shared store.", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_MAX_ENTRIES + "", min = 0)
+    private static final String TOKEN_CACHE_MAX_ENTRIES = "edc.dataplane.token.cache.max-entries";
+
+    @Setting(value = "Max time in seconds a resolved access token is served from memory, even if it expires later. This bounds how long a token deleted from the store " +
+            "without being revoked through the access token service of this runtime stays usable. 0 disables the cache.", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL_SECONDS + "", min = 0)
+    private static final String TOKEN_CACHE_TTL_SECONDS = "edc.dataplane.token.cache.ttl-seconds";
+
+    private static final long DEFAULT_SWEEPER_PERIOD_SECONDS = 60;
+    private static final int DEFAULT_SWEEPER_BATCH_SIZE = 1000;
+    private static final int DEFAULT_SWEEPER_MAX_BATCHES = 10;
+
+    @Setting(value = "Period in seconds between two runs of the sweeper that deletes the expired access tokens. 0 disables the sweeper.", type = "long", defaultValue = DEFAULT_SWEEPER_PERIOD_SECONDS + "", min = 0)
+    private static final String TOKEN_SWEEPER_PERIOD_SECONDS = "edc.dataplane.token.sweeper.period-seconds";
+
+    @Setting(value = "Max number of expired access tokens deleted in one batch.", type = "int", defaultValue = DEFAULT_SWEEPER_BATCH_SIZE + "", min = 1)
+    private static final String TOKEN_SWEEPER_BATCH_SIZE = "edc.dataplane.token.sweeper.batch-size";
+
+    @Setting(value = "Max number of batches deleted by a single sweeper run.", type = "int", defaultValue = DEFAULT_SWEEPER_MAX_BATCHES + "", min = 1)
+    private static final String TOKEN_SWEEPER_MAX_BATCHES = "edc.dataplane.token.sweeper.max-batches";
+
     @Inject
     private AccessTokenDataStore accessTokenDataStore;
     @Inject
@@ -47,12 +79,52 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     private PrivateKeyResolver privateKeyResolver;
     @Inject
     private LocalPublicKeyService localPublicKeyService;
+    @Inject
+    private Clock clock;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private AccessTokenDataCache accessTokenDataCache;
+    private AccessTokenDataSweeper sweeper;
+    private long sweeperPeriod;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        accessTokenDataCache = new AccessTokenDataCache(context.getSetting(TOKEN_CACHE_MAX_ENTRIES, DEFAULT_TOKEN_CACHE_MAX_ENTRIES),
+                Duration.ofSeconds(context.getSetting(TOKEN_CACHE_TTL_SECONDS, DEFAULT_TOKEN_CACHE_TTL_SECONDS)), clock);
+
+        sweeperPeriod = context.getSetting(TOKEN_SWEEPER_PERIOD_SECONDS, DEFAULT_SWEEPER_PERIOD_SECONDS);
+        var executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "accesstokendata-sweeper");
+        sweeper = new AccessTokenDataSweeper(accessTokenDataStore, accessTokenDataCache, executor, Duration.ofSeconds(sweeperPeriod),
+                context.getSetting(TOKEN_SWEEPER_BATCH_SIZE, DEFAULT_SWEEPER_BATCH_SIZE), context.getSetting(TOKEN_SWEEPER_MAX_BATCHES, DEFAULT_SWEEPER_MAX_BATCHES),
+                clock, context.getMonitor().withPrefix("DataPlane IAM"));
+    }
+
+    @Override
+    public void start() {
+        if (sweeperPeriod > 0) {
+            sweeper.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        sweeper.stop();
+    }
+
+    /**
+     * Exposes the sweeper, so that its counters can be read, e.g. by a metrics or health check extension.
+     */
+    @Provider
+    public AccessTokenDataSweeper accessTokenDataSweeper() {
+        return sweeper;
+    }
+
 
     @Provider(isDefault = true)
     public DataPlaneAccessControlService defaultAccessControlService(ServiceExtensionContext context) {
@@ -62,7 +134,8 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
 
     @Provider(isDefault = true)
     public DataPlaneAccessTokenService defaultAccessTokenService(ServiceExtensionContext context) {
-        return new DefaultDataPlaneAccessTokenServiceImpl(new JwtGenerationService(), accessTokenDataStore, context.getMonitor().withPrefix("DataPlane IAM"), getPrivateKeySupplier(context), tokenValidationService, localPublicKeyService);
+        return new DefaultDataPlaneAccessTokenServiceImpl(new JwtGenerationService(), accessTokenDataStore, context.getMonitor().withPrefix("DataPlane IAM"),
+                getPrivateKeySupplier(context), tokenValidationService, localPublicKeyService, accessTokenDataCache, clock);
     }
 
     @NotNull
@@ -27,23 +27,29 @@ import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ExecutionMode;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.concurrent.Executors;
 
+import static java.lang.String.format;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_BATCH_SIZE;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
@@ -63,6 +69,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "the execution mode of the data plane state machine, SEQUENTIAL or PER_PROCESSOR (every state processed on its own lane)", defaultValue = "SEQUENTIAL")
+    private static final String DATAPLANE_MACHINE_EXECUTION_MODE = "edc.dataplane.state-machine.execution-mode";
+
+    @Setting(value = "the number of workers that process the fetched entities concurrently on every lane of the data plane state machine. 0 means the entities are processed on the lane thread", type = "int", defaultValue = "0")
+    private static final String DATAPLANE_MACHINE_WORKERS = "edc.dataplane.state-machine.workers";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
@@ -71,6 +83,11 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
+
+    @Setting(value = "Validity in seconds of the access tokens issued by the data plane, after which they expire and get deleted by the sweeper. " +
+            "The tokens of a data flow are also revoked when it is terminated through the signaling API. 0 means the tokens never expire, so the tokens " +
+            "of a data flow that is never terminated stay in the store: set it to the longest expected transfer duration to bound the store", type = "long", defaultValue = "0", min = 0)
+    private static final String TOKEN_VALIDITY_SECONDS = "edc.dataplane.token.validity-seconds";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
     private DataPlaneManagerImpl dataPlaneManager;
 
@@ -100,6 +117,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     private DataPlaneAccessControlService accessControlService;
     @Inject
     private PublicEndpointGeneratorService endpointGenerator;
+    @Inject
+    private StateEntityNotificationChannel notificationChannel;
+    @Inject
+    private TransactionContext transactionContext;
+    @Inject
+    private AccessTokenDataStore accessTokenDataStore;
 
     @Override
     public String name() {
@@ -126,6 +149,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .executionMode(ExecutionMode.valueOf(context.getSetting(DATAPLANE_MACHINE_EXECUTION_MODE, ExecutionMode.SEQUENTIAL.name()).toUpperCase()))
+                .workers(context.getSetting(DATAPLANE_MACHINE_WORKERS, 0))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
@@ -134,6 +159,8 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
                 .transferProcessClient(transferProcessApiClient)
                 .monitor(monitor)
                 .telemetry(telemetry)
+                .notificationChannel(notificationChannel)
+                .transactionContext(transactionContext)
                 .build();
 
         context.registerService(DataPlaneManager.class, dataPlaneManager);
@@ -153,7 +180,11 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
 
     @Provider
     public DataPlaneAuthorizationService authorizationService(ServiceExtensionContext context) {
-        return new DataPlaneAuthorizationServiceImpl(accessTokenService, endpointGenerator, accessControlService, context.getParticipantId(), clock);
+        var tokenValidity = Duration.ofSeconds(context.getSetting(TOKEN_VALIDITY_SECONDS, 0L));
+        if (tokenValidity.isZero()) {
+            context.getMonitor().info(format("%s is not set: the access tokens never expire and are only deleted when their data flow is terminated", TOKEN_VALIDITY_SECONDS));
+        }
+        return new DataPlaneAuthorizationServiceImpl(accessTokenService, endpointGenerator, accessControlService, context.getParticipantId(), clock, tokenValidity, accessTokenDataStore);
     }
 
     @NotNull
@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework;
+
+import org.eclipse.edc.connector.dataplane.framework.heartbeat.DataPlaneHeartbeatEmitter;
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+/**
+ * Sends the heartbeats of the data plane to the data plane selector, so that it can select the least loaded instances
+ * and skip the ones that stopped. Only enabled when the id the data plane is registered with is configured.
+ */
+@Extension(value = DataPlaneHeartbeatExtension.NAME)
+public class DataPlaneHeartbeatExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane Heartbeat";
+
+    private static final long DEFAULT_HEARTBEAT_PERIOD_SECONDS = 10;
+
+    @Setting(value = "Id of the data plane instance this runtime is registered as in the data plane selector. If not set, no heartbeat is sent")
+    private static final String HEARTBEAT_INSTANCE_ID = "edc.dataplane.heartbeat.instance-id";
+
+    @Setting(value = "Period in seconds between two heartbeats, it should be lower than the heartbeat timeout of the data plane selector",
+            type = "long", defaultValue = DEFAULT_HEARTBEAT_PERIOD_SECONDS + "", min = 1)
+    private static final String HEARTBEAT_PERIOD_SECONDS = "edc.dataplane.heartbeat.period-seconds";
+
+    @Inject(required = false)
+    private DataPlaneSelectorService selectorService;
+    @Inject
+    private DataPlaneManager dataPlaneManager;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private DataPlaneHeartbeatEmitter emitter;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var instanceId = context.getSetting(HEARTBEAT_INSTANCE_ID, null);
+        if (instanceId == null) {
+            return;
+        }
+        if (selectorService == null) {
+            context.getMonitor().warning("%s is set but no data plane selector service is available, no heartbeat is sent".formatted(HEARTBEAT_INSTANCE_ID));
+            return;
+        }
+
+        var period = Duration.ofSeconds(context.getSetting(HEARTBEAT_PERIOD_SECONDS, DEFAULT_HEARTBEAT_PERIOD_SECONDS));
+        var executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "dataplane-heartbeat");
+        emitter = new DataPlaneHeartbeatEmitter(selectorService, dataPlaneManager, instanceId, executor, period, context.getMonitor().withPrefix("DataPlane Heartbeat"));
+    }
+
+    @Override
+    public void start() {
+        if (emitter != null) {
+            emitter.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (emitter != null) {
+            emitter.stop();
+        }
+    }
+}
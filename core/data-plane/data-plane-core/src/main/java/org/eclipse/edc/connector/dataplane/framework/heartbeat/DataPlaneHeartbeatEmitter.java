@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.heartbeat;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically reports the number of active flows of the {@link DataPlaneManager} to the
+ * {@link DataPlaneSelectorService}, as the heartbeat of the data plane instance this runtime is registered as.
+ */
+public class DataPlaneHeartbeatEmitter {
+
+    private final DataPlaneSelectorService selectorService;
+    private final DataPlaneManager dataPlaneManager;
+    private final String instanceId;
+    private final ScheduledExecutorService executor;
+    private final Duration period;
+    private final Monitor monitor;
+
+    public DataPlaneHeartbeatEmitter(DataPlaneSelectorService selectorService, DataPlaneManager dataPlaneManager, String instanceId,
+                                     ScheduledExecutorService executor, Duration period, Monitor monitor) {
+        this.selectorService = selectorService;
+        this.dataPlaneManager = dataPlaneManager;
+        this.instanceId = instanceId;
+        this.executor = executor;
+        this.period = period;
+        this.monitor = monitor;
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::emit, 0, period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Sends a heartbeat with the current number of active flows.
+     */
+    public void emit() {
+        try {
+            var result = selectorService.heartbeat(instanceId, dataPlaneManager.getActiveFlowCount());
+            if (result.failed()) {
+                monitor.warning(format("Cannot send the heartbeat of data plane instance %s: %s", instanceId, result.getFailureDetail()));
+            }
+        } catch (Exception e) {
+            monitor.warning(format("Error sending the heartbeat of data plane instance %s", instanceId), e);
+        }
+    }
+}
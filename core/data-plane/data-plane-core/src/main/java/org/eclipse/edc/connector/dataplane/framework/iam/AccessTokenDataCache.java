@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Objects;
+
+/**
+ * Caches the {@link AccessTokenData} of the access tokens that have been verified and resolved, keyed by the SHA-256
+ * hash of the serialized token, so that the raw tokens are never kept in memory. Entries live until the expiration of
+ * the token, capped by the configured time-to-live, and can be evicted by token ID when the token gets revoked.
+ */
+public class AccessTokenDataCache {
+
+    private final ExpiringLruCache<CacheKey, AccessTokenData> tokens;
+    private final Clock clock;
+    private final boolean enabled;
+
+    /**
+     * Constructor. A zero time-to-live or max entries disables the cache.
+     *
+     * @param maxEntries max number of cached tokens.
+     * @param ttl max time-to-live of the entries.
+     * @param clock the clock.
+     */
+    public AccessTokenDataCache(int maxEntries, Duration ttl, Clock clock) {
+        this.enabled = maxEntries > 0 && !ttl.isZero() && !ttl.isNegative();
+        this.tokens = new ExpiringLruCache<>(Math.max(1, maxEntries), enabled ? ttl : Duration.ofMillis(1), clock);
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a cache that never retains anything.
+     *
+     * @return the disabled cache.
+     */
+    public static AccessTokenDataCache disabled() {
+        return new AccessTokenDataCache(0, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the cached data of the token, or null if it's not cached or expired.
+     *
+     * @param token the serialized token.
+     * @return the data, null if not available.
+     */
+    public AccessTokenData get(String token) {
+        if (!enabled) {
+            return null;
+        }
+        return tokens.get(new CacheKey(hash(token), null));
+    }
+
+    /**
+     * Caches the data resolved for the token, until the expiration of the token. Tokens that are already expired are
+     * not cached.
+     *
+     * @param token the serialized token.
+     * @param data the resolved data.
+     */
+    public void put(String token, AccessTokenData data) {
+        put(token, data, tokens.getGeneration());
+    }
+
+    /**
+     * Caches the data resolved for the token, unless a token has been invalidated since the resolution started, as it
+     * could be the resolved one.
+     *
+     * @param token the serialized token.
+     * @param data the resolved data.
+     * @param loadGeneration the {@link #getGeneration() generation} read before resolving the token.
+     */
+    public void put(String token, AccessTokenData data, long loadGeneration) {
+        if (!enabled || data.isExpired(clock.instant())) {
+            return;
+        }
+        var expiresAt = data.expiresAt() != null ? data.expiresAt() : Instant.MAX;
+        tokens.put(new CacheKey(hash(token), data.id()), data, expiresAt, loadGeneration);
+    }
+
+    /**
+     * Returns the number of invalidations so far, to be read before resolving a token that is then cached.
+     *
+     * @return the invalidation generation.
+     */
+    public long getGeneration() {
+        return tokens.getGeneration();
+    }
+
+    /**
+     * Evicts the token with the passed ID, e.g. because it has been revoked or deleted. This scans the cached entries,
+     * as revocations are expected to be far less frequent than lookups.
+     *
+     * @param tokenId the token ID ("jti" claim).
+     */
+    public void invalidate(String tokenId) {
+        tokens.invalidateIf(key -> Objects.equals(key.tokenId, tokenId));
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    public long getHits() {
+        return tokens.getHits();
+    }
+
+    public long getMisses() {
+        return tokens.getMisses();
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    /**
+     * Cache key that is looked up by the token hash only, and also carries the token ID for the invalidation.
+     */
+    private static final class CacheKey {
+        private final String hash;
+        private final String tokenId;
+
+        private CacheKey(String hash, String tokenId) {
+            this.hash = hash;
+            this.tokenId = tokenId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CacheKey other && hash.equals(other.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash.hashCode();
+        }
+    }
+}
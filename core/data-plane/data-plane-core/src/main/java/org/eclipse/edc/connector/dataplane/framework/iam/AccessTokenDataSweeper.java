@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
+import org.eclipse.edc.spi.monitor.Monitor;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Periodically deletes the expired {@link AccessTokenData} from the {@link AccessTokenDataStore} and evicts them from
+ * the {@link AccessTokenDataCache}. Every run deletes at most {@code maxBatches} batches of {@code batchSize} tokens, so
+ * that a large backlog is worked off over several runs instead of holding the store busy.
+ * <p>
+ * The total number of deleted tokens is exposed together with the number of live tokens and the number of expired tokens
+ * left after the last run. The live tokens are counted on every run through the expiration index, the expired ones only
+ * when a run stops with a backlog, otherwise there are none left.
+ */
+public class AccessTokenDataSweeper {
+
+    private final AccessTokenDataStore store;
+    private final AccessTokenDataCache cache;
+    private final ScheduledExecutorService executor;
+    private final Duration period;
+    private final int batchSize;
+    private final int maxBatches;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final AtomicLong deletedTokens = new AtomicLong();
+    private volatile long expiredTokens;
+    private volatile long liveTokens;
+
+    public AccessTokenDataSweeper(AccessTokenDataStore store, AccessTokenDataCache cache, ScheduledExecutorService executor,
+                                  Duration period, int batchSize, int maxBatches, Clock clock, Monitor monitor) {
+        this.store = store;
+        this.cache = cache;
+        this.executor = executor;
+        this.period = period;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    public void start() {
+        executor.scheduleWithFixedDelay(this::sweep, period.toMillis(), period.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Deletes the expired tokens, in bounded batches, counts the expired tokens left if any and the live tokens.
+     */
+    public void sweep() {
+        try {
+            var now = clock.instant();
+            var deleted = 0L;
+            var backlog = false;
+            for (var batch = 0; batch < maxBatches; batch++) {
+                var result = store.deleteExpired(now, batchSize);
+                if (result.failed()) {
+                    monitor.warning(format("Cannot delete expired access tokens: %s", result.getFailureDetail()));
+                    return;
+                }
+                var ids = result.getContent();
+                ids.forEach(cache::invalidate);
+                deleted += ids.size();
+                backlog = ids.size() == batchSize;
+                if (!backlog) {
+                    break;
+                }
+            }
+            deletedTokens.addAndGet(deleted);
+            expiredTokens = backlog ? store.countExpired(now) : 0;
+            liveTokens = store.countLive(now);
+
+            if (deleted > 0) {
+                monitor.debug(format("Deleted %d expired access tokens, %d expired remaining", deleted, expiredTokens));
+            }
+        } catch (Exception e) {
+            monitor.warning("Error sweeping expired access tokens", e);
+        }
+    }
+
+    /**
+     * Returns the number of expired tokens that were left in the store after the last run.
+     *
+     * @return the expired tokens.
+     */
+    public long getExpiredTokens() {
+        return expiredTokens;
+    }
+
+    /**
+     * Returns the number of tokens that were live, i.e. not expired, after the last run.
+     *
+     * @return the live tokens.
+     */
+    public long getLiveTokens() {
+        return liveTokens;
+    }
+
+    /**
+     * Returns the total number of tokens deleted since the start.
+     *
+     * @return the deleted tokens.
+     */
+    public long getDeletedTokens() {
+        return deletedTokens.get();
+    }
+}
@@ -19,14 +19,19 @@ import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Map;
 import java.util.UUID;
 
@@ -43,17 +48,38 @@ public class DataPlaneAuthorizationServiceImpl implements DataPlaneAuthorization
     private final DataPlaneAccessControlService accessControlService;
     private final String ownParticipantId;
     private final Clock clock;
+    private final Duration tokenValidity;
+    private final AccessTokenDataStore accessTokenDataStore;
 
     public DataPlaneAuthorizationServiceImpl(DataPlaneAccessTokenService accessTokenService,
                                              PublicEndpointGeneratorService endpointGenerator,
                                              DataPlaneAccessControlService accessControlService,
                                              String ownParticipantId,
                                              Clock clock) {
+        this(accessTokenService, endpointGenerator, accessControlService, ownParticipantId, clock, Duration.ZERO, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tokenValidity        validity of the issued access tokens, zero if they never expire.
+     * @param accessTokenDataStore store of the issued access tokens, used to find the ones to revoke when a data flow ends.
+     *                             May be null, in which case revocation is not supported.
+     */
+    public DataPlaneAuthorizationServiceImpl(DataPlaneAccessTokenService accessTokenService,
+                                             PublicEndpointGeneratorService endpointGenerator,
+                                             DataPlaneAccessControlService accessControlService,
+                                             String ownParticipantId,
+                                             Clock clock,
+                                             Duration tokenValidity,
+                                             AccessTokenDataStore accessTokenDataStore) {
         this.accessTokenService = accessTokenService;
         this.endpointGenerator = endpointGenerator;
         this.accessControlService = accessControlService;
         this.ownParticipantId = ownParticipantId;
         this.clock = clock;
+        this.tokenValidity = tokenValidity;
+        this.accessTokenDataStore = accessTokenDataStore;
     }
 
     @Override
@@ -75,6 +101,26 @@ public class DataPlaneAuthorizationServiceImpl implements DataPlaneAuthorization
                 .map(u -> accessTokenDataResult.getContent().dataAddress());
     }
 
+    /**
+     * Revokes through the {@link DataPlaneAccessTokenService} all the tokens whose {@link #CLAIM_PROCESS_ID} claim is the
+     * process ID, so that they are also evicted from its cache.
+     */
+    @Override
+    public Result<Void> revokeEndpointDataReference(String processId) {
+        if (accessTokenDataStore == null) {
+            return DataPlaneAuthorizationService.super.revokeEndpointDataReference(processId);
+        }
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("claimToken.claims." + CLAIM_PROCESS_ID, "=", processId))
+                .limit(Integer.MAX_VALUE)
+                .build();
+        var failures = new ArrayList<String>();
+        for (var accessTokenData : accessTokenDataStore.query(query)) {
+            accessTokenService.revoke(accessTokenData.id()).onFailure(f -> failures.add(f.getFailureDetail()));
+        }
+        return failures.isEmpty() ? Result.success() : Result.failure(failures);
+    }
+
     private Result<DataAddress> createDataAddress(TokenRepresentation tokenRepresentation, Endpoint publicEndpoint) {
         var address = DataAddress.Builder.newInstance()
                 .type(publicEndpoint.endpointType())
@@ -88,7 +134,7 @@ public class DataPlaneAuthorizationServiceImpl implements DataPlaneAuthorization
     }
 
     private TokenParameters createTokenParams(DataFlowStartMessage message) {
-        return TokenParameters.Builder.newInstance()
+        var builder = TokenParameters.Builder.newInstance()
                 .claims(JwtRegisteredClaimNames.JWT_ID, UUID.randomUUID().toString())
                 .claims(JwtRegisteredClaimNames.AUDIENCE, message.getParticipantId())
                 .claims(JwtRegisteredClaimNames.ISSUER, ownParticipantId)
@@ -97,8 +143,12 @@ public class DataPlaneAuthorizationServiceImpl implements DataPlaneAuthorization
                 .claims(CLAIM_AGREEMENT_ID, message.getAgreementId())
                 .claims(CLAIM_ASSET_ID, message.getAssetId())
                 .claims(CLAIM_PROCESS_ID, message.getProcessId())
-                .claims(CLAIM_FLOW_TYPE, message.getFlowType().toString())
-                .build();
+                .claims(CLAIM_FLOW_TYPE, message.getFlowType().toString());
+
+        if (tokenValidity.isPositive()) {
+            builder.claims(JwtRegisteredClaimNames.EXPIRATION_TIME, clock.instant().plus(tokenValidity).getEpochSecond());
+        }
+        return builder.build();
     }
 
 }
@@ -30,7 +30,10 @@ import org.eclipse.edc.token.spi.TokenValidationRule;
 import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -44,6 +47,7 @@ import java.util.stream.Stream;
  */
 public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTokenService {
     public static final String TOKEN_ID = "jti";
+    public static final String EXPIRATION_TIME = "exp";
     private static final List<TokenValidationRule> DATAPLANE_ACCESS_TOKEN_RULES = List.of(
             (claimtoken, additional) -> Objects.equals(claimtoken.getStringClaim("sub"), claimtoken.getStringClaim("iss")) ? Result.success() : Result.failure("'sub' and 'iss' claim must be equal and non-null"),
             (toVerify, additional) -> toVerify.getStringClaim(TOKEN_ID) != null ? Result.success() : Result.failure("%s claim must be present on token".formatted(TOKEN_ID))
@@ -54,6 +58,8 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     private final Supplier<PrivateKey> privateKeySupplier;
     private final TokenValidationService tokenValidationService;
     private final PublicKeyResolver publicKeyResolver;
+    private final AccessTokenDataCache cache;
+    private final Clock clock;
 
     public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
                                                   AccessTokenDataStore accessTokenDataStore,
@@ -61,12 +67,25 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
                                                   Supplier<PrivateKey> privateKeySupplier,
                                                   TokenValidationService tokenValidationService,
                                                   PublicKeyResolver publicKeyResolver) {
+        this(tokenGenerationService, accessTokenDataStore, monitor, privateKeySupplier, tokenValidationService, publicKeyResolver, AccessTokenDataCache.disabled(), Clock.systemUTC());
+    }
+
+    public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
+                                                  AccessTokenDataStore accessTokenDataStore,
+                                                  Monitor monitor,
+                                                  Supplier<PrivateKey> privateKeySupplier,
+                                                  TokenValidationService tokenValidationService,
+                                                  PublicKeyResolver publicKeyResolver,
+                                                  AccessTokenDataCache cache,
+                                                  Clock clock) {
         this.tokenGenerationService = tokenGenerationService;
         this.accessTokenDataStore = accessTokenDataStore;
         this.monitor = monitor;
         this.privateKeySupplier = privateKeySupplier;
         this.tokenValidationService = tokenValidationService;
         this.publicKeyResolver = publicKeyResolver;
+        this.cache = cache;
+        this.clock = clock;
     }
 
     /**
@@ -103,7 +122,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
 
         // store a record of the token for future reference. We'll need that when we resolve the AccessTokenData later.
         var claimToken = ClaimToken.Builder.newInstance().claims(parameters.getClaims()).build();
-        var accessTokenData = new AccessTokenData(id, claimToken, backendDataAddress, additionalTokenData);
+        var accessTokenData = new AccessTokenData(id, claimToken, backendDataAddress, additionalTokenData, expiration(parameters.getClaims().get(EXPIRATION_TIME)));
 
         var storeResult = accessTokenDataStore.store(accessTokenData);
         var content = tokenResult.getContent();
@@ -112,17 +131,54 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     }
 
 
+    /**
+     * Verifies the token and restores its {@link AccessTokenData} from the {@link AccessTokenDataStore}. If the cache is enabled, resolved
+     * tokens are cached until their expiration, so that subsequent requests with the same token skip the signature verification and the
+     * store lookup, and they are evicted when revoked through {@link #revoke(String)}.
+     *
+     * @param token A string representation of the token.
+     * @return the {@link AccessTokenData}, a failure if the token is not valid or has been revoked.
+     */
     @Override
     public Result<AccessTokenData> resolve(String token) {
+        var loadGeneration = cache.getGeneration();
+        var cached = cache.get(token);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
         var validationResult = tokenValidationService.validate(token, publicKeyResolver, DATAPLANE_ACCESS_TOKEN_RULES);
         if (validationResult.failed()) {
             return validationResult.mapTo();
         }
         var tokenId = validationResult.getContent().getStringClaim(TOKEN_ID);
         var existingAccessToken = accessTokenDataStore.getById(tokenId);
+        if (existingAccessToken == null) {
+            return Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId));
+        }
+        if (existingAccessToken.isExpired(clock.instant())) {
+            return Result.failure("AccessTokenData with ID '%s' is expired.".formatted(tokenId));
+        }
+
+        cache.put(token, existingAccessToken, loadGeneration);
+        return Result.success(existingAccessToken);
+    }
 
-        return existingAccessToken == null ?
-                Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)) :
-                Result.success(existingAccessToken);
+    @Override
+    public Result<Void> revoke(String tokenId) {
+        var deleteResult = accessTokenDataStore.deleteById(tokenId);
+        cache.invalidate(tokenId);
+        return deleteResult.succeeded() ? Result.success() : Result.failure(deleteResult.getFailureMessages());
+    }
+
+    private Instant expiration(Object exp) {
+        if (exp instanceof Date date) {
+            return date.toInstant();
+        } else if (exp instanceof Instant instant) {
+            return instant;
+        } else if (exp instanceof Number number) {
+            return Instant.ofEpochSecond(number.longValue());
+        }
+        return null;
     }
 }
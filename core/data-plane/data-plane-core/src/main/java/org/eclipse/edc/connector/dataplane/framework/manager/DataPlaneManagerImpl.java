@@ -20,8 +20,11 @@ import org.eclipse.edc.connector.dataplane.spi.DataFlow;
 import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.StatusResult;
@@ -34,6 +37,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import static java.lang.String.format;
@@ -51,6 +56,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     private TransferServiceRegistry transferServiceRegistry;
     private TransferProcessApiClient transferProcessClient;
+    private final AtomicInteger activeFlows = new AtomicInteger();
 
     private DataPlaneManagerImpl() {
 
@@ -113,6 +119,16 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         return StatusResult.success();
     }
 
+    @Override
+    public int getActiveFlowCount() {
+        return activeFlows.get();
+    }
+
+    @Override
+    protected String notificationTopic() {
+        return StateEntityNotificationChannel.topic(DataFlow.class);
+    }
+
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
@@ -134,7 +150,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
         dataFlow.transitionToStarted();
         store.save(dataFlow);
 
-        return entityRetryProcessFactory.doAsyncProcess(dataFlow, () -> transferService.transfer(request))
+        return entityRetryProcessFactory.doAsyncProcess(dataFlow, () -> transfer(transferService, request))
                 .entityRetrieve(id -> store.findById(id))
                 .onSuccess((f, r) -> {
                     if (f.getState() == TERMINATED.code()) {
@@ -159,6 +175,16 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
                 .execute("start data flow");
     }
 
+    private CompletableFuture<StreamResult<Object>> transfer(TransferService transferService, DataFlowStartMessage request) {
+        activeFlows.incrementAndGet();
+        try {
+            return transferService.transfer(request).whenComplete((result, throwable) -> activeFlows.decrementAndGet());
+        } catch (RuntimeException e) {
+            activeFlows.decrementAndGet();
+            throw e;
+        }
+    }
+
     private boolean processCompleted(DataFlow dataFlow) {
         var response = transferProcessClient.completed(dataFlow.toRequest());
         if (response.succeeded()) {
@@ -185,9 +211,10 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     private Processor processDataFlowInState(DataFlowStates state, Function<DataFlow, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(max -> store.nextNotLeased(Math.min(max, batchSize), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .states(state.code())
                 .build();
     }
 
@@ -22,7 +22,9 @@ import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -65,4 +67,25 @@ public class InMemoryAccessTokenDataStore implements AccessTokenDataStore {
         return queryResolver.query(store.values().stream(), querySpec).toList();
     }
 
+    @Override
+    public StoreResult<List<String>> deleteExpired(Instant now, int limit) {
+        var deleted = store.values().stream()
+                .filter(accessTokenData -> accessTokenData.isExpired(now))
+                .limit(limit)
+                .map(AccessTokenData::id)
+                .filter(id -> store.remove(id) != null)
+                .toList();
+        return StoreResult.success(deleted);
+    }
+
+    @Override
+    public long countExpired(Instant now) {
+        return store.values().stream().filter(accessTokenData -> accessTokenData.isExpired(now)).count();
+    }
+
+    @Override
+    public long countLive(Instant now) {
+        return store.values().stream().filter(accessTokenData -> !accessTokenData.isExpired(now)).count();
+    }
+
 }
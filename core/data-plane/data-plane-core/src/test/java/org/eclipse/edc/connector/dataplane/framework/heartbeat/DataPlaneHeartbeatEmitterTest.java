@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.dataplane.framework.heartbeat;
+
+import org.eclipse.edc.connector.dataplane.selector.spi.DataPlaneSelectorService;
+import org.eclipse.edc.connector.dataplane.spi.manager.DataPlaneManager;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.ServiceResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DataPlaneHeartbeatEmitterTest {
+
+    private final DataPlaneSelectorService selectorService = mock();
+    private final DataPlaneManager dataPlaneManager = mock();
+    private final Monitor monitor = mock();
+    private final DataPlaneHeartbeatEmitter emitter = new DataPlaneHeartbeatEmitter(selectorService, dataPlaneManager, "instance-id",
+            mock(), Duration.ofSeconds(10), monitor);
+
+    @Test
+    void emit_shouldSendActiveFlowCount() {
+        when(dataPlaneManager.getActiveFlowCount()).thenReturn(3);
+        when(selectorService.heartbeat(any(), anyInt())).thenReturn(ServiceResult.success());
+
+        emitter.emit();
+
+        verify(selectorService).heartbeat("instance-id", 3);
+    }
+
+    @Test
+    void emit_shouldWarn_whenHeartbeatFails() {
+        when(selectorService.heartbeat(any(), anyInt())).thenReturn(ServiceResult.notFound("not registered"));
+
+        emitter.emit();
+
+        verify(monitor).warning(contains("not registered"));
+    }
+
+    @Test
+    void emit_shouldWarn_whenHeartbeatThrows() {
+        when(selectorService.heartbeat(any(), anyInt())).thenThrow(new RuntimeException("unreachable"));
+
+        emitter.emit();
+
+        verify(monitor).warning(anyString(), any(RuntimeException.class));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDataCacheTest {
+
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private AccessTokenDataCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        cache = new AccessTokenDataCache(10, Duration.ofMinutes(5), clock);
+    }
+
+    @Test
+    void get_shouldReturnCachedData_untilTokenExpires() {
+        var data = accessTokenData("token-id", now.plusSeconds(60));
+        cache.put("token", data);
+
+        assertThat(cache.get("token")).isSameAs(data);
+        assertThat(cache.get("another-token")).isNull();
+
+        when(clock.instant()).thenReturn(now.plusSeconds(60));
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void get_shouldExpireAfterTtl_whenTokenHasNoExpiration() {
+        cache.put("token", accessTokenData("token-id", null));
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void put_shouldIgnoreExpiredToken() {
+        cache.put("token", accessTokenData("token-id", now.minusSeconds(1)));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidate_shouldEvictByTokenId() {
+        cache.put("token", accessTokenData("token-id", now.plusSeconds(60)));
+        cache.put("another-token", accessTokenData("another-token-id", now.plusSeconds(60)));
+
+        cache.invalidate("token-id");
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.get("another-token")).isNotNull();
+    }
+
+    @Test
+    void put_shouldIgnoreToken_whenRevokedDuringResolution() {
+        var loadGeneration = cache.getGeneration();
+
+        cache.invalidate("token-id");
+        cache.put("token", accessTokenData("token-id", now.plusSeconds(60)), loadGeneration);
+
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void disabled_shouldNeverRetainTokens() {
+        var disabled = AccessTokenDataCache.disabled();
+
+        disabled.put("token", accessTokenData("token-id", Instant.now().plusSeconds(60)));
+
+        assertThat(disabled.get("token")).isNull();
+    }
+
+    private AccessTokenData accessTokenData(String id, Instant expiresAt) {
+        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), DataAddress.Builder.newInstance().type("test-type").build(), Map.of(), expiresAt);
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDataSweeperTest {
+
+    private final AccessTokenDataStore store = mock();
+    private final AccessTokenDataCache cache = mock();
+    private final Instant now = Instant.now();
+    private final AccessTokenDataSweeper sweeper = new AccessTokenDataSweeper(store, cache, mock(), Duration.ofMinutes(1), 2, 3,
+            Clock.fixed(now, ZoneOffset.UTC), mock());
+
+    @Test
+    void sweep_shouldDeleteBatchesUntilNoneIsFull() {
+        when(store.deleteExpired(now, 2)).thenReturn(StoreResult.success(List.of("1", "2")), StoreResult.success(List.of("3")));
+
+        sweeper.sweep();
+
+        verify(store, times(2)).deleteExpired(now, 2);
+        verify(cache).invalidate("1");
+        verify(cache).invalidate("2");
+        verify(cache).invalidate("3");
+        assertThat(sweeper.getDeletedTokens()).isEqualTo(3);
+        assertThat(sweeper.getExpiredTokens()).isZero();
+        verify(store, never()).countExpired(any());
+    }
+
+    @Test
+    void sweep_shouldStopAfterMaxBatches() {
+        when(store.deleteExpired(any(), anyInt())).thenReturn(StoreResult.success(List.of("1", "2")));
+        when(store.countExpired(now)).thenReturn(5L);
+        when(store.countLive(now)).thenReturn(7L);
+
+        sweeper.sweep();
+
+        verify(store, times(3)).deleteExpired(eq(now), anyInt());
+        assertThat(sweeper.getDeletedTokens()).isEqualTo(6);
+        assertThat(sweeper.getExpiredTokens()).isEqualTo(5);
+        assertThat(sweeper.getLiveTokens()).isEqualTo(7);
+    }
+
+    @Test
+    void sweep_shouldStop_whenDeletionFails() {
+        when(store.deleteExpired(any(), anyInt())).thenReturn(StoreResult.notFound("error"));
+
+        sweeper.sweep();
+
+        verify(store).deleteExpired(now, 2);
+        assertThat(sweeper.getDeletedTokens()).isZero();
+    }
+}
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.result.Result;
@@ -30,6 +31,8 @@ import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentMatchers;
 
 import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -54,7 +57,9 @@ class DataPlaneAuthorizationServiceImplTest {
     private final DataPlaneAccessTokenService accessTokenService = mock();
     private final PublicEndpointGeneratorService endpointGenerator = mock();
     private final DataPlaneAccessControlService accessControlService = mock();
-    private final DataPlaneAuthorizationServiceImpl authorizationService = new DataPlaneAuthorizationServiceImpl(accessTokenService, endpointGenerator, accessControlService, OWN_PARTICIPANT_ID, Clock.systemUTC());
+    private final AccessTokenDataStore accessTokenDataStore = mock();
+    private final DataPlaneAuthorizationServiceImpl authorizationService = new DataPlaneAuthorizationServiceImpl(accessTokenService, endpointGenerator, accessControlService, OWN_PARTICIPANT_ID, Clock.systemUTC(),
+            Duration.ZERO, accessTokenDataStore);
 
 
     @BeforeEach
@@ -155,6 +160,42 @@ class DataPlaneAuthorizationServiceImplTest {
         verifyNoMoreInteractions(accessTokenService, accessControlService);
     }
 
+    @Test
+    void revokeEndpointDataReference() {
+        var claimToken = ClaimToken.Builder.newInstance().claim("process_id", "test-processid").build();
+        var address = DataAddress.Builder.newInstance().type("test-type").build();
+        when(accessTokenDataStore.query(any())).thenReturn(List.of(new AccessTokenData("token-1", claimToken, address), new AccessTokenData("token-2", claimToken, address)));
+        when(accessTokenService.revoke(any())).thenReturn(Result.success());
+
+        assertThat(authorizationService.revokeEndpointDataReference("test-processid")).isSucceeded();
+
+        verify(accessTokenDataStore).query(ArgumentMatchers.assertArg(query -> assertThat(query.getFilterExpression())
+                .anySatisfy(criterion -> {
+                    assertThat(criterion.getOperandLeft()).isEqualTo("claimToken.claims.process_id");
+                    assertThat(criterion.getOperandRight()).isEqualTo("test-processid");
+                })));
+        verify(accessTokenService).revoke("token-1");
+        verify(accessTokenService).revoke("token-2");
+    }
+
+    @Test
+    void revokeEndpointDataReference_revocationFails() {
+        var address = DataAddress.Builder.newInstance().type("test-type").build();
+        when(accessTokenDataStore.query(any())).thenReturn(List.of(new AccessTokenData("token-1", ClaimToken.Builder.newInstance().build(), address)));
+        when(accessTokenService.revoke(any())).thenReturn(Result.failure("cannot revoke"));
+
+        assertThat(authorizationService.revokeEndpointDataReference("test-processid")).isFailed()
+                .detail().contains("cannot revoke");
+    }
+
+    @Test
+    void revokeEndpointDataReference_withoutStore() {
+        var service = new DataPlaneAuthorizationServiceImpl(accessTokenService, endpointGenerator, accessControlService, OWN_PARTICIPANT_ID, Clock.systemUTC());
+
+        assertThat(service.revokeEndpointDataReference("test-processid")).isFailed();
+        verifyNoMoreInteractions(accessTokenService);
+    }
+
     private DataFlowStartMessage.Builder createStartMessage() {
         return DataFlowStartMessage.Builder.newInstance()
                 .processId("test-processid")
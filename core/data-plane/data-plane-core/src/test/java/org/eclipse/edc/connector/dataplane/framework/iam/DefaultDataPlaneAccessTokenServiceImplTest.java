@@ -28,6 +28,9 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -39,6 +42,7 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -83,6 +87,21 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(store).store(argThat(accessTokenData -> accessTokenData.additionalProperties().get("foo").equals("bar")));
     }
 
+    @Test
+    void obtainToken_shouldStoreExpiration() {
+        var expiration = Instant.now().plusSeconds(300).getEpochSecond();
+        var params = TokenParameters.Builder.newInstance().claims("jti", "baz").claims("exp", expiration).build();
+        var address = DataAddress.Builder.newInstance().type("test-type").build();
+
+        when(tokenGenService.generate(any(), any(TokenDecorator[].class))).thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("foo-token").build()));
+        when(store.store(any(AccessTokenData.class))).thenReturn(StoreResult.success());
+
+        var result = accessTokenService.obtainToken(params, address, Map.of());
+
+        assertThat(result).isSucceeded();
+        verify(store).store(argThat(accessTokenData -> Instant.ofEpochSecond(expiration).equals(accessTokenData.expiresAt())));
+    }
+
     @Test
     void obtainToken_invalidParams() {
         assertThatThrownBy(() -> accessTokenService.obtainToken(null, DataAddress.Builder.newInstance().type("foo").build(), Map.of()))
@@ -180,4 +199,74 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(tokenValidationService).validate(eq("some-jwt"), any(), anyList());
         verify(store).getById(eq(tokenId));
     }
-}
\ No newline at end of file
+
+    @Test
+    void resolve_shouldServeCachedToken() {
+        var service = cachingService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(accessTokenData(tokenId, Instant.now().plusSeconds(60)));
+
+        var first = service.resolve("some-jwt");
+        var second = service.resolve("some-jwt");
+
+        assertThat(first).isSucceeded();
+        assertThat(second).isSucceeded().satisfies(atd -> Assertions.assertThat(atd.id()).isEqualTo(tokenId));
+        verify(tokenValidationService).validate(eq("some-jwt"), any(), anyList());
+        verify(store).getById(eq(tokenId));
+    }
+
+    @Test
+    void resolve_whenTokenExpired() {
+        var service = cachingService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(accessTokenData(tokenId, Instant.now().minusSeconds(60)));
+
+        var first = service.resolve("some-jwt");
+        var second = service.resolve("some-jwt");
+
+        assertThat(first).isFailed().detail().isEqualTo("AccessTokenData with ID 'test-id' is expired.");
+        assertThat(second).isFailed();
+        verify(store, times(2)).getById(eq(tokenId));
+    }
+
+    @Test
+    void revoke_shouldDeleteTokenAndEvictItFromCache() {
+        var service = cachingService();
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()), null);
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+        service.resolve("some-jwt");
+
+        var revokeResult = service.revoke(tokenId);
+        var result = service.resolve("some-jwt");
+
+        assertThat(revokeResult).isSucceeded();
+        assertThat(result).isFailed().detail().isEqualTo("AccessTokenData with ID 'test-id' does not exist.");
+        verify(store).deleteById(tokenId);
+    }
+
+    @Test
+    void revoke_whenTokenNotFound() {
+        when(store.deleteById("test-id")).thenReturn(StoreResult.notFound("not found"));
+
+        var result = accessTokenService.revoke("test-id");
+
+        assertThat(result).isFailed().detail().isEqualTo("not found");
+    }
+
+    private DefaultDataPlaneAccessTokenServiceImpl cachingService() {
+        return new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService, store, mock(), mock(), tokenValidationService, mock(),
+                new AccessTokenDataCache(10, Duration.ofMinutes(5), Clock.systemUTC()), Clock.systemUTC());
+    }
+
+    private AccessTokenData accessTokenData(String id, Instant expiresAt) {
+        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), DataAddress.Builder.newInstance().type("test-type").build(), Map.of(), expiresAt);
+    }
+}
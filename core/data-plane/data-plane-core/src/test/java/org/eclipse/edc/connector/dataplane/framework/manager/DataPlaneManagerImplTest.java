@@ -20,6 +20,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.TransferService;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.connector.dataplane.spi.store.DataPlaneStore;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.response.ResponseFailure;
 import org.eclipse.edc.spi.result.Result;
@@ -73,6 +74,7 @@ class DataPlaneManagerImplTest {
     private final DataPlaneStore store = mock();
     private final DataFlowStartMessage request = createRequest();
     private final TransferServiceRegistry registry = mock();
+    private final StateEntityNotificationChannel notificationChannel = mock();
     private DataPlaneManagerImpl manager;
 
     @BeforeEach
@@ -84,6 +86,7 @@ class DataPlaneManagerImplTest {
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
                 .monitor(mock())
+                .notificationChannel(notificationChannel)
                 .build();
     }
 
@@ -109,6 +112,7 @@ class DataPlaneManagerImplTest {
         assertThat(dataFlow.getCallbackAddress()).isEqualTo(URI.create("http://any"));
         assertThat(dataFlow.getProperties()).isEqualTo(request.getProperties());
         assertThat(dataFlow.getState()).isEqualTo(RECEIVED.code());
+        verify(notificationChannel).publish("DataFlow", RECEIVED.code());
     }
 
     @Test
@@ -217,6 +221,23 @@ class DataPlaneManagerImplTest {
         });
     }
 
+    @Test
+    void received_shouldCountActiveFlows_untilTransferEnds() {
+        var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
+        var transfer = new CompletableFuture<StreamResult<Object>>();
+        when(store.nextNotLeased(anyInt(), stateIs(RECEIVED.code()))).thenReturn(List.of(dataFlow)).thenReturn(emptyList());
+        when(store.findById(any())).thenReturn(dataFlow);
+        when(registry.resolveTransferService(any())).thenReturn(transferService);
+        when(transferService.canHandle(any())).thenReturn(true);
+        when(transferService.transfer(any())).thenReturn(transfer);
+
+        manager.start();
+
+        await().untilAsserted(() -> assertThat(manager.getActiveFlowCount()).isEqualTo(1));
+        transfer.complete(StreamResult.success());
+        assertThat(manager.getActiveFlowCount()).isZero();
+    }
+
     @Test
     void received_shouldStarTransitionToCompleted_whenTransferSucceeds() {
         var dataFlow = dataFlowBuilder().state(RECEIVED.code()).build();
@@ -24,11 +24,21 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.util.stream.PartitionIterator;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -38,13 +48,25 @@ import static org.eclipse.edc.util.async.AsyncUtils.asyncAllOf;
 
 /**
  * Writes data in parallel.
+ * <p>
+ * The parts are grouped into partitions, transferred concurrently on the executor service. When a max number of
+ * in-flight partitions is set, pulling from the source pauses while that many partitions are being transferred, so
+ * that long or endless part streams don't pile up tasks and results in memory. In that case the parts are pulled on a
+ * thread dedicated to the transfer, so the caller never waits for the transfer and a source that blocks waiting for
+ * data doesn't hold the threads of the executor service.
+ * <p>
+ * The transfer metrics are reported while the parts are pulled, every {@code metricsReportInterval}, so that long or
+ * endless transfers expose their throughput before they end.
  */
 public abstract class ParallelSink implements DataSink {
     protected String requestId;
     protected int partitionSize = 5;
+    protected int maxInFlightPartitions = 0;
     protected ExecutorService executorService;
     protected Monitor monitor;
     protected Telemetry telemetry;
+    protected TransferMetrics metrics = new TransferMetrics(Clock.systemUTC());
+    protected Duration metricsReportInterval = Duration.ofMinutes(1);
 
     @WithSpan
     @Override
@@ -55,17 +77,21 @@ public abstract class ParallelSink implements DataSink {
                 return completedFuture(failure(streamResult.getFailure()));
             }
 
-            try (var partStream = streamResult.getContent()) {
-                return PartitionIterator.streamOf(partStream, partitionSize)
-                        .map(this::processPartsAsync)
-                        .collect(asyncAllOf())
-                        .thenApply(results -> results.stream()
-                                .filter(AbstractResult::failed)
-                                .findFirst()
-                                .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages())))
-                                .orElseGet(this::complete))
-                        .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+            metrics.start();
+            var partStream = streamResult.getContent().peek(this::track);
+            CompletableFuture<StreamResult<Object>> result;
+            if (maxInFlightPartitions > 0) {
+                // the stream gets closed once all its parts are pulled and transferred
+                result = new BoundedTransfer(partStream).start();
+            } else {
+                try (partStream) {
+                    result = transferUnbounded(partStream);
+                }
             }
+            return result.whenComplete((r, t) -> {
+                metrics.stop();
+                monitor.debug(() -> format("Transfer %s: %s", requestId, metrics));
+            });
         } catch (Exception e) {
             var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
             monitor.severe(errorMessage, e);
@@ -73,6 +99,48 @@ public abstract class ParallelSink implements DataSink {
         }
     }
 
+    /**
+     * Returns the parts and bytes counters of the transfer, and their throughput.
+     *
+     * @return the transfer metrics.
+     */
+    public TransferMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns the part with its bytes counted in the transfer metrics as they are read, if its size is not known
+     * upfront. Parts with a known size are counted when they are pulled, so they are returned as they are.
+     *
+     * @param part the part.
+     * @return the part whose bytes are counted.
+     */
+    protected DataSource.Part countingBytes(DataSource.Part part) {
+        if (part.size() != DataSource.Part.SIZE_UNKNOWN) {
+            return part;
+        }
+        return new CountingPart(part, metrics);
+    }
+
+    private void track(DataSource.Part part) {
+        metrics.track(part);
+        if (metrics.isReportDue(metricsReportInterval)) {
+            monitor.info(() -> format("Transfer %s in progress: %s", requestId, metrics));
+        }
+    }
+
+    private CompletableFuture<StreamResult<Object>> transferUnbounded(Stream<DataSource.Part> partStream) {
+        return PartitionIterator.streamOf(partStream, partitionSize)
+                .map(this::processPartsAsync)
+                .collect(asyncAllOf())
+                .thenApply(results -> results.stream()
+                        .filter(AbstractResult::failed)
+                        .findFirst()
+                        .map(r -> StreamResult.<Object>error(String.join(",", r.getFailureMessages())))
+                        .orElseGet(this::complete))
+                .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+    }
+
     @NotNull
     private CompletableFuture<StreamResult<Object>> processPartsAsync(List<DataSource.Part> parts) {
         return supplyAsync(transfer(parts), executorService);
@@ -95,6 +163,132 @@ public abstract class ParallelSink implements DataSink {
         return StreamResult.success();
     }
 
+    /**
+     * Pulls the partitions on a thread dedicated to the transfer, a partition being pulled only when one of the
+     * in-flight ones is done, and aggregates the results as they come, stopping at the first failure. The executor
+     * service only runs the transfer of the partitions, so an idle source never holds its threads.
+     */
+    private final class BoundedTransfer {
+        private final Stream<DataSource.Part> partStream;
+        private final PartitionIterator<DataSource.Part> partitions;
+        private final Semaphore slots = new Semaphore(maxInFlightPartitions);
+        private final AtomicReference<StreamResult<Object>> firstFailure = new AtomicReference<>();
+        private final CompletableFuture<StreamResult<Object>> result = new CompletableFuture<>();
+
+        private BoundedTransfer(Stream<DataSource.Part> partStream) {
+            this.partStream = partStream;
+            this.partitions = new PartitionIterator<>(partStream.iterator(), partitionSize);
+        }
+
+        private CompletableFuture<StreamResult<Object>> start() {
+            var pull = telemetry.contextPropagationMiddleware(() -> {
+                pull();
+                return null;
+            }, telemetry.getTraceCarrierWithCurrentContext());
+            var puller = new Thread(pull::get, "parallel-sink-" + requestId);
+            puller.setDaemon(true);
+            puller.start();
+            return result;
+        }
+
+        private void pull() {
+            while (true) {
+                slots.acquireUninterruptibly();
+                List<DataSource.Part> parts = null;
+                try {
+                    if (firstFailure.get() == null && partitions.hasNext()) {
+                        parts = partitions.next();
+                    }
+                } catch (Exception e) {
+                    firstFailure.compareAndSet(null, StreamResult.error("Unhandled exception raised when pulling data: " + e.getMessage()));
+                }
+                if (parts == null) {
+                    slots.release();
+                    break;
+                }
+                submit(parts);
+            }
+            // all the slots are free once the in-flight partitions are done
+            slots.acquireUninterruptibly(maxInFlightPartitions);
+            finish();
+        }
+
+        private void submit(List<DataSource.Part> parts) {
+            CompletableFuture<StreamResult<Object>> partsFuture;
+            try {
+                partsFuture = processPartsAsync(parts);
+            } catch (RejectedExecutionException e) {
+                partsFuture = CompletableFuture.failedFuture(e);
+            }
+            partsFuture.whenComplete((partsResult, throwable) -> {
+                if (throwable != null) {
+                    firstFailure.compareAndSet(null, StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+                } else if (partsResult.failed()) {
+                    firstFailure.compareAndSet(null, StreamResult.error(String.join(",", partsResult.getFailureMessages())));
+                }
+                slots.release();
+            });
+        }
+
+        private void finish() {
+            try {
+                partStream.close();
+                result.complete(Optional.ofNullable(firstFailure.get()).orElseGet(ParallelSink.this::complete));
+            } catch (Exception e) {
+                result.complete(StreamResult.error("Unhandled exception raised when completing the transfer: " + e.getMessage()));
+            }
+        }
+    }
+
+    /**
+     * Part that counts the bytes read from its stream in the transfer metrics.
+     */
+    private record CountingPart(DataSource.Part part, TransferMetrics metrics) implements DataSource.Part {
+
+        @Override
+        public String name() {
+            return part.name();
+        }
+
+        @Override
+        public long size() {
+            return part.size();
+        }
+
+        @Override
+        public InputStream openStream() {
+            return new FilterInputStream(part.openStream()) {
+                @Override
+                public int read() throws IOException {
+                    var read = super.read();
+                    if (read != -1) {
+                        metrics.addBytes(1);
+                    }
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    var read = super.read(b, off, len);
+                    if (read > 0) {
+                        metrics.addBytes(read);
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public String mediaType() {
+            return part.mediaType();
+        }
+
+        @Override
+        public void close() throws Exception {
+            part.close();
+        }
+    }
+
     protected abstract static class Builder<B extends Builder<B, T>, T extends ParallelSink> {
         protected T sink;
 
@@ -113,6 +307,35 @@ public abstract class ParallelSink implements DataSink {
             return self();
         }
 
+        /**
+         * Max number of partitions transferred at the same time, pulling from the source pauses when it's reached.
+         * With 0 (default) all the partitions are submitted as they are pulled.
+         *
+         * @param maxInFlightPartitions the max number of in-flight partitions.
+         * @return the builder.
+         */
+        public B maxInFlightPartitions(int maxInFlightPartitions) {
+            sink.maxInFlightPartitions = maxInFlightPartitions;
+            return self();
+        }
+
+        /**
+         * Interval at which the transfer metrics are reported while the parts are pulled, zero disables the reporting.
+         * Defaults to one minute.
+         *
+         * @param metricsReportInterval the report interval.
+         * @return the builder.
+         */
+        public B metricsReportInterval(Duration metricsReportInterval) {
+            sink.metricsReportInterval = metricsReportInterval;
+            return self();
+        }
+
+        public B clock(Clock clock) {
+            sink.metrics = new TransferMetrics(clock);
+            return self();
+        }
+
         public B executorService(ExecutorService executorService) {
             sink.executorService = executorService;
             return self();
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.util.sink;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Counts the parts and the bytes transferred by a sink, and derives their throughput.
+ */
+public class TransferMetrics {
+
+    private final AtomicLong parts = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private final AtomicReference<Instant> lastReport = new AtomicReference<>();
+    private final Clock clock;
+    private volatile Instant start;
+    private volatile Instant end;
+
+    public TransferMetrics(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Marks the start of the transfer.
+     */
+    public void start() {
+        start = clock.instant();
+        end = null;
+        lastReport.set(start);
+    }
+
+    /**
+     * Marks the end of the transfer, the throughput is not updated anymore after that.
+     */
+    public void stop() {
+        end = clock.instant();
+    }
+
+    /**
+     * Counts the part, and its bytes if its size is known.
+     *
+     * @param part the part.
+     */
+    public void track(DataSource.Part part) {
+        parts.incrementAndGet();
+        var size = part.size();
+        if (size != DataSource.Part.SIZE_UNKNOWN) {
+            bytes.addAndGet(size);
+        }
+    }
+
+    /**
+     * Counts transferred bytes, for parts whose size is not known upfront.
+     *
+     * @param count the number of bytes.
+     */
+    public void addBytes(long count) {
+        bytes.addAndGet(count);
+    }
+
+    /**
+     * Tells whether the metrics are due to be reported, i.e. the interval elapsed since the previous report, or since
+     * the start, and marks them as reported if so. A zero interval disables the reporting.
+     *
+     * @param interval the report interval.
+     * @return true if the metrics are to be reported.
+     */
+    public boolean isReportDue(Duration interval) {
+        var last = lastReport.get();
+        if (last == null || interval.isZero() || end != null) {
+            return false;
+        }
+        var now = clock.instant();
+        return !now.isBefore(last.plus(interval)) && lastReport.compareAndSet(last, now);
+    }
+
+    public long getParts() {
+        return parts.get();
+    }
+
+    public long getBytes() {
+        return bytes.get();
+    }
+
+    /**
+     * Returns the time elapsed since the start of the transfer, up to its end if it's over.
+     *
+     * @return the elapsed time.
+     */
+    public Duration getElapsed() {
+        if (start == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(start, end != null ? end : clock.instant());
+    }
+
+    public double getPartsPerSecond() {
+        return perSecond(getParts());
+    }
+
+    public double getBytesPerSecond() {
+        return perSecond(getBytes());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d parts, %d bytes in %d ms (%.2f parts/s, %.2f bytes/s)",
+                getParts(), getBytes(), getElapsed().toMillis(), getPartsPerSecond(), getBytesPerSecond());
+    }
+
+    private double perSecond(long count) {
+        var millis = getElapsed().toMillis();
+        return millis == 0 ? 0 : count * 1000.0 / millis;
+    }
+}
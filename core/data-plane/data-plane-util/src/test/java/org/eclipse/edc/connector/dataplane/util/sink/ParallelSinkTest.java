@@ -25,16 +25,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static java.lang.String.format;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ParallelSinkTest {
@@ -116,6 +126,130 @@ class ParallelSinkTest {
         assertThat(fakeSink.complete).isEqualTo(0);
     }
 
+    @Test
+    void transfer_withMaxInFlightPartitions_shouldBoundConcurrentPartitions() {
+        var inFlight = new AtomicInteger();
+        var maxInFlight = new AtomicInteger();
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlightPartitions = 1;
+        fakeSink.transferResultSupplier = () -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            sleep(10);
+            inFlight.decrementAndGet();
+            return StreamResult.success();
+        };
+
+        assertThat(fakeSink.transfer(multiPartSource(5))).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+
+        assertThat(maxInFlight).hasValue(1);
+        assertThat(fakeSink.getMetrics().getParts()).isEqualTo(5);
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_withMaxInFlightPartitions_shouldStopPullingParts_whenPartitionFails() {
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlightPartitions = 1;
+        fakeSink.transferResultSupplier = () -> StreamResult.error(errorMessage);
+
+        assertThat(fakeSink.transfer(multiPartSource(5))).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.getFailureMessages()).containsExactly(errorMessage));
+
+        assertThat(fakeSink.getMetrics().getParts()).isLessThan(5);
+        assertThat(fakeSink.complete).isEqualTo(0);
+    }
+
+    @Test
+    void transfer_withMaxInFlightPartitions_shouldNotBlockCaller() {
+        var release = new CountDownLatch(1);
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlightPartitions = 1;
+        fakeSink.transferResultSupplier = () -> {
+            await(release);
+            return StreamResult.success();
+        };
+
+        var future = fakeSink.transfer(multiPartSource(3));
+
+        assertThat(future).isNotDone();
+        release.countDown();
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        assertThat(fakeSink.complete).isEqualTo(1);
+    }
+
+    @Test
+    void transfer_withMaxInFlightPartitions_shouldNotPullOnExecutorThreads() {
+        var singleThreadExecutor = Executors.newSingleThreadExecutor();
+        var release = new CountDownLatch(1);
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, 2).mapToObj(i -> {
+            if (i == 1) {
+                await(release); // source waiting for data
+            }
+            return new InputStreamDataSource("part-" + i, new ByteArrayInputStream(dataSourceContent.getBytes()));
+        })));
+        fakeSink.executorService = singleThreadExecutor;
+        fakeSink.partitionSize = 1;
+        fakeSink.maxInFlightPartitions = 2;
+
+        var future = fakeSink.transfer(source);
+
+        // the executor is free to run other tasks while the source waits for data
+        assertThat(singleThreadExecutor.submit(() -> "other")).succeedsWithin(1, TimeUnit.SECONDS);
+        release.countDown();
+        assertThat(future).succeedsWithin(1, TimeUnit.SECONDS)
+                .satisfies(transferResult -> assertThat(transferResult.succeeded()).isTrue());
+        singleThreadExecutor.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldReportMetricsWhileTransferring() {
+        var start = Instant.now();
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(start, start.plus(Duration.ofMinutes(2)));
+        fakeSink.metrics = new TransferMetrics(clock);
+        fakeSink.metricsReportInterval = Duration.ofMinutes(1);
+        fakeSink.partitionSize = 1;
+
+        assertThat(fakeSink.transfer(multiPartSource(3))).succeedsWithin(1, TimeUnit.SECONDS);
+
+        verify(monitor, times(1)).info(isA(Supplier.class));
+    }
+
+    @Test
+    void countingBytes_shouldCountBytesAsTheyAreRead_whenSizeIsUnknown() throws IOException {
+        try (var stream = fakeSink.countingBytes(dataSource).openStream()) {
+            stream.readAllBytes();
+        }
+
+        assertThat(fakeSink.getMetrics().getBytes()).isEqualTo(dataSourceContent.length());
+    }
+
+    private DataSource multiPartSource(int parts) {
+        var source = mock(DataSource.class);
+        when(source.openPartStream()).thenReturn(StreamResult.success(IntStream.range(0, parts)
+                .<DataSource.Part>mapToObj(i -> new InputStreamDataSource("part-" + i, new ByteArrayInputStream(dataSourceContent.getBytes())))));
+        return source;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static class FakeParallelSink extends ParallelSink {
 
         List<DataSource.Part> parts;
@@ -30,12 +30,15 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.statemachine.ExecutionMode;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 
@@ -57,6 +60,12 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Setting(value = "the batch size in the policy monitor state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String POLICY_MONITOR_BATCH_SIZE = "edc.policy.monitor.state-machine.batch-size";
 
+    @Setting(value = "the execution mode of the policy monitor state machine, SEQUENTIAL or PER_PROCESSOR (every state processed on its own lane)", defaultValue = "SEQUENTIAL")
+    private static final String POLICY_MONITOR_EXECUTION_MODE = "edc.policy.monitor.state-machine.execution-mode";
+
+    @Setting(value = "the number of workers that process the fetched entities concurrently on every lane of the policy monitor state machine. 0 means the entities are processed on the lane thread", type = "int", defaultValue = "0")
+    private static final String POLICY_MONITOR_WORKERS = "edc.policy.monitor.state-machine.workers";
+
     @PolicyScope
     public static final String POLICY_MONITOR_SCOPE = "policy.monitor";
 
@@ -87,6 +96,12 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Inject
     private RuleBindingRegistry ruleBindingRegistry;
 
+    @Inject
+    private StateEntityNotificationChannel notificationChannel;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     private PolicyMonitorManager manager;
 
     @Override
@@ -101,6 +116,8 @@ public class PolicyMonitorExtension implements ServiceExtension {
         manager = PolicyMonitorManagerImpl.Builder.newInstance()
                 .clock(clock)
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .executionMode(ExecutionMode.valueOf(context.getSetting(POLICY_MONITOR_EXECUTION_MODE, ExecutionMode.SEQUENTIAL.name()).toUpperCase()))
+                .workers(context.getSetting(POLICY_MONITOR_WORKERS, 0))
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
                 .monitor(context.getMonitor())
@@ -109,6 +126,8 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .policyEngine(policyEngine)
                 .transferProcessService(transferProcessService)
                 .store(policyMonitorStore)
+                .notificationChannel(notificationChannel)
+                .transactionContext(transactionContext)
                 .build();
 
         context.registerService(PolicyMonitorManager.class, manager);
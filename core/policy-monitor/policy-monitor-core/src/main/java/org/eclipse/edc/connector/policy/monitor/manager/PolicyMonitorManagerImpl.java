@@ -25,6 +25,7 @@ import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.connector.transfer.spi.types.command.TerminateTransferCommand;
 import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
 import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.types.domain.agreement.ContractAgreement;
 import org.eclipse.edc.statemachine.Processor;
@@ -52,6 +53,11 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
 
     }
 
+    @Override
+    protected String notificationTopic() {
+        return StateEntityNotificationChannel.topic(PolicyMonitorEntry.class);
+    }
+
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
@@ -116,9 +122,10 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
 
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
         var filter = new Criterion[]{ hasState(state.code()) };
-        return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
+        return ProcessorImpl.Builder.newInstance(max -> store.nextNotLeased(Math.min(max, batchSize), filter))
                 .process(telemetry.contextPropagationMiddleware(function))
                 .onNotProcessed(this::breakLease)
+                .states(state.code())
                 .build();
     }
 
@@ -30,6 +30,7 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTermination
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.dispatcher.CachingIdentityService;
 import org.eclipse.edc.protocol.dsp.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.serialization.JsonLdRemoteMessageSerializerImpl;
@@ -39,11 +40,13 @@ import org.eclipse.edc.protocol.dsp.spi.serialization.JsonLdRemoteMessageSeriali
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -51,6 +54,11 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 
@@ -82,6 +90,18 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @PolicyScope
     private static final String CATALOGING_REQUEST_SCOPE = "request.catalog";
 
+    @Setting(value = "Enables the reuse of the tokens obtained for outgoing protocol messages, if the identity service allows it", type = "boolean", defaultValue = "true")
+    public static final String DSP_TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+
+    @Setting(value = "Max number of audience/scope entries kept in the token cache", type = "int", defaultValue = "1000")
+    public static final String DSP_TOKEN_CACHE_MAX_ENTRIES = "edc.dsp.token.cache.max-entries";
+
+    @Setting(value = "Seconds before their expiration when cached tokens are not used anymore", type = "long", defaultValue = "10")
+    public static final String DSP_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS = "edc.dsp.token.cache.expiry-margin-seconds";
+
+    @Setting(value = "Seconds before their expiration when cached tokens get refreshed in the background", type = "long", defaultValue = "60")
+    public static final String DSP_TOKEN_CACHE_REFRESH_BEFORE_EXPIRY_SECONDS = "edc.dsp.token.cache.refresh-before-expiry-seconds";
+
     @Inject
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
     @Inject
@@ -107,6 +127,14 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService tokenRefreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -122,7 +150,7 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, dispatcherIdentityService(context), td, policyEngine, audienceResolver);
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -140,6 +168,25 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return new JsonLdRemoteMessageSerializerImpl(transformerRegistry, typeManager.getMapper(JSON_LD), jsonLdService, DSP_SCOPE);
     }
 
+    @Override
+    public void shutdown() {
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
+    private IdentityService dispatcherIdentityService(ServiceExtensionContext context) {
+        if (!context.getSetting(DSP_TOKEN_CACHE_ENABLED, true) || !identityService.isClientCredentialsReusable()) {
+            return identityService;
+        }
+
+        var maxEntries = context.getSetting(DSP_TOKEN_CACHE_MAX_ENTRIES, 1000);
+        var expiryMargin = Duration.ofSeconds(context.getSetting(DSP_TOKEN_CACHE_EXPIRY_MARGIN_SECONDS, 10L));
+        var refreshBeforeExpiry = Duration.ofSeconds(context.getSetting(DSP_TOKEN_CACHE_REFRESH_BEFORE_EXPIRY_SECONDS, 60L));
+        tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newCachedThreadPool(), "dsp-token-refresh");
+        return new CachingIdentityService(identityService, maxEntries, expiryMargin, refreshBeforeExpiry, clock, tokenRefreshExecutor, monitor);
+    }
+
     private void registerNegotiationPolicyScopes(DspHttpRemoteMessageDispatcher dispatcher) {
         dispatcher.registerPolicyScope(ContractAgreementMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
         dispatcher.registerPolicyScope(ContractNegotiationEventMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
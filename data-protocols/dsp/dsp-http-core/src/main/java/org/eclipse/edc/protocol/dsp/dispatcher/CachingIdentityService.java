@@ -0,0 +1,148 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.iam.VerificationContext;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
+import org.eclipse.edc.util.concurrency.SingleFlight;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static java.lang.String.format;
+
+/**
+ * {@link IdentityService} decorator that reuses the obtained client credentials for the same token parameters (audience,
+ * scope and any decorated claim) until shortly before they expire. Tokens that don't declare their lifetime are never
+ * cached.
+ * <p>
+ * Tokens close to their expiration are refreshed in the background while the cached one is still served, and
+ * concurrent requests for the same parameters share a single call to the wrapped service.
+ */
+public class CachingIdentityService implements IdentityService {
+
+    private static final Duration MAX_TTL = Duration.ofDays(1);
+
+    private final IdentityService identityService;
+    private final ExpiringLruCache<CacheKey, CachedToken> tokens;
+    private final SingleFlight<CacheKey, Result<TokenRepresentation>> singleFlight = new SingleFlight<>();
+    private final Duration expiryMargin;
+    private final Duration refreshBeforeExpiry;
+    private final Clock clock;
+    private final Executor refreshExecutor;
+    private final Monitor monitor;
+
+    /**
+     * Constructor.
+     *
+     * @param identityService the wrapped identity service.
+     * @param maxEntries max number of cached tokens.
+     * @param expiryMargin time before the expiration when a token is not served anymore.
+     * @param refreshBeforeExpiry time before the expiration when a token gets refreshed in the background.
+     * @param clock the clock.
+     * @param refreshExecutor executor for the background refreshes.
+     * @param monitor the monitor.
+     */
+    public CachingIdentityService(IdentityService identityService, int maxEntries, Duration expiryMargin, Duration refreshBeforeExpiry,
+                                  Clock clock, Executor refreshExecutor, Monitor monitor) {
+        this.identityService = identityService;
+        this.tokens = new ExpiringLruCache<>(maxEntries, MAX_TTL, clock);
+        this.expiryMargin = expiryMargin;
+        this.refreshBeforeExpiry = refreshBeforeExpiry;
+        this.clock = clock;
+        this.refreshExecutor = refreshExecutor;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = new CacheKey(new HashMap<>(parameters.getClaims()), new HashMap<>(parameters.getHeaders()));
+
+        var cached = tokens.get(key);
+        if (cached != null) {
+            if (!clock.instant().isBefore(cached.refreshAt())) {
+                singleFlight.executeAsync(key, () -> refresh(key, parameters), refreshExecutor);
+            }
+            return Result.success(cached.token());
+        }
+
+        return singleFlight.execute(key, () -> load(key, parameters));
+    }
+
+    @Override
+    public Result<ClaimToken> verifyJwtToken(TokenRepresentation tokenRepresentation, VerificationContext context) {
+        return identityService.verifyJwtToken(tokenRepresentation, context);
+    }
+
+    @Override
+    public boolean isClientCredentialsReusable() {
+        return identityService.isClientCredentialsReusable();
+    }
+
+    private Result<TokenRepresentation> load(CacheKey key, TokenParameters parameters) {
+        var result = identityService.obtainClientCredentials(parameters);
+        if (result.succeeded()) {
+            cache(key, result.getContent());
+        }
+        return result;
+    }
+
+    private Result<TokenRepresentation> refresh(CacheKey key, TokenParameters parameters) {
+        try {
+            var result = load(key, parameters);
+            if (result.failed()) {
+                monitor.warning(format("Cannot refresh the cached client credentials: %s", result.getFailureDetail()));
+            }
+            return result;
+        } catch (Exception e) {
+            monitor.warning("Cannot refresh the cached client credentials", e);
+            return Result.failure(e.getMessage());
+        }
+    }
+
+    private void cache(CacheKey key, TokenRepresentation token) {
+        var expiresIn = token.getExpiresIn();
+        if (expiresIn == null || expiresIn <= 0) {
+            return;
+        }
+
+        var lifetime = Duration.ofSeconds(expiresIn);
+        var expiresAt = clock.instant().plus(lifetime);
+        var margin = min(expiryMargin, lifetime.dividedBy(4));
+        var refreshBefore = min(refreshBeforeExpiry, lifetime.dividedBy(2));
+
+        tokens.put(key, new CachedToken(token, expiresAt.minus(refreshBefore)), expiresAt.minus(margin));
+    }
+
+    private Duration min(Duration first, Duration second) {
+        return first.compareTo(second) <= 0 ? first : second;
+    }
+
+    private record CacheKey(Map<String, Object> claims, Map<String, Object> headers) {
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant refreshAt) {
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingIdentityServiceTest {
+
+    private final IdentityService identityService = mock();
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private CachingIdentityService cachingIdentityService;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        cachingIdentityService = new CachingIdentityService(identityService, 10, Duration.ofSeconds(10), Duration.ofSeconds(60),
+                clock, Runnable::run, mock());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldReuseToken_whenParametersAreEqual() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+
+        var first = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+        var second = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(first).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        assertThat(second).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        verify(identityService).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotReuseToken_whenParametersDiffer() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)));
+
+        cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+        cachingIdentityService.obtainClientCredentials(parameters("audience", "another-scope"));
+        cachingIdentityService.obtainClientCredentials(parameters("another-audience", "scope"));
+
+        verify(identityService, times(3)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCacheToken_whenLifetimeIsUnknown() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", null)));
+
+        cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+        cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldNotCacheFailures() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.failure("error"), Result.success(token("token", 300L)));
+
+        var first = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+        var second = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(first).isFailed();
+        assertThat(second).isSucceeded();
+    }
+
+    @Test
+    void obtainClientCredentials_shouldRefreshToken_whenCloseToExpiration() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)), Result.success(token("refreshed", 300L)));
+        cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(250));
+        var served = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+        var next = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(served).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("token");
+        assertThat(next).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("refreshed");
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void obtainClientCredentials_shouldObtainNewToken_whenCachedOneIsAboutToExpire() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token("token", 300L)), Result.success(token("new", 300L)));
+        cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(295));
+        var result = cachingIdentityService.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(result).isSucceeded().extracting(TokenRepresentation::getToken).isEqualTo("new");
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", scope).build();
+    }
+
+    private TokenRepresentation token(String token, Long expiresIn) {
+        return TokenRepresentation.Builder.newInstance().token(token).expiresIn(expiresIn).build();
+    }
+}
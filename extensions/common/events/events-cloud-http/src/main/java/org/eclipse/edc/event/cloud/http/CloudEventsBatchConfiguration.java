@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import java.time.Duration;
+
+/**
+ * Configuration of the batched cloud events publishing.
+ *
+ * @param batchSize  max number of events sent in one request, a batch is sent as soon as it's full.
+ * @param linger     max time an event waits for its batch to fill up.
+ * @param maxPending max number of events kept in memory, the oldest are dropped (or moved to the disk buffer) beyond that.
+ * @param maxRetries max number of retries of a failed request.
+ * @param retryDelay delay before the first retry, doubled on every further retry.
+ */
+record CloudEventsBatchConfiguration(int batchSize, Duration linger, int maxPending, int maxRetries, Duration retryDelay) {
+}
@@ -0,0 +1,368 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.Hostname;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static java.time.ZoneOffset.UTC;
+
+/**
+ * Publishes the events in batches, following the structured content mode of the
+ * <a href="https://github.com/cloudevents/spec/blob/v1.0.2/cloudevents/bindings/http-protocol-binding.md#33-batched-content-mode">CloudEvents HTTP batched content mode</a>.
+ * <p>
+ * Events are queued in memory and sent on a dedicated thread, when a batch is full or when its oldest event waited for
+ * the linger time, so the publishing thread never waits for the endpoint. Failed requests are retried a bounded number
+ * of times. If a disk buffer is configured, batches that still could not be sent are stored on disk and sent again, in
+ * order, before any new batch; otherwise they are dropped. The disk buffer is only ever accessed by the sending thread,
+ * so the publishing thread never waits for the disk either.
+ */
+class CloudEventsBatchPublisher implements EventSubscriber {
+
+    static final String CLOUDEVENTS_BATCH_JSON = "application/cloudevents-batch+json";
+    private static final String APPLICATION_JSON = "application/json";
+
+    private final String endpoint;
+    private final Monitor monitor;
+    private final TypeManager typeManager;
+    private final EdcHttpClient httpClient;
+    private final Clock clock;
+    private final Hostname hostname;
+    private final ScheduledExecutorService executor;
+    private final CloudEventsBatchConfiguration configuration;
+    private final @Nullable CloudEventsDiskBuffer diskBuffer;
+    private final Deque<byte[]> pending = new ArrayDeque<>();
+    private boolean flushScheduled;
+    private boolean spillSubmitted;
+    private long dropped;
+
+    CloudEventsBatchPublisher(String endpoint, Monitor monitor, TypeManager typeManager, EdcHttpClient httpClient, Clock clock, Hostname hostname,
+                              ScheduledExecutorService executor, CloudEventsBatchConfiguration configuration, @Nullable CloudEventsDiskBuffer diskBuffer) {
+        this.endpoint = endpoint;
+        this.monitor = monitor;
+        this.typeManager = typeManager;
+        this.httpClient = httpClient;
+        this.clock = clock;
+        this.hostname = hostname;
+        this.executor = executor;
+        this.configuration = configuration;
+        this.diskBuffer = diskBuffer;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        var serialized = serialize(event);
+        synchronized (pending) {
+            if (pending.size() >= configuration.maxPending()) {
+                overflow();
+            }
+            pending.addLast(serialized);
+            if (pending.size() >= configuration.batchSize()) {
+                submit(this::flush);
+            } else {
+                scheduleFlush(configuration.linger().toMillis());
+            }
+        }
+    }
+
+    /**
+     * Sends the batches stored on disk from a previous run, if any.
+     */
+    void start() {
+        if (diskBuffer != null) {
+            submit(this::flush);
+        }
+    }
+
+    /**
+     * Stops the sending thread, trying to send the pending events first. Events that are still pending are stored on
+     * disk if a buffer is configured.
+     */
+    void stop() {
+        submit(this::flush);
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(configuration.linger().toMillis() + 5000, TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        List<byte[]> remaining;
+        synchronized (pending) {
+            remaining = drainPending();
+        }
+        if (!remaining.isEmpty()) {
+            if (diskBuffer != null) {
+                storeAll(remaining);
+            } else {
+                monitor.warning(format("%d cloud events were not sent to %s before shutdown", remaining.size(), endpoint));
+            }
+        }
+    }
+
+    long getDropped() {
+        synchronized (pending) {
+            return dropped;
+        }
+    }
+
+    int getPending() {
+        synchronized (pending) {
+            return pending.size();
+        }
+    }
+
+    /**
+     * Sends the stored batches, then the pending events, batch by batch. The disk buffer is checked again before every
+     * batch, so that the events stored on disk are always sent before the more recent ones. Runs on the single sending
+     * thread only.
+     */
+    void flush() {
+        synchronized (pending) {
+            flushScheduled = false;
+        }
+
+        while (true) {
+            if (!sendStored()) {
+                retryLater();
+                return;
+            }
+            var batch = nextBatch();
+            if (batch.isEmpty()) {
+                return;
+            }
+            var body = toBatchBody(batch);
+            if (!send(body, batch.size())) {
+                if (diskBuffer != null) {
+                    store(body);
+                    retryLater();
+                } else {
+                    monitor.severe(format("Dropped %d cloud events that could not be sent to %s", batch.size(), endpoint));
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean sendStored() {
+        if (diskBuffer == null) {
+            return true;
+        }
+        try {
+            var stored = diskBuffer.oldest();
+            while (stored.isPresent()) {
+                if (!send(diskBuffer.read(stored.get()), -1)) {
+                    return false;
+                }
+                diskBuffer.delete(stored.get());
+                stored = diskBuffer.oldest();
+            }
+            return true;
+        } catch (IOException e) {
+            monitor.severe("Cannot read the cloud events disk buffer", e);
+            return false;
+        }
+    }
+
+    private boolean send(byte[] body, int events) {
+        var delay = configuration.retryDelay().toMillis();
+        for (var attempt = 0; attempt <= configuration.maxRetries(); attempt++) {
+            if (attempt > 0) {
+                if (!sleep(delay)) {
+                    return false;
+                }
+                delay *= 2;
+            }
+
+            var request = new Request.Builder()
+                    .url(endpoint)
+                    .post(RequestBody.create(body, MediaType.get(CLOUDEVENTS_BATCH_JSON)))
+                    .build();
+            try (var response = httpClient.execute(request)) {
+                if (response.isSuccessful()) {
+                    return true;
+                }
+                if (isPermanentFailure(response.code())) {
+                    monitor.severe(format("Cloud events batch%s rejected by endpoint %s with status %d, it will not be sent again",
+                            events >= 0 ? " of " + events + " events" : "", endpoint, response.code()));
+                    return true;
+                }
+                monitor.warning(format("Error sending cloud events batch to endpoint %s, response status: %d (attempt %d)", endpoint, response.code(), attempt + 1));
+            } catch (IOException e) {
+                monitor.warning(format("Error sending cloud events batch to endpoint %s (attempt %d)", endpoint, attempt + 1), e);
+            }
+        }
+        return false;
+    }
+
+    private boolean isPermanentFailure(int code) {
+        return code >= 400 && code < 500 && code != 408 && code != 429;
+    }
+
+    private List<byte[]> nextBatch() {
+        synchronized (pending) {
+            var batch = new ArrayList<byte[]>(Math.min(pending.size(), configuration.batchSize()));
+            while (batch.size() < configuration.batchSize() && !pending.isEmpty()) {
+                batch.add(pending.pollFirst());
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Called with the lock held, when the max number of pending events is reached. With a disk buffer, the pending
+     * events are handed to the sending thread to be stored, otherwise the oldest one is dropped.
+     */
+    private void overflow() {
+        if (diskBuffer != null) {
+            if (!spillSubmitted) {
+                spillSubmitted = true;
+                submit(this::spill);
+            }
+        } else {
+            pending.pollFirst();
+            if (dropped++ == 0) {
+                monitor.warning(format("More than %d cloud events are waiting to be sent to %s, dropping the oldest ones", configuration.maxPending(), endpoint));
+            }
+        }
+    }
+
+    /**
+     * Moves all the pending events to the disk buffer. Runs on the single sending thread only, the events are taken
+     * with the lock held but written without it.
+     */
+    void spill() {
+        List<byte[]> events;
+        synchronized (pending) {
+            spillSubmitted = false;
+            events = drainPending();
+        }
+        storeAll(events);
+    }
+
+    /**
+     * Called with the lock held.
+     */
+    private List<byte[]> drainPending() {
+        var events = new ArrayList<>(pending);
+        pending.clear();
+        return events;
+    }
+
+    private void storeAll(List<byte[]> events) {
+        for (var from = 0; from < events.size(); from += configuration.batchSize()) {
+            store(toBatchBody(events.subList(from, Math.min(events.size(), from + configuration.batchSize()))));
+        }
+    }
+
+    private void store(byte[] body) {
+        try {
+            diskBuffer.write(body);
+        } catch (IOException e) {
+            monitor.severe(format("Cannot store cloud events batch for endpoint %s, it is dropped", endpoint), e);
+        }
+    }
+
+    private void retryLater() {
+        synchronized (pending) {
+            scheduleFlush(configuration.linger().toMillis());
+        }
+    }
+
+    /**
+     * Called with the lock held.
+     */
+    private void scheduleFlush(long delayMillis) {
+        if (!flushScheduled) {
+            try {
+                executor.schedule(this::flush, delayMillis, TimeUnit.MILLISECONDS);
+                flushScheduled = true;
+            } catch (RejectedExecutionException e) {
+                // shutting down, the pending events are handled by stop()
+            }
+        }
+    }
+
+    private void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // shutting down, the pending events are handled by stop()
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private byte[] toBatchBody(List<byte[]> events) {
+        var body = new ByteArrayOutputStream();
+        body.write('[');
+        for (var i = 0; i < events.size(); i++) {
+            if (i > 0) {
+                body.write(',');
+            }
+            body.writeBytes(events.get(i));
+        }
+        body.write(']');
+        return body.toByteArray();
+    }
+
+    private <E extends Event> byte[] serialize(EventEnvelope<E> event) {
+        var localDateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(event.getAt()), clock.getZone());
+        var cloudEvent = new LinkedHashMap<String, Object>();
+        cloudEvent.put("specversion", "1.0");
+        cloudEvent.put("id", event.getId());
+        cloudEvent.put("source", hostname.get());
+        cloudEvent.put("type", event.getPayload().getClass().getName());
+        cloudEvent.put("time", localDateTime.atOffset(UTC).format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        cloudEvent.put("datacontenttype", APPLICATION_JSON);
+        cloudEvent.put("data", event.getPayload());
+        return typeManager.writeValueAsBytes(cloudEvent);
+    }
+}
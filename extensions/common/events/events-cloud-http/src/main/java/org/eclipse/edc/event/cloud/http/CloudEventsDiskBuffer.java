@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.event.cloud.http;
+
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+
+/**
+ * Keeps the batches that could not be sent in a directory, one file per batch, so that they survive endpoint outages
+ * and restarts. Files are named after their creation time, so that they are sent again in order.
+ */
+class CloudEventsDiskBuffer {
+
+    private static final String SUFFIX = ".json";
+
+    private final Path directory;
+    private final Clock clock;
+    private final AtomicLong sequence = new AtomicLong();
+
+    CloudEventsDiskBuffer(Path directory, Clock clock) {
+        this.directory = directory;
+        this.clock = clock;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new EdcException(format("Cannot create the cloud events buffer directory %s", directory), e);
+        }
+    }
+
+    /**
+     * Stores a batch. The file is written under a temporary name and then renamed, so that a crash never leaves a
+     * truncated batch behind.
+     *
+     * @param batch the serialized batch.
+     */
+    void write(byte[] batch) throws IOException {
+        var name = format("%020d-%08d", clock.millis(), sequence.getAndIncrement());
+        var temporary = directory.resolve(name + ".tmp");
+        Files.write(temporary, batch);
+        Files.move(temporary, directory.resolve(name + SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the oldest stored batch, if any.
+     *
+     * @return the path of the batch file.
+     */
+    Optional<Path> oldest() throws IOException {
+        try (var files = batches()) {
+            return files.min(Path::compareTo);
+        }
+    }
+
+    byte[] read(Path batch) throws IOException {
+        return Files.readAllBytes(batch);
+    }
+
+    void delete(Path batch) throws IOException {
+        Files.deleteIfExists(batch);
+    }
+
+    long size() throws IOException {
+        try (var files = batches()) {
+            return files.count();
+        }
+    }
+
+    private Stream<Path> batches() throws IOException {
+        return Files.list(directory).filter(path -> path.getFileName().toString().endsWith(SUFFIX));
+    }
+}
@@ -20,12 +20,16 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.Hostname;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.nio.file.Path;
 import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Extension(value = "Cloud events HTTP")
 public class CloudEventsHttpExtension implements ServiceExtension {
@@ -33,6 +37,33 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Setting(required = true)
     static final String EDC_EVENTS_CLOUDEVENTS_ENDPOINT = "edc.events.cloudevents.endpoint";
 
+    @Setting(value = "If true, events are sent in batches with the application/cloudevents-batch+json content type, otherwise one by one in binary mode", type = "boolean", defaultValue = "false")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED = "edc.events.cloudevents.batch.enabled";
+
+    @Setting(value = "Max number of events in a batch", type = "int", defaultValue = DEFAULT_BATCH_SIZE + "", min = 1)
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE = "edc.events.cloudevents.batch.size";
+
+    @Setting(value = "Max time in milliseconds an event waits for its batch to fill up", type = "long", defaultValue = DEFAULT_BATCH_LINGER_MILLIS + "", min = 1)
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_LINGER_MILLIS = "edc.events.cloudevents.batch.linger-ms";
+
+    @Setting(value = "Max number of events waiting in memory to be sent, the oldest are dropped (or moved to the disk buffer) beyond that", type = "int", defaultValue = DEFAULT_BATCH_MAX_PENDING + "", min = 1)
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_MAX_PENDING = "edc.events.cloudevents.batch.max-pending";
+
+    @Setting(value = "Max number of retries of a failed batch request", type = "int", defaultValue = DEFAULT_BATCH_MAX_RETRIES + "", min = 0)
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_MAX_RETRIES = "edc.events.cloudevents.batch.max-retries";
+
+    @Setting(value = "Delay in milliseconds before the first retry of a failed batch request, doubled on every further retry", type = "long", defaultValue = DEFAULT_BATCH_RETRY_DELAY_MILLIS + "", min = 0)
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_RETRY_DELAY_MILLIS = "edc.events.cloudevents.batch.retry-delay-ms";
+
+    @Setting(value = "Directory where the batches that cannot be sent are stored until the endpoint is available again. If not set, they are dropped after the retries")
+    static final String EDC_EVENTS_CLOUDEVENTS_BATCH_BUFFER_DIRECTORY = "edc.events.cloudevents.batch.buffer.directory";
+
+    private static final int DEFAULT_BATCH_SIZE = 100;
+    private static final long DEFAULT_BATCH_LINGER_MILLIS = 1000;
+    private static final int DEFAULT_BATCH_MAX_PENDING = 10_000;
+    private static final int DEFAULT_BATCH_MAX_RETRIES = 3;
+    private static final long DEFAULT_BATCH_RETRY_DELAY_MILLIS = 500;
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -48,11 +79,51 @@ public class CloudEventsHttpExtension implements ServiceExtension {
     @Inject
     private Hostname hostname;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private CloudEventsBatchPublisher batchPublisher;
+
     @Override
     public void initialize(ServiceExtensionContext context) {
         var endpoint = context.getConfig().getString(EDC_EVENTS_CLOUDEVENTS_ENDPOINT);
 
-        eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        if (context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_ENABLED, false)) {
+            batchPublisher = createBatchPublisher(context, endpoint);
+            eventRouter.register(Event.class, batchPublisher);
+        } else {
+            eventRouter.register(Event.class, new CloudEventsPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname));
+        }
+    }
+
+    @Override
+    public void start() {
+        if (batchPublisher != null) {
+            batchPublisher.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (batchPublisher != null) {
+            batchPublisher.stop();
+        }
+    }
+
+    private CloudEventsBatchPublisher createBatchPublisher(ServiceExtensionContext context, String endpoint) {
+        var configuration = new CloudEventsBatchConfiguration(
+                context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_SIZE, DEFAULT_BATCH_SIZE),
+                Duration.ofMillis(context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_LINGER_MILLIS, DEFAULT_BATCH_LINGER_MILLIS)),
+                context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_MAX_PENDING, DEFAULT_BATCH_MAX_PENDING),
+                context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_MAX_RETRIES, DEFAULT_BATCH_MAX_RETRIES),
+                Duration.ofMillis(context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_RETRY_DELAY_MILLIS, DEFAULT_BATCH_RETRY_DELAY_MILLIS)));
+
+        var bufferDirectory = context.getSetting(EDC_EVENTS_CLOUDEVENTS_BATCH_BUFFER_DIRECTORY, null);
+        var diskBuffer = bufferDirectory != null ? new CloudEventsDiskBuffer(Path.of(bufferDirectory), clock) : null;
+
+        // a single thread, the publisher relies on the batches being sent one at a time
+        var executor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "cloudevents-publisher");
+        return new CloudEventsBatchPublisher(endpoint, context.getMonitor(), typeManager, httpClient, clock, hostname, executor, configuration, diskBuffer);
     }
 
 }
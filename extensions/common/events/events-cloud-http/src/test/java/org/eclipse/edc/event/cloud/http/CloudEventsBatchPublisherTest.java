@@ -0,0 +1,228 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.event.cloud.http;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.InstanceOfAssertFactories.MAP;
+import static org.eclipse.edc.event.cloud.http.CloudEventsBatchPublisher.CLOUDEVENTS_BATCH_JSON;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class CloudEventsBatchPublisherTest {
+
+    private final EdcHttpClient httpClient = mock();
+    private final ScheduledExecutorService executor = mock();
+    private final TypeManager typeManager = new TypeManager();
+
+    @Test
+    void on_shouldScheduleFlushAfterLinger_whenBatchIsNotFull() {
+        var publisher = publisher(configuration(2, 10), null);
+
+        publisher.on(envelope("1"));
+
+        verify(executor).schedule(any(Runnable.class), eq(1000L), eq(TimeUnit.MILLISECONDS));
+        verify(executor, times(0)).execute(any());
+        verifyNoInteractions(httpClient);
+    }
+
+    @Test
+    void on_shouldFlushImmediately_whenBatchIsFull() {
+        var publisher = publisher(configuration(2, 10), null);
+
+        publisher.on(envelope("1"));
+        publisher.on(envelope("2"));
+
+        verify(executor).execute(any());
+    }
+
+    @Test
+    void flush_shouldSendBatchesOfConfiguredSize() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(200));
+        var publisher = publisher(configuration(2, 10), null);
+        publisher.on(envelope("1"));
+        publisher.on(envelope("2"));
+        publisher.on(envelope("3"));
+
+        publisher.flush();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        var requests = captor.getAllValues();
+        assertThat(requests.get(0).body().contentType()).isEqualTo(MediaType.get(CLOUDEVENTS_BATCH_JSON));
+        assertThat(events(requests.get(0))).hasSize(2).first().satisfies(event -> {
+            assertThat(event).containsEntry("specversion", "1.0")
+                    .containsEntry("id", "1")
+                    .containsEntry("type", TestEvent.class.getName())
+                    .containsEntry("source", "localhost");
+            assertThat(event.get("data")).asInstanceOf(MAP).containsEntry("data", "data-1");
+        });
+        assertThat(events(requests.get(1))).hasSize(1).first().satisfies(event -> assertThat(event).containsEntry("id", "3"));
+        assertThat(publisher.getPending()).isZero();
+    }
+
+    @Test
+    void flush_shouldRetryAndStoreOnDisk_whenEndpointIsNotAvailable(@TempDir Path directory) throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(503));
+        var diskBuffer = new CloudEventsDiskBuffer(directory, Clock.systemUTC());
+        var publisher = publisher(configuration(10, 10), diskBuffer);
+        publisher.on(envelope("1"));
+
+        publisher.flush();
+
+        verify(httpClient, times(3)).execute(any());
+        assertThat(diskBuffer.size()).isEqualTo(1);
+        verify(executor, times(2)).schedule(any(Runnable.class), anyLong(), any());
+
+        when(httpClient.execute(any())).thenAnswer(i -> response(200));
+        publisher.on(envelope("2"));
+        publisher.flush();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(5)).execute(captor.capture());
+        var requests = captor.getAllValues();
+        assertThat(events(requests.get(3))).extracting(event -> event.get("id")).containsExactly("1");
+        assertThat(events(requests.get(4))).extracting(event -> event.get("id")).containsExactly("2");
+        assertThat(diskBuffer.size()).isZero();
+    }
+
+    @Test
+    void flush_shouldDropBatch_whenEndpointRejectsIt() throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(400));
+        var publisher = publisher(configuration(10, 10), null);
+        publisher.on(envelope("1"));
+
+        publisher.flush();
+
+        verify(httpClient).execute(any());
+        assertThat(publisher.getPending()).isZero();
+    }
+
+    @Test
+    void on_shouldDropOldest_whenMaxPendingIsReached() {
+        var publisher = publisher(configuration(10, 2), null);
+
+        publisher.on(envelope("1"));
+        publisher.on(envelope("2"));
+        publisher.on(envelope("3"));
+
+        assertThat(publisher.getPending()).isEqualTo(2);
+        assertThat(publisher.getDropped()).isEqualTo(1);
+    }
+
+    @Test
+    void on_shouldMovePendingToDiskOnSendingThread_whenMaxPendingIsReached(@TempDir Path directory) throws IOException {
+        var diskBuffer = new CloudEventsDiskBuffer(directory, Clock.systemUTC());
+        var publisher = publisher(configuration(10, 2), diskBuffer);
+
+        publisher.on(envelope("1"));
+        publisher.on(envelope("2"));
+        publisher.on(envelope("3"));
+
+        assertThat(diskBuffer.size()).isZero();
+        var captor = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).execute(captor.capture());
+
+        captor.getValue().run();
+
+        assertThat(publisher.getPending()).isZero();
+        assertThat(publisher.getDropped()).isZero();
+        assertThat(diskBuffer.size()).isEqualTo(1);
+    }
+
+    @Test
+    void flush_shouldSendEventsStoredOnDiskBeforeMoreRecentOnes(@TempDir Path directory) throws IOException {
+        when(httpClient.execute(any())).thenAnswer(i -> response(200));
+        var diskBuffer = new CloudEventsDiskBuffer(directory, Clock.systemUTC());
+        var publisher = publisher(configuration(10, 2), diskBuffer);
+        publisher.on(envelope("1"));
+        publisher.on(envelope("2"));
+        publisher.on(envelope("3"));
+        publisher.spill();
+        publisher.on(envelope("4"));
+
+        publisher.flush();
+
+        var captor = ArgumentCaptor.forClass(Request.class);
+        verify(httpClient, times(2)).execute(captor.capture());
+        var requests = captor.getAllValues();
+        assertThat(events(requests.get(0))).extracting(event -> event.get("id")).containsExactly("1", "2", "3");
+        assertThat(events(requests.get(1))).extracting(event -> event.get("id")).containsExactly("4");
+        assertThat(diskBuffer.size()).isZero();
+    }
+
+    private CloudEventsBatchPublisher publisher(CloudEventsBatchConfiguration configuration, CloudEventsDiskBuffer diskBuffer) {
+        return new CloudEventsBatchPublisher("http://localhost:8080", mock(), typeManager, httpClient, Clock.systemUTC(),
+                () -> "localhost", executor, configuration, diskBuffer);
+    }
+
+    private CloudEventsBatchConfiguration configuration(int batchSize, int maxPending) {
+        return new CloudEventsBatchConfiguration(batchSize, Duration.ofSeconds(1), maxPending, 2, Duration.ofMillis(1));
+    }
+
+    private EventEnvelope<TestEvent> envelope(String id) {
+        return EventEnvelope.Builder.newInstance()
+                .id(id)
+                .payload(TestEvent.Builder.newInstance().data("data-" + id).build())
+                .at(System.currentTimeMillis())
+                .build();
+    }
+
+    private List<Map<String, Object>> events(Request request) throws IOException {
+        var buffer = new Buffer();
+        request.body().writeTo(buffer);
+        return typeManager.getMapper().readValue(buffer.readByteArray(), new TypeReference<>() {
+        });
+    }
+
+    private Response response(int code) {
+        return new Response.Builder()
+                .request(mock())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create("", MediaType.get("application/json")))
+                .build();
+    }
+}
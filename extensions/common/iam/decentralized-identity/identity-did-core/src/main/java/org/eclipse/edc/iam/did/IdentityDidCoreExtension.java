@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.iam.did;
 
+import org.eclipse.edc.iam.did.resolution.DidDocumentCache;
 import org.eclipse.edc.iam.did.resolution.DidPublicKeyResolverImpl;
 import org.eclipse.edc.iam.did.resolution.DidResolverRegistryImpl;
 import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
@@ -21,19 +22,62 @@ import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.security.KeyParserRegistry;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 
 @Provides({ DidResolverRegistry.class, DidPublicKeyResolver.class })
 @Extension(value = IdentityDidCoreExtension.NAME)
 public class IdentityDidCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Identity Did Core";
+
+    private static final long DEFAULT_PUBLIC_KEY_CACHE_TTL_SECONDS = 60;
+
+    @Setting(value = "Time-to-live in seconds of the public keys resolved from DID documents. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_PUBLIC_KEY_CACHE_TTL_SECONDS + "", min = 0)
+    private static final String PUBLIC_KEY_CACHE_TTL_SECONDS = "edc.iam.did.publickey.cache.ttl-seconds";
+
+    private static final int DEFAULT_DOCUMENT_CACHE_MAX_ENTRIES = 1000;
+    private static final long DEFAULT_DOCUMENT_CACHE_TTL_SECONDS = 300;
+    private static final long DEFAULT_DOCUMENT_CACHE_MAX_TTL_SECONDS = 3600;
+    private static final long DEFAULT_DOCUMENT_CACHE_STALE_SECONDS = 60;
+
+    @Setting(value = "Max number of cached DID documents. 0 disables the cache",
+            type = "int", defaultValue = DEFAULT_DOCUMENT_CACHE_MAX_ENTRIES + "", min = 0)
+    private static final String DOCUMENT_CACHE_MAX_ENTRIES = "edc.iam.did.document.cache.max-entries";
+
+    @Setting(value = "Time-to-live in seconds of the DID documents resolved without a max age, e.g. a Cache-Control header",
+            type = "long", defaultValue = DEFAULT_DOCUMENT_CACHE_TTL_SECONDS + "", min = 0)
+    private static final String DOCUMENT_CACHE_TTL_SECONDS = "edc.iam.did.document.cache.ttl-seconds";
+
+    @Setting(value = "Max time-to-live in seconds of the cached DID documents, whatever max age they were resolved with",
+            type = "long", defaultValue = DEFAULT_DOCUMENT_CACHE_MAX_TTL_SECONDS + "", min = 0)
+    private static final String DOCUMENT_CACHE_MAX_TTL_SECONDS = "edc.iam.did.document.cache.max-ttl-seconds";
+
+    @Setting(value = "Time in seconds an expired DID document is still served while it is resolved again in the background",
+            type = "long", defaultValue = DEFAULT_DOCUMENT_CACHE_STALE_SECONDS + "", min = 0)
+    private static final String DOCUMENT_CACHE_STALE_SECONDS = "edc.iam.did.document.cache.stale-seconds";
+
     @Inject
     private KeyParserRegistry keyParserRegistry;
 
+    @Inject
+    private Clock clock;
+
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    private ExecutorService refreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -41,11 +85,26 @@ public class IdentityDidCoreExtension implements ServiceExtension {
 
     @Override
     public void initialize(ServiceExtensionContext context) {
-        var didResolverRegistry = new DidResolverRegistryImpl();
+        refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(2), "did-document-refresh");
+        var documentCache = new DidDocumentCache(
+                Math.max(0, context.getSetting(DOCUMENT_CACHE_MAX_ENTRIES, DEFAULT_DOCUMENT_CACHE_MAX_ENTRIES)),
+                Duration.ofSeconds(Math.max(0, context.getSetting(DOCUMENT_CACHE_TTL_SECONDS, DEFAULT_DOCUMENT_CACHE_TTL_SECONDS))),
+                Duration.ofSeconds(Math.max(0, context.getSetting(DOCUMENT_CACHE_MAX_TTL_SECONDS, DEFAULT_DOCUMENT_CACHE_MAX_TTL_SECONDS))),
+                Duration.ofSeconds(Math.max(0, context.getSetting(DOCUMENT_CACHE_STALE_SECONDS, DEFAULT_DOCUMENT_CACHE_STALE_SECONDS))),
+                refreshExecutor, clock);
+        var didResolverRegistry = new DidResolverRegistryImpl(documentCache);
         context.registerService(DidResolverRegistry.class, didResolverRegistry);
 
-        var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry);
+        var cacheTtl = Duration.ofSeconds(context.getSetting(PUBLIC_KEY_CACHE_TTL_SECONDS, DEFAULT_PUBLIC_KEY_CACHE_TTL_SECONDS));
+        var publicKeyResolver = new DidPublicKeyResolverImpl(keyParserRegistry, didResolverRegistry, cacheTtl, clock);
         context.registerService(DidPublicKeyResolver.class, publicKeyResolver);
     }
 
+    @Override
+    public void shutdown() {
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
 }
@@ -0,0 +1,234 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.concurrency.SingleFlight;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * Caches resolved DID documents. The cache is split into lock-striped LRU segments, so that lookups of different DIDs
+ * rarely contend for the same lock.
+ * <p>
+ * A document is cached for the max age its resolver returned, e.g. from the HTTP {@code Cache-Control} header, capped
+ * to a maximum time-to-live, or for the default time-to-live if the max age is unknown. Once expired, a document is
+ * still served for a grace period while it is resolved again in the background. Concurrent resolutions of the same DID
+ * are collapsed into a single one. Failed resolutions are not cached.
+ */
+public class DidDocumentCache {
+
+    private static final int STRIPES = 16;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final SingleFlight<String, Result<DidDocument>> loads = new SingleFlight<>();
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration maxTtl;
+    private final Duration staleTtl;
+    private final Executor executor;
+    private final Clock clock;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor. Zero max entries disables the cache, concurrent resolutions are still collapsed.
+     *
+     * @param maxEntries max number of cached documents.
+     * @param ttl time-to-live of the documents whose max age is unknown.
+     * @param maxTtl max time-to-live of the documents.
+     * @param staleTtl time an expired document is still served while it is resolved again.
+     * @param executor the executor the background resolutions run on.
+     * @param clock the clock.
+     */
+    public DidDocumentCache(int maxEntries, Duration ttl, Duration maxTtl, Duration staleTtl, Executor executor, Clock clock) {
+        this.enabled = maxEntries > 0;
+        this.ttl = ttl;
+        this.maxTtl = maxTtl;
+        this.staleTtl = staleTtl;
+        this.executor = executor;
+        this.clock = clock;
+        var stripeCapacity = Math.max(1, (maxEntries + STRIPES - 1) / STRIPES);
+        for (var i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(stripeCapacity);
+        }
+    }
+
+    /**
+     * Returns the cached document, resolving it if needed.
+     *
+     * @param did the DID.
+     * @param resolver resolves the document.
+     * @return the document, or the failure of its resolution.
+     */
+    public Result<DidDocument> get(String did, Function<String, Result<DidResolution>> resolver) {
+        if (enabled) {
+            var entry = stripeFor(did).get(did);
+            if (entry != null) {
+                var now = clock.instant();
+                if (now.isBefore(entry.expiresAt)) {
+                    hits.incrementAndGet();
+                    return Result.success(entry.document);
+                }
+                if (now.isBefore(entry.staleUntil)) {
+                    staleHits.incrementAndGet();
+                    loads.executeAsync(did, () -> load(did, resolver), executor);
+                    return Result.success(entry.document);
+                }
+            }
+        }
+        misses.incrementAndGet();
+        return loads.execute(did, () -> load(did, resolver));
+    }
+
+    public void invalidate(String did) {
+        stripeFor(did).remove(did);
+    }
+
+    public void invalidateAll() {
+        for (var stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    public int size() {
+        var size = 0;
+        for (var stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the lookups served with an expired document while it was resolved again in the background.
+     *
+     * @return the stale hits.
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private Result<DidDocument> load(String did, Function<String, Result<DidResolution>> resolver) {
+        var result = resolver.apply(did);
+        if (result.failed()) {
+            return result.mapTo();
+        }
+        var resolution = result.getContent();
+        var documentTtl = ttlFor(resolution.maxAge());
+        if (enabled && documentTtl.isPositive()) {
+            var expiresAt = clock.instant().plus(documentTtl);
+            stripeFor(did).put(did, new CachedDocument(resolution.document(), expiresAt, expiresAt.plus(staleTtl)));
+        }
+        return Result.success(resolution.document());
+    }
+
+    private Duration ttlFor(@Nullable Duration maxAge) {
+        if (maxAge == null) {
+            return ttl;
+        }
+        return maxAge.compareTo(maxTtl) > 0 ? maxTtl : maxAge;
+    }
+
+    private Stripe stripeFor(String did) {
+        var hash = did.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+
+    private record CachedDocument(DidDocument document, Instant expiresAt, Instant staleUntil) {
+    }
+
+    /**
+     * LRU segment of the cache. Reads reorder an access-ordered map, so they take the same lock as the writes.
+     */
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final LinkedHashMap<String, CachedDocument> entries;
+
+        private Stripe(int capacity) {
+            entries = new LinkedHashMap<>(capacity + 1, 1, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedDocument> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        private CachedDocument get(String did) {
+            lock.lock();
+            try {
+                return entries.get(did);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void put(String did, CachedDocument entry) {
+            lock.lock();
+            try {
+                entries.put(did, entry);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(String did) {
+            lock.lock();
+            try {
+                entries.remove(did);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void clear() {
+            lock.lock();
+            try {
+                entries.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return entries.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
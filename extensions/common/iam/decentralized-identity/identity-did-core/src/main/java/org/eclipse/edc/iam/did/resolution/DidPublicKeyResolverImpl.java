@@ -26,6 +26,8 @@ import org.eclipse.edc.spi.security.KeyParserRegistry;
 import org.jetbrains.annotations.Nullable;
 
 import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.function.Function;
@@ -52,6 +54,11 @@ public class DidPublicKeyResolverImpl extends AbstractPublicKeyResolver implemen
         this.resolverRegistry = resolverRegistry;
     }
 
+    public DidPublicKeyResolverImpl(KeyParserRegistry registry, DidResolverRegistry resolverRegistry, Duration cacheTtl, Clock clock) {
+        super(registry, cacheTtl, clock);
+        this.resolverRegistry = resolverRegistry;
+    }
+
     @Override
     protected Result<String> resolveInternal(String id) {
         if (id == null) {
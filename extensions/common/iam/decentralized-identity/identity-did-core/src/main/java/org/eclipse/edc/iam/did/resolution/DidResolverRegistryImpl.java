@@ -18,36 +18,44 @@ import org.eclipse.edc.iam.did.spi.document.DidDocument;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.spi.result.Result;
-import org.eclipse.edc.util.collection.ConcurrentLruCache;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 
 /**
- * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link ConcurrentLruCache}
+ * Default implementation, that delegates to several {@link DidResolver} objects, caching the results in a {@link DidDocumentCache}
  */
 public class DidResolverRegistryImpl implements DidResolverRegistry {
     public static final String DID_SEPARATOR = ":";
     private static final String DID = "did";
     private static final int DID_PREFIX = 0;
     private static final int DID_METHOD_NAME = 1;
-    private final ConcurrentLruCache<String, DidDocument> didCache;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofMinutes(5);
+    private static final Duration DEFAULT_CACHE_MAX_TTL = Duration.ofHours(1);
+    private final DidDocumentCache didCache;
     private final Map<String, DidResolver> resolvers = new HashMap<>();
 
     public DidResolverRegistryImpl() {
-        didCache = new ConcurrentLruCache<>(50);
+        this(50);
     }
 
     /**
-     * Constructs a DidResolverRegistryImpl object with the specified cache size.
+     * Constructs a DidResolverRegistryImpl object with the specified cache size. Documents are cached for 5 minutes, or
+     * for the max age returned by their resolver, up to 1 hour.
      *
      * @param cacheSize the maximum number of entries that the cache can hold. Pass 0 to effectively deactivate the cache.
      */
     public DidResolverRegistryImpl(int cacheSize) {
-        didCache = new ConcurrentLruCache<>(cacheSize);
+        this(new DidDocumentCache(cacheSize, DEFAULT_CACHE_TTL, DEFAULT_CACHE_MAX_TTL, Duration.ZERO, Runnable::run, Clock.systemUTC()));
+    }
+
+    public DidResolverRegistryImpl(DidDocumentCache didCache) {
+        this.didCache = didCache;
     }
 
     @Override
@@ -88,17 +96,6 @@ public class DidResolverRegistryImpl implements DidResolverRegistry {
 
     @NotNull
     private Result<DidDocument> resolveCachedDocument(String didKey, DidResolver resolver) {
-        var didDocument = didCache.get(didKey);
-        if (didDocument == null) {
-
-            var resolveResult = resolver.resolve(didKey);
-            if (resolveResult.failed()) {
-                return resolveResult;
-            }
-            didDocument = resolveResult.getContent();
-            didCache.put(didKey, didDocument);
-        }
-
-        return Result.success(didDocument);
+        return didCache.get(didKey, resolver::resolveWithMaxAge);
     }
 }
@@ -0,0 +1,186 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DidDocumentCacheTest {
+
+    private static final String DID = "did:web:foo";
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final Function<String, Result<DidResolution>> resolver = mock();
+    private DidDocumentCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        cache = new DidDocumentCache(100, Duration.ofSeconds(60), Duration.ofSeconds(600), Duration.ofSeconds(30), Runnable::run, clock);
+    }
+
+    @Test
+    void get_shouldResolveOnce_untilTtlElapses() {
+        var document = document("1");
+        when(resolver.apply(DID)).thenReturn(resolution(document, null));
+
+        assertThat(cache.get(DID, resolver).getContent()).isSameAs(document);
+        assertThat(cache.get(DID, resolver).getContent()).isSameAs(document);
+
+        verify(resolver, times(1)).apply(DID);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldHonourMaxAge_cappedToMaxTtl() {
+        when(resolver.apply(any())).thenReturn(resolution(document("1"), Duration.ofSeconds(10)));
+        cache.get(DID, resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        cache.get(DID, resolver);
+        assertThat(cache.getStaleHits()).isEqualTo(1);
+
+        when(resolver.apply(any())).thenReturn(resolution(document("2"), Duration.ofDays(1)));
+        cache.get("did:web:bar", resolver);
+        when(clock.instant()).thenReturn(now.plusSeconds(10 + 600));
+        cache.get("did:web:bar", resolver);
+        assertThat(cache.getStaleHits()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldNotCache_whenMaxAgeIsZero() {
+        when(resolver.apply(DID)).thenReturn(resolution(document("1"), Duration.ZERO));
+
+        cache.get(DID, resolver);
+        cache.get(DID, resolver);
+
+        verify(resolver, times(2)).apply(DID);
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_shouldServeStaleDocument_andResolveItAgain() {
+        var first = document("1");
+        var second = document("2");
+        when(resolver.apply(DID)).thenReturn(resolution(first, null), resolution(second, null));
+        cache.get(DID, resolver);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(70));
+
+        assertThat(cache.get(DID, resolver).getContent()).isSameAs(first);
+        assertThat(cache.get(DID, resolver).getContent()).isSameAs(second);
+    }
+
+    @Test
+    void get_shouldKeepStaleDocument_whenResolutionFails() {
+        var document = document("1");
+        when(resolver.apply(DID)).thenReturn(resolution(document, null), Result.failure("unreachable"));
+        cache.get(DID, resolver);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(70));
+        assertThat(cache.get(DID, resolver).getContent()).isSameAs(document);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(90));
+        assertThat(cache.get(DID, resolver).failed()).isTrue();
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        when(resolver.apply(DID)).thenReturn(Result.failure("unreachable"));
+
+        assertThat(cache.get(DID, resolver).failed()).isTrue();
+        assertThat(cache.get(DID, resolver).failed()).isTrue();
+
+        verify(resolver, times(2)).apply(DID);
+    }
+
+    @Test
+    void get_shouldCollapseConcurrentResolutions() throws InterruptedException {
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        Function<String, Result<DidResolution>> slowResolver = did -> {
+            calls.incrementAndGet();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return resolution(document("1"), null);
+        };
+        var executor = Executors.newFixedThreadPool(4);
+        try {
+            for (var i = 0; i < 4; i++) {
+                executor.execute(() -> cache.get(DID, slowResolver));
+            }
+            Thread.sleep(200);
+            release.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidate_shouldEvictDocument() {
+        when(resolver.apply(DID)).thenReturn(resolution(document("1"), null));
+        cache.get(DID, resolver);
+
+        cache.invalidate(DID);
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void disabled_shouldResolveEveryTime() {
+        var disabled = new DidDocumentCache(0, Duration.ofSeconds(60), Duration.ofSeconds(600), Duration.ZERO, Runnable::run, clock);
+        when(resolver.apply(DID)).thenReturn(resolution(document("1"), null));
+
+        disabled.get(DID, resolver);
+        disabled.get(DID, resolver);
+
+        verify(resolver, times(2)).apply(DID);
+    }
+
+    private Result<DidResolution> resolution(DidDocument document, Duration maxAge) {
+        return Result.success(new DidResolution(document, maxAge));
+    }
+
+    private DidDocument document(String id) {
+        return DidDocument.Builder.newInstance().id(id).build();
+    }
+}
@@ -60,6 +60,17 @@ class DidResolverRegistryImplTest {
         assertNotNull(result.getContent());
     }
 
+    @Test
+    void verifyResolveDid_shouldCacheDocument() {
+        var resolver = new MockResolver();
+        registry.register(resolver);
+
+        registry.resolve("did:foo:id");
+        registry.resolve("did:foo:id");
+
+        assertThat(resolver.resolutions).isEqualTo(1);
+    }
+
     @Test
     void isSupported() {
         registry.register(new MockResolver());
@@ -71,6 +82,7 @@ class DidResolverRegistryImplTest {
      * Mock resolver class.
      */
     private static class MockResolver implements DidResolver {
+        private int resolutions;
 
         @Override
         public @NotNull String getMethod() {
@@ -80,6 +92,7 @@ class DidResolverRegistryImplTest {
         @Override
         @NotNull
         public Result<DidDocument> resolve(String didKey) {
+            resolutions++;
             return Result.success(DidDocument.Builder.newInstance().build());
         }
     }
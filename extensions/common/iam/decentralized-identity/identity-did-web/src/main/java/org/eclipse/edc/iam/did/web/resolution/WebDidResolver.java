@@ -17,18 +17,23 @@ package org.eclipse.edc.iam.did.web.resolution;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Request;
 import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.eclipse.edc.iam.did.spi.resolution.DidResolution;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolver;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
 
 import static java.lang.String.format;
 
 /**
- * Resolves a Web DID according to the Web DID specification (https://w3c-ccg.github.io/did-method-web).
+ * Resolves a Web DID according to the Web DID specification (https://w3c-ccg.github.io/did-method-web). The max age of
+ * the resolved document is taken from the {@code Cache-Control} header of the response.
  */
 public class WebDidResolver implements DidResolver {
     private static final String DID_METHOD = "web";
@@ -56,6 +61,12 @@ public class WebDidResolver implements DidResolver {
     @Override
     @NotNull
     public Result<DidDocument> resolve(String didKey) {
+        return resolveWithMaxAge(didKey).map(DidResolution::document);
+    }
+
+    @Override
+    @NotNull
+    public Result<DidResolution> resolveWithMaxAge(String didKey) {
         String url;
         try {
             url = urlResolver.apply(didKey);
@@ -74,11 +85,37 @@ public class WebDidResolver implements DidResolver {
                     return Result.failure("DID response contained an empty body: " + didKey);
                 }
                 var didDocument = mapper.readValue(body.string(), DidDocument.class);
-                return Result.success(didDocument);
+                return Result.success(new DidResolution(didDocument, maxAge(response.header("Cache-Control"))));
             }
         } catch (IOException e) {
             monitor.severe("Error resolving DID: " + didKey, e);
             return Result.failure("Error resolving DID: " + e.getMessage());
         }
     }
+
+    /**
+     * Returns the max age set by the Cache-Control header: zero if the response must not be cached, null if the header
+     * does not set it.
+     */
+    @Nullable
+    private Duration maxAge(@Nullable String cacheControl) {
+        if (cacheControl == null) {
+            return null;
+        }
+        Duration maxAge = null;
+        for (var directive : cacheControl.toLowerCase(Locale.ROOT).split(",")) {
+            var token = directive.trim();
+            if (token.equals("no-store") || token.equals("no-cache")) {
+                return Duration.ZERO;
+            }
+            if (token.startsWith("max-age=")) {
+                try {
+                    maxAge = Duration.ofSeconds(Math.max(0, Long.parseLong(token.substring("max-age=".length()).replace("\"", ""))));
+                } catch (NumberFormatException e) {
+                    monitor.debug("Ignoring invalid Cache-Control directive: " + token);
+                }
+            }
+        }
+        return maxAge;
+    }
 }
@@ -25,6 +25,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -70,6 +71,36 @@ class WebDidResolverTest {
         assertThat(result.failed()).isTrue();
     }
 
+    @Test
+    void verifyResolveDocument_shouldTakeMaxAgeFromCacheControl() {
+        var resolver = createResolver(cacheControlInterceptor("public, max-age=120"));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().maxAge()).isEqualTo(Duration.ofSeconds(120));
+    }
+
+    @Test
+    void verifyResolveDocument_shouldNotBeCached_whenNoStore() {
+        var resolver = createResolver(cacheControlInterceptor("no-store, max-age=120"));
+
+        var result = resolver.resolveWithMaxAge("did:web:foo.com:edc:EiDfkaPHt8Yojnh15O7egrj5pA9tTefh_SYtbhF1-XyAeA");
+
+        assertThat(result.getContent().maxAge()).isZero();
+    }
+
+    private Interceptor cacheControlInterceptor(String cacheControl) {
+        return chain -> {
+            var didStream = Thread.currentThread().getContextClassLoader().getResourceAsStream("did.json");
+            assert didStream != null;
+            var didDocument = new String(didStream.readAllBytes(), StandardCharsets.UTF_8);
+            var body = ResponseBody.create(didDocument, MediaType.get("application/json"));
+            return new Response.Builder().body(body).protocol(HTTP_1_1).request(chain.request()).code(200).message("ok")
+                    .header("Cache-Control", cacheControl).build();
+        };
+    }
+
     private WebDidResolver createResolver(Interceptor... interceptors) {
         return new WebDidResolver(testHttpClient(interceptors), true, new ObjectMapper(), mock(Monitor.class));
     }
@@ -19,7 +19,10 @@ import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.VerifiedCredentialsCache;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
+import org.eclipse.edc.iam.identitytrust.core.defaults.HttpStatusListFetcher;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCache;
 import org.eclipse.edc.iam.identitytrust.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.identitytrust.ClaimTokenCreatorFunction;
 import org.eclipse.edc.identitytrust.CredentialServiceClient;
@@ -29,6 +32,7 @@ import org.eclipse.edc.identitytrust.TrustedIssuerRegistry;
 import org.eclipse.edc.identitytrust.validation.TokenValidationAction;
 import org.eclipse.edc.identitytrust.verification.PresentationVerifier;
 import org.eclipse.edc.identitytrust.verification.SignatureSuiteRegistry;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -38,6 +42,7 @@ import org.eclipse.edc.security.signature.jws2020.JwsSignature2020Suite;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -56,9 +61,14 @@ import org.eclipse.edc.verifiablecredentials.jwt.rules.SubJwkIsNullRule;
 import org.eclipse.edc.verifiablecredentials.linkeddata.DidMethodResolver;
 import org.eclipse.edc.verifiablecredentials.linkeddata.LdpVerifier;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 import static org.eclipse.edc.verifiablecredentials.jwt.JwtPresentationVerifier.JWT_VC_TOKEN_CONTEXT;
@@ -72,6 +82,30 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
 
+    @Setting(value = "Enables the cache of the verified presentations of a participant for the requested scopes", type = "boolean", defaultValue = "false")
+    public static final String PRESENTATION_CACHE_ENABLED = "edc.iam.iatp.presentation.cache.enabled";
+
+    @Setting(value = "Max number of participant/scopes entries kept in the presentation cache", type = "int", defaultValue = "1000")
+    public static final String PRESENTATION_CACHE_MAX_ENTRIES = "edc.iam.iatp.presentation.cache.max-entries";
+
+    @Setting(value = "Time-to-live of the presentation cache entries, capped by the expiration of the credentials", type = "long", defaultValue = "300000")
+    public static final String PRESENTATION_CACHE_TTL_MILLIS = "edc.iam.iatp.presentation.cache.ttl-millis";
+
+    @Setting(value = "Enables the StatusList2021 revocation check of the credentials", type = "boolean", defaultValue = "false")
+    public static final String REVOCATION_ENABLED = "edc.iam.iatp.revocation.enabled";
+
+    @Setting(value = "Max number of status lists kept in the revocation cache", type = "int", defaultValue = "100")
+    public static final String REVOCATION_CACHE_MAX_ENTRIES = "edc.iam.iatp.revocation.cache.max-entries";
+
+    @Setting(value = "Time-to-live of the cached status lists", type = "long", defaultValue = "300000")
+    public static final String REVOCATION_CACHE_TTL_MILLIS = "edc.iam.iatp.revocation.cache.ttl-millis";
+
+    @Setting(value = "Time an expired status list is still served while it is fetched again in the background", type = "long", defaultValue = "60000")
+    public static final String REVOCATION_CACHE_STALE_MILLIS = "edc.iam.iatp.revocation.cache.stale-millis";
+
+    @Setting(value = "Interval at which the status lists in use are fetched again in the background, 0 only fetches them again once expired", type = "long", defaultValue = "0")
+    public static final String REVOCATION_REFRESH_INTERVAL_MILLIS = "edc.iam.iatp.revocation.refresh-interval-millis";
+
 
     @Inject
     private SecureTokenService secureTokenService;
@@ -116,8 +150,13 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     @Inject
     private IatpParticipantAgentServiceExtension participantAgentServiceExtension;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
     private PresentationVerifier presentationVerifier;
+    private VerifierContext verifierContext;
     private CredentialServiceClient credentialServiceClient;
+    private ScheduledExecutorService statusListExecutor;
 
     @Override
     public void initialize(ServiceExtensionContext context) {
@@ -148,7 +187,15 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         var validationAction = tokenValidationAction();
 
         return new IdentityAndTrustService(secureTokenService, getOwnDid(context), getPresentationVerifier(context),
-                getCredentialServiceClient(context), validationAction, registry, clock, credentialServiceUrlResolver, claimTokenFunction);
+                getCredentialServiceClient(context), validationAction, registry, clock, credentialServiceUrlResolver, claimTokenFunction,
+                verifiedCredentialsCache(context), statusListCache(context));
+    }
+
+    @Override
+    public void shutdown() {
+        if (statusListExecutor != null) {
+            statusListExecutor.shutdownNow();
+        }
     }
 
     @Provider
@@ -173,7 +220,9 @@ public class IdentityAndTrustExtension implements ServiceExtension {
                     .methodResolver(new DidMethodResolver(didResolverRegistry))
                     .build();
 
-            presentationVerifier = new MultiFormatPresentationVerifier(getOwnDid(context), jwtVerifier, ldpVerifier);
+            var multiFormatVerifier = new MultiFormatPresentationVerifier(getOwnDid(context), jwtVerifier, ldpVerifier);
+            verifierContext = multiFormatVerifier.getContext();
+            presentationVerifier = multiFormatVerifier;
         }
         return presentationVerifier;
     }
@@ -186,6 +235,37 @@ public class IdentityAndTrustExtension implements ServiceExtension {
         };
     }
 
+    private VerifiedCredentialsCache verifiedCredentialsCache(ServiceExtensionContext context) {
+        if (!context.getSetting(PRESENTATION_CACHE_ENABLED, false)) {
+            return VerifiedCredentialsCache.disabled();
+        }
+        var maxEntries = context.getSetting(PRESENTATION_CACHE_MAX_ENTRIES, 1000);
+        var ttl = Duration.ofMillis(context.getSetting(PRESENTATION_CACHE_TTL_MILLIS, 300_000L));
+        return new VerifiedCredentialsCache(maxEntries, ttl, clock);
+    }
+
+    @Nullable
+    private StatusListCache statusListCache(ServiceExtensionContext context) {
+        if (!context.getSetting(REVOCATION_ENABLED, false)) {
+            return null;
+        }
+        var maxEntries = context.getSetting(REVOCATION_CACHE_MAX_ENTRIES, 100);
+        var ttl = Duration.ofMillis(context.getSetting(REVOCATION_CACHE_TTL_MILLIS, 300_000L));
+        var staleTtl = Duration.ofMillis(context.getSetting(REVOCATION_CACHE_STALE_MILLIS, 60_000L));
+        var refreshInterval = context.getSetting(REVOCATION_REFRESH_INTERVAL_MILLIS, 0L);
+
+        var monitor = context.getMonitor().withPrefix("StatusList2021");
+        statusListExecutor = executorInstrumentation.instrument(Executors.newSingleThreadScheduledExecutor(), "status-list-refresh");
+        // status list credentials are verified the same way as the credentials of the presentations
+        getPresentationVerifier(context);
+        var fetcher = new HttpStatusListFetcher(httpClient, typeManager.getMapper(JSON_LD), verifierContext, monitor);
+        var cache = new StatusListCache(fetcher, maxEntries, ttl, staleTtl, statusListExecutor, clock, monitor);
+        if (refreshInterval > 0) {
+            statusListExecutor.scheduleWithFixedDelay(cache::refresh, refreshInterval, refreshInterval, TimeUnit.MILLISECONDS);
+        }
+        return cache;
+    }
+
     private String getOwnDid(ServiceExtensionContext context) {
         return context.getConfig().getString(CONNECTOR_DID_PROPERTY);
     }
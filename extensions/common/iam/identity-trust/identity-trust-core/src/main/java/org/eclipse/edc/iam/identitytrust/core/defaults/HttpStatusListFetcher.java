@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.core.defaults;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.Request;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusList;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListFetcher;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * Fetches StatusList2021 credentials over HTTP, either as JSON-LD documents or as JWTs, and decodes the
+ * {@code encodedList} of their subject.
+ * <p>
+ * A status list credential is only accepted if it was issued by the issuer of the credential that is checked, and if
+ * its proof can be verified with the {@link VerifierContext} the presentations are verified with. For JWTs, the key
+ * must also belong to the issuer. Responses larger than {@link #MAX_CREDENTIAL_BYTES} are rejected.
+ */
+public class HttpStatusListFetcher implements StatusListFetcher {
+    /**
+     * Upper bound of a status list credential, a list of 16 KB compresses to far less even if many bits are set.
+     */
+    static final int MAX_CREDENTIAL_BYTES = 1024 * 1024;
+    private static final String ACCEPT = "application/vc+ld+json, application/vc+jwt, application/ld+json, application/json, application/jwt";
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {
+    };
+    private final EdcHttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final VerifierContext verifierContext;
+    private final Monitor monitor;
+
+    public HttpStatusListFetcher(EdcHttpClient httpClient, ObjectMapper objectMapper, VerifierContext verifierContext, Monitor monitor) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.verifierContext = verifierContext;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Result<StatusList> fetch(String statusListCredential, String issuer) {
+        var request = new Request.Builder().url(statusListCredential).get().header("Accept", ACCEPT).build();
+        try (var response = httpClient.execute(request)) {
+            var body = response.body();
+            if (!response.isSuccessful() || body == null) {
+                return failure("Fetching status list credential %s failed: HTTP %s".formatted(statusListCredential, response.code()));
+            }
+            if (body.contentLength() > MAX_CREDENTIAL_BYTES) {
+                return failure("The status list credential %s exceeds %d bytes".formatted(statusListCredential, MAX_CREDENTIAL_BYTES));
+            }
+            var bytes = body.byteStream().readNBytes(MAX_CREDENTIAL_BYTES + 1);
+            if (bytes.length > MAX_CREDENTIAL_BYTES) {
+                return failure("The status list credential %s exceeds %d bytes".formatted(statusListCredential, MAX_CREDENTIAL_BYTES));
+            }
+            var content = new String(bytes, StandardCharsets.UTF_8).trim();
+
+            return parseCredential(content)
+                    .compose(credential -> verifyIssuer(credential, issuer))
+                    .compose(credential -> verifierContext.verify(content).map(v -> credential))
+                    .compose(this::encodedList)
+                    .compose(StatusList::decode);
+        } catch (IOException | IllegalArgumentException e) {
+            monitor.warning("Error fetching status list credential " + statusListCredential, e);
+            return failure("Error fetching status list credential %s: %s".formatted(statusListCredential, e.getMessage()));
+        }
+    }
+
+    private Result<ParsedCredential> parseCredential(String content) throws IOException {
+        if (content.startsWith("{")) {
+            var credential = objectMapper.readValue(content, MAP_TYPE);
+            return success(new ParsedCredential(credential, issuerId(credential.get("issuer")), null));
+        }
+        var parts = content.split("\\.");
+        if (parts.length != 3) {
+            return failure("The status list credential is neither a JSON document nor a JWT");
+        }
+        var header = objectMapper.readValue(new String(Base64.getUrlDecoder().decode(parts[0]), StandardCharsets.UTF_8), MAP_TYPE);
+        var claims = objectMapper.readValue(new String(Base64.getUrlDecoder().decode(parts[1]), StandardCharsets.UTF_8), MAP_TYPE);
+        var credential = claims.get("vc") instanceof Map<?, ?> vc ? objectMapper.convertValue(vc, MAP_TYPE) : claims;
+        var issuer = claims.get("iss") instanceof String iss ? iss : issuerId(credential.get("issuer"));
+        var keyId = header.get("kid") instanceof String kid ? kid : null;
+        return success(new ParsedCredential(credential, issuer, keyId));
+    }
+
+    private Result<ParsedCredential> verifyIssuer(ParsedCredential credential, String issuer) {
+        if (!Objects.equals(credential.issuer(), issuer)) {
+            return failure("The status list credential was issued by '%s' instead of the credential issuer '%s'".formatted(credential.issuer(), issuer));
+        }
+        if (credential.keyId() != null && credential.keyId().contains(":") && !credential.keyId().split("#", 2)[0].equals(issuer)) {
+            return failure("The status list credential was signed with the key '%s' that does not belong to '%s'".formatted(credential.keyId(), issuer));
+        }
+        return success(credential);
+    }
+
+    private String issuerId(Object issuer) {
+        if (issuer instanceof Map<?, ?> map) {
+            return map.get("id") instanceof String id ? id : null;
+        }
+        return issuer instanceof String id ? id : null;
+    }
+
+    private Result<String> encodedList(ParsedCredential credential) {
+        var subject = credential.claims().get("credentialSubject");
+        if (subject instanceof List<?> subjects && !subjects.isEmpty()) {
+            subject = subjects.get(0);
+        }
+        if (subject instanceof Map<?, ?> claims && claims.get("encodedList") instanceof String encodedList) {
+            return success(encodedList);
+        }
+        return failure("The status list credential has no 'credentialSubject.encodedList'");
+    }
+
+    private record ParsedCredential(Map<String, Object> claims, String issuer, String keyId) {
+    }
+}
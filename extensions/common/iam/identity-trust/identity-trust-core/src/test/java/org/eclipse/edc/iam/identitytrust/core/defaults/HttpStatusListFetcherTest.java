@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.core.defaults;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.eclipse.edc.identitytrust.verification.VerifierContext;
+import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class HttpStatusListFetcherTest {
+
+    private static final String URL = "https://issuer.com/status/1";
+    private static final String ISSUER = "did:web:issuer";
+    private final EdcHttpClient httpClient = mock();
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final VerifierContext verifierContext = mock();
+    private final HttpStatusListFetcher fetcher = new HttpStatusListFetcher(httpClient, mapper, verifierContext, mock());
+
+    @BeforeEach
+    void setUp() {
+        when(verifierContext.verify(any())).thenReturn(Result.success());
+    }
+
+    @Test
+    void fetch_shouldDecodeJsonLdCredential() throws IOException {
+        var credential = Map.of("type", "VerifiableCredential", "issuer", ISSUER, "credentialSubject", Map.of("type", "StatusList2021", "encodedList", encode(new byte[]{ (byte) 0x80 })));
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, mapper.writeValueAsString(credential)));
+
+        var result = fetcher.fetch(URL, ISSUER);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().isSet(0)).isTrue();
+    }
+
+    @Test
+    void fetch_shouldDecodeJwtCredential() throws IOException {
+        var claims = Map.of("iss", ISSUER, "vc", Map.of("credentialSubject", Map.of("encodedList", encode(new byte[]{ 0x40 }))));
+        var payload = Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(claims));
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, jwtHeader(ISSUER + "#key-1") + "." + payload + ".c2lnbmF0dXJl"));
+
+        var result = fetcher.fetch(URL, ISSUER);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent().isSet(1)).isTrue();
+    }
+
+    @Test
+    void fetch_shouldFail_whenNotFound() throws IOException {
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(404, ""));
+
+        assertThat(fetcher.fetch(URL, ISSUER).failed()).isTrue();
+    }
+
+    @Test
+    void fetch_shouldFail_whenEncodedListIsMissing() throws IOException {
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, "{\"credentialSubject\": {}}"));
+
+        assertThat(fetcher.fetch(URL, ISSUER).failed()).isTrue();
+    }
+
+    @Test
+    void fetch_shouldFail_whenIssuedByAnotherIssuer() throws IOException {
+        var credential = Map.of("issuer", Map.of("id", "did:web:another"), "credentialSubject", Map.of("encodedList", encode(new byte[]{ 0 })));
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, mapper.writeValueAsString(credential)));
+
+        assertThat(fetcher.fetch(URL, ISSUER).failed()).isTrue();
+        verifyNoInteractions(verifierContext);
+    }
+
+    @Test
+    void fetch_shouldFail_whenJwtIsSignedWithKeyOfAnotherIssuer() throws IOException {
+        var claims = Map.of("iss", ISSUER, "vc", Map.of("credentialSubject", Map.of("encodedList", encode(new byte[]{ 0 }))));
+        var payload = Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(claims));
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, jwtHeader("did:web:another#key-1") + "." + payload + ".c2lnbmF0dXJl"));
+
+        assertThat(fetcher.fetch(URL, ISSUER).failed()).isTrue();
+    }
+
+    @Test
+    void fetch_shouldFail_whenProofCannotBeVerified() throws IOException {
+        var credential = Map.of("issuer", ISSUER, "credentialSubject", Map.of("encodedList", encode(new byte[]{ 0 })));
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, mapper.writeValueAsString(credential)));
+        when(verifierContext.verify(any())).thenReturn(Result.failure("invalid proof"));
+
+        assertThat(fetcher.fetch(URL, ISSUER).failed()).isTrue();
+    }
+
+    @Test
+    void fetch_shouldFail_whenResponseIsTooLarge() throws IOException {
+        var body = "{\"issuer\": \"" + "a".repeat(HttpStatusListFetcher.MAX_CREDENTIAL_BYTES) + "\"}";
+        when(httpClient.execute(argThat(request -> request.url().toString().equals(URL)))).thenReturn(response(200, body));
+
+        assertThat(fetcher.fetch(URL, ISSUER).failed()).isTrue();
+        verifyNoInteractions(verifierContext);
+    }
+
+    private Response response(int code, String body) {
+        return new Response.Builder()
+                .request(new Request.Builder().url(URL).build())
+                .protocol(Protocol.HTTP_1_1)
+                .code(code)
+                .message("")
+                .body(ResponseBody.create(body.getBytes(StandardCharsets.UTF_8), MediaType.get("application/json")))
+                .build();
+    }
+
+    private String jwtHeader(String keyId) throws IOException {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(mapper.writeValueAsBytes(Map.of("alg", "ES256", "kid", keyId)));
+    }
+
+    private String encode(byte[] bitstring) throws IOException {
+        var output = new ByteArrayOutputStream();
+        try (var gzip = new GZIPOutputStream(output)) {
+            gzip.write(bitstring);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(output.toByteArray());
+    }
+}
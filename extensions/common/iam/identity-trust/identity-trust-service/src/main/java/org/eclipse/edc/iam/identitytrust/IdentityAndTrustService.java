@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.iam.identitytrust;
 
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCache;
 import org.eclipse.edc.iam.identitytrust.validation.rules.HasValidIssuer;
 import org.eclipse.edc.iam.identitytrust.validation.rules.HasValidSubjectIds;
 import org.eclipse.edc.iam.identitytrust.validation.rules.IsNotExpired;
@@ -36,6 +37,7 @@ import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.util.string.StringUtils;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -46,7 +48,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Stream;
 
 import static org.eclipse.edc.identitytrust.SelfIssuedTokenConstants.PRESENTATION_ACCESS_TOKEN_CLAIM;
 import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.AUDIENCE;
@@ -80,17 +81,38 @@ public class IdentityAndTrustService implements IdentityService {
     private final Clock clock;
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
+    private final VerifiedCredentialsCache verifiedCredentialsCache;
+    private final IsRevoked isRevoked;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
      *
-     * @param secureTokenService Instance of an STS, which can create SI tokens
-     * @param myOwnDid           The DID which belongs to "this connector"
+     * @param secureTokenService       Instance of an STS, which can create SI tokens
+     * @param myOwnDid                 The DID which belongs to "this connector"
+     * @param verifiedCredentialsCache Cache of the verified presentations' credentials, per participant and scopes
      */
     public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
                                    PresentationVerifier presentationVerifier, CredentialServiceClient credentialServiceClient,
                                    TokenValidationAction tokenValidationAction,
-                                   TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction) {
+                                   TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   VerifiedCredentialsCache verifiedCredentialsCache) {
+        this(secureTokenService, myOwnDid, presentationVerifier, credentialServiceClient, tokenValidationAction, trustedIssuerRegistry,
+                clock, csUrlResolver, claimTokenCreatorFunction, verifiedCredentialsCache, null);
+    }
+
+    /**
+     * Constructs a new instance of the {@link IdentityAndTrustService}, that checks the revocation of the credentials.
+     *
+     * @param secureTokenService       Instance of an STS, which can create SI tokens
+     * @param myOwnDid                 The DID which belongs to "this connector"
+     * @param verifiedCredentialsCache Cache of the verified presentations' credentials, per participant and scopes
+     * @param statusListCache          Cache of the StatusList2021 lists the credentials are checked against, null disables the revocation check
+     */
+    public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
+                                   PresentationVerifier presentationVerifier, CredentialServiceClient credentialServiceClient,
+                                   TokenValidationAction tokenValidationAction,
+                                   TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   VerifiedCredentialsCache verifiedCredentialsCache, @Nullable StatusListCache statusListCache) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.presentationVerifier = presentationVerifier;
@@ -100,6 +122,8 @@ public class IdentityAndTrustService implements IdentityService {
         this.clock = clock;
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
+        this.verifiedCredentialsCache = verifiedCredentialsCache;
+        this.isRevoked = new IsRevoked(statusListCache);
     }
 
     @Override
@@ -138,11 +162,37 @@ public class IdentityAndTrustService implements IdentityService {
             return claimTokenResult.mapTo();
         }
 
-        // create our own SI token, to request the VPs
         var claimToken = claimTokenResult.getContent();
         var accessToken = claimToken.getStringClaim(PRESENTATION_ACCESS_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
 
+        var verifiedCredentials = verifiedCredentialsCache.get(issuer, context.getScopes(), () -> requestAndVerifyPresentations(issuer, accessToken, context));
+        if (verifiedCredentials.failed()) {
+            return verifiedCredentials.mapTo();
+        }
+
+        // the credentials are validated on every request, as they could have expired or have been revoked in the meantime
+        var credentials = verifiedCredentials.getContent();
+        var result = credentials.stream()
+                .map(presentationCredentials -> validateVerifiableCredentials(presentationCredentials, issuer))
+                .reduce(Result.success(), Result::merge);
+        if (result.failed()) {
+            verifiedCredentialsCache.invalidate(issuer);
+            return result.mapTo();
+        }
+
+        //todo: at this point we have established what the other participant's DID is, and that it's authentic
+        // so we need to make sure that `iss == sub == DID`
+        return claimTokenCreatorFunction.apply(credentials.stream().flatMap(List::stream).toList());
+    }
+
+    /**
+     * Requests the presentations to the participant's credential service, and verifies them cryptographically.
+     *
+     * @return the credentials, grouped by presentation.
+     */
+    private Result<List<List<VerifiableCredential>>> requestAndVerifyPresentations(String issuer, String accessToken, VerificationContext context) {
+        // create our own SI token, to request the VPs
         var siTokenClaims = Map.of(PRESENTATION_ACCESS_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
                 AUDIENCE, issuer,
@@ -164,17 +214,12 @@ public class IdentityAndTrustService implements IdentityService {
         }
 
         var presentations = vpResponse.getContent();
-        var result = presentations.stream().map(verifiablePresentation -> {
-            var credentials = verifiablePresentation.presentation().getCredentials();
-            // verify, that the VP and all VPs are cryptographically OK
-            return presentationVerifier.verifyPresentation(verifiablePresentation)
-                    .compose(u -> validateVerifiableCredentials(credentials, issuer));
-        }).reduce(Result.success(), Result::merge);
-        //todo: at this point we have established what the other participant's DID is, and that it's authentic
-        // so we need to make sure that `iss == sub == DID`
-        return result.compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
-                .reduce(Stream.empty(), Stream::concat)
-                .toList()));
+        // verify, that the VP and all VPs are cryptographically OK
+        var result = presentations.stream()
+                .map(presentationVerifier::verifyPresentation)
+                .reduce(Result.success(), Result::merge);
+
+        return result.map(v -> presentations.stream().map(p -> p.presentation().getCredentials()).toList());
     }
 
     @NotNull
@@ -183,11 +228,12 @@ public class IdentityAndTrustService implements IdentityService {
         var filters = new ArrayList<>(List.of(
                 new IsNotExpired(clock),
                 new HasValidSubjectIds(issuer),
-                new IsRevoked(null),
                 new HasValidIssuer(getTrustedIssuerIds())));
 
         filters.addAll(getAdditionalValidations());
-        var results = credentials.stream().map(c -> filters.stream().reduce(t -> Result.success(), CredentialValidationRule::and).apply(c)).reduce(Result::merge);
+        var rules = filters.stream().reduce(t -> Result.success(), CredentialValidationRule::and);
+        // the revocation check fetches the status list the credential points to, so it only runs for trusted credentials
+        var results = credentials.stream().map(c -> rules.apply(c).compose(v -> isRevoked.apply(c))).reduce(Result::merge);
         return results.orElseGet(() -> failure("Could not determine the status of the VC validation"));
     }
 
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust;
+
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ExpiringLruCache;
+import org.eclipse.edc.util.concurrency.SingleFlight;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Caches the credentials of the presentations that have been fetched and cryptographically verified for a participant
+ * (the issuer of the SI token) and a set of scopes. Entries live until the earliest expiration of the contained
+ * credentials, capped by the configured time-to-live. Concurrent verifications for the same participant and scopes
+ * share a single request to the credential service.
+ * <p>
+ * The credentials are expected to be validated (expiration, revocation, trusted issuers) on every use, and the
+ * participant's entries invalidated when that fails.
+ */
+public class VerifiedCredentialsCache {
+
+    private final ExpiringLruCache<CacheKey, List<List<VerifiableCredential>>> cache;
+    private final SingleFlight<CacheKey, Result<List<List<VerifiableCredential>>>> singleFlight = new SingleFlight<>();
+    private final boolean enabled;
+
+    /**
+     * Constructor. A zero time-to-live disables the cache.
+     *
+     * @param maxEntries max number of participant/scopes entries.
+     * @param ttl time-to-live of the entries.
+     * @param clock the clock.
+     */
+    public VerifiedCredentialsCache(int maxEntries, Duration ttl, Clock clock) {
+        this.enabled = !ttl.isZero() && !ttl.isNegative();
+        this.cache = new ExpiringLruCache<>(Math.max(1, maxEntries), enabled ? ttl : Duration.ofMillis(1), clock);
+    }
+
+    /**
+     * Returns a cache that never retains anything.
+     *
+     * @return the disabled cache.
+     */
+    public static VerifiedCredentialsCache disabled() {
+        return new VerifiedCredentialsCache(1, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the cached credentials, one list per presentation, or runs the verification and caches its result if
+     * it succeeded.
+     *
+     * @param participant the participant that issued the SI token.
+     * @param scopes the requested scopes.
+     * @param verification fetches and verifies the presentations.
+     * @return the credentials, grouped by presentation.
+     */
+    public Result<List<List<VerifiableCredential>>> get(String participant, Collection<String> scopes, Supplier<Result<List<List<VerifiableCredential>>>> verification) {
+        if (!enabled) {
+            return verification.get();
+        }
+
+        var key = new CacheKey(participant, Set.copyOf(scopes));
+        var loadGeneration = cache.getGeneration();
+        var cached = cache.get(key);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
+        return singleFlight.execute(key, () -> {
+            var result = verification.get();
+            if (result.succeeded()) {
+                cache.put(key, result.getContent(), earliestExpiration(result.getContent()), loadGeneration);
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Removes all the entries of a participant, e.g. because one of its credentials has been revoked.
+     *
+     * @param participant the participant.
+     */
+    public void invalidate(String participant) {
+        cache.invalidateIf(key -> Objects.equals(key.participant(), participant));
+    }
+
+    private Instant earliestExpiration(List<List<VerifiableCredential>> credentials) {
+        return credentials.stream()
+                .flatMap(Collection::stream)
+                .map(VerifiableCredential::getExpirationDate)
+                .filter(Objects::nonNull)
+                .min(Instant::compareTo)
+                .orElse(Instant.MAX);
+    }
+
+    private record CacheKey(String participant, Set<String> scopes) {
+    }
+}
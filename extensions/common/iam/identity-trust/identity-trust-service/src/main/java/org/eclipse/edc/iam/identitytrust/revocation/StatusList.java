@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.zip.GZIPInputStream;
+
+import static org.eclipse.edc.spi.result.Result.failure;
+import static org.eclipse.edc.spi.result.Result.success;
+
+/**
+ * Decoded bitstring of a StatusList2021 credential. The bit at a credential's {@code statusListIndex} is set if the
+ * credential has been revoked or suspended, bits are numbered from the most significant bit of the first byte.
+ */
+public final class StatusList {
+
+    /**
+     * Upper bound of the decompressed bitstring, 16 MB are 134 million credentials.
+     */
+    private static final int MAX_DECODED_BYTES = 16 * 1024 * 1024;
+    private static final String MULTIBASE_BASE64URL_PREFIX = "u";
+    private static final String GZIP_BASE64_PREFIX = "H4sI";
+
+    private final byte[] bitstring;
+
+    private StatusList(byte[] bitstring) {
+        this.bitstring = bitstring;
+    }
+
+    /**
+     * Decodes the {@code encodedList} of a status list credential, a GZIP-compressed and base64url-encoded bitstring,
+     * optionally with a multibase prefix.
+     *
+     * @param encodedList the encoded list.
+     * @return the status list, or a failure if it cannot be decoded.
+     */
+    public static Result<StatusList> decode(String encodedList) {
+        if (encodedList == null || encodedList.isBlank()) {
+            return failure("The status list is empty");
+        }
+        var encoded = encodedList.startsWith(MULTIBASE_BASE64URL_PREFIX + GZIP_BASE64_PREFIX) ? encodedList.substring(1) : encodedList;
+
+        byte[] compressed;
+        try {
+            compressed = Base64.getUrlDecoder().decode(encoded);
+        } catch (IllegalArgumentException e) {
+            return failure("The status list is not base64url-encoded: " + e.getMessage());
+        }
+
+        try (var input = new GZIPInputStream(new ByteArrayInputStream(compressed)); var output = new ByteArrayOutputStream()) {
+            var buffer = new byte[8192];
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                if (output.size() + read > MAX_DECODED_BYTES) {
+                    return failure("The status list exceeds %d bytes".formatted(MAX_DECODED_BYTES));
+                }
+                output.write(buffer, 0, read);
+            }
+            return success(new StatusList(output.toByteArray()));
+        } catch (IOException e) {
+            return failure("The status list cannot be decompressed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the number of statuses in the list.
+     *
+     * @return the size.
+     */
+    public long size() {
+        return bitstring.length * 8L;
+    }
+
+    /**
+     * Tells if the status at the index is set.
+     *
+     * @param index the {@code statusListIndex}, between 0 and {@link #size()}.
+     * @return true if it is set.
+     */
+    public boolean isSet(long index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Status list index %d out of bounds for size %d".formatted(index, size()));
+        }
+        return (bitstring[(int) (index >>> 3)] & (0x80 >>> (index & 7))) != 0;
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.concurrency.SingleFlight;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the decoded status lists, keyed by the URL of their status list credential and by their issuer, so that
+ * verifying many credentials that point to the same list costs a single fetch. A list is only cached once the
+ * {@link StatusListFetcher} has verified it was issued by the issuer of the credentials that point to it. Concurrent lookups of a list that is not cached share
+ * one fetch, failed fetches are not cached.
+ * <p>
+ * Once expired, a list is still served for a grace period while it is fetched again in the background; if that fetch
+ * fails, the expired list keeps on being served until the grace period ends. In addition, {@link #refresh()} can be
+ * run on an interval to fetch again the lists that have been used since the previous run, and drop the others.
+ */
+public class StatusListCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final SingleFlight<Key, Result<StatusList>> fetches = new SingleFlight<>();
+    private final StatusListFetcher fetcher;
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Duration staleTtl;
+    private final Executor executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param fetcher fetches and decodes the status lists.
+     * @param maxEntries max number of cached lists.
+     * @param ttl time-to-live of the lists.
+     * @param staleTtl time an expired list is still served while it is fetched again.
+     * @param executor the executor the background fetches run on.
+     * @param clock the clock.
+     * @param monitor the monitor.
+     */
+    public StatusListCache(StatusListFetcher fetcher, int maxEntries, Duration ttl, Duration staleTtl, Executor executor, Clock clock, Monitor monitor) {
+        this.fetcher = fetcher;
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.staleTtl = staleTtl;
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the cached status list, fetching it if needed.
+     *
+     * @param statusListCredential the URL of the status list credential.
+     * @param issuer the issuer of the credential that is checked, which must be the issuer of the status list.
+     * @return the status list, or the failure of the fetch.
+     */
+    public Result<StatusList> get(String statusListCredential, String issuer) {
+        var key = new Key(statusListCredential, issuer);
+        var entry = entries.get(key);
+        if (entry != null) {
+            var now = clock.instant();
+            if (now.isBefore(entry.staleUntil)) {
+                entry.used = true;
+                hits.incrementAndGet();
+                if (!now.isBefore(entry.expiresAt)) {
+                    refreshAsync(key, true);
+                }
+                return Result.success(entry.statusList);
+            }
+        }
+        misses.incrementAndGet();
+        return fetches.execute(key, () -> fetch(key, true));
+    }
+
+    /**
+     * Fetches again in the background the lists that have been used since the previous run, and drops the others.
+     */
+    public void refresh() {
+        entries.forEach((key, entry) -> {
+            if (entry.used) {
+                entry.used = false;
+                refreshAsync(key, false);
+            } else {
+                entries.remove(key, entry);
+            }
+        });
+    }
+
+    public void invalidate(String statusListCredential) {
+        entries.keySet().removeIf(key -> key.statusListCredential().equals(statusListCredential));
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private void refreshAsync(Key key, boolean used) {
+        fetches.executeAsync(key, () -> fetch(key, used), executor);
+    }
+
+    private Result<StatusList> fetch(Key key, boolean used) {
+        var result = fetcher.fetch(key.statusListCredential(), key.issuer());
+        if (result.failed()) {
+            monitor.debug("Cannot fetch status list credential %s: %s".formatted(key.statusListCredential(), result.getFailureDetail()));
+            return result;
+        }
+        var expiresAt = clock.instant().plus(ttl);
+        var entry = new Entry(result.getContent(), expiresAt, expiresAt.plus(staleTtl));
+        entry.used = used;
+        entries.put(key, entry);
+        evictIfFull();
+        return result;
+    }
+
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        var now = clock.instant();
+        entries.values().removeIf(entry -> !now.isBefore(entry.staleUntil));
+        var iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            if (!iterator.next().used) {
+                iterator.remove();
+            }
+        }
+        iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Key(String statusListCredential, String issuer) {
+    }
+
+    private static final class Entry {
+        private final StatusList statusList;
+        private final Instant expiresAt;
+        private final Instant staleUntil;
+        private volatile boolean used;
+
+        private Entry(StatusList statusList, Instant expiresAt, Instant staleUntil) {
+            this.statusList = statusList;
+            this.expiresAt = expiresAt;
+            this.staleUntil = staleUntil;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.spi.result.Result;
+
+/**
+ * Fetches a StatusList2021 credential, verifies it and decodes its status list.
+ */
+@FunctionalInterface
+public interface StatusListFetcher {
+
+    /**
+     * Fetches the status list credential, verifies its proof and decodes its status list. Implementations must fail if
+     * the status list credential was not issued by the passed issuer, i.e. the issuer of the credentials it is used for.
+     *
+     * @param statusListCredential the URL of the status list credential.
+     * @param issuer the expected issuer of the status list credential.
+     * @return the status list, or a failure if it cannot be fetched, verified or decoded.
+     */
+    Result<StatusList> fetch(String statusListCredential, String issuer);
+}
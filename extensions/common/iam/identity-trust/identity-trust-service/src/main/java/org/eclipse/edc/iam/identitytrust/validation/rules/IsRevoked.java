@@ -14,25 +14,107 @@
 
 package org.eclipse.edc.iam.identitytrust.validation.rules;
 
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCache;
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
 import org.eclipse.edc.identitytrust.model.VerifiableCredential;
 import org.eclipse.edc.identitytrust.validation.CredentialValidationRule;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.eclipse.edc.spi.result.Result.failure;
 import static org.eclipse.edc.spi.result.Result.success;
 
 /**
- * This class represents a rule that checks if a given VerifiableCredential is revoked based on a StatusList2021 credential.
+ * This class represents a rule that checks if a given VerifiableCredential is revoked or suspended based on the
+ * StatusList2021 credential its {@code credentialStatus} points to. The status lists are looked up in a
+ * {@link StatusListCache}, credentials without a StatusList2021 status are not checked. The status list credential must
+ * have been issued by the issuer of the checked credential.
+ * <p>
+ * As this rule fetches the URL the credential points to, it must only be applied to credentials whose issuer is
+ * trusted.
  */
 public class IsRevoked implements CredentialValidationRule {
-    private final VerifiableCredential statusList2021;
+    private static final String STATUS_LIST_2021_ENTRY = "StatusList2021Entry";
+    private static final String STATUS_PURPOSE = "statusPurpose";
+    private static final String STATUS_LIST_INDEX = "statusListIndex";
+    private static final String STATUS_LIST_CREDENTIAL = "statusListCredential";
+    private static final String SUSPENSION = "suspension";
+    private static final String VALUE = "@value";
 
-    public IsRevoked(VerifiableCredential statusList2021) {
-        this.statusList2021 = statusList2021;
-    }
+    private final StatusListCache statusListCache;
 
+    /**
+     * Constructor.
+     *
+     * @param statusListCache the cache of the status lists, null disables the check.
+     */
+    public IsRevoked(@Nullable StatusListCache statusListCache) {
+        this.statusListCache = statusListCache;
+    }
 
     @Override
     public Result<Void> apply(VerifiableCredential credential) {
-        return success();
+        var status = credential.getCredentialStatus();
+        if (statusListCache == null || status == null || status.type() == null || !status.type().endsWith(STATUS_LIST_2021_ENTRY)) {
+            return success();
+        }
+
+        var statusListCredential = property(status, STATUS_LIST_CREDENTIAL);
+        var index = property(status, STATUS_LIST_INDEX);
+        if (statusListCredential == null || index == null) {
+            return failure("Credential '%s' has an invalid StatusList2021 entry, '%s' and '%s' are required".formatted(credential.getId(), STATUS_LIST_CREDENTIAL, STATUS_LIST_INDEX));
+        }
+        long statusListIndex;
+        try {
+            statusListIndex = Long.parseLong(index);
+        } catch (NumberFormatException e) {
+            return failure("Credential '%s' has an invalid status list index: %s".formatted(credential.getId(), index));
+        }
+
+        var issuer = credential.getIssuer() != null ? credential.getIssuer().id() : null;
+        if (issuer == null) {
+            return failure("Credential '%s' has no issuer to check its status list against".formatted(credential.getId()));
+        }
+
+        var purpose = property(status, STATUS_PURPOSE);
+        return statusListCache.get(statusListCredential, issuer)
+                .compose(statusList -> {
+                    if (statusListIndex < 0 || statusListIndex >= statusList.size()) {
+                        return failure("Credential '%s' has a status list index out of the bounds of %s".formatted(credential.getId(), statusListCredential));
+                    }
+                    if (statusList.isSet(statusListIndex)) {
+                        return failure("Credential '%s' has been %s".formatted(credential.getId(), SUSPENSION.equals(purpose) ? "suspended" : "revoked"));
+                    }
+                    return success();
+                });
+    }
+
+    /**
+     * Returns a status property, that is keyed by its term when the credential was a JWT, and by its expanded IRI when
+     * it was a JSON-LD document.
+     */
+    @Nullable
+    private String property(CredentialStatus status, String term) {
+        return status.additionalProperties().entrySet().stream()
+                .filter(entry -> entry.getKey().equals(term) || entry.getKey().endsWith("#" + term) || entry.getKey().endsWith("/" + term))
+                .map(entry -> scalar(entry.getValue()))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Nullable
+    private String scalar(Object value) {
+        if (value instanceof List<?> list) {
+            return list.isEmpty() ? null : scalar(list.get(0));
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.containsKey(VALUE) ? scalar(map.get(VALUE)) : null;
+        }
+        return value != null ? value.toString() : null;
     }
 }
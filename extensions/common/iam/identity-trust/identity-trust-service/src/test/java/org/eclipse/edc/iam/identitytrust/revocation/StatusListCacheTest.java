@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.revocation;
+
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatusListCacheTest {
+
+    private static final String URL = "https://issuer.com/status/1";
+    private static final String ISSUER = "did:web:issuer.com";
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final StatusListFetcher fetcher = mock();
+    private StatusListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        cache = new StatusListCache(fetcher, 10, Duration.ofSeconds(60), Duration.ofSeconds(30), Runnable::run, clock, mock());
+    }
+
+    @Test
+    void decode_shouldReadBitsFromMostSignificant() {
+        var statusList = StatusList.decode(encode(new byte[]{ (byte) 0b1000_0001, 0 })).getContent();
+
+        assertThat(statusList.size()).isEqualTo(16);
+        assertThat(statusList.isSet(0)).isTrue();
+        assertThat(statusList.isSet(1)).isFalse();
+        assertThat(statusList.isSet(7)).isTrue();
+        assertThat(statusList.isSet(8)).isFalse();
+    }
+
+    @Test
+    void decode_shouldFail_whenNotCompressed() {
+        assertThat(StatusList.decode(Base64.getUrlEncoder().encodeToString(new byte[]{ 1, 2, 3 })).failed()).isTrue();
+    }
+
+    @Test
+    void get_shouldFetchOnce_untilTtlElapses() {
+        when(fetcher.fetch(URL, ISSUER)).thenReturn(statusList());
+
+        cache.get(URL, ISSUER);
+        cache.get(URL, ISSUER);
+
+        verify(fetcher, times(1)).fetch(URL, ISSUER);
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldServeExpiredList_andFetchItAgain() {
+        var first = statusList();
+        var second = statusList();
+        when(fetcher.fetch(URL, ISSUER)).thenReturn(first, second);
+        cache.get(URL, ISSUER);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(70));
+
+        assertThat(cache.get(URL, ISSUER).getContent()).isSameAs(first.getContent());
+        assertThat(cache.get(URL, ISSUER).getContent()).isSameAs(second.getContent());
+    }
+
+    @Test
+    void get_shouldNotCacheFailures() {
+        when(fetcher.fetch(URL, ISSUER)).thenReturn(Result.failure("unreachable"));
+
+        assertThat(cache.get(URL, ISSUER).failed()).isTrue();
+        assertThat(cache.get(URL, ISSUER).failed()).isTrue();
+
+        verify(fetcher, times(2)).fetch(URL, ISSUER);
+    }
+
+    @Test
+    void get_shouldFetchAgain_forAnotherIssuer() {
+        when(fetcher.fetch(URL, ISSUER)).thenReturn(statusList());
+        when(fetcher.fetch(URL, "did:web:another")).thenReturn(Result.failure("issued by did:web:issuer.com"));
+        cache.get(URL, ISSUER);
+
+        assertThat(cache.get(URL, "did:web:another").failed()).isTrue();
+        verify(fetcher).fetch(URL, "did:web:another");
+    }
+
+    @Test
+    void refresh_shouldFetchUsedLists_andDropUnusedOnes() {
+        when(fetcher.fetch(URL, ISSUER)).thenReturn(statusList());
+        cache.get(URL, ISSUER);
+
+        cache.refresh();
+        verify(fetcher, times(2)).fetch(URL, ISSUER);
+        assertThat(cache.size()).isEqualTo(1);
+
+        cache.refresh();
+        assertThat(cache.size()).isZero();
+    }
+
+    private Result<StatusList> statusList() {
+        return StatusList.decode(encode(new byte[16]));
+    }
+
+    private static String encode(byte[] bitstring) {
+        try (var output = new ByteArrayOutputStream()) {
+            try (var gzip = new GZIPOutputStream(output)) {
+                gzip.write(bitstring);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(output.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -18,11 +18,14 @@ package org.eclipse.edc.iam.identitytrust.service;
 import com.nimbusds.jwt.JWTClaimsSet;
 import org.assertj.core.api.Assertions;
 import org.eclipse.edc.iam.identitytrust.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.VerifiedCredentialsCache;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCache;
 import org.eclipse.edc.identitytrust.CredentialServiceClient;
 import org.eclipse.edc.identitytrust.CredentialServiceUrlResolver;
 import org.eclipse.edc.identitytrust.SecureTokenService;
 import org.eclipse.edc.identitytrust.TrustedIssuerRegistry;
 import org.eclipse.edc.identitytrust.model.CredentialFormat;
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
 import org.eclipse.edc.identitytrust.model.CredentialSubject;
 import org.eclipse.edc.identitytrust.model.Issuer;
 import org.eclipse.edc.identitytrust.model.VerifiableCredential;
@@ -36,7 +39,6 @@ import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.iam.VerificationContext;
 import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.BeforeEach;
-import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -45,6 +47,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -66,6 +69,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -81,7 +85,8 @@ class IdentityAndTrustServiceTest {
     private final CredentialServiceUrlResolver credentialServiceUrlResolverMock = mock();
     private final TokenValidationAction actionMock = mock();
     private final IdentityAndTrustService service = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedVerifier, mockedClient,
-            actionMock, trustedIssuerRegistryMock, Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()));
+            actionMock, trustedIssuerRegistryMock, Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+            VerifiedCredentialsCache.disabled());
 
     @BeforeEach
     void setup() {
@@ -213,10 +218,39 @@ class IdentityAndTrustServiceTest {
                     .contains("Not all subject IDs match the expected subject ID %s".formatted(CONSUMER_DID));
         }
 
-        @Disabled("Not yet implemented")
         @Test
         void credentialIsRevoked() {
-            // not yet implemented
+            var statusListCache = mock(StatusListCache.class);
+            when(statusListCache.get(any(), any())).thenReturn(failure("revoked"));
+            var presentation = createPresentationBuilder()
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(revocableCredential(TRUSTED_ISSUER)))
+                    .build();
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(success());
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation))));
+            when(trustedIssuerRegistryMock.getTrustedIssuers()).thenReturn(Set.of(TRUSTED_ISSUER));
+
+            var result = serviceWithRevocation(statusListCache).verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            assertThat(result).isFailed().messages().contains("revoked");
+            verify(statusListCache).get("https://issuer.com/status/1", TRUSTED_ISSUER.id());
+        }
+
+        @Test
+        void credentialHasInvalidIssuer_shouldNotFetchStatusList() {
+            var statusListCache = mock(StatusListCache.class);
+            var presentation = createPresentationBuilder()
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(revocableCredential(new Issuer("did:web:untrusted", Map.of()))))
+                    .build();
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(success());
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation))));
+            when(trustedIssuerRegistryMock.getTrustedIssuers()).thenReturn(Set.of(TRUSTED_ISSUER));
+
+            var result = serviceWithRevocation(statusListCache).verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            assertThat(result).isFailed();
+            verifyNoInteractions(statusListCache);
         }
 
         @Test
@@ -381,4 +415,73 @@ class IdentityAndTrustServiceTest {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class VerifyJwtTokenWithCache {
+
+        private final IdentityAndTrustService cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedVerifier, mockedClient,
+                actionMock, trustedIssuerRegistryMock, Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                new VerifiedCredentialsCache(10, Duration.ofMinutes(5), Clock.systemUTC()));
+
+        @BeforeEach
+        void setup() {
+            var presentation = createPresentationBuilder()
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder()
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance()
+                                    .id(CONSUMER_DID)
+                                    .claim("some-claim", "some-val")
+                                    .build()))
+                            .build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(success());
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+        }
+
+        @Test
+        void shouldReuseVerifiedPresentations() {
+            when(trustedIssuerRegistryMock.getTrustedIssuers()).thenReturn(Set.of(TRUSTED_ISSUER));
+
+            var first = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+            var second = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded();
+            verify(mockedClient).requestPresentation(any(), any(), any());
+            verify(mockedVerifier).verifyPresentation(any());
+        }
+
+        @Test
+        void shouldValidateCachedCredentials_andDropThemWhenInvalid() {
+            when(trustedIssuerRegistryMock.getTrustedIssuers()).thenReturn(Set.of(TRUSTED_ISSUER), Set.of(), Set.of(TRUSTED_ISSUER));
+
+            var first = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+            var second = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+            var third = cachingService.verifyJwtToken(createJwt(CONSUMER_DID, EXPECTED_OWN_DID), verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isFailed();
+            assertThat(third).isSucceeded();
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+    }
+
+    private IdentityAndTrustService serviceWithRevocation(StatusListCache statusListCache) {
+        return new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedVerifier, mockedClient, actionMock, trustedIssuerRegistryMock,
+                Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                VerifiedCredentialsCache.disabled(), statusListCache);
+    }
+
+    private VerifiableCredential revocableCredential(Issuer issuer) {
+        var status = new CredentialStatus("https://issuer.com/status/1#1", "StatusList2021Entry", Map.of(
+                "statusPurpose", "revocation",
+                "statusListIndex", "1",
+                "statusListCredential", "https://issuer.com/status/1"));
+        return createCredentialBuilder()
+                .issuer(issuer)
+                .credentialSubjects(List.of(CredentialSubject.Builder.newInstance().id(CONSUMER_DID).claim("some-claim", "some-val").build()))
+                .credentialStatus(status)
+                .build();
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.identitytrust.validation.rules;
+
+import org.eclipse.edc.iam.identitytrust.revocation.StatusList;
+import org.eclipse.edc.iam.identitytrust.revocation.StatusListCache;
+import org.eclipse.edc.identitytrust.model.CredentialStatus;
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import static org.eclipse.edc.identitytrust.TestFunctions.TRUSTED_ISSUER;
+import static org.eclipse.edc.identitytrust.TestFunctions.createCredentialBuilder;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IsRevokedTest {
+
+    private static final String STATUS_LIST_URL = "https://issuer.com/status/1";
+    private final StatusListCache cache = mock();
+    private final IsRevoked rule = new IsRevoked(cache);
+
+    @Test
+    void shouldSucceed_whenStatusIsNotSet() {
+        when(cache.get(STATUS_LIST_URL, TRUSTED_ISSUER.id())).thenReturn(statusList(0b0100_0000));
+
+        assertThat(rule.apply(credential("revocation", "0"))).isSucceeded();
+    }
+
+    @Test
+    void shouldFail_whenRevoked() {
+        when(cache.get(STATUS_LIST_URL, TRUSTED_ISSUER.id())).thenReturn(statusList(0b0100_0000));
+
+        assertThat(rule.apply(credential("revocation", "1"))).isFailed()
+                .detail().isEqualTo("Credential 'test-credential' has been revoked");
+    }
+
+    @Test
+    void shouldFail_whenSuspended() {
+        when(cache.get(STATUS_LIST_URL, TRUSTED_ISSUER.id())).thenReturn(statusList(0b0100_0000));
+
+        assertThat(rule.apply(credential("suspension", "1"))).isFailed()
+                .detail().isEqualTo("Credential 'test-credential' has been suspended");
+    }
+
+    @Test
+    void shouldFail_whenIndexOutOfBounds() {
+        when(cache.get(STATUS_LIST_URL, TRUSTED_ISSUER.id())).thenReturn(statusList(0));
+
+        assertThat(rule.apply(credential("revocation", "8"))).isFailed();
+    }
+
+    @Test
+    void shouldFail_whenStatusListCannotBeFetched() {
+        when(cache.get(STATUS_LIST_URL, TRUSTED_ISSUER.id())).thenReturn(Result.failure("unreachable"));
+
+        assertThat(rule.apply(credential("revocation", "0"))).isFailed();
+    }
+
+    @Test
+    void shouldReadExpandedProperties() {
+        when(cache.get(STATUS_LIST_URL, TRUSTED_ISSUER.id())).thenReturn(statusList(0b1000_0000));
+        var status = new CredentialStatus("https://issuer.com/status/1#0", "https://w3id.org/vc/status-list#StatusList2021Entry", Map.of(
+                "https://w3id.org/vc/status-list#statusPurpose", List.of(Map.of("@value", "revocation")),
+                "https://w3id.org/vc/status-list#statusListIndex", List.of(Map.of("@value", "0")),
+                "https://w3id.org/vc/status-list#statusListCredential", List.of(Map.of("@value", STATUS_LIST_URL))));
+
+        assertThat(rule.apply(createCredentialBuilder().id("test-credential").credentialStatus(status).build())).isFailed();
+    }
+
+    @Test
+    void shouldSucceed_whenNoStatusListEntry() {
+        assertThat(rule.apply(createCredentialBuilder().build())).isSucceeded();
+        assertThat(rule.apply(createCredentialBuilder().credentialStatus(new CredentialStatus("id", "OtherStatus", Map.of())).build())).isSucceeded();
+
+        verify(cache, never()).get(any(), any());
+    }
+
+    @Test
+    void shouldSucceed_whenDisabled() {
+        assertThat(new IsRevoked(null).apply(credential("revocation", "1"))).isSucceeded();
+    }
+
+    private VerifiableCredential credential(String purpose, String index) {
+        var status = new CredentialStatus(STATUS_LIST_URL + "#" + index, "StatusList2021Entry", Map.of(
+                "statusPurpose", purpose,
+                "statusListIndex", index,
+                "statusListCredential", STATUS_LIST_URL));
+        return createCredentialBuilder().id("test-credential").credentialStatus(status).build();
+    }
+
+    private Result<StatusList> statusList(int firstByte) {
+        return StatusList.decode(encode(new byte[]{ (byte) firstByte }));
+    }
+
+    private String encode(byte[] bitstring) {
+        try (var output = new ByteArrayOutputStream()) {
+            try (var gzip = new GZIPOutputStream(output)) {
+                gzip.write(bitstring);
+            }
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(output.toByteArray());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
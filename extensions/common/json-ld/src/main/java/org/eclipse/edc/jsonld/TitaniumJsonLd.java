@@ -16,6 +16,8 @@ package org.eclipse.edc.jsonld;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.ActiveContext;
+import com.apicatalog.jsonld.context.cache.Cache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -32,12 +34,11 @@ import org.eclipse.edc.spi.result.Result;
 
 import java.net.URI;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,15 +52,22 @@ import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 
 /**
  * Implementation of the {@link JsonLd} interface that uses the Titanium library for all JSON-LD operations.
+ * <p>
+ * Context documents, processed remote contexts and the compaction context of every scope are cached across calls,
+ * the latter is rebuilt when a namespace or a context gets registered for the scope.
  */
 public class TitaniumJsonLd implements JsonLd {
     private static final Map<String, String> EMPTY_NAMESPACES = Collections.emptyMap();
 
     private static final Set<String> EMPTY_CONTEXTS = Collections.emptySet();
 
+    private static final int CONTEXT_CACHE_SIZE = 256;
+
     private final Monitor monitor;
-    private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
-    private final Map<String, Set<String>> scopedContexts = new HashMap<>();
+    private final Map<String, Map<String, String>> scopedNamespaces = new ConcurrentHashMap<>();
+    private final Map<String, Set<String>> scopedContexts = new ConcurrentHashMap<>();
+    private final Map<String, JsonDocument> compactionContexts = new ConcurrentHashMap<>();
+    private final SynchronizedLruCache<String, ActiveContext> contextCache = new SynchronizedLruCache<>(CONTEXT_CACHE_SIZE);
     private final CachedDocumentLoader documentLoader;
 
     public TitaniumJsonLd(Monitor monitor) {
@@ -76,7 +84,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             if (expanded.size() > 0) {
                 return Result.success(expanded.getJsonObject(0));
@@ -92,12 +100,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = compactionContexts.computeIfAbsent(scope, this::createContextDocument);
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
@@ -108,19 +113,41 @@ public class TitaniumJsonLd implements JsonLd {
 
     @Override
     public void registerNamespace(String prefix, String contextIri, String scope) {
-        var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
-        namespaces.put(prefix, contextIri);
+        scopedNamespaces.compute(scope, (k, namespaces) -> {
+            var updated = namespaces == null ? new LinkedHashMap<String, String>() : new LinkedHashMap<>(namespaces);
+            updated.put(prefix, contextIri);
+            return updated;
+        });
+        compactionContexts.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
-        var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
-        contexts.add(contextIri);
+        scopedContexts.compute(scope, (k, contexts) -> {
+            var updated = contexts == null ? new LinkedHashSet<String>() : new LinkedHashSet<>(contexts);
+            updated.add(contextIri);
+            return updated;
+        });
+        compactionContexts.clear();
     }
 
     @Override
     public void registerCachedDocument(String contextUrl, URI uri) {
         documentLoader.register(contextUrl, uri);
+        contextCache.clear();
+    }
+
+    private JsonLdOptions options() {
+        var options = new JsonLdOptions(documentLoader);
+        options.setContextCache(contextCache);
+        return options;
+    }
+
+    private JsonDocument createContextDocument(String scope) {
+        var jsonFactory = createBuilderFactory(Map.of());
+        return JsonDocument.of(jsonFactory.createObjectBuilder()
+                .add(CONTEXT, createContext(scope))
+                .build());
     }
 
     private JsonObject injectVocab(JsonObject json) {
@@ -177,8 +204,8 @@ public class TitaniumJsonLd implements JsonLd {
 
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, URI> uriCache = new HashMap<>();
-        private final Map<URI, Document> documentCache = new HashMap<>();
+        private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+        private final Map<URI, Document> documentCache = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
         private final Monitor monitor;
 
@@ -193,12 +220,13 @@ public class TitaniumJsonLd implements JsonLd {
 
         @Override
         public Document loadDocument(URI url, DocumentLoaderOptions options) throws JsonLdError {
-            var uri = Optional.of(url.toString())
-                    .map(uriCache::get)
-                    .orElse(url);
+            var uri = uriCache.getOrDefault(url.toString(), url);
 
-            return Optional.ofNullable(documentCache.get(uri))
-                    .orElse(loader.loadDocument(uri, options));
+            var document = documentCache.get(uri);
+            if (document != null) {
+                return document;
+            }
+            return loader.loadDocument(uri, options);
         }
 
         public void register(String contextUrl, URI uri) {
@@ -212,4 +240,40 @@ public class TitaniumJsonLd implements JsonLd {
 
     }
 
+    /**
+     * Thread-safe LRU implementation of the Titanium {@link Cache}, shared by all the processing calls.
+     */
+    private static class SynchronizedLruCache<K, V> implements Cache<K, V> {
+
+        private final Map<K, V> entries;
+
+        SynchronizedLruCache(int capacity) {
+            entries = new LinkedHashMap<>(capacity + 1, 1, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        @Override
+        public synchronized boolean containsKey(K key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public synchronized V get(K key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public synchronized void put(K key, V value) {
+            entries.put(key, value);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+    }
+
 }
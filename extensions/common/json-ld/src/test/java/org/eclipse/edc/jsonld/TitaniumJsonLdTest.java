@@ -141,6 +141,25 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_shouldUseNamespaceRegisteredAfterPreviousCompaction() {
+        var ns = "https://test.org/schema/";
+        var prefix = "customContext";
+        var expanded = createObjectBuilder()
+                .add(ns + "item", createObjectBuilder()
+                        .add(TYPE, ns + "TestItem")
+                        .add(ns + "key1", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value1").build()).build()))
+                .build();
+        var service = defaultService();
+
+        var first = service.compact(expanded);
+        service.registerNamespace(prefix, ns);
+        var second = service.compact(expanded);
+
+        assertThat(first).isSucceeded().satisfies(c -> assertThat(c.getJsonObject(ns + "item")).isNotNull());
+        assertThat(second).isSucceeded().satisfies(c -> assertThat(c.getJsonObject(prefix + ":item")).isNotNull());
+    }
+
     @Test
     void expandAndCompact_withCustomContext() {
         var context = "http://schema.org/";
@@ -24,9 +24,11 @@ dependencies {
     api(project(":spi:common:transaction-spi"))
     implementation(project(":core:common:util"))
     implementation(project(":spi:common:transaction-datasource-spi"))
+    implementation(libs.postgres)
 
 
     testImplementation(project(":core:common:junit"))
+    testImplementation(libs.awaitility)
     testFixturesImplementation(project(":spi:common:transaction-datasource-spi"))
     testFixturesImplementation(project(":core:common:junit"))
     testFixturesImplementation(libs.junit.jupiter.api)
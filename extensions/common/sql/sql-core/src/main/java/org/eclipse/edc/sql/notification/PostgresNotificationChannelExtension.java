@@ -0,0 +1,121 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.notification;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.sql.ConnectionFactory;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.Connection;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry.DEFAULT_DATASOURCE;
+
+/**
+ * Registers the {@link PostgresStateEntityNotificationChannel} when enabled, so that the state machines of all the
+ * replicas are woken up when entities are created or transitioned. When disabled the in-memory default is used.
+ */
+@Extension(value = PostgresNotificationChannelExtension.NAME)
+@Provides(StateEntityNotificationChannel.class)
+public class PostgresNotificationChannelExtension implements ServiceExtension {
+
+    public static final String NAME = "Postgres State Entity Notification Channel";
+
+    private static final String EDC_DATASOURCE_PREFIX = "edc.datasource";
+
+    @Setting(value = "Enables the Postgres LISTEN/NOTIFY based state machine wake-up notifications", type = "boolean", defaultValue = "false")
+    public static final String NOTIFICATION_ENABLED = "edc.sql.notification.enabled";
+
+    @Setting(value = "Name of the datasource used to send and receive notifications", defaultValue = DEFAULT_DATASOURCE)
+    public static final String NOTIFICATION_DATASOURCE = "edc.sql.notification.datasource";
+
+    @Setting(value = "Max time the listener waits for notifications on every poll", type = "int", defaultValue = "1000")
+    public static final String NOTIFICATION_POLL_TIMEOUT_MILLIS = "edc.sql.notification.poll-timeout-millis";
+
+    @Setting(value = "Time the listener waits before reconnecting after an error", type = "long", defaultValue = "5000")
+    public static final String NOTIFICATION_RECONNECT_DELAY_MILLIS = "edc.sql.notification.reconnect-delay-millis";
+
+    @Inject(required = false)
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject(required = false)
+    private TransactionContext transactionContext;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Inject
+    private ConnectionFactory connectionFactory;
+
+    private PostgresStateEntityNotificationChannel channel;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        if (!context.getSetting(NOTIFICATION_ENABLED, false)) {
+            return;
+        }
+
+        if (dataSourceRegistry == null || transactionContext == null) {
+            throw new EdcException(format("%s requires a DataSourceRegistry and a TransactionContext", NAME));
+        }
+
+        var dataSourceName = context.getSetting(NOTIFICATION_DATASOURCE, DEFAULT_DATASOURCE);
+        channel = new PostgresStateEntityNotificationChannel(transactionContext, dataSourceRegistry, dataSourceName,
+                queryExecutor, listenerConnectionSupplier(context, dataSourceName), context.getMonitor(),
+                context.getSetting(NOTIFICATION_POLL_TIMEOUT_MILLIS, 1000),
+                context.getSetting(NOTIFICATION_RECONNECT_DELAY_MILLIS, 5000L));
+
+        context.registerService(StateEntityNotificationChannel.class, channel);
+    }
+
+    @Override
+    public void start() {
+        if (channel != null) {
+            channel.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (channel != null) {
+            channel.stop();
+        }
+    }
+
+    private Supplier<Connection> listenerConnectionSupplier(ServiceExtensionContext context, String dataSourceName) {
+        var config = context.getConfig(EDC_DATASOURCE_PREFIX + "." + dataSourceName);
+        var jdbcUrl = Objects.requireNonNull(config.getString("url"));
+        var properties = new Properties();
+        properties.putAll(config.getRelativeEntries());
+        return () -> connectionFactory.create(jdbcUrl, properties);
+    }
+}
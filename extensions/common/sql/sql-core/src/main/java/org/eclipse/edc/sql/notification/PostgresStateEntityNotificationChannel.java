@@ -0,0 +1,198 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.notification;
+
+import org.eclipse.edc.spi.entity.StateEntityNotificationChannel;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+
+import static java.lang.String.format;
+
+/**
+ * {@link StateEntityNotificationChannel} based on the PostgreSQL LISTEN/NOTIFY feature, it permits to wake up the
+ * state machines of all the connector replicas that share the same database.
+ * <p>
+ * Publishers call this channel once the state change has been committed. Every notification is then sent with
+ * {@code pg_notify} in a transaction of its own, with the state code as payload, and it is delivered to the listeners
+ * when that transaction commits.
+ * They are received by a single background thread that holds a dedicated connection, obtained through the
+ * {@code listenerConnectionSupplier}, that must not be a pooled one.
+ * After every (re)connection all the subscribers are notified with {@link #ANY_STATE}, because notifications could
+ * have been lost meanwhile.
+ */
+public class PostgresStateEntityNotificationChannel implements StateEntityNotificationChannel {
+
+    private static final String NOTIFY_STATEMENT = "SELECT pg_notify(?, ?)";
+    private static final String LISTEN_STATEMENT = "LISTEN \"%s\"";
+
+    private final Map<String, List<IntConsumer>> listeners = new ConcurrentHashMap<>();
+    private final Set<String> listening = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean active = new AtomicBoolean();
+    private final TransactionContext transactionContext;
+    private final DataSourceRegistry dataSourceRegistry;
+    private final String dataSourceName;
+    private final QueryExecutor queryExecutor;
+    private final Supplier<Connection> listenerConnectionSupplier;
+    private final Monitor monitor;
+    private final int pollTimeoutMillis;
+    private final long reconnectDelayMillis;
+    private ExecutorService executor;
+
+    public PostgresStateEntityNotificationChannel(TransactionContext transactionContext, DataSourceRegistry dataSourceRegistry,
+                                                  String dataSourceName, QueryExecutor queryExecutor,
+                                                  Supplier<Connection> listenerConnectionSupplier, Monitor monitor,
+                                                  int pollTimeoutMillis, long reconnectDelayMillis) {
+        this.transactionContext = transactionContext;
+        this.dataSourceRegistry = dataSourceRegistry;
+        this.dataSourceName = dataSourceName;
+        this.queryExecutor = queryExecutor;
+        this.listenerConnectionSupplier = listenerConnectionSupplier;
+        this.monitor = monitor;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.reconnectDelayMillis = reconnectDelayMillis;
+    }
+
+    @Override
+    public void publish(String topic, int state) {
+        try {
+            transactionContext.execute(() -> {
+                try (var connection = getConnection()) {
+                    queryExecutor.single(connection, true, rs -> true, NOTIFY_STATEMENT, topic, String.valueOf(state));
+                } catch (SQLException e) {
+                    throw new EdcPersistenceException(e);
+                }
+            });
+        } catch (Exception e) {
+            monitor.warning(format("Cannot publish notification on topic %s", topic), e);
+        }
+    }
+
+    @Override
+    public void subscribe(String topic, IntConsumer listener) {
+        listeners.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    /**
+     * Start listening to notifications.
+     */
+    public void start() {
+        active.set(true);
+        executor = Executors.newSingleThreadExecutor(r -> {
+            var thread = Executors.defaultThreadFactory().newThread(r);
+            thread.setName("PostgresStateEntityNotificationChannel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.submit(this::listen);
+    }
+
+    /**
+     * Stop listening to notifications.
+     */
+    public void stop() {
+        active.set(false);
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    private void listen() {
+        while (active.get()) {
+            try (var connection = listenerConnectionSupplier.get()) {
+                var pgConnection = connection.unwrap(PGConnection.class);
+                listening.clear();
+                listenToNewTopics(connection);
+                listeners.keySet().forEach(topic -> dispatch(topic, ANY_STATE));
+
+                while (active.get()) {
+                    listenToNewTopics(connection);
+                    var notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                    if (notifications != null) {
+                        Arrays.stream(notifications).map(Notification::of).distinct().forEach(it -> dispatch(it.topic(), it.state()));
+                    }
+                }
+            } catch (Exception e) {
+                if (active.get()) {
+                    monitor.warning(format("Notification listener failed, reconnecting in %s ms", reconnectDelayMillis), e);
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void listenToNewTopics(Connection connection) throws SQLException {
+        for (var topic : listeners.keySet()) {
+            if (!listening.contains(topic)) {
+                try (var statement = connection.createStatement()) {
+                    statement.execute(format(LISTEN_STATEMENT, topic.replace("\"", "\"\"")));
+                }
+                listening.add(topic);
+            }
+        }
+    }
+
+    private void dispatch(String topic, int state) {
+        listeners.getOrDefault(topic, List.of()).forEach(listener -> {
+            try {
+                listener.accept(state);
+            } catch (Exception e) {
+                monitor.warning(format("Notification listener on topic %s failed", topic), e);
+            }
+        });
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(reconnectDelayMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            active.set(false);
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        return dataSourceRegistry.resolve(dataSourceName).getConnection();
+    }
+
+    private record Notification(String topic, int state) {
+
+        static Notification of(PGNotification notification) {
+            try {
+                return new Notification(notification.getName(), Integer.parseInt(notification.getParameter()));
+            } catch (NumberFormatException e) {
+                return new Notification(notification.getName(), ANY_STATE);
+            }
+        }
+    }
+}
@@ -35,6 +35,7 @@ public class SqlQueryStatement {
     private static final String OFFSET = "OFFSET ?";
 
     private static final String ORDER_BY_TOKEN = "ORDER BY %s %s";
+    private static final String FOR_UPDATE_SKIP_LOCKED_TOKEN = " FOR UPDATE OF %s SKIP LOCKED";
 
     private final String selectStatement;
     private final List<String> whereClauses = new ArrayList<>();
@@ -44,6 +45,7 @@ public class SqlQueryStatement {
     private CriterionToWhereClauseConverter criterionToWhereConditionConverter;
     private SortFieldConverter sortFieldConverter;
     private String orderByClause = "";
+    private String lockClause = "";
 
     /**
      * Initializes this SQL Query Statement.
@@ -100,6 +102,7 @@ public class SqlQueryStatement {
                 orderByClause +
                 LIMIT +
                 OFFSET +
+                lockClause +
                 ";";
     }
 
@@ -128,6 +131,20 @@ public class SqlQueryStatement {
         return this;
     }
 
+    /**
+     * Locks the selected rows of the given table for the rest of the current transaction, skipping rows that are
+     * already locked by other transactions ({@code FOR UPDATE OF ... SKIP LOCKED}). This permits multiple concurrent
+     * readers to claim disjoint sets of rows without blocking each other.
+     *
+     * @param tableName the table whose rows should be locked. Must be part of the FROM clause and must not be on the
+     *                  nullable side of an outer join.
+     * @return self.
+     */
+    public SqlQueryStatement forUpdateSkipLocked(String tableName) {
+        lockClause = format(FOR_UPDATE_SKIP_LOCKED_TOKEN, tableName);
+        return this;
+    }
+
     /**
      * Add where clause. If it contains multiple clauses better wrap it with parenthesis
      *
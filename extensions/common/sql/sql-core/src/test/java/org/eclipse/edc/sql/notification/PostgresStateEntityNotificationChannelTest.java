@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.notification;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.spi.entity.StateEntityNotificationChannel.ANY_STATE;
+import static org.mockito.Mockito.mock;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresStateEntityNotificationChannelTest {
+
+    private PostgresStateEntityNotificationChannel channel;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) {
+        channel = new PostgresStateEntityNotificationChannel(extension.getTransactionContext(), extension.getDataSourceRegistry(),
+                extension.getDatasourceName(), queryExecutor, extension::getConnection, mock(Monitor.class), 100, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.stop();
+    }
+
+    @Test
+    void shouldDispatchNotificationToTopicSubscribers() {
+        var topicStates = new CopyOnWriteArrayList<Integer>();
+        var otherTopicStates = new CopyOnWriteArrayList<Integer>();
+        channel.subscribe("TestEntity", topicStates::add);
+        channel.subscribe("OtherEntity", otherTopicStates::add);
+        channel.start();
+        await().untilAsserted(() -> assertThat(topicStates).containsExactly(ANY_STATE));
+        var otherTopicCallsBefore = otherTopicStates.size();
+
+        channel.publish("TestEntity", 100);
+
+        await().untilAsserted(() -> assertThat(topicStates).contains(100));
+        assertThat(otherTopicStates).hasSize(otherTopicCallsBefore);
+    }
+
+    @Test
+    void shouldListenToTopicsSubscribedAfterStart() {
+        var calls = new AtomicInteger();
+        channel.start();
+
+        channel.subscribe("TestEntity", state -> calls.incrementAndGet());
+
+        await().untilAsserted(() -> {
+            channel.publish("TestEntity", 100);
+            assertThat(calls).hasPositiveValue();
+        });
+    }
+}
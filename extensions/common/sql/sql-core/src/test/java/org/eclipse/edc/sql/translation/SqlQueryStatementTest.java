@@ -114,6 +114,15 @@ class SqlQueryStatementTest {
         assertThat(t.getParameters()).containsExactly("testid1", customParameter, 50, 0);
     }
 
+    @Test
+    void forUpdateSkipLocked() {
+        var t = new SqlQueryStatement(SELECT_STATEMENT, 80, 20)
+                .forUpdateSkipLocked("test-table");
+
+        assertThat(t.getQueryAsString()).isEqualToIgnoringCase(SELECT_STATEMENT + " LIMIT ? OFFSET ? FOR UPDATE OF test-table SKIP LOCKED;");
+        assertThat(t.getParameters()).containsExactly(80, 20);
+    }
+
     private QuerySpec.Builder queryBuilder(Criterion... criterion) {
         return QuerySpec.Builder.newInstance().filter(List.of(criterion));
     }
@@ -16,7 +16,10 @@ package org.eclipse.edc.sql.lease;
 
 import org.eclipse.edc.sql.statement.SqlStatements;
 
+import java.util.stream.Stream;
+
 import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
 
 /**
  * Encapsulates statements and table/column names to manipulate lease entities.
@@ -30,6 +33,58 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Statement to insert multiple leases at once. Parameters are the lease id, the lease holder, the lease timestamp
+     * and the lease duration, repeated for every lease.
+     *
+     * @param count the number of leases to insert.
+     * @return the insert statement.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        var values = Stream.generate(() -> "(?, ?, ?, ?)").limit(count).collect(joining(", "));
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES %s;", getLeaseTableName(),
+                getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(), values);
+    }
+
+    /**
+     * Statement to assign leases to multiple (currently not leased) entities at once. Parameters are the entity id and
+     * the lease id, repeated for every entity. {@link #updateLeasesTemplate(String, String, int)} builds it for
+     * dialects that support {@code UPDATE ... FROM (VALUES ...)}.
+     *
+     * @param count the number of entities to update.
+     * @return the update statement.
+     */
+    String getUpdateLeasesTemplate(int count);
+
+    /**
+     * Statement to delete the expired leases of multiple entities at once. Parameters are the entity ids followed by
+     * the current timestamp. {@link #deleteExpiredLeasesTemplate(String, String, int)} builds it for the given entity
+     * table.
+     *
+     * @param count the number of entities.
+     * @return the delete statement.
+     */
+    String getDeleteExpiredLeasesTemplate(int count);
+
+    /**
+     * Builds the {@link #getUpdateLeasesTemplate(int)} for the given entity table.
+     */
+    default String updateLeasesTemplate(String entityTableName, String entityIdColumn, int count) {
+        var values = Stream.generate(() -> "(?, ?)").limit(count).collect(joining(", "));
+        return format("UPDATE %s SET %s = l.lease_id FROM (VALUES %s) AS l(entity_id, lease_id) WHERE %s.%s = l.entity_id AND %s.%s IS NULL;",
+                entityTableName, getLeaseIdColumn(), values, entityTableName, entityIdColumn, entityTableName, getLeaseIdColumn());
+    }
+
+    /**
+     * Builds the {@link #getDeleteExpiredLeasesTemplate(int)} for the given entity table.
+     */
+    default String deleteExpiredLeasesTemplate(String entityTableName, String entityIdColumn, int count) {
+        var placeholders = Stream.generate(() -> "?").limit(count).collect(joining(", "));
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), entityTableName, entityIdColumn, placeholders,
+                getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -26,6 +26,8 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -101,6 +103,48 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    /**
+     * Acquires leases for multiple entities with a fixed number of statements, regardless of the number of entities:
+     * expired leases are deleted, the new leases are inserted and assigned to the entities in bulk.
+     * The entities are expected to be locked by the current transaction (e.g. selected with
+     * {@code FOR UPDATE SKIP LOCKED}), otherwise concurrent lease attempts could interleave.
+     *
+     * @param entityIds The IDs of the entities to lease.
+     * @throws IllegalStateException if any of the entities is currently leased.
+     */
+    public void acquireLeases(List<String> entityIds) {
+        if (entityIds.isEmpty()) {
+            return;
+        }
+
+        trxContext.execute(() -> {
+            var now = clock.millis();
+            var count = entityIds.size();
+
+            //clean out expired leases if present
+            var deleteParams = new ArrayList<Object>(entityIds);
+            deleteParams.add(now);
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(count), deleteParams.toArray());
+
+            // create new leases in DB
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+            var leaseParams = new ArrayList<>(count * 4);
+            var updateParams = new ArrayList<>(count * 2);
+            for (var entityId : entityIds) {
+                var id = UUID.randomUUID().toString();
+                leaseParams.addAll(List.of(id, leaseHolder, now, duration));
+                updateParams.addAll(List.of(entityId, id));
+            }
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(count), leaseParams.toArray());
+
+            //update entities with leases -> effectively lease entities
+            var updated = queryExecutor.execute(connection, statements.getUpdateLeasesTemplate(count), updateParams.toArray());
+            if (updated != count) {
+                throw new IllegalStateException("Entity is currently leased!");
+            }
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
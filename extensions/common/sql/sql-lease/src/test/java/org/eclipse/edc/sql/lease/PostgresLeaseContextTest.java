@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -175,6 +176,54 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        insertTestEntity("id3", connection);
+
+        leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(isLeased("id3", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .satisfies(lease -> assertThat(lease.getLeasedBy()).isEqualTo(LEASE_HOLDER))
+                .extracting(SqlLease::getLeaseId).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+    }
+
+    @Test
+    void acquireLeases_emptyList_shouldDoNothing() {
+        leaseContext.acquireLeases(List.of());
+        //should not throw an exception
+    }
+
+    @Test
+    void acquireLeases_whenOneIsLeased_throwsException(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id2");
+
+        assertThatThrownBy(() -> leaseContext.acquireLeases(List.of("id1", "id2"))).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldDeleteOldLeaseAndAcquireNewLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var oldLeaseId = leaseContext.getLease("id1").getLeaseId();
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        var newLease = twoMinutesAheadContext.getLease("id1");
+        assertThat(newLease).isNotNull();
+        assertThat(newLease.getLeaseId()).isNotEqualTo(oldLeaseId);
+        assertThat(newLease.getLeasedBy()).isEqualTo(LEASE_HOLDER);
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -232,6 +281,16 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getUpdateLeasesTemplate(int count) {
+            return updateLeasesTemplate(getEntityTableName(), "id", count);
+        }
+
+        @Override
+        public String getDeleteExpiredLeasesTemplate(int count) {
+            return deleteExpiredLeasesTemplate(getEntityTableName(), "id", count);
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
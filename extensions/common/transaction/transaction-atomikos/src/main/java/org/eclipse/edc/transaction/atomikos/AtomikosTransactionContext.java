@@ -26,6 +26,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import static jakarta.transaction.Status.STATUS_ACTIVE;
+import static jakarta.transaction.Status.STATUS_COMMITTED;
 import static jakarta.transaction.Status.STATUS_MARKED_ROLLBACK;
 
 /**
@@ -77,6 +78,39 @@ public class AtomikosTransactionContext implements TransactionContext {
         }
     }
 
+    @Override
+    public void afterCommit(Runnable callback) {
+        if (transactionManager == null) {
+            throw new EdcException("Transaction context was not initialized");
+        }
+        try {
+            var transaction = transactionManager.getTransaction();
+            if (transaction == null) {
+                callback.run();
+                return;
+            }
+            transaction.registerSynchronization(new Synchronization() {
+                @Override
+                public void beforeCompletion() {
+
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_COMMITTED) {
+                        try {
+                            callback.run();
+                        } catch (Exception e) {
+                            monitor.severe("Error running after commit callback", e);
+                        }
+                    }
+                }
+            });
+        } catch (SystemException | RollbackException e) {
+            throw new EdcException(e);
+        }
+    }
+
     @Override
     public <T> T execute(ResultTransactionBlock<T> block) {
         var startedTransaction = false;
@@ -51,6 +51,16 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         transaction.registerSynchronization(sync);
     }
 
+    @Override
+    public void afterCommit(Runnable callback) {
+        var transaction = transactions.get();
+        if (transaction == null) {
+            callback.run();
+        } else {
+            transaction.registerAfterCommit(callback);
+        }
+    }
+
     @Override
     public void execute(TransactionBlock block) {
         execute((ResultTransactionBlock<Void>) () -> {
@@ -96,11 +106,15 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                         try {
                             localTransactionResource.commit();
                         } catch (Exception e) {
+                            transaction.setRollbackOnly();
                             monitor.severe("Error committing resource", e);
                         }
                     });
                 }
                 transactions.remove();
+                if (!transaction.isRollbackOnly()) {
+                    transaction.getAfterCommitCallbacks().forEach(this::runAfterCommit);
+                }
             }
         }
     }
@@ -111,9 +125,18 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
     }
 
 
+    private void runAfterCommit(Runnable callback) {
+        try {
+            callback.run();
+        } catch (Exception e) {
+            monitor.severe("Error running after commit callback", e);
+        }
+    }
+
     private static class Transaction {
         private boolean rollbackOnly = false;
         private List<TransactionSynchronization> synchronizations;  // lazy instantiate the collection to avoid object creation if not needed
+        private List<Runnable> afterCommitCallbacks;
 
         boolean isRollbackOnly() {
             return rollbackOnly;
@@ -133,5 +156,16 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             }
             synchronizations.add(sync);
         }
+
+        List<Runnable> getAfterCommitCallbacks() {
+            return afterCommitCallbacks == null ? emptyList() : afterCommitCallbacks;
+        }
+
+        void registerAfterCommit(Runnable callback) {
+            if (afterCommitCallbacks == null) {
+                afterCommitCallbacks = new ArrayList<>();
+            }
+            afterCommitCallbacks.add(callback);
+        }
     }
 }
@@ -24,9 +24,11 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 class LocalTransactionContextTest {
     private LocalTransactionContext transactionContext;
@@ -154,6 +156,41 @@ class LocalTransactionContextTest {
         verify(sync, times(1)).beforeCompletion();
     }
 
+    @Test
+    void verifyAfterCommit() {
+        var callback = mock(Runnable.class);
+
+        transactionContext.execute(() -> {
+            transactionContext.afterCommit(callback);
+            verifyNoInteractions(callback);
+        });
+
+        var inOrder = inOrder(dsResource, callback);
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(callback).run();
+    }
+
+    @Test
+    void verifyAfterCommit_notCalledOnRollback() {
+        var callback = mock(Runnable.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.afterCommit(callback);
+            throw new RuntimeException();
+        }));
+
+        verifyNoInteractions(callback);
+    }
+
+    @Test
+    void verifyAfterCommit_calledRightAwayWithoutTransaction() {
+        var callback = mock(Runnable.class);
+
+        transactionContext.afterCommit(callback);
+
+        verify(callback).run();
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
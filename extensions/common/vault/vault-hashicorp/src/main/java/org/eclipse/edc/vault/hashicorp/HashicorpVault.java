@@ -22,7 +22,8 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Implements a vault backed by Hashicorp Vault.
+ * Implements a vault backed by Hashicorp Vault. Secrets can be resolved through a {@link HashicorpVaultSecretCache},
+ * which the stored and deleted secrets are written through.
  */
 public class HashicorpVault implements Vault {
 
@@ -30,33 +31,71 @@ public class HashicorpVault implements Vault {
     private final HashicorpVaultClient hashicorpVaultClient;
     @NotNull
     private final Monitor monitor;
+    @Nullable
+    private final HashicorpVaultSecretCache cache;
+    @NotNull
+    private final HashicorpVaultMetrics metrics;
 
     public HashicorpVault(@NotNull HashicorpVaultClient hashicorpVaultClient, @NotNull Monitor monitor) {
+        this(hashicorpVaultClient, monitor, null, new HashicorpVaultMetrics());
+    }
+
+    HashicorpVault(@NotNull HashicorpVaultClient hashicorpVaultClient, @NotNull Monitor monitor,
+                   @Nullable HashicorpVaultSecretCache cache, @NotNull HashicorpVaultMetrics metrics) {
         this.hashicorpVaultClient = hashicorpVaultClient;
         this.monitor = monitor;
+        this.cache = cache;
+        this.metrics = metrics;
     }
 
     @Override
     public @Nullable String resolveSecret(String key) {
-        var result = hashicorpVaultClient.getSecretValue(key);
-
-        if (result.failed()) {
-            monitor.debug("Failed to resolve secret '%s': %s".formatted(key, result.getFailureMessages()));
-            return null;
-        } 
-        
-        return result.getContent();
+        if (cache != null) {
+            return cache.resolve(key, this::fetchSecret);
+        }
+        var result = fetchSecret(key);
+        return result.succeeded() ? result.getContent() : null;
     }
 
     @Override
     public Result<Void> storeSecret(String key, String value) {
         var result = hashicorpVaultClient.setSecret(key, value);
 
+        if (result.succeeded() && cache != null) {
+            cache.put(key, value);
+        }
         return result.succeeded() ? Result.success() : Result.failure(result.getFailureMessages());
     }
 
     @Override
     public Result<Void> deleteSecret(String key) {
-        return hashicorpVaultClient.destroySecret(key);
+        var result = hashicorpVaultClient.destroySecret(key);
+
+        if (result.succeeded() && cache != null) {
+            cache.putMissing(key);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the Vault calls latency and the cache hit rate.
+     *
+     * @return the metrics.
+     */
+    public HashicorpVaultMetrics getMetrics() {
+        return metrics;
+    }
+
+    private Result<String> fetchSecret(String key) {
+        var start = System.nanoTime();
+        var result = hashicorpVaultClient.getSecretValue(key);
+        metrics.recordCall(System.nanoTime() - start, result.succeeded());
+
+        if (result.failed()) {
+            monitor.debug("Failed to resolve secret '%s': %s".formatted(key, result.getFailureMessages()));
+        } else if (result.getContent() == null) {
+            monitor.debug("Secret '%s' not found".formatted(key));
+        }
+        return result;
     }
 }
@@ -61,6 +61,13 @@ public class HashicorpVaultClient {
         this.objectMapper = objectMapper;
     }
 
+    /**
+     * Reads the value of a secret.
+     *
+     * @param key the secret key.
+     * @return the secret value, null if the Vault answered that the secret doesn't exist, failure if the Vault could not
+     *         be queried.
+     */
     public Result<String> getSecretValue(@NotNull String key) {
         var requestUri = getSecretUrl(key, VAULT_SECRET_DATA_PATH);
         var headers = getHeaders();
@@ -68,12 +75,11 @@ public class HashicorpVaultClient {
 
         try (var response = httpClient.execute(request)) {
 
-            if (response.isSuccessful()) {
-                if (response.code() == HTTP_CODE_404) {
-                    return Result.failure(
-                            String.format(CALL_UNSUCCESSFUL_ERROR_TEMPLATE, "Secret not found"));
-                }
+            if (response.code() == HTTP_CODE_404) {
+                return Result.success(null);
+            }
 
+            if (response.isSuccessful()) {
                 var responseBody = response.body();
                 if (responseBody == null) {
                     return Result.failure(String.format(CALL_UNSUCCESSFUL_ERROR_TEMPLATE, "Response body empty"));
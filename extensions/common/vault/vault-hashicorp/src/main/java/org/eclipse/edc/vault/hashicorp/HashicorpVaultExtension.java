@@ -19,12 +19,35 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.CertificateResolver;
 import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_ENABLED;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_ENABLED_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_MAX_ENTRIES;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_MAX_ENTRIES_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_NEGATIVE_TTL_SECONDS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_REFRESH_THREADS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_REFRESH_THREADS_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_STALE_SECONDS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_STALE_SECONDS_DEFAULT;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_TTL_OVERRIDES;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_TTL_SECONDS;
+import static org.eclipse.edc.vault.hashicorp.model.Constants.VAULT_CACHE_TTL_SECONDS_DEFAULT;
+
 @Provides({ CertificateResolver.class })
 @Extension(value = HashicorpVaultExtension.NAME)
 public class HashicorpVaultExtension implements ServiceExtension {
@@ -39,13 +62,26 @@ public class HashicorpVaultExtension implements ServiceExtension {
     @Inject
     private TypeManager typeManager;
 
-    private Vault vault;
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private HashicorpVault vault;
+    private ExecutorService refreshExecutor;
+    private Monitor monitor;
 
     @Override
     public String name() {
         return NAME;
     }
 
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+    }
+
     @Provider
     public Vault vault() {
         return vault;
@@ -57,14 +93,53 @@ public class HashicorpVaultExtension implements ServiceExtension {
             var config = HashicorpVaultClientConfig.create(context);
             var client = new HashicorpVaultClient(config, httpClient, typeManager.getMapper());
 
-            vault = new HashicorpVault(client, context.getMonitor());
+            var metrics = new HashicorpVaultMetrics();
+            var cache = context.getSetting(VAULT_CACHE_ENABLED, VAULT_CACHE_ENABLED_DEFAULT) ? secretCache(context, metrics) : null;
+            vault = new HashicorpVault(client, context.getMonitor(), cache, metrics);
         }
         return vault;
     }
 
+    /**
+     * Provides the metrics of the Vault calls and of the secret cache, so that they can be exported.
+     */
+    @Provider
+    public HashicorpVaultMetrics hashicorpVaultMetrics(ServiceExtensionContext context) {
+        hashicorpVault(context);
+        return vault.getMetrics();
+    }
+
     @Provider
     public CertificateResolver vaultResolver(ServiceExtensionContext context) {
         return new HashicorpCertificateResolver(hashicorpVault(context), context.getMonitor().withPrefix("HashicorpVaultCertificateResolver"));
     }
 
+    @Override
+    public void shutdown() {
+        if (vault != null) {
+            monitor.info("Hashicorp Vault metrics: " + vault.getMetrics());
+        }
+        if (refreshExecutor != null) {
+            refreshExecutor.shutdownNow();
+        }
+    }
+
+    private HashicorpVaultSecretCache secretCache(ServiceExtensionContext context, HashicorpVaultMetrics metrics) {
+        var ttl = Duration.ofSeconds(Math.max(1, context.getSetting(VAULT_CACHE_TTL_SECONDS, VAULT_CACHE_TTL_SECONDS_DEFAULT)));
+        var negativeTtl = Duration.ofSeconds(Math.max(0, context.getSetting(VAULT_CACHE_NEGATIVE_TTL_SECONDS, VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT)));
+        var staleTtl = Duration.ofSeconds(Math.max(0, context.getSetting(VAULT_CACHE_STALE_SECONDS, VAULT_CACHE_STALE_SECONDS_DEFAULT)));
+        var maxEntries = Math.max(1, context.getSetting(VAULT_CACHE_MAX_ENTRIES, VAULT_CACHE_MAX_ENTRIES_DEFAULT));
+        var threads = Math.max(1, context.getSetting(VAULT_CACHE_REFRESH_THREADS, VAULT_CACHE_REFRESH_THREADS_DEFAULT));
+
+        Map<String, Duration> ttlByPrefix = new HashMap<>();
+        context.getConfig(VAULT_CACHE_TTL_OVERRIDES).partition().forEach(override -> {
+            var prefix = override.getString("prefix");
+            var seconds = override.getLong("ttl.seconds");
+            ttlByPrefix.put(prefix, Duration.ofSeconds(Math.max(1, seconds)));
+        });
+
+        refreshExecutor = executorInstrumentation.instrument(Executors.newFixedThreadPool(threads), "hashicorp-vault-refresh");
+        return new HashicorpVaultSecretCache(ttl, negativeTtl, staleTtl, maxEntries, ttlByPrefix, refreshExecutor, clock,
+                context.getMonitor().withPrefix("HashicorpVaultSecretCache"), metrics);
+    }
 }
\ No newline at end of file
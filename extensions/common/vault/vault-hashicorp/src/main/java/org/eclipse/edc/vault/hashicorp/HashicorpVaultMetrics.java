@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.vault.hashicorp;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the calls made to the Hashicorp Vault and their latency, and the lookups served by the secret cache.
+ */
+public class HashicorpVaultMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failedCalls = new LongAdder();
+    private final LongAdder totalCallNanos = new LongAdder();
+    private final LongAccumulator maxCallNanos = new LongAccumulator(Math::max, 0);
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong staleHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    void recordCall(long nanos, boolean succeeded) {
+        calls.increment();
+        if (!succeeded) {
+            failedCalls.increment();
+        }
+        totalCallNanos.add(nanos);
+        maxCallNanos.accumulate(nanos);
+    }
+
+    void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    void recordStaleHit() {
+        staleHits.incrementAndGet();
+    }
+
+    void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getFailedCalls() {
+        return failedCalls.sum();
+    }
+
+    public Duration getAverageCallLatency() {
+        var count = calls.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalCallNanos.sum() / count);
+    }
+
+    public Duration getMaxCallLatency() {
+        return Duration.ofNanos(maxCallNanos.get());
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the lookups served with an expired value while it was being refreshed in the background.
+     *
+     * @return the stale hits.
+     */
+    public long getStaleHits() {
+        return staleHits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    /**
+     * Returns the ratio of the lookups served by the cache, stale ones included.
+     *
+     * @return the hit rate, between 0 and 1.
+     */
+    public double getHitRate() {
+        var served = hits.get() + staleHits.get();
+        var total = served + misses.get();
+        return total == 0 ? 0 : (double) served / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d vault calls (%d failed, avg %d ms, max %d ms), cache hit rate %.2f (%d hits, %d stale, %d misses)",
+                getCalls(), getFailedCalls(), getAverageCallLatency().toMillis(), getMaxCallLatency().toMillis(),
+                getHitRate(), getHits(), getStaleHits(), getMisses());
+    }
+}
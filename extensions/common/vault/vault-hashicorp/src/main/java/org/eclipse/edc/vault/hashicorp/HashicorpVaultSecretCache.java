@@ -0,0 +1,201 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.concurrency.SingleFlight;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of the secrets resolved from the Hashicorp Vault.
+ * <p>
+ * A secret is served from the cache until its time-to-live elapses, which can be set per key prefix. Secrets the Vault
+ * reported as missing are cached as well, for a shorter time-to-live, so that a missing secret does not translate into a
+ * Vault call per lookup. Failed loads, e.g. during a Vault outage, are never cached, so a secret becomes available as
+ * soon as the Vault is back. Once expired, a secret is still served for a grace period while it is refreshed in the
+ * background; if the refresh fails, the expired value keeps on being served until the grace period ends. Concurrent
+ * loads of the same key are collapsed into a single Vault call.
+ * <p>
+ * Writes go through the cache: a stored secret replaces the cached value and a deleted secret is cached as missing, so
+ * that a load that started before the write cannot bring back the previous value.
+ */
+class HashicorpVaultSecretCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final SingleFlight<String, String> loads = new SingleFlight<>();
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration staleTtl;
+    private final int maxEntries;
+    private final Map<String, Duration> ttlByPrefix;
+    private final Executor executor;
+    private final Clock clock;
+    private final Monitor monitor;
+    private final HashicorpVaultMetrics metrics;
+
+    /**
+     * Constructor.
+     *
+     * @param ttl time-to-live of the resolved secrets.
+     * @param negativeTtl time-to-live of the secrets that could not be resolved.
+     * @param staleTtl time an expired secret is still served while it is refreshed.
+     * @param maxEntries max number of cached secrets.
+     * @param ttlByPrefix time-to-live of the secrets whose key starts with the prefix, the longest prefix wins.
+     * @param executor the executor the background refreshes run on.
+     * @param clock the clock.
+     * @param monitor the monitor.
+     * @param metrics the metrics the lookups are counted in.
+     */
+    HashicorpVaultSecretCache(Duration ttl, Duration negativeTtl, Duration staleTtl, int maxEntries, Map<String, Duration> ttlByPrefix,
+                              Executor executor, Clock clock, Monitor monitor, HashicorpVaultMetrics metrics) {
+        this.ttl = ttl;
+        this.negativeTtl = negativeTtl;
+        this.staleTtl = staleTtl;
+        this.maxEntries = maxEntries;
+        this.ttlByPrefix = Map.copyOf(ttlByPrefix);
+        this.executor = executor;
+        this.clock = clock;
+        this.monitor = monitor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the cached secret, loading it if needed.
+     *
+     * @param key the secret key.
+     * @param loader loads the secret from the Vault, returns null content if the secret doesn't exist, failure if it
+     *               cannot be loaded.
+     * @return the secret, null if it doesn't exist or cannot be loaded.
+     */
+    @Nullable
+    String resolve(String key, Function<String, Result<String>> loader) {
+        var now = clock.instant();
+        var entry = entries.get(key);
+        if (entry != null) {
+            if (now.isBefore(entry.expiresAt)) {
+                metrics.recordHit();
+                return entry.value;
+            }
+            if (entry.value != null && now.isBefore(entry.staleUntil)) {
+                metrics.recordStaleHit();
+                refresh(key, entry, loader);
+                return entry.value;
+            }
+        }
+
+        metrics.recordMiss();
+        return loads.execute(key, () -> {
+            var result = loader.apply(key);
+            if (result.failed()) {
+                return null;
+            }
+            store(key, entry, result.getContent());
+            return result.getContent();
+        });
+    }
+
+    /**
+     * Caches a secret that has just been written to the Vault.
+     */
+    void put(String key, String value) {
+        entries.put(key, newEntry(key, value));
+        evictIfFull();
+    }
+
+    /**
+     * Caches a secret that has just been deleted from the Vault as missing.
+     */
+    void putMissing(String key) {
+        entries.put(key, newEntry(key, null));
+        evictIfFull();
+    }
+
+    void invalidate(String key) {
+        entries.remove(key);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void refresh(String key, Entry stale, Function<String, Result<String>> loader) {
+        loads.executeAsync(key, () -> {
+            var result = loader.apply(key);
+            if (result.failed()) {
+                monitor.debug("Refresh of secret '%s' failed, the expired value is served until %s".formatted(key, stale.staleUntil));
+                return stale.value;
+            }
+            store(key, stale, result.getContent());
+            return result.getContent();
+        }, executor);
+    }
+
+    /**
+     * Stores the loaded value, unless the entry changed meanwhile, e.g. because the secret was written.
+     */
+    private void store(String key, @Nullable Entry previous, @Nullable String value) {
+        var entry = newEntry(key, value);
+        if (previous == null) {
+            entries.putIfAbsent(key, entry);
+        } else {
+            entries.replace(key, previous, entry);
+        }
+        evictIfFull();
+    }
+
+    private Entry newEntry(String key, @Nullable String value) {
+        var now = clock.instant();
+        var expiresAt = now.plus(value != null ? ttlFor(key) : negativeTtl);
+        return new Entry(value, expiresAt, expiresAt.plus(staleTtl));
+    }
+
+    private Duration ttlFor(String key) {
+        Duration selected = ttl;
+        var longestPrefix = -1;
+        for (var override : ttlByPrefix.entrySet()) {
+            if (key.startsWith(override.getKey()) && override.getKey().length() > longestPrefix) {
+                selected = override.getValue();
+                longestPrefix = override.getKey().length();
+            }
+        }
+        return selected;
+    }
+
+    private void evictIfFull() {
+        if (entries.size() <= maxEntries) {
+            return;
+        }
+        var now = clock.instant();
+        entries.values().removeIf(entry -> !now.isBefore(entry.staleUntil));
+        var iterator = entries.keySet().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record Entry(@Nullable String value, Instant expiresAt, Instant staleUntil) {
+    }
+}
@@ -21,6 +21,12 @@ public interface Constants {
     String VAULT_API_HEALTH_PATH_DEFAULT = "/v1/sys/health";
     boolean VAULT_HEALTH_CHECK_STANDBY_OK_DEFAULT = false;
     int VAULT_TIMEOUT_SECONDS_DEFAULT = 30;
+    boolean VAULT_CACHE_ENABLED_DEFAULT = false;
+    long VAULT_CACHE_TTL_SECONDS_DEFAULT = 300;
+    long VAULT_CACHE_NEGATIVE_TTL_SECONDS_DEFAULT = 30;
+    long VAULT_CACHE_STALE_SECONDS_DEFAULT = 60;
+    int VAULT_CACHE_MAX_ENTRIES_DEFAULT = 10000;
+    int VAULT_CACHE_REFRESH_THREADS_DEFAULT = 2;
     @Setting(value = "The URL path of the vault's /secret endpoint", defaultValue = VAULT_API_SECRET_PATH_DEFAULT)
     String VAULT_API_SECRET_PATH = "edc.vault.hashicorp.api.secret.path";
 
@@ -38,4 +44,25 @@ public interface Constants {
 
     @Setting(value = "The token used to access the Hashicorp Vault", required = true)
     String VAULT_TOKEN = "edc.vault.hashicorp.token";
+
+    @Setting(value = "Enables the read-through cache of the resolved secrets", defaultValue = "false", type = "boolean")
+    String VAULT_CACHE_ENABLED = "edc.vault.hashicorp.cache.enabled";
+
+    @Setting(value = "Time-to-live of the cached secrets, in seconds", defaultValue = "300", type = "long", min = 1)
+    String VAULT_CACHE_TTL_SECONDS = "edc.vault.hashicorp.cache.ttl.seconds";
+
+    @Setting(value = "Time-to-live of the secrets not found in the vault, in seconds", defaultValue = "30", type = "long", min = 0)
+    String VAULT_CACHE_NEGATIVE_TTL_SECONDS = "edc.vault.hashicorp.cache.negative.ttl.seconds";
+
+    @Setting(value = "Time an expired secret is still served while it is refreshed in the background, in seconds", defaultValue = "60", type = "long", min = 0)
+    String VAULT_CACHE_STALE_SECONDS = "edc.vault.hashicorp.cache.stale.seconds";
+
+    @Setting(value = "Max number of cached secrets", defaultValue = "10000", type = "int", min = 1)
+    String VAULT_CACHE_MAX_ENTRIES = "edc.vault.hashicorp.cache.max.entries";
+
+    @Setting(value = "Number of threads refreshing the expired secrets", defaultValue = "2", type = "int", min = 1)
+    String VAULT_CACHE_REFRESH_THREADS = "edc.vault.hashicorp.cache.refresh.threads";
+
+    @Setting(value = "Time-to-live overrides for the secrets whose key starts with a prefix, configured as <name>.prefix and <name>.ttl.seconds. The longest matching prefix wins")
+    String VAULT_CACHE_TTL_OVERRIDES = "edc.vault.hashicorp.cache.ttl.override";
 }
@@ -90,6 +90,47 @@ class HashicorpVaultClientTest {
                 request.url().encodedPathSegments().contains(KEY)));
     }
 
+    @Test
+    void getSecretValue_shouldReturnNull_whenSecretIsNotFound() throws IOException {
+        var config = HashicorpVaultClientConfig.Builder.newInstance()
+                .vaultUrl("https://mock.url")
+                .vaultApiSecretPath(CUSTOM_SECRET_PATH)
+                .vaultApiHealthPath(HEALTH_PATH)
+                .isVaultApiHealthStandbyOk(false)
+                .vaultToken(UUID.randomUUID().toString())
+                .timeout(TIMEOUT)
+                .build();
+        var vaultClient = new HashicorpVaultClient(config, edcClientMock, OBJECT_MAPPER);
+        var response = mock(Response.class);
+        when(edcClientMock.execute(any(Request.class))).thenReturn(response);
+        when(response.code()).thenReturn(404);
+
+        var result = vaultClient.getSecretValue(KEY);
+
+        assertThat(result.succeeded()).isTrue();
+        assertThat(result.getContent()).isNull();
+    }
+
+    @Test
+    void getSecretValue_shouldFail_whenVaultIsUnavailable() throws IOException {
+        var config = HashicorpVaultClientConfig.Builder.newInstance()
+                .vaultUrl("https://mock.url")
+                .vaultApiSecretPath(CUSTOM_SECRET_PATH)
+                .vaultApiHealthPath(HEALTH_PATH)
+                .isVaultApiHealthStandbyOk(false)
+                .vaultToken(UUID.randomUUID().toString())
+                .timeout(TIMEOUT)
+                .build();
+        var vaultClient = new HashicorpVaultClient(config, edcClientMock, OBJECT_MAPPER);
+        var response = mock(Response.class);
+        when(edcClientMock.execute(any(Request.class))).thenReturn(response);
+        when(response.code()).thenReturn(503);
+
+        var result = vaultClient.getSecretValue(KEY);
+
+        assertThat(result.failed()).isTrue();
+    }
+
     @Test
     void setSecretValue() throws IOException {
         // prepare
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.vault.hashicorp;
+
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class HashicorpVaultSecretCacheTest {
+
+    private final Clock clock = mock();
+    private final Instant now = Instant.now();
+    private final Function<String, Result<String>> loader = mock();
+    private final HashicorpVaultMetrics metrics = new HashicorpVaultMetrics();
+    private HashicorpVaultSecretCache cache;
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+        cache = new HashicorpVaultSecretCache(Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ofSeconds(30), 100,
+                Map.of("short/", Duration.ofSeconds(5), "short/longer/", Duration.ofSeconds(20)), Runnable::run, clock, mock(), metrics);
+    }
+
+    @Test
+    void resolve_shouldLoadOnce_untilTtlElapses() {
+        when(loader.apply("key")).thenReturn(Result.success("secret"));
+
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+
+        verify(loader, times(1)).apply("key");
+        assertThat(metrics.getHits()).isEqualTo(1);
+        assertThat(metrics.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldCacheMissingSecret_forNegativeTtl() {
+        when(loader.apply("key")).thenReturn(Result.success(null), Result.success("secret"));
+
+        assertThat(cache.resolve("key", loader)).isNull();
+        assertThat(cache.resolve("key", loader)).isNull();
+        verify(loader, times(1)).apply("key");
+
+        when(clock.instant()).thenReturn(now.plusSeconds(10));
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+        verify(loader, times(2)).apply("key");
+    }
+
+    @Test
+    void resolve_shouldNotCacheFailure() {
+        when(loader.apply("key")).thenReturn(Result.failure("unavailable"), Result.success("secret"));
+
+        assertThat(cache.resolve("key", loader)).isNull();
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+
+        verify(loader, times(2)).apply("key");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldServeStaleValue_andRefreshIt() {
+        when(loader.apply("key")).thenReturn(Result.success("secret"), Result.success("rotated"));
+        cache.resolve("key", loader);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(70));
+
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+        assertThat(cache.resolve("key", loader)).isEqualTo("rotated");
+        assertThat(metrics.getStaleHits()).isEqualTo(1);
+        assertThat(metrics.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void resolve_shouldKeepStaleValue_whenRefreshFails() {
+        when(loader.apply("key")).thenReturn(Result.success("secret"), Result.failure("unavailable"), Result.failure("unavailable"));
+        cache.resolve("key", loader);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(70));
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+        assertThat(cache.resolve("key", loader)).isEqualTo("secret");
+
+        when(clock.instant()).thenReturn(now.plusSeconds(90));
+        assertThat(cache.resolve("key", loader)).isNull();
+    }
+
+    @Test
+    void resolve_shouldApplyLongestPrefixTtl() {
+        when(loader.apply("short/key")).thenReturn(Result.success("secret"));
+        when(loader.apply("short/longer/key")).thenReturn(Result.success("secret"));
+        cache.resolve("short/key", loader);
+        cache.resolve("short/longer/key", loader);
+
+        when(clock.instant()).thenReturn(now.plusSeconds(6));
+        cache.resolve("short/key", loader);
+        cache.resolve("short/longer/key", loader);
+
+        assertThat(metrics.getStaleHits()).isEqualTo(1);
+        assertThat(metrics.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    void put_shouldReplaceCachedValue() {
+        when(loader.apply("key")).thenReturn(Result.success("secret"));
+        cache.resolve("key", loader);
+
+        cache.put("key", "new-secret");
+        assertThat(cache.resolve("key", loader)).isEqualTo("new-secret");
+
+        cache.putMissing("key");
+        assertThat(cache.resolve("key", loader)).isNull();
+        verify(loader, times(1)).apply("key");
+    }
+
+    @Test
+    void put_shouldEvict_whenFull() {
+        var small = new HashicorpVaultSecretCache(Duration.ofSeconds(60), Duration.ofSeconds(10), Duration.ZERO, 2,
+                Map.of(), Runnable::run, clock, mock(), metrics);
+
+        small.put("key1", "secret");
+        small.put("key2", "secret");
+        small.put("key3", "secret");
+
+        assertThat(small.size()).isEqualTo(2);
+    }
+}
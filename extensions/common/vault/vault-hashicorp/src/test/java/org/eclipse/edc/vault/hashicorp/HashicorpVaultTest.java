@@ -19,6 +19,9 @@ import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,6 +70,21 @@ class HashicorpVaultTest {
         assertThat(returnValue).isNull();
     }
 
+    @Test
+    void getSecret_shouldCacheMissingSecret_butNotFailure() {
+        var metrics = new HashicorpVaultMetrics();
+        var cache = new HashicorpVaultSecretCache(Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ZERO, 10, Map.of(),
+                Runnable::run, Clock.systemUTC(), mock(), metrics);
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache, metrics);
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.failure("unavailable"), Result.success(null));
+
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+
+        verify(vaultClient, times(2)).getSecretValue(KEY);
+    }
+
     @Test
     void setSecretSuccess() {
         // prepare
@@ -120,4 +138,26 @@ class HashicorpVaultTest {
         verify(vaultClient, times(1)).destroySecret(KEY);
         assertThat(returnValue.failed()).isTrue();
     }
+
+    @Test
+    void getSecret_shouldUseCache_whenConfigured() {
+        var metrics = new HashicorpVaultMetrics();
+        var cache = new HashicorpVaultSecretCache(Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ZERO, 10, Map.of(),
+                Runnable::run, Clock.systemUTC(), mock(), metrics);
+        var cachingVault = new HashicorpVault(vaultClient, mock(), cache, metrics);
+        when(vaultClient.getSecretValue(KEY)).thenReturn(Result.success("test-secret"));
+        when(vaultClient.setSecret(KEY, "new-secret")).thenReturn(Result.success(null));
+        when(vaultClient.destroySecret(KEY)).thenReturn(Result.success());
+
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("test-secret");
+        cachingVault.storeSecret(KEY, "new-secret");
+        assertThat(cachingVault.resolveSecret(KEY)).isEqualTo("new-secret");
+        cachingVault.deleteSecret(KEY);
+        assertThat(cachingVault.resolveSecret(KEY)).isNull();
+
+        verify(vaultClient, times(1)).getSecretValue(KEY);
+        assertThat(metrics.getCalls()).isEqualTo(1);
+        assertThat(metrics.getHitRate()).isEqualTo(0.75);
+    }
 }
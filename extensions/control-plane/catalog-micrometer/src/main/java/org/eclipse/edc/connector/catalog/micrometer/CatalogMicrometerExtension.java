@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.connector.catalog.micrometer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.catalog.cache.CachingDatasetResolver;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+/**
+ * An extension that registers the hits, misses and size of the catalog cache, when it is enabled, as Micrometer
+ * {@code cache.gets} and {@code cache.size} meters tagged with {@code cache=catalog}.
+ */
+public class CatalogMicrometerExtension implements ServiceExtension {
+
+    @Setting
+    public static final String ENABLE_METRICS = "edc.metrics.enabled";
+    @Setting
+    public static final String ENABLE_CATALOG_METRICS = "edc.metrics.catalog.enabled";
+
+    private static final String CACHE_NAME = "catalog";
+
+    @Inject
+    private DatasetResolver datasetResolver;
+
+    @Inject
+    private MeterRegistry meterRegistry;
+
+    @Override
+    public String name() {
+        return "Catalog Micrometer Metrics";
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var enableMetrics = context.getSetting(ENABLE_METRICS, true);
+        var enableCatalogMetrics = context.getSetting(ENABLE_CATALOG_METRICS, true);
+
+        if (enableMetrics && enableCatalogMetrics && datasetResolver instanceof CachingDatasetResolver cachingDatasetResolver) {
+            enableCatalogCacheMetrics(cachingDatasetResolver);
+        }
+    }
+
+    private void enableCatalogCacheMetrics(CachingDatasetResolver cache) {
+        FunctionCounter.builder("cache.gets", cache, CachingDatasetResolver::getHits)
+                .tags("cache", CACHE_NAME, "result", "hit")
+                .description("The number of catalog requests served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("cache.gets", cache, CachingDatasetResolver::getMisses)
+                .tags("cache", CACHE_NAME, "result", "miss")
+                .description("The number of catalog requests resolved because they were not cached")
+                .register(meterRegistry);
+        Gauge.builder("cache.size", cache, CachingDatasetResolver::size)
+                .tags("cache", CACHE_NAME)
+                .description("The number of participant/query entries in the catalog cache")
+                .register(meterRegistry);
+    }
+}
@@ -177,14 +177,15 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .forUpdateSkipLocked(statements.getContractNegotiationTable());
 
             try (
                     var connection = getConnection();
-                    var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
+                    var stream = queryExecutor.query(connection, true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
+                leaseContext.withConnection(connection).acquireLeases(negotiations.stream().map(ContractNegotiation::getId).toList());
                 return negotiations;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
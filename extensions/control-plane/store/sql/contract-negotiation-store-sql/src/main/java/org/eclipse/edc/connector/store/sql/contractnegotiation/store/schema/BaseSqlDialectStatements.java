@@ -171,4 +171,14 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeasesTemplate(getContractNegotiationTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getContractNegotiationTable(), getIdColumn(), count);
+    }
+
 }
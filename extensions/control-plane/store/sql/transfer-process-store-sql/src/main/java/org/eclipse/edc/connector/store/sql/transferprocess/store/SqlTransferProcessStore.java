@@ -77,14 +77,15 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .forUpdateSkipLocked(statements.getTransferProcessTableName());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
+                leaseContext.withConnection(connection).acquireLeases(transferProcesses.stream().map(TransferProcess::getId).toList());
                 return transferProcesses;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -61,6 +61,16 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeasesTemplate(getTransferProcessTableName(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getTransferProcessTableName(), getIdColumn(), count);
+    }
+
     @Override
     public String getInsertStatement() {
         return executeStatement()
@@ -68,4 +68,15 @@ public interface DataplaneSelectorApi {
     @GET
     JsonArray getAll();
 
+    @Operation(method = "POST",
+            description = "Records a heartbeat of a data plane instance, reporting its current load",
+            responses = {
+                    @ApiResponse(responseCode = "204", description = "The heartbeat was recorded"),
+                    @ApiResponse(responseCode = "400", description = "Request was malformed", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class)))),
+                    @ApiResponse(responseCode = "404", description = "The data plane instance is not registered", content = @Content(array = @ArraySchema(schema = @Schema(implementation = ApiCoreSchema.ApiErrorDetailSchema.class))))
+            }
+    )
+    @POST
+    void heartbeat(String id, int activeFlows);
+
 }
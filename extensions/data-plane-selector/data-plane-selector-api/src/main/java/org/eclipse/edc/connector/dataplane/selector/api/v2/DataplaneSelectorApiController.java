@@ -17,10 +17,13 @@ package org.eclipse.edc.connector.dataplane.selector.api.v2;
 import jakarta.json.JsonArray;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.GET;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.core.MediaType;
 import org.eclipse.edc.api.model.IdResponse;
 import org.eclipse.edc.connector.dataplane.selector.api.v2.model.SelectionRequest;
@@ -109,6 +112,14 @@ public class DataplaneSelectorApiController implements DataplaneSelectorApi {
                 .collect(toJsonArray());
     }
 
+    @Override
+    @POST
+    @Path("{id}/heartbeat")
+    public void heartbeat(@PathParam("id") String id, @QueryParam("activeFlows") @DefaultValue("0") int activeFlows) {
+        selectionService.heartbeat(id, activeFlows)
+                .orElseThrow(exceptionMapper(DataPlaneInstance.class, id));
+    }
+
     private DataPlaneInstance catchException(Supplier<DataPlaneInstance> supplier) {
         try {
             return supplier.get();
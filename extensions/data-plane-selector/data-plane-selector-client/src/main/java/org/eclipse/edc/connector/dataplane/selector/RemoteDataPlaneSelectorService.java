@@ -126,6 +126,27 @@ public class RemoteDataPlaneSelectorService implements DataPlaneSelectorService
         throw new UnsupportedOperationException("not implemented");
     }
 
+    @Override
+    public ServiceResult<Void> heartbeat(String instanceId, int activeFlows) {
+        var request = new Request.Builder()
+                .post(RequestBody.create(new byte[0], TYPE_JSON))
+                .url(format("%s/%s/heartbeat?activeFlows=%d", url, instanceId, activeFlows))
+                .build();
+
+        try (var response = httpClient.execute(request)) {
+            if (response.isSuccessful()) {
+                return ServiceResult.success();
+            }
+            return switch (response.code()) {
+                case 400 -> ServiceResult.badRequest("Remote API returned HTTP 400");
+                case 404 -> ServiceResult.notFound(format("Data plane instance %s is not registered", instanceId));
+                default -> throw new EdcException(format("An unknown error happened, HTTP Status = %d", response.code()));
+            };
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
 
     private <R> R handleResponse(Response response, TypeReference<? extends R> tr, R defaultValue) {
         if (response.isSuccessful()) {
@@ -28,6 +28,8 @@ import org.eclipse.edc.core.transform.transformer.to.JsonValueToGenericTypeTrans
 import org.eclipse.edc.jsonld.TitaniumJsonLd;
 import org.eclipse.edc.jsonld.util.JacksonJsonLd;
 import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.result.ServiceFailure;
+import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
@@ -44,6 +46,7 @@ import java.util.Map;
 
 import static java.lang.String.format;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.eclipse.edc.junit.testfixtures.TestUtils.testHttpClient;
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 import static org.mockito.ArgumentMatchers.any;
@@ -111,6 +114,24 @@ class RemoteDataPlaneSelectorServiceTest extends RestControllerTestBase {
 
     }
 
+    @Test
+    void heartbeat() {
+        when(SELECTOR_SERVICE_MOCK.heartbeat("some-instance", 3)).thenReturn(ServiceResult.success());
+
+        var result = service.heartbeat("some-instance", 3);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void heartbeat_shouldFail_whenInstanceIsNotRegistered() {
+        when(SELECTOR_SERVICE_MOCK.heartbeat("unknown-instance", 3)).thenReturn(ServiceResult.notFound("not found"));
+
+        var result = service.heartbeat("unknown-instance", 3);
+
+        assertThat(result).isFailed().extracting(ServiceResult::reason).isEqualTo(ServiceFailure.Reason.NOT_FOUND);
+    }
+
     @Override
     protected Object controller() {
         return new DataplaneSelectorApiController(SELECTOR_SERVICE_MOCK, typeTransformerRegistry, validator, Clock.systemUTC());
@@ -0,0 +1,84 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.dataplane.fs.pipeline.FileDataSinkFactory;
+import org.eclipse.edc.dataplane.fs.pipeline.FileDataSourceFactory;
+import org.eclipse.edc.dataplane.fs.pipeline.RootDirectories;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
+
+/**
+ * Provides support for reading files from and writing files to local or mounted file systems.
+ */
+@Extension(value = DataPlaneFsExtension.NAME)
+public class DataPlaneFsExtension implements ServiceExtension {
+
+    public static final String NAME = "Data Plane File System";
+
+    private static final int DEFAULT_PARTITION_SIZE = 1;
+    private static final int DEFAULT_MAX_IN_FLIGHT_PARTITIONS = 10;
+
+    @Setting(value = "Comma-separated list of the directories File data addresses can point into, any other path is rejected")
+    private static final String EDC_DATAPLANE_FS_ROOTS = "edc.dataplane.fs.roots";
+
+    @Setting(value = "The partitionSize used by the file data sink", type = "int", defaultValue = "1", min = 1)
+    private static final String EDC_DATAPLANE_FS_SINK_PARTITION_SIZE = "edc.dataplane.fs.sink.partition.size";
+
+    @Setting(value = "Max number of partitions transferred concurrently by the file data sink, 0 means unbounded", type = "int", defaultValue = "10", min = 0)
+    private static final String EDC_DATAPLANE_FS_SINK_MAX_IN_FLIGHT_PARTITIONS = "edc.dataplane.fs.sink.max-in-flight-partitions";
+
+    @Inject
+    private DataTransferExecutorServiceContainer executorContainer;
+
+    @Inject
+    private PipelineService pipelineService;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var monitor = context.getMonitor();
+
+        var roots = Arrays.stream(context.getSetting(EDC_DATAPLANE_FS_ROOTS, "").split(","))
+                .map(String::trim)
+                .filter(root -> !isNullOrBlank(root))
+                .map(Path::of)
+                .toList();
+        if (roots.isEmpty()) {
+            monitor.warning("No root directory configured with %s, File data addresses will be rejected".formatted(EDC_DATAPLANE_FS_ROOTS));
+        }
+        var rootDirectories = new RootDirectories(roots);
+
+        var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_FS_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
+        var sinkMaxInFlightPartitions = context.getSetting(EDC_DATAPLANE_FS_SINK_MAX_IN_FLIGHT_PARTITIONS, DEFAULT_MAX_IN_FLIGHT_PARTITIONS);
+
+        pipelineService.registerFactory(new FileDataSourceFactory(rootDirectories));
+        pipelineService.registerFactory(new FileDataSinkFactory(executorContainer.getExecutorService(), monitor, rootDirectories, sinkPartitionSize, sinkMaxInFlightPartitions));
+    }
+}
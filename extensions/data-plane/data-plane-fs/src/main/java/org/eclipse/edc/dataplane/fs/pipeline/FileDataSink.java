@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+
+import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Writes the parts as files into a directory, each one at the path given by its name. Files are copied from channel
+ * to channel, so the content of {@link FilePart}s doesn't go through the heap. Parts are never written through a symbolic
+ * link that leads outside of the directory.
+ */
+public class FileDataSink extends ParallelSink {
+
+    private static final long CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private Path directory;
+
+    @Override
+    protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
+        for (var part : parts) {
+            var target = directory.resolve(part.name()).normalize();
+            if (!target.startsWith(directory) || target.equals(directory)) {
+                monitor.severe(format("Part %s cannot be written outside of %s for request: %s", part.name(), directory, requestId));
+                return StreamResult.error(format("Invalid part name %s", part.name()));
+            }
+            try {
+                if (leavesDirectory(target.getParent())) {
+                    monitor.severe(format("Part %s goes through a symbolic link leading outside of %s for request: %s", part.name(), directory, requestId));
+                    return StreamResult.error(format("Invalid part name %s", part.name()));
+                }
+                Files.createDirectories(target.getParent());
+                copy(part, target);
+            } catch (Exception e) {
+                monitor.severe(format("Error writing file %s for request: %s", target, requestId), e);
+                return StreamResult.error(format("Error writing file %s: %s", part.name(), e.getMessage()));
+            }
+        }
+        return StreamResult.success();
+    }
+
+    /**
+     * Checks the real path of the deepest existing ancestor of the parent directory, before any directory gets created
+     * through a symbolic link.
+     */
+    private boolean leavesDirectory(Path parent) throws IOException {
+        var existing = parent;
+        while (!Files.exists(existing) && !existing.equals(directory)) {
+            existing = existing.getParent();
+        }
+        return Files.exists(existing) && !existing.toRealPath().startsWith(directory.toRealPath());
+    }
+
+    private void copy(DataSource.Part part, Path target) throws IOException {
+        try (var out = FileChannel.open(target, CREATE, WRITE, TRUNCATE_EXISTING, NOFOLLOW_LINKS)) {
+            if (part instanceof FilePart filePart) {
+                try (var in = FileChannel.open(filePart.path(), READ)) {
+                    var size = in.size();
+                    var position = 0L;
+                    while (position < size) {
+                        var count = in.transferTo(position, size - position, out);
+                        if (count <= 0) {
+                            throw new IOException(format("Unexpected end of file %s at position %s", filePart.path(), position));
+                        }
+                        position += count;
+                    }
+                }
+            } else {
+                try (var in = Channels.newChannel(countingBytes(part).openStream())) {
+                    var position = 0L;
+                    long count;
+                    while ((count = out.transferFrom(in, position, CHUNK_SIZE)) > 0) {
+                        position += count;
+                    }
+                }
+            }
+        }
+    }
+
+    private FileDataSink() {
+    }
+
+    public static class Builder extends ParallelSink.Builder<Builder, FileDataSink> {
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        private Builder() {
+            super(new FileDataSink());
+        }
+
+        public Builder directory(Path directory) {
+            sink.directory = directory;
+            return this;
+        }
+
+        @Override
+        protected void validate() {
+            Objects.requireNonNull(sink.directory, "directory");
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSinkFactory;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ExecutorService;
+
+import static org.eclipse.edc.dataaddress.file.spi.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.dataaddress.file.spi.FileDataAddressSchema.PATH;
+
+/**
+ * Instantiates {@link FileDataSink}s for requests whose destination data type is {@code File}.
+ */
+public class FileDataSinkFactory implements DataSinkFactory {
+
+    private final ExecutorService executorService;
+    private final Monitor monitor;
+    private final RootDirectories rootDirectories;
+    private final int partitionSize;
+    private final int maxInFlightPartitions;
+
+    public FileDataSinkFactory(ExecutorService executorService, Monitor monitor, RootDirectories rootDirectories, int partitionSize, int maxInFlightPartitions) {
+        this.executorService = executorService;
+        this.monitor = monitor;
+        this.rootDirectories = rootDirectories;
+        this.partitionSize = partitionSize;
+        this.maxInFlightPartitions = maxInFlightPartitions;
+    }
+
+    @Override
+    public boolean canHandle(DataFlowStartMessage request) {
+        return FILE_TYPE.equalsIgnoreCase(request.getDestinationDataAddress().getType());
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        return rootDirectories.resolve(request.getDestinationDataAddress().getStringProperty(PATH)).mapTo();
+    }
+
+    @Override
+    public DataSink createSink(DataFlowStartMessage request) {
+        var directory = rootDirectories.resolve(request.getDestinationDataAddress().getStringProperty(PATH))
+                .orElseThrow(failure -> new EdcException(failure.getFailureDetail()));
+
+        return FileDataSink.Builder.newInstance()
+                .requestId(request.getId())
+                .directory(directory)
+                .partitionSize(partitionSize)
+                .maxInFlightPartitions(maxInFlightPartitions)
+                .executorService(executorService)
+                .monitor(monitor)
+                .build();
+    }
+}
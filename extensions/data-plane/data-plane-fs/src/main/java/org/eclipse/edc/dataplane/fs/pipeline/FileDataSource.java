@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.error;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.success;
+
+/**
+ * Reads a file, or all the files of a directory tree as separate parts named after their path relative to the
+ * directory, so that they can be copied concurrently. Symbolic links are not followed, so they can't be used to read
+ * files from outside of the directory.
+ */
+public class FileDataSource implements DataSource {
+
+    private final Path path;
+    private final AtomicReference<Stream<Path>> walk = new AtomicReference<>();
+
+    public FileDataSource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public StreamResult<Stream<Part>> openPartStream() {
+        if (!Files.exists(path, NOFOLLOW_LINKS)) {
+            return StreamResult.notFound();
+        }
+        if (Files.isRegularFile(path, NOFOLLOW_LINKS)) {
+            return success(Stream.of(new FilePart(path.getFileName().toString(), path)));
+        }
+        if (!Files.isDirectory(path, NOFOLLOW_LINKS)) {
+            return error(format("%s is neither a regular file nor a directory", path));
+        }
+
+        try {
+            var files = Files.walk(path);
+            walk.set(files);
+            return success(files.filter(file -> Files.isRegularFile(file, NOFOLLOW_LINKS))
+                    .<Part>map(file -> new FilePart(path.relativize(file).toString().replace(File.separatorChar, '/'), file)));
+        } catch (IOException e) {
+            return error(format("Cannot list the files of %s: %s", path, e.getMessage()));
+        }
+    }
+
+    @Override
+    public void close() {
+        var files = walk.getAndSet(null);
+        if (files != null) {
+            files.close();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSourceFactory;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.jetbrains.annotations.NotNull;
+
+import static org.eclipse.edc.dataaddress.file.spi.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.dataaddress.file.spi.FileDataAddressSchema.PATH;
+
+/**
+ * Instantiates {@link FileDataSource}s for requests whose source data type is {@code File}.
+ */
+public class FileDataSourceFactory implements DataSourceFactory {
+
+    private final RootDirectories rootDirectories;
+
+    public FileDataSourceFactory(RootDirectories rootDirectories) {
+        this.rootDirectories = rootDirectories;
+    }
+
+    @Override
+    public boolean canHandle(DataFlowStartMessage request) {
+        return FILE_TYPE.equalsIgnoreCase(request.getSourceDataAddress().getType());
+    }
+
+    @Override
+    public @NotNull Result<Void> validateRequest(DataFlowStartMessage request) {
+        return rootDirectories.resolve(request.getSourceDataAddress().getStringProperty(PATH)).mapTo();
+    }
+
+    @Override
+    public DataSource createSource(DataFlowStartMessage request) {
+        var path = rootDirectories.resolve(request.getSourceDataAddress().getStringProperty(PATH))
+                .orElseThrow(failure -> new EdcException(failure.getFailureDetail()));
+        return new FileDataSource(path);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * A file, read through memory-mapped regions. Sinks writing to files can copy it directly from its {@link #path()}.
+ *
+ * @param name the part name, relative to the source directory.
+ * @param path the file path.
+ */
+public record FilePart(String name, Path path) implements DataSource.Part {
+
+    @Override
+    public long size() {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            return SIZE_UNKNOWN;
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return new MappedFileInputStream(path);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.spi.result.Result;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.util.string.StringUtils.isNullOrBlank;
+
+/**
+ * The directories File data addresses are allowed to point into. Paths are confined by their real path, so a symbolic
+ * link cannot be used to reach a file outside of the root directories.
+ */
+public class RootDirectories {
+
+    private final List<Path> roots;
+
+    public RootDirectories(List<Path> roots) {
+        this.roots = roots.stream().map(RootDirectories::realPath).toList();
+    }
+
+    /**
+     * Resolves the path of a data address, and verifies that it's within one of the root directories once all the
+     * symbolic links it goes through are followed.
+     *
+     * @param path the path.
+     * @return the real path, failure if it's invalid or outside of the root directories.
+     */
+    public Result<Path> resolve(String path) {
+        if (isNullOrBlank(path)) {
+            return Result.failure("Missing path");
+        }
+        try {
+            var resolved = realPath(Path.of(path));
+            if (!contains(resolved)) {
+                return Result.failure(format("Path %s is not within the configured root directories", path));
+            }
+            return Result.success(resolved);
+        } catch (InvalidPathException | UncheckedIOException e) {
+            return Result.failure(format("Invalid path %s: %s", path, e.getMessage()));
+        }
+    }
+
+    private boolean contains(Path realPath) {
+        return roots.stream().anyMatch(realPath::startsWith);
+    }
+
+    /**
+     * Returns the real path of the deepest existing ancestor of the path, followed by the segments that don't exist
+     * yet, which allows resolving destinations that are still to be created.
+     */
+    private static Path realPath(Path path) {
+        var absolute = path.toAbsolutePath().normalize();
+        var existing = absolute;
+        while (existing != null && !Files.exists(existing)) {
+            existing = existing.getParent();
+        }
+        if (existing == null) {
+            return absolute;
+        }
+        try {
+            return existing.toRealPath().resolve(existing.relativize(absolute));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
+import org.eclipse.edc.dataplane.fs.pipeline.FileDataSinkFactory;
+import org.eclipse.edc.dataplane.fs.pipeline.FileDataSourceFactory;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class DataPlaneFsExtensionTest {
+
+    private final PipelineService pipelineService = mock();
+
+    @BeforeEach
+    void setUp(ServiceExtensionContext context) {
+        context.registerService(PipelineService.class, pipelineService);
+    }
+
+    @Test
+    void verifyRegisterFileSourceAndSink(DataPlaneFsExtension extension, ServiceExtensionContext context) {
+        extension.initialize(context);
+
+        verify(pipelineService).registerFactory(any(FileDataSourceFactory.class));
+        verify(pipelineService).registerFactory(any(FileDataSinkFactory.class));
+    }
+}
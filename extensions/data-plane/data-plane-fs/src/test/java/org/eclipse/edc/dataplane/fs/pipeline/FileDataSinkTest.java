@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+class FileDataSinkTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @TempDir
+    private Path source;
+
+    @TempDir
+    private Path destination;
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldCopyDirectoryTree() throws IOException {
+        Files.writeString(source.resolve("first.txt"), "first");
+        Files.createDirectories(source.resolve("nested"));
+        Files.writeString(source.resolve("nested").resolve("second.txt"), "second");
+
+        try (var dataSource = new FileDataSource(source)) {
+            var result = sink().transfer(dataSource);
+
+            assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isSucceeded());
+        }
+        assertThat(destination.resolve("first.txt")).hasContent("first");
+        assertThat(destination.resolve("nested").resolve("second.txt")).hasContent("second");
+    }
+
+    @Test
+    void transfer_shouldWriteStreamedPart() {
+        var dataSource = new InputStreamDataSource("streamed.txt", new ByteArrayInputStream("content".getBytes()));
+
+        var result = sink().transfer(dataSource);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isSucceeded());
+        assertThat(destination.resolve("streamed.txt")).hasContent("content");
+    }
+
+    @Test
+    void transfer_shouldFail_whenPartNameEscapesDirectory() {
+        var dataSource = new InputStreamDataSource("../escaped.txt", new ByteArrayInputStream("content".getBytes()));
+
+        var result = sink().transfer(dataSource);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isFailed());
+        assertThat(destination.resolveSibling("escaped.txt")).doesNotExist();
+    }
+
+    @Test
+    void transfer_shouldFail_whenPartNameGoesThroughSymbolicLinkLeavingDirectory() throws IOException {
+        Files.createSymbolicLink(destination.resolve("link"), source);
+        var dataSource = new InputStreamDataSource("link/escaped.txt", new ByteArrayInputStream("content".getBytes()));
+
+        var result = sink().transfer(dataSource);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isFailed());
+        assertThat(source.resolve("escaped.txt")).doesNotExist();
+    }
+
+    @Test
+    void transfer_shouldFail_whenTargetIsSymbolicLink() throws IOException {
+        var outside = Files.writeString(source.resolve("outside.txt"), "original");
+        Files.createSymbolicLink(destination.resolve("file.txt"), outside);
+        var dataSource = new InputStreamDataSource("file.txt", new ByteArrayInputStream("content".getBytes()));
+
+        var result = sink().transfer(dataSource);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isFailed());
+        assertThat(outside).hasContent("original");
+    }
+
+    private FileDataSink sink() {
+        return FileDataSink.Builder.newInstance()
+                .requestId("request-id")
+                .directory(destination)
+                .partitionSize(1)
+                .executorService(executor)
+                .monitor(mock())
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.eclipse.edc.dataaddress.file.spi.FileDataAddressSchema.FILE_TYPE;
+import static org.eclipse.edc.dataaddress.file.spi.FileDataAddressSchema.PATH;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class FileDataSourceFactoryTest {
+
+    @TempDir
+    private Path root;
+
+    @TempDir
+    private Path outside;
+
+    private FileDataSourceFactory factory() {
+        return new FileDataSourceFactory(new RootDirectories(List.of(root)));
+    }
+
+    @Test
+    void verifyCanHandle() {
+        assertThat(factory().canHandle(createRequest(FILE_TYPE, "any"))).isTrue();
+        assertThat(factory().canHandle(createRequest("HttpData", "any"))).isFalse();
+    }
+
+    @Test
+    void verifyValidateSuccess_whenPathIsWithinRoot() {
+        var result = factory().validateRequest(createRequest(FILE_TYPE, root.resolve("file.txt").toString()));
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void verifyValidateFails_whenPathIsOutsideRoot() {
+        var result = factory().validateRequest(createRequest(FILE_TYPE, root.resolve("../file.txt").toString()));
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void verifyValidateFails_whenPathGoesThroughSymbolicLinkLeavingRoot() throws IOException {
+        Files.writeString(outside.resolve("file.txt"), "content");
+        Files.createSymbolicLink(root.resolve("link"), outside);
+
+        var result = factory().validateRequest(createRequest(FILE_TYPE, root.resolve("link").resolve("file.txt").toString()));
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void verifyValidateFails_whenPathIsMissing() {
+        var result = factory().validateRequest(createRequest(FILE_TYPE, null));
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void verifyCreateSourceThrows_whenPathIsOutsideRoot() {
+        var request = createRequest(FILE_TYPE, "/etc/passwd");
+
+        assertThatExceptionOfType(EdcException.class).isThrownBy(() -> factory().createSource(request));
+    }
+
+    private DataFlowStartMessage createRequest(String sourceType, String path) {
+        var source = DataAddress.Builder.newInstance().type(sourceType);
+        if (path != null) {
+            source.property(PATH, path);
+        }
+        return DataFlowStartMessage.Builder.newInstance()
+                .id("id")
+                .processId("processId")
+                .sourceDataAddress(source.build())
+                .destinationDataAddress(DataAddress.Builder.newInstance().type("notused").build())
+                .build();
+    }
+}
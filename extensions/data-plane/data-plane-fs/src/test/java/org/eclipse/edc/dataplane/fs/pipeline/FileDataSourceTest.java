@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.fs.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_FOUND;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+
+class FileDataSourceTest {
+
+    @TempDir
+    private Path directory;
+
+    @TempDir
+    private Path outside;
+
+    @Test
+    void openPartStream_shouldReturnSinglePart_whenPathIsFile() throws IOException {
+        var file = Files.writeString(directory.resolve("file.txt"), "content");
+
+        try (var source = new FileDataSource(file)) {
+            var parts = source.openPartStream().getContent().toList();
+
+            assertThat(parts).hasSize(1).first().satisfies(part -> {
+                assertThat(part.name()).isEqualTo("file.txt");
+                assertThat(part.size()).isEqualTo(7);
+                assertThat(part.openStream()).hasContent("content");
+            });
+        }
+    }
+
+    @Test
+    void openPartStream_shouldReturnOnePartPerFile_whenPathIsDirectory() throws IOException {
+        Files.writeString(directory.resolve("first.txt"), "first");
+        Files.createDirectories(directory.resolve("nested"));
+        Files.writeString(directory.resolve("nested").resolve("second.txt"), "second");
+
+        try (var source = new FileDataSource(directory)) {
+            var parts = source.openPartStream().getContent().toList();
+
+            assertThat(parts).extracting(DataSource.Part::name).containsExactlyInAnyOrder("first.txt", "nested/second.txt");
+            assertThat(parts).extracting(DataSource.Part::size).containsExactlyInAnyOrder(5L, 6L);
+        }
+    }
+
+    @Test
+    void openPartStream_shouldSkipSymbolicLinks_whenPathIsDirectory() throws IOException {
+        Files.writeString(directory.resolve("file.txt"), "content");
+        var secret = Files.writeString(outside.resolve("secret.txt"), "secret");
+        Files.createSymbolicLink(directory.resolve("linked-file.txt"), secret);
+        Files.createSymbolicLink(directory.resolve("linked-directory"), outside);
+
+        try (var source = new FileDataSource(directory)) {
+            var parts = source.openPartStream().getContent().toList();
+
+            assertThat(parts).extracting(DataSource.Part::name).containsExactly("file.txt");
+        }
+    }
+
+    @Test
+    void openPartStream_shouldFail_whenPathDoesNotExist() {
+        try (var source = new FileDataSource(directory.resolve("missing"))) {
+            var result = source.openPartStream();
+
+            assertThat(result).isFailed().extracting(StreamFailure::getReason).isEqualTo(NOT_FOUND);
+        }
+    }
+}
@@ -40,10 +40,26 @@ import org.eclipse.edc.spi.types.TypeManager;
 public class DataPlaneHttpExtension implements ServiceExtension {
     public static final String NAME = "Data Plane HTTP";
     private static final int DEFAULT_PART_SIZE = 5;
+    private static final int DEFAULT_MAX_IN_FLIGHT_PARTITIONS = 10;
+    private static final long DEFAULT_SOURCE_RANGE_SIZE = 0;
+    private static final int DEFAULT_SOURCE_RANGE_PARALLELISM = 4;
 
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    @Setting(value = "Max number of partitions transferred concurrently by the http data sink, 0 means unbounded", type = "int", defaultValue = "10", min = 0)
+    private static final String EDC_DATAPLANE_HTTP_SINK_MAX_IN_FLIGHT_PARTITIONS = "edc.dataplane.http.sink.max-in-flight-partitions";
+
+    @Setting(value = "Size in bytes of the ranges the http data source fetches the content in, when the server supports range requests. 0 disables ranged requests", type = "long", defaultValue = "0", min = 0)
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_SIZE = "edc.dataplane.http.source.range.size";
+
+    @Setting(value = "Max number of ranges fetched in parallel by the http data source", type = "int", defaultValue = "4", min = 1)
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARALLELISM = "edc.dataplane.http.source.range.parallelism";
+
+    @Setting(value = "Whether the http data source delivers each range as a separate part named '<name>.part-<index>'. No sink reassembles them, each part is written " +
+            "as a separate file or object; it is ignored when the destination is an http endpoint", type = "boolean", defaultValue = "false")
+    private static final String EDC_DATAPLANE_HTTP_SOURCE_RANGE_SPLIT = "edc.dataplane.http.source.range.split";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -68,16 +84,21 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE, DEFAULT_PART_SIZE);
+        var sinkMaxInFlightPartitions = context.getSetting(EDC_DATAPLANE_HTTP_SINK_MAX_IN_FLIGHT_PARTITIONS, DEFAULT_MAX_IN_FLIGHT_PARTITIONS);
+        var sourceRangeSize = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_SIZE, DEFAULT_SOURCE_RANGE_SIZE);
+        var sourceRangeParallelism = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_PARALLELISM, DEFAULT_SOURCE_RANGE_PARALLELISM);
+        var sourceRangeSplit = context.getSetting(EDC_DATAPLANE_HTTP_SOURCE_RANGE_SPLIT, false);
 
         var paramsProvider = new HttpRequestParamsProviderImpl(vault, typeManager);
         context.registerService(HttpRequestParamsProvider.class, paramsProvider);
 
         var httpRequestFactory = new HttpRequestFactory();
 
-        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
+        var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory,
+                sourceRangeSize, sourceRangeParallelism, sourceRangeSplit);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, sinkMaxInFlightPartitions, monitor, paramsProvider, httpRequestFactory);
         pipelineService.registerFactory(sinkFactory);
     }
 
@@ -16,6 +16,8 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 
 import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
@@ -25,11 +27,16 @@ import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
@@ -41,6 +48,14 @@ public class HttpDataSource implements DataSource {
     private static final int FORBIDDEN = 401;
     private static final int NOT_AUTHORIZED = 403;
     private static final int NOT_FOUND = 404;
+    private static final int OK = 200;
+    private static final int PARTIAL_CONTENT = 206;
+    private static final int RANGE_NOT_SATISFIABLE = 416;
+    private static final String RANGE = "Range";
+    private static final String CONTENT_RANGE = "Content-Range";
+    private static final String IF_RANGE = "If-Range";
+    private static final String ETAG = "ETag";
+    private static final String LAST_MODIFIED = "Last-Modified";
 
     private String name;
     private HttpRequestParams params;
@@ -48,7 +63,10 @@ public class HttpDataSource implements DataSource {
     private Monitor monitor;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
-    private final AtomicReference<ResponseBodyStream> responseBodyStream = new AtomicReference<>();
+    private long rangeSize;
+    private int rangeParallelism = 1;
+    private boolean splitRanges;
+    private final Queue<ResponseBodyStream> responseBodyStreams = new ConcurrentLinkedQueue<>();
 
     private HttpDataSource() {
     }
@@ -56,59 +74,214 @@ public class HttpDataSource implements DataSource {
     @Override
     public StreamResult<Stream<Part>> openPartStream() {
         var request = requestFactory.toRequest(params);
+        if (isRangeable(request)) {
+            var response = execute(withRange(request, 0, rangeSize - 1));
+            if (response.code() != PARTIAL_CONTENT && response.code() != RANGE_NOT_SATISFIABLE) {
+                return toPartStream(response);
+            }
+            var contentRange = ContentRange.parse(response.header(CONTENT_RANGE));
+            var validator = validator(response);
+            if (response.code() == PARTIAL_CONTENT && contentRange != null && (contentRange.isComplete() || validator != null)) {
+                var rangeRequest = validator == null ? request : request.newBuilder().header(IF_RANGE, validator).build();
+                return success(rangedParts(rangeRequest, response, contentRange));
+            }
+            // e.g. empty content, unknown length or no validator to detect a content change between the ranges: the content is requested as a whole
+            monitor.debug(() -> format("Cannot transfer HTTP data in ranges for request %s, falling back to a single request", requestId));
+            response.close();
+        }
+        return toPartStream(execute(request));
+    }
+
+    @Override
+    public void close() {
+        ResponseBodyStream bodyStream;
+        while ((bodyStream = responseBodyStreams.poll()) != null) {
+            bodyStream.responseBody().close();
+            try {
+                bodyStream.stream().close();
+            } catch (IOException e) {
+                // do nothing
+            }
+        }
+    }
+
+    private Response execute(Request request) {
         monitor.debug(() -> "Executing HTTP request: " + request.url());
         try {
             // NB: Do not close the response as the body input stream needs to be read after this method returns. The response closes the body stream.
-            var response = httpClient.execute(request);
-            if (response.isSuccessful()) {
-                var body = response.body();
-                if (body == null) {
-                    throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+            return httpClient.execute(request);
+        } catch (IOException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private StreamResult<Stream<Part>> toPartStream(Response response) {
+        if (response.isSuccessful()) {
+            var body = requireBody(response);
+            var stream = body.byteStream();
+            responseBodyStreams.add(new ResponseBodyStream(body, stream));
+            var size = body.contentLength() < 0 ? Part.SIZE_UNKNOWN : body.contentLength();
+            return success(Stream.of(new HttpPart(name, stream, mediaType(body), size)));
+        } else {
+            try {
+                if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
+                    return StreamResult.notAuthorized();
+                } else if (NOT_FOUND == response.code()) {
+                    return StreamResult.notFound();
+                } else {
+                    return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
                 }
-                var stream = body.byteStream();
-                responseBodyStream.set(new ResponseBodyStream(body, stream));
-                var mediaType = Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
-                return success(Stream.of(new HttpPart(name, stream, mediaType)));
-            } else {
+            } finally {
                 try {
-                    if (NOT_AUTHORIZED == response.code() || FORBIDDEN == response.code()) {
-                        return StreamResult.notAuthorized();
-                    } else if (NOT_FOUND == response.code()) {
-                        return StreamResult.notFound();
-                    } else {
-                        return error(format("Received code transferring HTTP data: %s - %s.", response.code(), response.message()));
-                    }
-                } finally {
-                    try {
-                        response.close();
-                    } catch (Exception e) {
-                        monitor.info("Error closing failed response", e);
-                    }
+                    response.close();
+                } catch (Exception e) {
+                    monitor.info("Error closing failed response", e);
                 }
             }
-        } catch (IOException e) {
-            throw new EdcException(e);
         }
+    }
+
+    /**
+     * Splits the content in ranges, the first one being the already received response. The ranges are either delivered
+     * as a single part that fetches them in parallel ahead of the reader, or as separate parts when the sink is able to
+     * reassemble them. The request carries the {@code If-Range} validator of the first response, so that a range of a
+     * content that changed in the meantime fails the transfer instead of being mixed with the previous ranges.
+     */
+    private Stream<Part> rangedParts(Request request, Response response, ContentRange contentRange) {
+        var body = requireBody(response);
+        var mediaType = mediaType(body);
+        var firstStream = body.byteStream();
+        var firstRangeLength = contentRange.end() + 1;
 
+        if (contentRange.isComplete()) {
+            responseBodyStreams.add(new ResponseBodyStream(body, firstStream));
+            return Stream.of(new HttpPart(name, firstStream, mediaType, contentRange.length()));
+        }
+
+        if (splitRanges) {
+            responseBodyStreams.add(new ResponseBodyStream(body, firstStream));
+            var first = new HttpRangePart(rangePartName(0), 0, firstRangeLength, mediaType, () -> firstStream);
+            var others = LongStream.iterate(firstRangeLength, offset -> offset < contentRange.length(), offset -> offset + rangeSize)
+                    .<Part>mapToObj(offset -> {
+                        var index = (offset - firstRangeLength) / rangeSize + 1;
+                        var end = Math.min(offset + rangeSize, contentRange.length()) - 1;
+                        return new HttpRangePart(rangePartName(index), offset, end - offset + 1, mediaType, () -> openRange(request, offset, end));
+                    });
+            return Stream.concat(Stream.of(first), others);
+        }
+
+        var stream = new RangedInputStream(firstStream, firstRangeLength, contentRange.length(), rangeSize, rangeParallelism,
+                (start, end) -> fetchRange(request, start, end));
+        responseBodyStreams.add(new ResponseBodyStream(body, stream));
+        return Stream.of(new HttpPart(name, stream, mediaType, contentRange.length()));
     }
 
-    @Override
-    public void close() {
-        var bodyStream = responseBodyStream.get();
-        if (bodyStream != null) {
-            bodyStream.responseBody().close();
+    private InputStream openRange(Request request, long start, long end) {
+        var response = execute(withRange(request, start, end));
+        try {
+            requirePartialContent(response, start, end);
+        } catch (EdcException e) {
+            response.close();
+            throw e;
+        }
+        var body = requireBody(response);
+        var stream = body.byteStream();
+        responseBodyStreams.add(new ResponseBodyStream(body, stream));
+        return stream;
+    }
+
+    private CompletableFuture<InputStream> fetchRange(Request request, long start, long end) {
+        return httpClient.executeAsync(withRange(request, start, end), response -> {
+            requirePartialContent(response, start, end);
             try {
-                bodyStream.stream().close();
+                var bytes = requireBody(response).bytes();
+                if (bytes.length != end - start + 1) {
+                    throw new EdcException(format("Received %s bytes transferring range %s-%s of HTTP data for request %s", bytes.length, start, end, requestId));
+                }
+                return new ByteArrayInputStream(bytes);
             } catch (IOException e) {
-                // do nothing
+                throw new EdcException(e);
             }
+        });
+    }
+
+    private void requirePartialContent(Response response, long start, long end) {
+        if (response.code() == OK) {
+            throw new EdcException(format("HTTP data for request %s changed while transferring range %s-%s", requestId, start, end));
+        }
+        if (response.code() != PARTIAL_CONTENT) {
+            throw new EdcException(format("Received code transferring range %s-%s of HTTP data for request %s: %s", start, end, requestId, response.code()));
         }
     }
 
+    /**
+     * Returns the value to send as {@code If-Range}: the entity tag if it is a strong one, as weak ones cannot be used
+     * for ranges, otherwise the last modification date, or null if the response has none of them.
+     */
+    private String validator(Response response) {
+        var etag = response.header(ETAG);
+        if (etag != null && !etag.startsWith("W/")) {
+            return etag;
+        }
+        return response.header(LAST_MODIFIED);
+    }
+
+    private boolean isRangeable(Request request) {
+        return rangeSize > 0 && "GET".equalsIgnoreCase(request.method()) && request.header(RANGE) == null;
+    }
+
+    private Request withRange(Request request, long start, long end) {
+        return request.newBuilder().header(RANGE, format("bytes=%s-%s", start, end)).build();
+    }
+
+    private ResponseBody requireBody(Response response) {
+        var body = response.body();
+        if (body == null) {
+            throw new EdcException(format("Received empty response body transferring HTTP data for request %s: %s", requestId, response.code()));
+        }
+        return body;
+    }
+
+    private String mediaType(ResponseBody body) {
+        return Optional.ofNullable(body.contentType()).map(MediaType::toString).orElse(OCTET_STREAM);
+    }
+
+    private String rangePartName(long index) {
+        return format("%s.part-%s", name, index);
+    }
+
     private record ResponseBodyStream(ResponseBody responseBody, InputStream stream) {
 
     }
 
+    /**
+     * The satisfied range of a partial response, as in {@code Content-Range: bytes 0-1023/4096}.
+     */
+    private record ContentRange(long start, long end, long length) {
+
+        private static final Pattern PATTERN = Pattern.compile("bytes (\\d+)-(\\d+)/(\\d+)");
+
+        /**
+         * Parses the header, returns null if it is missing, if the complete length is unknown or if the range does not
+         * start at the beginning of the content.
+         */
+        static ContentRange parse(String header) {
+            if (header == null) {
+                return null;
+            }
+            var matcher = PATTERN.matcher(header.trim());
+            if (!matcher.matches()) {
+                return null;
+            }
+            var range = new ContentRange(Long.parseLong(matcher.group(1)), Long.parseLong(matcher.group(2)), Long.parseLong(matcher.group(3)));
+            return range.start() == 0 && range.end() < range.length() ? range : null;
+        }
+
+        boolean isComplete() {
+            return end + 1 >= length;
+        }
+    }
+
     public static class Builder {
         private final HttpDataSource dataSource;
 
@@ -150,11 +323,40 @@ public class HttpDataSource implements DataSource {
             return this;
         }
 
+        /**
+         * Size of the byte ranges the content gets fetched in, when the server supports range requests. 0 disables
+         * ranged requests.
+         */
+        public Builder rangeSize(long rangeSize) {
+            dataSource.rangeSize = rangeSize;
+            return this;
+        }
+
+        /**
+         * Max number of ranges fetched in parallel ahead of the reader, when they are delivered as a single part.
+         */
+        public Builder rangeParallelism(int rangeParallelism) {
+            dataSource.rangeParallelism = rangeParallelism;
+            return this;
+        }
+
+        /**
+         * Deliver each range as a separate part named {@code <name>.part-<index>}, for sinks able to reassemble them.
+         * None of the sinks of this repository does it: each part is written as a separate file or object.
+         */
+        public Builder splitRanges(boolean splitRanges) {
+            dataSource.splitRanges = splitRanges;
+            return this;
+        }
+
         public HttpDataSource build() {
             Objects.requireNonNull(dataSource.requestId, "requestId");
             Objects.requireNonNull(dataSource.httpClient, "httpClient");
             Objects.requireNonNull(dataSource.monitor, "monitor");
             Objects.requireNonNull(dataSource.requestFactory, "requestFactory");
+            if (dataSource.rangeParallelism < 1) {
+                throw new IllegalArgumentException("rangeParallelism must be greater than 0");
+            }
             return dataSource;
         }
     }
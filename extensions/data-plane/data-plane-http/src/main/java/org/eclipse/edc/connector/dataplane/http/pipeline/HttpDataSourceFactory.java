@@ -38,12 +38,30 @@ public class HttpDataSourceFactory implements DataSourceFactory {
     private final HttpRequestParamsProvider requestParamsProvider;
     private final Monitor monitor;
     private final HttpRequestFactory requestFactory;
+    private final long rangeSize;
+    private final int rangeParallelism;
+    private final boolean splitRanges;
 
-    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory) {
+    /**
+     * Constructor.
+     *
+     * @param httpClient the http client.
+     * @param requestParamsProvider provides the source request parameters.
+     * @param monitor the monitor.
+     * @param requestFactory creates the requests.
+     * @param rangeSize size of the byte ranges the content gets fetched in when the server supports it, 0 disables ranged requests.
+     * @param rangeParallelism max number of ranges fetched in parallel.
+     * @param splitRanges deliver each range as a separate part, for sinks able to reassemble them. Ignored when the destination is an HTTP endpoint.
+     */
+    public HttpDataSourceFactory(EdcHttpClient httpClient, HttpRequestParamsProvider requestParamsProvider, Monitor monitor, HttpRequestFactory requestFactory,
+                                 long rangeSize, int rangeParallelism, boolean splitRanges) {
         this.httpClient = httpClient;
         this.requestParamsProvider = requestParamsProvider;
         this.monitor = monitor;
         this.requestFactory = requestFactory;
+        this.rangeSize = rangeSize;
+        this.rangeParallelism = rangeParallelism;
+        this.splitRanges = splitRanges;
     }
 
     @Override
@@ -73,6 +91,17 @@ public class HttpDataSourceFactory implements DataSourceFactory {
                 .name(dataAddress.getName())
                 .params(requestParamsProvider.provideSourceParams(request))
                 .requestFactory(requestFactory)
+                .rangeSize(rangeSize)
+                .rangeParallelism(rangeParallelism)
+                .splitRanges(splitRanges && !isHttpDestination(request))
                 .build();
     }
+
+    /**
+     * The http data sink sends every part as a separate request to the same endpoint, so the ranges must not be split.
+     */
+    private boolean isHttpDestination(DataFlowStartMessage request) {
+        var destination = request.getDestinationDataAddress();
+        return destination != null && HTTP_DATA_TYPE.equals(destination.getType());
+    }
 }
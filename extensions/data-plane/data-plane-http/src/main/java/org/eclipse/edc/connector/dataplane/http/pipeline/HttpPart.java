@@ -18,11 +18,10 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 
 import java.io.InputStream;
 
-public record HttpPart(String name, InputStream content, String mediaType) implements DataSource.Part {
+public record HttpPart(String name, InputStream content, String mediaType, long size) implements DataSource.Part {
 
-    @Override
-    public long size() {
-        return SIZE_UNKNOWN;
+    public HttpPart(String name, InputStream content, String mediaType) {
+        this(name, content, mediaType, SIZE_UNKNOWN);
     }
 
     @Override
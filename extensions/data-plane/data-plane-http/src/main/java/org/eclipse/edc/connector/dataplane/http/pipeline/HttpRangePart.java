@@ -0,0 +1,37 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * A byte range of an HTTP content, the range gets requested when the part stream is opened.
+ *
+ * @param name the part name.
+ * @param offset the position of the range in the whole content.
+ * @param size the range length.
+ * @param mediaType the content media type.
+ * @param content opens the range stream.
+ */
+public record HttpRangePart(String name, long offset, long size, String mediaType, Supplier<InputStream> content) implements DataSource.Part {
+
+    @Override
+    public InputStream openStream() {
+        return content.get();
+    }
+}
@@ -15,47 +15,127 @@
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
 import okio.BufferedSink;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.spi.EdcException;
 import org.jetbrains.annotations.NotNull;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Supplier;
 
+import static java.lang.String.format;
+
 /**
  * Writes content into an OK HTTP buffered sink.
  * <p>
- * The extra Transfer-Encoding is not created because the Content-Length is provided upfront.
- * Note that means that the all content is loaded into memory, so this method can be used for small files (up to 50MB) for e.g.
+ * The extra Transfer-Encoding is not created because the Content-Length is provided upfront. When the size of the
+ * content is known it gets streamed as is, otherwise the content is read upfront to determine its length: small
+ * contents are kept in memory, larger ones are spilled to a temporary file that is deleted when the body gets closed.
+ * <p>
+ * A streamed body is one-shot: its content can only be read once, so OkHttp does not retry or follow redirects with it
+ * and an attempt to write it again fails. Buffered bodies can be written any number of times.
  *
  * @see <a href="https://github.com/square/okhttp/blob/master/docs/features/calls.md">OkHttp Dcoumentation</a>
  */
-public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody {
+public class NonChunkedTransferRequestBody extends AbstractTransferRequestBody implements Closeable {
+
+    static final int IN_MEMORY_THRESHOLD = 1024 * 1024;
 
+    private final Supplier<InputStream> contentSupplier;
+    private final long contentLength;
+    private final AtomicBoolean streamed = new AtomicBoolean();
     private byte[] bytes;
+    private Path spillFile;
 
     public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType) {
+        this(contentSupplier, contentType, DataSource.Part.SIZE_UNKNOWN);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param contentSupplier supplies the content.
+     * @param contentType the content type.
+     * @param size the size of the content, or {@link DataSource.Part#SIZE_UNKNOWN}.
+     */
+    public NonChunkedTransferRequestBody(Supplier<InputStream> contentSupplier, String contentType, long size) {
         super(contentType);
-        try (var is = contentSupplier.get()) {
-            this.bytes = is.readAllBytes();
-        } catch (IOException e) {
-            //do nothing
+        if (size == DataSource.Part.SIZE_UNKNOWN) {
+            this.contentSupplier = null;
+            this.contentLength = buffer(contentSupplier);
+        } else {
+            this.contentSupplier = contentSupplier;
+            this.contentLength = size;
         }
     }
 
     @Override
     public long contentLength() {
-        return bytes == null ? 0 : bytes.length;
+        return contentLength;
+    }
+
+    @Override
+    public boolean isOneShot() {
+        return contentSupplier != null;
     }
 
     @Override
     public void writeTo(@NotNull BufferedSink sink) throws IOException {
-        if (bytes == null) {
-            return;
+        try (var os = sink.outputStream()) {
+            if (bytes != null) {
+                os.write(bytes);
+            } else if (spillFile != null) {
+                Files.copy(spillFile, os);
+            } else {
+                if (!streamed.compareAndSet(false, true)) {
+                    throw new IOException("The content of the request body has already been streamed and cannot be sent again");
+                }
+                try (var is = contentSupplier.get()) {
+                    var count = is.transferTo(os);
+                    if (count != contentLength) {
+                        throw new IOException(format("Expected %s bytes of content but read %s", contentLength, count));
+                    }
+                }
+            }
         }
+    }
 
-        try (var os = sink.outputStream()) {
-            os.write(bytes);
+    /**
+     * Deletes the temporary file the content has been spilled to, if any.
+     */
+    @Override
+    public void close() throws IOException {
+        if (spillFile != null) {
+            Files.deleteIfExists(spillFile);
         }
     }
-}
 
+    private long buffer(Supplier<InputStream> contentSupplier) {
+        try (var is = contentSupplier.get()) {
+            var head = is.readNBytes(IN_MEMORY_THRESHOLD);
+            var next = head.length < IN_MEMORY_THRESHOLD ? -1 : is.read();
+            if (next == -1) {
+                bytes = head;
+                return head.length;
+            }
+
+            spillFile = Files.createTempFile("edc-http-body-", ".tmp");
+            try (var os = Files.newOutputStream(spillFile)) {
+                os.write(head);
+                os.write(next);
+                return head.length + 1 + is.transferTo(os);
+            }
+        } catch (IOException e) {
+            try {
+                close();
+            } catch (IOException ignored) {
+                // do nothing
+            }
+            throw new EdcException("Cannot read the content of the request body", e);
+        }
+    }
+}
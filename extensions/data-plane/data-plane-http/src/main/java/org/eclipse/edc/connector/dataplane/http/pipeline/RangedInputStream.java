@@ -0,0 +1,141 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * Reads the consecutive byte ranges of a content as a single stream. While a range is being read, the following ones
+ * are fetched in parallel, up to the configured parallelism, so at most {@code parallelism * rangeSize} bytes are
+ * buffered.
+ */
+class RangedInputStream extends InputStream {
+
+    private final Queue<CompletableFuture<InputStream>> fetching = new ArrayDeque<>();
+    private final long length;
+    private final long rangeSize;
+    private final int parallelism;
+    private final RangeFetcher fetcher;
+    private long nextOffset;
+    private InputStream current;
+    private boolean closed;
+
+    /**
+     * Constructor, starts fetching the ranges following the first one.
+     *
+     * @param first the stream of the first range, already requested.
+     * @param firstRangeLength the length of the first range.
+     * @param length the length of the whole content.
+     * @param rangeSize the size of the ranges to fetch.
+     * @param parallelism max number of ranges fetched ahead.
+     * @param fetcher fetches a range.
+     */
+    RangedInputStream(InputStream first, long firstRangeLength, long length, long rangeSize, int parallelism, RangeFetcher fetcher) {
+        this.current = first;
+        this.nextOffset = firstRangeLength;
+        this.length = length;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+        this.fetcher = fetcher;
+        prefetch();
+    }
+
+    @Override
+    public int read() throws IOException {
+        var buffer = new byte[1];
+        var count = read(buffer, 0, 1);
+        return count == -1 ? -1 : buffer[0] & 0xff;
+    }
+
+    @Override
+    public synchronized int read(byte[] buffer, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (length == 0) {
+            return 0;
+        }
+        while (true) {
+            if (current == null) {
+                current = next();
+                if (current == null) {
+                    return -1;
+                }
+            }
+            var count = current.read(buffer, offset, length);
+            if (count != -1) {
+                return count;
+            }
+            current.close();
+            current = null;
+        }
+    }
+
+    /**
+     * Closes the current range. The ranges being fetched are left to complete, so that their responses get released.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        closed = true;
+        fetching.clear();
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+    }
+
+    private InputStream next() throws IOException {
+        var future = fetching.poll();
+        if (future == null) {
+            return null;
+        }
+        prefetch();
+        try {
+            return future.join();
+        } catch (CompletionException | CancellationException e) {
+            throw new IOException("Cannot fetch range", e.getCause() != null ? e.getCause() : e);
+        }
+    }
+
+    private void prefetch() {
+        while (fetching.size() < parallelism && nextOffset < length) {
+            var end = Math.min(nextOffset + rangeSize, length) - 1;
+            fetching.add(fetcher.fetch(nextOffset, end));
+            nextOffset = end + 1;
+        }
+    }
+
+    /**
+     * Fetches a byte range of the content.
+     */
+    @FunctionalInterface
+    interface RangeFetcher {
+
+        /**
+         * Fetches a range.
+         *
+         * @param start the first byte position, inclusive.
+         * @param end the last byte position, inclusive.
+         * @return the range content.
+         */
+        CompletableFuture<InputStream> fetch(long start, long end);
+    }
+}
@@ -62,7 +62,7 @@ class HttpDataSinkFactoryTest {
 
     @BeforeEach
     void setUp() {
-        factory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory);
+        factory = new HttpDataSinkFactory(httpClient, executorService, 5, 10, monitor, provider, requestFactory);
     }
 
     @Test
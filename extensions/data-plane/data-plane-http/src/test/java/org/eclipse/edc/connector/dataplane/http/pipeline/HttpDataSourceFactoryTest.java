@@ -48,7 +48,7 @@ class HttpDataSourceFactoryTest {
 
     @BeforeEach
     void setUp() {
-        factory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory);
+        factory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory, 0, 1, false);
     }
 
     @Test
@@ -100,6 +100,19 @@ class HttpDataSourceFactoryTest {
         assertThat(source).usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void createSource_shouldNotSplitRanges_whenDestinationIsHttp() {
+        var splittingFactory = new HttpDataSourceFactory(httpClient, provider, monitor, requestFactory, 4, 1, true);
+        var source = HttpDataAddress.Builder.newInstance().name("test address name").build();
+        var httpDestination = DataAddress.Builder.newInstance().type(HTTP_DATA_TYPE).build();
+        var otherDestination = DataAddress.Builder.newInstance().type("Test type").build();
+
+        assertThat(splittingFactory.createSource(TestFunctions.createRequest(emptyMap(), source, httpDestination).build()))
+                .extracting("splitRanges").isEqualTo(false);
+        assertThat(splittingFactory.createSource(TestFunctions.createRequest(emptyMap(), source, otherDestination).build()))
+                .extracting("splitRanges").isEqualTo(true);
+    }
+
     private DataFlowStartMessage createRequest(DataAddress source) {
         return TestFunctions.createRequest(emptyMap(), source, DataAddress.Builder.newInstance().type("Test type").build()).build();
     }
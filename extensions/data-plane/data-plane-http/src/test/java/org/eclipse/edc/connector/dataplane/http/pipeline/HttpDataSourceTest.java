@@ -21,7 +21,9 @@ import okhttp3.Response;
 import okhttp3.ResponseBody;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
@@ -34,12 +36,15 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import static okhttp3.Protocol.HTTP_1_1;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.GENERAL_ERROR;
 import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamFailure.Reason.NOT_AUTHORIZED;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
@@ -107,6 +112,87 @@ class HttpDataSourceTest {
         verify(stream).close();
     }
 
+    @Test
+    void openPartStream_shouldFetchRangesInParallel_andDeliverThemInOrder() {
+        var content = "0123456789";
+        var interceptor = new RangeInterceptor(content, true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(4).rangeParallelism(2).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> {
+            assertThat(part.size()).isEqualTo(10);
+            assertThat(part.openStream()).hasContent(content);
+        });
+        assertThat(interceptor.requests).extracting(request -> request.header("Range"))
+                .containsExactlyInAnyOrder("bytes=0-3", "bytes=4-7", "bytes=8-9");
+        assertThat(interceptor.requests).extracting(request -> request.header("If-Range"))
+                .containsExactlyInAnyOrder(null, "\"v1\"", "\"v1\"");
+    }
+
+    @Test
+    void openPartStream_shouldFail_whenContentChangesBetweenRanges() {
+        var interceptor = new RangeInterceptor("0123456789", true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(4).splitRanges(true).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+        interceptor.etag = "\"v2\"";
+
+        assertThatThrownBy(() -> parts.get(1).openStream()).isInstanceOf(EdcException.class).hasMessageContaining("changed");
+    }
+
+    @Test
+    void openPartStream_shouldReturnWholeContent_whenFirstRangeHasNoValidator() {
+        var content = "0123456789";
+        var interceptor = new RangeInterceptor(content, true);
+        interceptor.etag = null;
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> assertThat(part.openStream()).hasContent(content));
+        assertThat(interceptor.requests).extracting(request -> request.header("Range")).containsExactly("bytes=0-3", null);
+    }
+
+    @Test
+    void openPartStream_shouldDeliverRangesAsSeparateParts_whenSplitRangesIsEnabled() {
+        var interceptor = new RangeInterceptor("0123456789", true);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(4).splitRanges(true).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(3);
+        assertThat(parts).extracting(DataSource.Part::name).containsExactly("test-name.part-0", "test-name.part-1", "test-name.part-2");
+        assertThat(parts).extracting(DataSource.Part::size).containsExactly(4L, 4L, 2L);
+        assertThat(parts).extracting(part -> ((HttpRangePart) part).offset()).containsExactly(0L, 4L, 8L);
+        assertThat(parts.get(2).openStream()).hasContent("89");
+    }
+
+    @Test
+    void openPartStream_shouldReturnWholeContent_whenServerDoesNotSupportRanges() {
+        var content = "0123456789";
+        var interceptor = new RangeInterceptor(content, false);
+        var source = defaultBuilder(interceptor).params(mock()).requestFactory(requestFactory)
+                .rangeSize(4).build();
+        when(requestFactory.toRequest(any())).thenReturn(dummyRequest());
+
+        var parts = source.openPartStream().getContent().toList();
+
+        assertThat(parts).hasSize(1).first().satisfies(part -> {
+            assertThat(part.size()).isEqualTo(10);
+            assertThat(part.openStream()).hasContent(content);
+        });
+        assertThat(interceptor.requests).hasSize(1);
+    }
+
     @NotNull
     private Request dummyRequest() {
         return new Request.Builder().url("http://some.test.url/").get().build();
@@ -165,4 +251,43 @@ class HttpDataSourceTest {
                     .orElseThrow(() -> new AssertionError("No request intercepted"));
         }
     }
+
+    static final class RangeInterceptor implements Interceptor {
+        private final List<Request> requests = new CopyOnWriteArrayList<>();
+        private final byte[] content;
+        private final boolean supportsRanges;
+        private volatile String etag = "\"v1\"";
+
+        RangeInterceptor(String content, boolean supportsRanges) {
+            this.content = content.getBytes();
+            this.supportsRanges = supportsRanges;
+        }
+
+        @NotNull
+        @Override
+        public Response intercept(@NotNull Interceptor.Chain chain) {
+            requests.add(chain.request());
+            var builder = new Response.Builder()
+                    .request(chain.request())
+                    .protocol(HTTP_1_1)
+                    .message("Test message");
+
+            if (etag != null) {
+                builder.header("ETag", etag);
+            }
+            var range = chain.request().header("Range");
+            var ifRange = chain.request().header("If-Range");
+            if (!supportsRanges || range == null || (ifRange != null && !ifRange.equals(etag))) {
+                return builder.code(200).body(ResponseBody.create(content, MediaType.parse("text/plain"))).build();
+            }
+
+            var bounds = range.substring("bytes=".length()).split("-");
+            var start = Integer.parseInt(bounds[0]);
+            var end = Math.min(Integer.parseInt(bounds[1]), content.length - 1);
+            return builder.code(206)
+                    .header("Content-Range", "bytes %d-%d/%d".formatted(start, end, content.length))
+                    .body(ResponseBody.create(Arrays.copyOfRange(content, start, end + 1), MediaType.parse("text/plain")))
+                    .build();
+        }
+    }
 }
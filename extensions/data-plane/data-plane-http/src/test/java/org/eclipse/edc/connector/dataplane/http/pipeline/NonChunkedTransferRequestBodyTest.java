@@ -22,8 +22,11 @@ import org.junit.jupiter.api.Test;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -62,4 +65,92 @@ class NonChunkedTransferRequestBodyTest {
 
         assertThat(outputStream).hasToString("");
     }
+
+    @Test
+    void verifyContentIsStreamed_whenSizeIsKnown() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+        var reads = new AtomicInteger();
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            reads.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.getBytes().length);
+
+        assertThat(body.contentLength()).isEqualTo(content.getBytes().length);
+        assertThat(reads).hasValue(0);
+
+        body.writeTo(sink);
+
+        assertThat(outputStream).hasToString(content);
+        assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    void verifyStreamedBodyIsOneShot() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        when(sink.outputStream()).thenReturn(new ByteArrayOutputStream());
+        var reads = new AtomicInteger();
+
+        var body = new NonChunkedTransferRequestBody(() -> {
+            reads.incrementAndGet();
+            return new ByteArrayInputStream(content.getBytes());
+        }, HttpDataAddress.OCTET_STREAM, content.getBytes().length);
+
+        assertThat(body.isOneShot()).isTrue();
+
+        body.writeTo(sink);
+
+        assertThatThrownBy(() -> body.writeTo(sink)).isInstanceOf(IOException.class).hasMessageContaining("cannot be sent again");
+        assertThat(reads).hasValue(1);
+    }
+
+    @Test
+    void verifyBufferedBodyCanBeWrittenAgain() throws IOException {
+        var content = "Test Content";
+        var sink = mock(BufferedSink.class);
+        var first = new ByteArrayOutputStream();
+        var second = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(first, second);
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content.getBytes()), HttpDataAddress.OCTET_STREAM);
+
+        assertThat(body.isOneShot()).isFalse();
+
+        body.writeTo(sink);
+        body.writeTo(sink);
+
+        assertThat(first).hasToString(content);
+        assertThat(second).hasToString(content);
+    }
+
+    @Test
+    void verifyWriteFails_whenContentDoesNotMatchKnownSize() {
+        var sink = mock(BufferedSink.class);
+        when(sink.outputStream()).thenReturn(new ByteArrayOutputStream());
+
+        var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream("short".getBytes()), HttpDataAddress.OCTET_STREAM, 100);
+
+        assertThatThrownBy(() -> body.writeTo(sink)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void verifyLargeContentIsSpilled_whenSizeIsUnknown() throws IOException {
+        var content = new byte[NonChunkedTransferRequestBody.IN_MEMORY_THRESHOLD + 10];
+        new Random().nextBytes(content);
+        var sink = mock(BufferedSink.class);
+        var outputStream = new ByteArrayOutputStream();
+        when(sink.outputStream()).thenReturn(outputStream);
+
+        try (var body = new NonChunkedTransferRequestBody(() -> new ByteArrayInputStream(content), HttpDataAddress.OCTET_STREAM)) {
+            assertThat(body.contentLength()).isEqualTo(content.length);
+
+            body.writeTo(sink);
+        }
+
+        assertThat(outputStream.toByteArray()).isEqualTo(content);
+    }
 }
@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSinkFactory;
 import org.eclipse.edc.dataplane.kafka.pipeline.KafkaDataSourceFactory;
+import org.eclipse.edc.dataplane.kafka.pipeline.KafkaProducerPool;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
@@ -37,6 +38,11 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Setting(value = "The partitionSize used by the kafka data sink", type = "int", defaultValue = "5", min = 1)
     private static final String EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE = "edc.dataplane.kafka.sink.partition.size";
 
+    private static final int DEFAULT_MAX_IN_FLIGHT_PARTITIONS = 10;
+
+    @Setting(value = "Max number of partitions transferred concurrently by the kafka data sink, 0 means unbounded", type = "int", defaultValue = "10", min = 0)
+    private static final String EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT_PARTITIONS = "edc.dataplane.kafka.sink.max-in-flight-partitions";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -46,6 +52,8 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Inject
     private Clock clock;
 
+    private final KafkaProducerPool producerPool = new KafkaProducerPool();
+
     @Override
     public String name() {
         return NAME;
@@ -57,8 +65,14 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
         var propertiesFactory = new KafkaPropertiesFactory();
         
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
+        var sinkMaxInFlightPartitions = context.getSetting(EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT_PARTITIONS, DEFAULT_MAX_IN_FLIGHT_PARTITIONS);
 
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkPartitionSize));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, producerPool, sinkPartitionSize, sinkMaxInFlightPartitions));
+    }
+
+    @Override
+    public void shutdown() {
+        producerPool.close();
     }
 }
@@ -14,61 +14,146 @@
 
 package org.eclipse.edc.dataplane.kafka.pipeline;
 
-import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
-
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Publishes the parts on a topic with a producer shared with the other flows targeting the same cluster. Sends are
+ * asynchronous, the flow completes once all its sends have been acknowledged. The producer is never flushed, as that
+ * would also force out the batches of the other flows sharing it. The wait for the acknowledgements is bounded by the
+ * producer {@code delivery.timeout.ms}, after which the sends are reported as failed by the producer anyway.
+ * Records coming from a {@link KafkaDataSource} are forwarded with their key and headers.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
+    private static final long DEFAULT_DELIVERY_TIMEOUT_MS = 120_000;
+
     private String topic;
+    private KafkaProducerPool.Lease lease;
     private Producer<String, byte[]> producer;
+    private final Object pendingLock = new Object();
+    private long pendingSends;
+    private final AtomicReference<Exception> sendFailure = new AtomicReference<>();
+    private long deliveryTimeoutMillis;
 
     private KafkaDataSink() {
     }
-    
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        return super.transfer(source).whenComplete((result, throwable) -> close());
+    }
+
+    /**
+     * Releases the producer.
+     */
     @Override
     public void close() {
-        if (producer != null) {
-            producer.close();
-        }
+        lease.close();
     }
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        for (var part : parts) {
+            var failure = sendFailure.get();
+            if (failure != null) {
+                return StreamResult.error("Failed to publish message: " + failure.getMessage());
+            }
+            var result = publishPart(part);
+            if (result.failed()) {
+                return result;
+            }
+        }
+        return StreamResult.success();
+    }
+
+    /**
+     * Waits for the acknowledgement of all the sends of the flow.
+     */
+    @Override
+    protected StreamResult<Object> complete() {
+        try {
+            var deadline = System.currentTimeMillis() + deliveryTimeoutMillis;
+            synchronized (pendingLock) {
+                while (pendingSends > 0) {
+                    var remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0) {
+                        return StreamResult.error("Timed out waiting for the acknowledgement of %s published messages".formatted(pendingSends));
+                    }
+                    pendingLock.wait(remaining);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return StreamResult.error("Interrupted while waiting for the acknowledgement of the published messages");
+        }
+
+        var failure = sendFailure.get();
+        if (failure != null) {
+            return StreamResult.error("Failed to publish message: " + failure.getMessage());
+        }
+        return StreamResult.success();
     }
 
     private StreamResult<Object> publishPart(DataSource.Part part) {
-        try (var is = part.openStream()) {
+        ProducerRecord<String, byte[]> record;
+        if (part instanceof KafkaDataSource.KafkaPart kafkaPart) {
+            var consumerRecord = kafkaPart.record();
+            record = new ProducerRecord<>(topic, null, consumerRecord.key(), consumerRecord.value(), consumerRecord.headers());
+        } else {
+            try (var is = countingBytes(part).openStream()) {
+                record = new ProducerRecord<>(topic, null, is.readAllBytes());
+            } catch (IOException e) {
+                return StreamResult.error("Failed to open part with name: " + part.name());
+            }
+        }
+
+        synchronized (pendingLock) {
+            pendingSends++;
+        }
+        try {
             // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
-            return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+            producer.send(record, this::acknowledge);
+        } catch (RuntimeException e) {
+            // the callback is not invoked when the send fails synchronously
+            sendFailure.compareAndSet(null, e);
+            synchronized (pendingLock) {
+                pendingSends--;
+                pendingLock.notifyAll();
+            }
+            return StreamResult.error("Failed to publish message: " + e.getMessage());
+        }
+        return StreamResult.success();
+    }
+
+    private void acknowledge(RecordMetadata metadata, Exception exception) {
+        if (exception != null) {
+            monitor.warning("Failed to publish message:  " + metadata, exception);
+            sendFailure.compareAndSet(null, exception);
+        }
+        synchronized (pendingLock) {
+            pendingSends--;
+            pendingLock.notifyAll();
         }
     }
 
     public static class Builder extends ParallelSink.Builder<Builder, KafkaDataSink> {
 
         private Properties producerProperties;
+        private KafkaProducerPool producerPool;
 
         public static Builder newInstance() {
             return new Builder();
@@ -88,13 +173,22 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        public Builder producerPool(KafkaProducerPool producerPool) {
+            this.producerPool = producerPool;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
             Objects.requireNonNull(producerProperties, "producerProperties");
+            Objects.requireNonNull(producerPool, "producerPool");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            var deliveryTimeout = producerProperties.get(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG);
+            sink.deliveryTimeoutMillis = deliveryTimeout == null ? DEFAULT_DELIVERY_TIMEOUT_MS : Long.parseLong(deliveryTimeout.toString());
+            sink.lease = producerPool.acquire(producerProperties);
+            sink.producer = sink.lease.producer();
         }
     }
 }
@@ -37,15 +37,20 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final ExecutorService executorService;
     private final Monitor monitor;
     private final KafkaPropertiesFactory propertiesFactory;
+    private final KafkaProducerPool producerPool;
     private final Validator<DataAddress> validation;
     private final int partitionSize;
+    private final int maxInFlightPartitions;
 
-    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize) {
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, KafkaProducerPool producerPool,
+                                int partitionSize, int maxInFlightPartitions) {
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
+        this.producerPool = producerPool;
         this.validation = new KafkaDataAddressValidator();
         this.partitionSize = partitionSize;
+        this.maxInFlightPartitions = maxInFlightPartitions;
     }
 
     @Override
@@ -75,7 +80,9 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
                 .requestId(request.getId())
                 .topic(destination.getStringProperty(TOPIC))
                 .producerProperties(producerProps)
+                .producerPool(producerPool)
                 .partitionSize(partitionSize)
+                .maxInFlightPartitions(maxInFlightPartitions)
                 .executorService(executorService)
                 .build();
     }
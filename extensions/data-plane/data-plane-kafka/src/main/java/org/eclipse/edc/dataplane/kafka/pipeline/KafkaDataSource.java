@@ -62,7 +62,7 @@ class KafkaDataSource implements DataSource {
         var stream = openRecordsStream()
                 .flatMap(consumerRecords -> consumerRecords.partitions().stream()
                         .flatMap(p -> consumerRecords.records(p).stream())
-                        .map(KafkaPart::new)
+                        .map(consumerRecord -> new KafkaPart(name, consumerRecord))
                         .map(Part.class::cast))
                 .onClose(() -> consumer.close());
 
@@ -137,11 +137,16 @@ class KafkaDataSource implements DataSource {
         }
     }
 
-    private class KafkaPart implements Part {
+    /**
+     * A consumed record, that a {@link KafkaDataSink} can forward as is.
+     */
+    static class KafkaPart implements Part {
 
+        private final String name;
         private final ConsumerRecord<String, byte[]> consumerRecord;
 
-        private KafkaPart(ConsumerRecord<String, byte[]> consumerRecord) {
+        KafkaPart(String name, ConsumerRecord<String, byte[]> consumerRecord) {
+            this.name = name;
             this.consumerRecord = consumerRecord;
         }
 
@@ -150,10 +155,19 @@ class KafkaDataSource implements DataSource {
             return name;
         }
 
+        @Override
+        public long size() {
+            return consumerRecord.value() == null ? 0 : consumerRecord.value().length;
+        }
+
         @Override
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        ConsumerRecord<String, byte[]> record() {
+            return consumerRecord;
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.Producer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * Shares the Kafka producers between the data flows that target the same cluster with the same configuration
+ * (bootstrap servers, security settings...). A producer is created on the first lease of a configuration, and closed
+ * when its last lease is released.
+ */
+public class KafkaProducerPool implements AutoCloseable {
+
+    private final Function<Properties, Producer<String, byte[]>> producerFactory;
+    private final Map<Map<Object, Object>, PooledProducer> producers = new HashMap<>();
+
+    public KafkaProducerPool() {
+        this(KafkaProducer::new);
+    }
+
+    public KafkaProducerPool(Function<Properties, Producer<String, byte[]>> producerFactory) {
+        this.producerFactory = producerFactory;
+    }
+
+    /**
+     * Leases the producer of a configuration, creating it if needed. The lease must be closed when the producer is not
+     * used anymore.
+     *
+     * @param properties the producer properties.
+     * @return the lease.
+     */
+    public synchronized Lease acquire(Properties properties) {
+        var key = Map.copyOf(properties);
+        var pooled = producers.computeIfAbsent(key, k -> new PooledProducer(producerFactory.apply(properties)));
+        pooled.leases++;
+        return new Lease(key, pooled.producer);
+    }
+
+    /**
+     * Returns the number of producers in the pool.
+     *
+     * @return the number of producers.
+     */
+    public synchronized int size() {
+        return producers.size();
+    }
+
+    /**
+     * Closes all the producers, regardless of their leases.
+     */
+    @Override
+    public synchronized void close() {
+        producers.values().forEach(pooled -> pooled.producer.close());
+        producers.clear();
+    }
+
+    private synchronized void release(Map<Object, Object> key, Producer<String, byte[]> producer) {
+        var pooled = producers.get(key);
+        if (pooled != null && pooled.producer == producer && --pooled.leases == 0) {
+            producers.remove(key);
+            pooled.producer.close();
+        }
+    }
+
+    private static class PooledProducer {
+        private final Producer<String, byte[]> producer;
+        private int leases;
+
+        PooledProducer(Producer<String, byte[]> producer) {
+            this.producer = producer;
+        }
+    }
+
+    /**
+     * A lease on a pooled producer, closing it releases the producer at most once.
+     */
+    public class Lease implements AutoCloseable {
+        private final Map<Object, Object> key;
+        private final Producer<String, byte[]> producer;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Lease(Map<Object, Object> key, Producer<String, byte[]> producer) {
+            this.key = key;
+            this.producer = producer;
+        }
+
+        public Producer<String, byte[]> producer() {
+            return producer;
+        }
+
+        @Override
+        public void close() {
+            if (released.compareAndSet(false, true)) {
+                release(key, producer);
+            }
+        }
+    }
+}
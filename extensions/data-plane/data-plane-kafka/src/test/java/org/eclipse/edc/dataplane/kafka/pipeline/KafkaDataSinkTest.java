@@ -0,0 +1,140 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.ByteArrayInputStream;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    @SuppressWarnings("unchecked")
+    private final Producer<String, byte[]> producer = mock(Producer.class);
+    private final KafkaProducerPool pool = new KafkaProducerPool(properties -> producer);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldComplete_onlyWhenSendsAreAcknowledged() {
+        var callback = ArgumentCaptor.forClass(Callback.class);
+        var source = new InputStreamDataSource("name", new ByteArrayInputStream("data".getBytes()));
+
+        var result = sink().transfer(source);
+
+        await().untilAsserted(() -> verify(producer).send(any(), callback.capture()));
+        assertThat(result).isNotDone();
+
+        callback.getValue().onCompletion(null, null);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isSucceeded());
+        verify(producer, never()).flush();
+        verify(producer).close();
+    }
+
+    @Test
+    void transfer_shouldFail_whenSendIsNotAcknowledged() {
+        var callback = ArgumentCaptor.forClass(Callback.class);
+        var source = new InputStreamDataSource("name", new ByteArrayInputStream("data".getBytes()));
+
+        var result = sink().transfer(source);
+
+        await().untilAsserted(() -> verify(producer).send(any(), callback.capture()));
+        callback.getValue().onCompletion(null, new RuntimeException("broker unavailable"));
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isFailed());
+    }
+
+    @Test
+    void transfer_shouldFail_whenSendThrows() {
+        when(producer.send(any(), any())).thenThrow(new IllegalStateException("producer closed"));
+        var source = new InputStreamDataSource("name", new ByteArrayInputStream("data".getBytes()));
+
+        var result = sink().transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isFailed().detail().contains("producer closed"));
+    }
+
+    @Test
+    void transfer_shouldFail_whenSendIsNotAcknowledgedWithinDeliveryTimeout() {
+        var properties = new Properties();
+        properties.put("delivery.timeout.ms", "100");
+        var source = new InputStreamDataSource("name", new ByteArrayInputStream("data".getBytes()));
+
+        var result = sink(properties).transfer(source);
+
+        assertThat(result).succeedsWithin(5, TimeUnit.SECONDS).satisfies(r -> assertThat(r).isFailed().detail().contains("Timed out"));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transfer_shouldForwardKeyAndHeaders_whenPartComesFromKafka() {
+        var consumerRecord = new ConsumerRecord<>("source-topic", 0, 0L, "key", "data".getBytes());
+        consumerRecord.headers().add("header", "value".getBytes());
+        DataSource source = mock();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(new KafkaDataSource.KafkaPart("name", consumerRecord))));
+        var record = ArgumentCaptor.forClass(ProducerRecord.class);
+
+        sink().transfer(source);
+
+        await().untilAsserted(() -> verify(producer).send(record.capture(), any()));
+        assertThat(record.getValue().topic()).isEqualTo("topic");
+        assertThat(record.getValue().key()).isEqualTo("key");
+        assertThat((byte[]) record.getValue().value()).isEqualTo("data".getBytes());
+        assertThat(record.getValue().headers().lastHeader("header").value()).isEqualTo("value".getBytes());
+    }
+
+    private KafkaDataSink sink() {
+        return sink(new Properties());
+    }
+
+    private KafkaDataSink sink(Properties producerProperties) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("request-id")
+                .topic("topic")
+                .producerProperties(producerProperties)
+                .producerPool(pool)
+                .partitionSize(1)
+                .executorService(executor)
+                .monitor(mock())
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.producer.Producer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class KafkaProducerPoolTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaProducerPool pool = new KafkaProducerPool(properties -> mock(Producer.class));
+
+    @Test
+    void acquire_shouldShareProducer_whenPropertiesAreEqual() {
+        var first = pool.acquire(properties("broker:9092"));
+        var second = pool.acquire(properties("broker:9092"));
+
+        assertThat(first.producer()).isSameAs(second.producer());
+        assertThat(pool.size()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldCreateProducer_whenPropertiesDiffer() {
+        var first = pool.acquire(properties("broker:9092"));
+        var second = pool.acquire(properties("another-broker:9092"));
+
+        assertThat(first.producer()).isNotSameAs(second.producer());
+        assertThat(pool.size()).isEqualTo(2);
+    }
+
+    @Test
+    void release_shouldCloseProducer_whenLastLeaseIsReleased() {
+        var first = pool.acquire(properties("broker:9092"));
+        var second = pool.acquire(properties("broker:9092"));
+
+        first.close();
+        first.close();
+        verify(first.producer(), never()).close();
+
+        second.close();
+        verify(second.producer()).close();
+        assertThat(pool.size()).isZero();
+    }
+
+    private Properties properties(String bootstrapServers) {
+        var properties = new Properties();
+        properties.put("bootstrap.servers", bootstrapServers);
+        return properties;
+    }
+}
@@ -100,6 +100,9 @@ public class DataPlaneSignalingApiController implements DataPlaneSignalingApi {
                 .onFailure(f -> monitor.warning("Error transforming %s: %s".formatted(DataFlowTerminateMessage.class, f.getFailureDetail())))
                 .orElseThrow(InvalidRequestException::new);
 
+        dataPlaneAuthorizationService.revokeEndpointDataReference(dataFlowId)
+                .onFailure(f -> monitor.warning("Error revoking the EDR of DataFlow %s: %s".formatted(dataFlowId, f.getFailureDetail())));
+
         dataPlaneManager.terminate(dataFlowId, msg.getReason())
                 .orElseThrow(InvalidRequestException::new);
     }
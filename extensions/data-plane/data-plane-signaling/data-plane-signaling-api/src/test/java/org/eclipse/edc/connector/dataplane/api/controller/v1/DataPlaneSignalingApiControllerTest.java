@@ -189,6 +189,7 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
                 .thenReturn(success(DataFlowTerminateMessage.Builder.newInstance().reason("test-reason").build()));
         var flowId = "test-id";
         when(dataplaneManager.terminate(eq(flowId), any())).thenReturn(StatusResult.success());
+        when(authService.revokeEndpointDataReference(flowId)).thenReturn(success());
 
         var jsonObject = Json.createObjectBuilder().build();
         baseRequest()
@@ -197,6 +198,28 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
                 .post("/v1/dataflows/%s/terminate".formatted(flowId))
                 .then()
                 .statusCode(204);
+
+        verify(authService).revokeEndpointDataReference(flowId);
+    }
+
+    @DisplayName("Expect HTTP 204 when DataFlow is terminated even if its EDR cannot be revoked")
+    @Test
+    void terminate_whenRevocationFails() {
+        when(transformerRegistry.transform(isA(JsonObject.class), eq(DataFlowTerminateMessage.class)))
+                .thenReturn(success(DataFlowTerminateMessage.Builder.newInstance().reason("test-reason").build()));
+        var flowId = "test-id";
+        when(dataplaneManager.terminate(eq(flowId), any())).thenReturn(StatusResult.success());
+        when(authService.revokeEndpointDataReference(flowId)).thenReturn(failure("not supported"));
+
+        var jsonObject = Json.createObjectBuilder().build();
+        baseRequest()
+                .contentType(ContentType.JSON)
+                .body(jsonObject)
+                .post("/v1/dataflows/%s/terminate".formatted(flowId))
+                .then()
+                .statusCode(204);
+
+        verify(dataplaneManager).terminate(eq(flowId), any());
     }
 
     @DisplayName("Expect HTTP 400 when DataFlow is cannot be terminated")
@@ -206,6 +229,7 @@ class DataPlaneSignalingApiControllerTest extends RestControllerTestBase {
                 .thenReturn(success(DataFlowTerminateMessage.Builder.newInstance().reason("test-reason").build()));
         var flowId = "test-id";
         when(dataplaneManager.terminate(eq(flowId), any())).thenReturn(StatusResult.failure(ResponseStatus.FATAL_ERROR));
+        when(authService.revokeEndpointDataReference(flowId)).thenReturn(success());
 
         var jsonObject = Json.createObjectBuilder().build();
         baseRequest()
@@ -19,9 +19,16 @@ CREATE TABLE IF NOT EXISTS edc_accesstokendata
     id           VARCHAR NOT NULL PRIMARY KEY,
     claim_token  JSON    NOT NULL,
     data_address JSON    NOT NULL,
-    additional_properties JSON DEFAULT '{}'
+    additional_properties JSON DEFAULT '{}',
+    expires_at   BIGINT
 );
 
+-- adds the expiration to tables created before it was introduced
+ALTER TABLE edc_accesstokendata ADD COLUMN IF NOT EXISTS expires_at BIGINT;
+
+CREATE INDEX IF NOT EXISTS accesstokendata_expires_at_index ON edc_accesstokendata (expires_at);
+
 COMMENT ON COLUMN edc_accesstokendata.claim_token IS 'ClaimToken serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.data_address IS 'DataAddress serialized as JSON map';
 COMMENT ON COLUMN edc_accesstokendata.additional_properties IS 'Optional Additional properties serialized as JSON map';
+COMMENT ON COLUMN edc_accesstokendata.expires_at IS 'Expiration of the token as epoch millis, NULL if it never expires';
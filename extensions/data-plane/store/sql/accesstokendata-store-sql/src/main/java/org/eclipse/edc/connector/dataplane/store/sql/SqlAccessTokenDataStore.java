@@ -34,9 +34,12 @@ import org.jetbrains.annotations.Nullable;
 import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
+import static java.util.Optional.ofNullable;
 import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
@@ -112,13 +115,50 @@ public class SqlAccessTokenDataStore extends AbstractSqlStore implements AccessT
         });
     }
 
+    @Override
+    public StoreResult<List<String>> deleteExpired(Instant now, int limit) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var sql = statements.getDeleteExpiredTemplate();
+                try (var stream = queryExecutor.query(connection, false, r -> r.getString(statements.getIdColumn()), sql, now.toEpochMilli(), limit)) {
+                    return StoreResult.success(stream.toList());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long countExpired(Instant now) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, true, r -> r.getLong(1), statements.getCountExpiredTemplate(), now.toEpochMilli());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public long countLive(Instant now) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                return queryExecutor.single(connection, true, r -> r.getLong(1), statements.getCountLiveTemplate(), now.toEpochMilli());
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     private void insert(Connection connection, AccessTokenData dataFlow) {
         var sql = statements.getInsertTemplate();
         queryExecutor.execute(connection, sql,
                 dataFlow.id(),
                 toJson(dataFlow.claimToken()),
                 toJson(dataFlow.dataAddress()),
-                toJson(dataFlow.additionalProperties())
+                toJson(dataFlow.additionalProperties()),
+                ofNullable(dataFlow.expiresAt()).map(Instant::toEpochMilli).orElse(null)
         );
     }
 
@@ -128,8 +168,10 @@ public class SqlAccessTokenDataStore extends AbstractSqlStore implements AccessT
         var dataAddress = fromJson(resultSet.getString(statements.getDataAddressColumn()), DataAddress.class);
         var additionalProperties = fromJson(resultSet.getString(statements.getAdditionalPropertiesColumn()), MAP_TYPE_REF);
         var id = resultSet.getString(statements.getIdColumn());
+        var expiresAt = resultSet.getLong(statements.getExpiresAtColumn());
+        var expiration = resultSet.wasNull() ? null : Instant.ofEpochMilli(expiresAt);
 
-        return new AccessTokenData(id, claimToken, dataAddress, additionalProperties);
+        return new AccessTokenData(id, claimToken, dataAddress, additionalProperties, expiration);
     }
 
     private @Nullable AccessTokenData findByIdInternal(Connection conn, String id) {
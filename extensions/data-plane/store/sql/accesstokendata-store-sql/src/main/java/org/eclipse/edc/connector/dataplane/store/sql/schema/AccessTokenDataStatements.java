@@ -43,12 +43,32 @@ public interface AccessTokenDataStatements extends SqlStatements {
         return "additional_properties";
     }
 
+    default String getExpiresAtColumn() {
+        return "expires_at";
+    }
+
     String getInsertTemplate();
 
     String getSelectTemplate();
 
     String getDeleteTemplate();
 
+    /**
+     * Deletes a bounded batch of expired rows, takes the expiration instant (epoch millis) and the batch size as parameters,
+     * returns the IDs of the deleted rows.
+     */
+    String getDeleteExpiredTemplate();
+
+    /**
+     * Counts the expired rows, takes the expiration instant (epoch millis) as parameter.
+     */
+    String getCountExpiredTemplate();
+
+    /**
+     * Counts the rows that are not expired or never expire, takes the expiration instant (epoch millis) as parameter.
+     */
+    String getCountLiveTemplate();
+
     SqlQueryStatement createQuery(QuerySpec querySpec);
 
 }
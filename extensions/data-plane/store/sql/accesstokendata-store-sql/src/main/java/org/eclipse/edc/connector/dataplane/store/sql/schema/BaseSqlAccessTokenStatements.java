@@ -19,6 +19,8 @@ import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.translation.SqlOperatorTranslator;
 import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
+import static java.lang.String.format;
+
 public class BaseSqlAccessTokenStatements implements AccessTokenDataStatements {
 
     protected final SqlOperatorTranslator operatorTranslator;
@@ -34,6 +36,7 @@ public class BaseSqlAccessTokenStatements implements AccessTokenDataStatements {
                 .jsonColumn(getClaimTokenColumn())
                 .jsonColumn(getDataAddressColumn())
                 .jsonColumn(getAdditionalPropertiesColumn())
+                .column(getExpiresAtColumn())
                 .insertInto(getTableName());
     }
 
@@ -48,6 +51,22 @@ public class BaseSqlAccessTokenStatements implements AccessTokenDataStatements {
                 .delete(getTableName(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredTemplate() {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s <= ? LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING %s",
+                getTableName(), getIdColumn(), getIdColumn(), getTableName(), getExpiresAtColumn(), getIdColumn());
+    }
+
+    @Override
+    public String getCountExpiredTemplate() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s <= ?", getTableName(), getExpiresAtColumn());
+    }
+
+    @Override
+    public String getCountLiveTemplate() {
+        return format("SELECT COUNT(*) FROM %s WHERE %s IS NULL OR %s > ?", getTableName(), getExpiresAtColumn(), getExpiresAtColumn());
+    }
+
     @Override
     public SqlQueryStatement createQuery(QuerySpec querySpec) {
         return new SqlQueryStatement(getSelectTemplate(), querySpec, new AccessTokenDataMapping(this), operatorTranslator);
@@ -30,5 +30,6 @@ public class AccessTokenDataMapping extends TranslationMapping {
         add("claimToken", new JsonFieldTranslator(statements.getClaimTokenColumn()));
         add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
         add("additionalProperties", new JsonFieldTranslator(statements.getAdditionalPropertiesColumn()));
+        add("expiresAt", statements.getExpiresAtColumn());
     }
 }
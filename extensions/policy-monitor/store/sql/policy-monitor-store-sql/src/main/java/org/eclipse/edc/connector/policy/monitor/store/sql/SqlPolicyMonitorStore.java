@@ -76,14 +76,15 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis())
+                    .forUpdateSkipLocked(statements.getPolicyMonitorTable());
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
+                leaseContext.withConnection(connection).acquireLeases(entries.stream().map(PolicyMonitorEntry::getId).toList());
                 return entries;
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
@@ -93,4 +93,14 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
         return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getPolicyMonitorTable(), getIdColumn());
     }
+
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeasesTemplate(getPolicyMonitorTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeasesTemplate(getPolicyMonitorTable(), getIdColumn(), count);
+    }
 }
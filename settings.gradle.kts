@@ -156,6 +156,7 @@ include(":extensions:control-plane:transfer:transfer-data-plane")
 include(":extensions:control-plane:transfer:transfer-pull-http-receiver")
 include(":extensions:control-plane:transfer:transfer-pull-http-dynamic-receiver")
 include(":extensions:control-plane:provision:provision-http")
+include(":extensions:control-plane:catalog-micrometer")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
@@ -184,6 +185,7 @@ include(":extensions:data-plane:data-plane-integration-tests")
 include(":extensions:data-plane:store:sql:data-plane-store-sql")
 include(":extensions:data-plane:store:sql:accesstokendata-store-sql")
 include(":extensions:data-plane:data-plane-kafka")
+include(":extensions:data-plane:data-plane-fs")
 
 include(":extensions:data-plane-selector:data-plane-selector-api")
 include(":extensions:data-plane-selector:data-plane-selector-client")
@@ -203,6 +205,7 @@ include(":spi:common:catalog-spi")
 include(":spi:common:core-spi")
 include(":spi:common:data-address:data-address-http-data-spi")
 include(":spi:common:data-address:data-address-kafka-spi")
+include(":spi:common:data-address:data-address-file-spi")
 include(":spi:common:http-spi")
 include(":spi:common:identity-did-spi")
 include(":spi:common:json-ld-spi")
@@ -235,6 +238,7 @@ include(":spi:data-plane-selector:data-plane-selector-spi")
 include(":spi:policy-monitor:policy-monitor-spi")
 
 // modules for system tests ------------------------------------------------------------------------
+include(":system-tests:benchmarks")
 include(":system-tests:e2e-transfer-test:backend-service")
 include(":system-tests:e2e-transfer-test:control-plane")
 include(":system-tests:e2e-transfer-test:data-plane")
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.entity;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Channel used to notify the {@link StateEntityManager}s that entities have transitioned to a state, so that the
+ * processors of that state can run right away instead of waiting for the next polling iteration.
+ * Topics are named after the entity type, see {@link #topic(Class)}. Notifications must be published once the state
+ * change has been committed, otherwise the state machine could run before the entity becomes visible.
+ * Implementations could propagate notifications to other runtimes that share the same persistence.
+ * Notifications are best-effort: state machines keep polling as fallback.
+ */
+@ExtensionPoint
+public interface StateEntityNotificationChannel {
+
+    /**
+     * State passed to the listeners when notifications could have been lost, e.g. after a reconnection, so that all
+     * the processors should run.
+     */
+    int ANY_STATE = -1;
+
+    /**
+     * Returns the topic on which the notifications about an entity type are published.
+     *
+     * @param entityType the entity type.
+     * @return the topic.
+     */
+    static String topic(Class<?> entityType) {
+        return entityType.getSimpleName();
+    }
+
+    /**
+     * Notifies the subscribers of the topic that an entity has transitioned to a state.
+     *
+     * @param topic the topic.
+     * @param state the state code.
+     */
+    void publish(String topic, int state);
+
+    /**
+     * Registers a listener that will be called with the state code every time a notification is published on the
+     * topic.
+     *
+     * @param topic the topic.
+     * @param listener the listener.
+     */
+    void subscribe(String topic, IntConsumer listener);
+}
@@ -34,6 +34,16 @@ public interface IdentityService {
      */
     Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters);
 
+    /**
+     * Tells if a token obtained with {@link #obtainClientCredentials(TokenParameters)} can be reused for other requests
+     * with the same parameters until it expires. Implementations issuing single-use tokens must return false.
+     *
+     * @return true if the tokens can be reused, false otherwise.
+     */
+    default boolean isClientCredentialsReusable() {
+        return true;
+    }
+
     /**
      * Verifies a JWT bearer token.
      *
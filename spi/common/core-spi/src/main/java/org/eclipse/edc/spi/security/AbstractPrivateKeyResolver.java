@@ -20,24 +20,50 @@ import org.eclipse.edc.spi.system.configuration.Config;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Base class for private key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a {@link Vault}) up to the inheritor.
+ * <p>
+ * Parsed keys can be cached for a time-to-live, after which the key material is resolved again, so that a rotated key is
+ * picked up. The material is parsed again only if it changed. Keys can also be evicted explicitly with
+ * {@link #invalidate(String)}, e.g. right after a rotation.
  */
 public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
     private final KeyParserRegistry registry;
     private final Config config;
     private final Monitor monitor;
+    private final KeyMaterialCache<PrivateKey> cache;
 
     public AbstractPrivateKeyResolver(KeyParserRegistry registry, Config config, Monitor monitor) {
+        this(registry, config, monitor, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param registry the key parser registry.
+     * @param config the config, used as fallback.
+     * @param monitor the monitor.
+     * @param cacheTtl time-to-live of the parsed keys, zero disables the cache.
+     * @param clock the clock.
+     */
+    public AbstractPrivateKeyResolver(KeyParserRegistry registry, Config config, Monitor monitor, Duration cacheTtl, Clock clock) {
         this.registry = registry;
         this.config = config;
         this.monitor = monitor;
+        this.cache = new KeyMaterialCache<>(cacheTtl, clock);
     }
 
     @Override
     public Result<PrivateKey> resolvePrivateKey(String id) {
+        var cached = cache.get(id);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
         var encodedKeyResult = resolveInternal(id);
 
         return encodedKeyResult
@@ -45,15 +71,29 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
                     monitor.debug("Public key not found, fallback to config. Error: %s".formatted(failure.getFailureDetail()));
                     return resolveFromConfig(id);
                 })
-                .compose(encodedKey -> registry.parse(encodedKey).compose(pk -> {
-                    if (pk instanceof PrivateKey privateKey) {
-                        return Result.success(privateKey);
-                    } else {
-                        var msg = "The specified resource did not contain private key material.";
-                        monitor.warning(msg);
-                        return Result.failure(msg);
+                .compose(encodedKey -> {
+                    var unchanged = cache.renewIfUnchanged(id, encodedKey);
+                    if (unchanged != null) {
+                        return Result.success(unchanged);
                     }
-                }));
+                    return parse(encodedKey).onSuccess(privateKey -> cache.put(id, encodedKey, privateKey));
+                });
+    }
+
+    /**
+     * Evicts the cached key, so that the next resolution fetches and parses the key material again.
+     *
+     * @param id the Key-ID.
+     */
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Evicts all the cached keys.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
     }
 
     /**
@@ -65,6 +105,18 @@ public abstract class AbstractPrivateKeyResolver implements PrivateKeyResolver {
     @NotNull
     protected abstract Result<String> resolveInternal(String keyId);
 
+    private Result<PrivateKey> parse(String encodedKey) {
+        return registry.parse(encodedKey).compose(pk -> {
+            if (pk instanceof PrivateKey privateKey) {
+                return Result.success(privateKey);
+            } else {
+                var msg = "The specified resource did not contain private key material.";
+                monitor.warning(msg);
+                return Result.failure(msg);
+            }
+        });
+    }
+
     private Result<String> resolveFromConfig(String keyId) {
         var value = config.getString(keyId, null);
         return value == null ?
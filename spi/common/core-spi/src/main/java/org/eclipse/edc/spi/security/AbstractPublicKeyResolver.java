@@ -18,32 +18,81 @@ import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.result.Result;
 
 import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Duration;
 
 /**
  * Base class for public key resolvers, that handles the parsing of the key, but still leaves the actual resolution (e.g.
  * from a DID document, or a URL) up to the inheritor.
+ * <p>
+ * Parsed keys can be cached for a time-to-live, after which the key material is resolved again, so that a rotated key is
+ * picked up. The material is parsed again only if it changed. Keys can also be evicted explicitly with
+ * {@link #invalidate(String)}.
  */
 public abstract class AbstractPublicKeyResolver implements PublicKeyResolver {
     private final KeyParserRegistry registry;
+    private final KeyMaterialCache<PublicKey> cache;
 
     public AbstractPublicKeyResolver(KeyParserRegistry registry) {
+        this(registry, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param registry the key parser registry.
+     * @param cacheTtl time-to-live of the parsed keys, zero disables the cache.
+     * @param clock the clock.
+     */
+    public AbstractPublicKeyResolver(KeyParserRegistry registry, Duration cacheTtl, Clock clock) {
         this.registry = registry;
+        this.cache = new KeyMaterialCache<>(cacheTtl, clock);
     }
 
     @Override
     public Result<PublicKey> resolveKey(String id) {
+        var cached = cache.get(id);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
         var encodedKeyResult = resolveInternal(id);
         return encodedKeyResult
-                .compose(encodedKey ->
-                        registry.parse(encodedKey).compose(pk -> {
-                            if (pk instanceof PublicKey publicKey) {
-                                return Result.success(publicKey);
-                            } else return Result.failure("The specified resource did not contain public key material.");
-                        }))
+                .compose(encodedKey -> {
+                    var unchanged = cache.renewIfUnchanged(id, encodedKey);
+                    if (unchanged != null) {
+                        return Result.success(unchanged);
+                    }
+                    return parse(encodedKey).onSuccess(publicKey -> cache.put(id, encodedKey, publicKey));
+                })
                 .recover(f -> Result.failure("No public key could be resolved for key-ID '%s': %s".formatted(id, f.getFailureDetail())));
 
     }
 
+    /**
+     * Evicts the cached key, so that the next resolution fetches and parses the key material again.
+     *
+     * @param id the Key-ID.
+     */
+    public void invalidate(String id) {
+        cache.invalidate(id);
+    }
+
+    /**
+     * Evicts all the cached keys.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
     protected abstract Result<String> resolveInternal(String id);
 
+    private Result<PublicKey> parse(String encodedKey) {
+        return registry.parse(encodedKey).compose(pk -> {
+            if (pk instanceof PublicKey publicKey) {
+                return Result.success(publicKey);
+            } else return Result.failure("The specified resource did not contain public key material.");
+        });
+    }
+
 }
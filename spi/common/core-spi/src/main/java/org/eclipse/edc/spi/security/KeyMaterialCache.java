@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.spi.security;
+
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches parsed keys by their ID, so that the key material is neither fetched nor parsed again until the time-to-live
+ * elapses. When it does, the key material is fetched again to pick up a rotated key, but only parsed if it changed: the
+ * cache keeps a SHA-256 digest of the material it parsed, never the material itself.
+ *
+ * @param <K> the key type.
+ */
+class KeyMaterialCache<K extends Key> {
+
+    private static final int MAX_ENTRIES = 1000;
+
+    private final Map<String, Entry<K>> entries = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final Clock clock;
+
+    KeyMaterialCache(Duration ttl, Clock clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    boolean isEnabled() {
+        return ttl.isPositive();
+    }
+
+    /**
+     * Returns the cached key, if it did not expire.
+     */
+    @Nullable
+    K get(String id) {
+        var entry = entries.get(id);
+        return entry != null && clock.instant().isBefore(entry.expiresAt) ? entry.key : null;
+    }
+
+    /**
+     * Returns the cached key if it was parsed from the same material, extending its time-to-live.
+     */
+    @Nullable
+    K renewIfUnchanged(String id, String material) {
+        var entry = entries.get(id);
+        if (entry == null || !Arrays.equals(entry.digest, digest(material))) {
+            return null;
+        }
+        entries.replace(id, entry, new Entry<>(entry.key, entry.digest, clock.instant().plus(ttl)));
+        return entry.key;
+    }
+
+    void put(String id, String material, K key) {
+        if (!isEnabled()) {
+            return;
+        }
+        if (entries.size() >= MAX_ENTRIES && !entries.containsKey(id)) {
+            var now = clock.instant();
+            entries.values().removeIf(entry -> !now.isBefore(entry.expiresAt));
+            if (entries.size() >= MAX_ENTRIES) {
+                return;
+            }
+        }
+        entries.put(id, new Entry<>(key, digest(material), clock.instant().plus(ttl)));
+    }
+
+    void invalidate(String id) {
+        entries.remove(id);
+    }
+
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private byte[] digest(String material) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(material.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+
+    private record Entry<K>(K key, byte[] digest, Instant expiresAt) {
+    }
+}
@@ -19,6 +19,8 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.system.configuration.Config;
 import org.jetbrains.annotations.NotNull;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Optional;
 
 /**
@@ -36,6 +38,11 @@ public class VaultPrivateKeyResolver extends AbstractPrivateKeyResolver {
         this.vault = vault;
     }
 
+    public VaultPrivateKeyResolver(KeyParserRegistry registry, Vault vault, Monitor monitor, Config config, Duration cacheTtl, Clock clock) {
+        super(registry, config, monitor, cacheTtl, clock);
+        this.vault = vault;
+    }
+
     @NotNull
     @Override
     protected Result<String> resolveInternal(String keyId) {
@@ -23,12 +23,16 @@ import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.interfaces.RSAPrivateKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -101,6 +105,69 @@ class VaultPrivateKeyResolverTest {
         verify(vault, atLeastOnce()).resolveSecret(TEST_SECRET_ALIAS);
     }
 
+    @Test
+    void resolvePrivateKey_shouldReturnCachedKey_untilTtlElapses() {
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        var cachingResolver = new VaultPrivateKeyResolver(registry, vault, mock(), config, Duration.ofMinutes(5), clock);
+        var key = createKey();
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER);
+        when(registry.parse(any())).thenReturn(Result.success(key));
+
+        assertThat(cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS)).isSucceeded().isSameAs(key);
+        assertThat(cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS)).isSucceeded().isSameAs(key);
+        verify(vault, times(1)).resolveSecret(TEST_SECRET_ALIAS);
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+        assertThat(cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS)).isSucceeded().isSameAs(key);
+        verify(vault, times(2)).resolveSecret(TEST_SECRET_ALIAS);
+        verify(registry, times(1)).parse(any());
+    }
+
+    @Test
+    void resolvePrivateKey_shouldParseRotatedKey_afterTtl() {
+        var clock = mock(Clock.class);
+        var now = Instant.now();
+        when(clock.instant()).thenReturn(now);
+        var cachingResolver = new VaultPrivateKeyResolver(registry, vault, mock(), config, Duration.ofMinutes(5), clock);
+        var key = createKey();
+        var rotatedKey = createKey();
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn("key");
+        when(registry.parse("key")).thenReturn(Result.success(key));
+        when(registry.parse("rotated-key")).thenReturn(Result.success(rotatedKey));
+        cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn("rotated-key");
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(5)));
+
+        assertThat(cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS)).isSucceeded().isSameAs(rotatedKey);
+    }
+
+    @Test
+    void resolvePrivateKey_shouldResolveAgain_whenInvalidated() {
+        var cachingResolver = new VaultPrivateKeyResolver(registry, vault, mock(), config, Duration.ofMinutes(5), Clock.systemUTC());
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn(PrivateTestKeys.ENCODED_PRIVATE_KEY_HEADER);
+        when(registry.parse(any())).thenReturn(Result.success(createKey()));
+        cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+
+        cachingResolver.invalidate(TEST_SECRET_ALIAS);
+        cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+
+        verify(vault, times(2)).resolveSecret(TEST_SECRET_ALIAS);
+    }
+
+    @Test
+    void resolvePrivateKey_shouldNotCacheFailures() {
+        var cachingResolver = new VaultPrivateKeyResolver(registry, vault, mock(), config, Duration.ofMinutes(5), Clock.systemUTC());
+        when(vault.resolveSecret(TEST_SECRET_ALIAS)).thenReturn(PrivateTestKeys.ENCODED_PRIVATE_KEY_NOPEM);
+
+        cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+        cachingResolver.resolvePrivateKey(TEST_SECRET_ALIAS);
+
+        verify(registry, times(2)).parse(any());
+    }
+
     private PrivateKey createKey() {
         try {
             var pk = KeyPairGenerator.getInstance("RSA");
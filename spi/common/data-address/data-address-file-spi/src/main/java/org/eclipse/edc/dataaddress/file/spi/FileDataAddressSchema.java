@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataaddress.file.spi;
+
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Defines the schema of a DataAddress representing a file or a directory on a local or mounted file system.
+ */
+public interface FileDataAddressSchema {
+
+    /**
+     * The transfer type.
+     */
+    String FILE_TYPE = "File";
+
+    /**
+     * The absolute path of the file or the directory. On the source side it can point to a single file or to a
+     * directory, whose files are transferred as separate parts. On the destination side it is the directory the parts
+     * are written into.
+     */
+    String PATH = EDC_NAMESPACE + "path";
+}
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.iam.did.spi.resolution;
+
+import org.eclipse.edc.iam.did.spi.document.DidDocument;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+
+/**
+ * A resolved DID document, with how long it may be cached if the resolver knows it, e.g. from the HTTP caching headers
+ * of the response it was served with.
+ *
+ * @param document the DID document.
+ * @param maxAge how long the document may be cached, null if unknown, zero if it must not be cached.
+ */
+public record DidResolution(DidDocument document, @Nullable Duration maxAge) {
+}
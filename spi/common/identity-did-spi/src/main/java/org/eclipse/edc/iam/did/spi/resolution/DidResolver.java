@@ -35,4 +35,13 @@ public interface DidResolver {
     @NotNull
     Result<DidDocument> resolve(String didKey);
 
+    /**
+     * Resolves the DID document, together with how long it may be cached. Resolvers that know it, e.g. from the HTTP
+     * caching headers, should override this, the default implementation leaves the max age unknown.
+     */
+    @NotNull
+    default Result<DidResolution> resolveWithMaxAge(String didKey) {
+        return resolve(didKey).map(document -> new DidResolution(document, null));
+    }
+
 }
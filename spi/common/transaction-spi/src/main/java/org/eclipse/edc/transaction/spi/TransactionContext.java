@@ -44,6 +44,15 @@ public interface TransactionContext {
      */
     void registerSynchronization(TransactionSynchronization sync);
 
+    /**
+     * Registers a callback that will be called once the active transaction has been committed, and discarded if the
+     * transaction is rolled back. If no transaction is active, the callback is called right away, as it happens for
+     * implementations that cannot track the completion of a transaction.
+     */
+    default void afterCommit(Runnable callback) {
+        callback.run();
+    }
+
     /**
      * Defines a block of transactional code.
      */
@@ -61,4 +61,16 @@ public interface DataPlaneSelectorService {
      */
     ServiceResult<Void> addInstance(DataPlaneInstance instance);
 
+    /**
+     * Records a heartbeat of a data plane instance, reporting its current load. Selection strategies can use it to
+     * prefer the least loaded instances and to skip the ones that stopped sending heartbeats.
+     *
+     * @param instanceId the data plane instance id.
+     * @param activeFlows the number of flows currently running on the instance.
+     * @return successful result if the instance is registered, failure otherwise.
+     */
+    default ServiceResult<Void> heartbeat(String instanceId, int activeFlows) {
+        return ServiceResult.badRequest("Heartbeats are not supported by " + getClass().getSimpleName());
+    }
+
 }
@@ -16,7 +16,9 @@ package org.eclipse.edc.connector.dataplane.spi;
 
 import org.eclipse.edc.spi.iam.ClaimToken;
 import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Instant;
 import java.util.Map;
 
 /**
@@ -28,11 +30,26 @@ import java.util.Map;
  * @param claimToken           The representation of the EDR
  * @param dataAddress          The data resource (= source address) for which the token is authorized
  * @param additionalProperties (optional) a list of additional properties that should be persisted with the AccessTokenData, for example refresh tokens, etc.
+ * @param expiresAt            (optional) the instant when the token expires, after which it can be deleted. Null if the token never expires.
  */
 public record AccessTokenData(String id, ClaimToken claimToken, DataAddress dataAddress,
-                              Map<String, Object> additionalProperties) {
+                              Map<String, Object> additionalProperties, @Nullable Instant expiresAt) {
 
     public AccessTokenData(String id, ClaimToken claimToken, DataAddress dataAddress) {
         this(id, claimToken, dataAddress, Map.of());
     }
+
+    public AccessTokenData(String id, ClaimToken claimToken, DataAddress dataAddress, Map<String, Object> additionalProperties) {
+        this(id, claimToken, dataAddress, additionalProperties, null);
+    }
+
+    /**
+     * Whether the token is expired at the given instant.
+     *
+     * @param now the current instant.
+     * @return true if the token has an expiration that is not after now.
+     */
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
 }
@@ -51,4 +51,14 @@ public interface DataPlaneAccessTokenService {
      * @return A {@link AccessTokenData} that contains the original claims and the data resource ({@link DataAddress}. If the token could not be restored, a failure is returned.
      */
     Result<AccessTokenData> resolve(String token);
+
+    /**
+     * Revokes a token, so that it cannot be resolved anymore.
+     *
+     * @param tokenId The ID of the token.
+     * @return success if the token was revoked, a failure otherwise, e.g. if the token does not exist or revocation is not supported.
+     */
+    default Result<Void> revoke(String tokenId) {
+        return Result.failure("Token revocation is not supported by %s".formatted(getClass().getSimpleName()));
+    }
 }
@@ -78,4 +78,15 @@ public interface DataPlaneAuthorizationService {
      * @return The {@link DataAddress} that was encapsulated in the original {@link DataFlowStartMessage}
      */
     Result<DataAddress> authorize(String token, Map<String, Object> requestData);
+
+    /**
+     * Revokes the tokens issued by {@link DataPlaneAuthorizationService#createEndpointDataReference(DataFlowStartMessage)} for a
+     * transfer process, so that they cannot be used anymore once the data flow ended.
+     *
+     * @param processId The ID of the transfer process, i.e. {@link DataFlowStartMessage#getProcessId()}.
+     * @return success if the tokens were revoked, or if there were none, a failure otherwise.
+     */
+    default Result<Void> revokeEndpointDataReference(String processId) {
+        return Result.failure("Endpoint data reference revocation is not supported by %s".formatted(getClass().getSimpleName()));
+    }
 }
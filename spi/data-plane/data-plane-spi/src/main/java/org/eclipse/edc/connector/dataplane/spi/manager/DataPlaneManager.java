@@ -61,4 +61,11 @@ public interface DataPlaneManager extends StateEntityManager {
      * @return success if data flow is terminated, failed otherwise.
      */
     StatusResult<Void> terminate(String dataFlowId, @Nullable String reason);
+
+    /**
+     * Returns the number of data flows whose transfer is running on this runtime.
+     *
+     * @return the active flows.
+     */
+    int getActiveFlowCount();
 }
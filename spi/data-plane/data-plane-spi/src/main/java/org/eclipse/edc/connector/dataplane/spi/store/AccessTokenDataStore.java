@@ -18,7 +18,9 @@ import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.StoreResult;
 
+import java.time.Instant;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Persistence layer for {@link AccessTokenData} objects, which the data plane uses to keep track of all access tokens that
@@ -63,4 +65,31 @@ public interface AccessTokenDataStore {
      */
     Collection<AccessTokenData> query(QuerySpec querySpec);
 
+    /**
+     * Deletes up to {@code limit} {@link AccessTokenData} objects that are expired at the given instant. Objects without an
+     * expiration are never deleted.
+     *
+     * @param now   the current instant.
+     * @param limit max number of objects to delete.
+     * @return the IDs of the deleted objects.
+     */
+    StoreResult<List<String>> deleteExpired(Instant now, int limit);
+
+    /**
+     * Counts the {@link AccessTokenData} objects that are expired at the given instant.
+     *
+     * @param now the current instant.
+     * @return the number of expired objects.
+     */
+    long countExpired(Instant now);
+
+    /**
+     * Counts the {@link AccessTokenData} objects that are not expired at the given instant, including the ones that never
+     * expire.
+     *
+     * @param now the current instant.
+     * @return the number of live objects.
+     */
+    long countLive(Instant now);
+
 }
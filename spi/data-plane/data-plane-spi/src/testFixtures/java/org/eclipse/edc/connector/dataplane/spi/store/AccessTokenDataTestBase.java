@@ -23,6 +23,8 @@ import org.eclipse.edc.spi.query.SortOrder;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -30,6 +32,7 @@ import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.list;
 
 public abstract class AccessTokenDataTestBase {
 
@@ -155,6 +158,61 @@ public abstract class AccessTokenDataTestBase {
     }
 
 
+    @Test
+    void storeAndGetById_withExpiration() {
+        var object = accessTokenData("1", Instant.now().plusSeconds(60).truncatedTo(ChronoUnit.MILLIS));
+        getStore().store(object);
+        assertThat(getStore().getById("1")).usingRecursiveComparison().isEqualTo(object);
+    }
+
+    @Test
+    void deleteExpired() {
+        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        getStore().store(accessTokenData("expired", now.minusSeconds(10)));
+        getStore().store(accessTokenData("expiring-now", now));
+        getStore().store(accessTokenData("live", now.plusSeconds(10)));
+        getStore().store(accessTokenData("never-expiring"));
+
+        var result = getStore().deleteExpired(now, 10);
+
+        AbstractResultAssert.assertThat(result).isSucceeded().asInstanceOf(list(String.class))
+                .containsExactlyInAnyOrder("expired", "expiring-now");
+        assertThat(getStore().getById("expired")).isNull();
+        assertThat(getStore().getById("live")).isNotNull();
+        assertThat(getStore().getById("never-expiring")).isNotNull();
+    }
+
+    @Test
+    void deleteExpired_shouldDeleteAtMostLimit() {
+        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        IntStream.range(0, 10).forEach(i -> getStore().store(accessTokenData("id" + i, now.minusSeconds(i + 1))));
+
+        var result = getStore().deleteExpired(now, 4);
+
+        AbstractResultAssert.assertThat(result).isSucceeded().asInstanceOf(list(String.class)).hasSize(4);
+        assertThat(getStore().countExpired(now)).isEqualTo(6);
+    }
+
+    @Test
+    void countExpired() {
+        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        getStore().store(accessTokenData("expired", now.minusSeconds(10)));
+        getStore().store(accessTokenData("live", now.plusSeconds(10)));
+        getStore().store(accessTokenData("never-expiring"));
+
+        assertThat(getStore().countExpired(now)).isEqualTo(1);
+    }
+
+    @Test
+    void countLive() {
+        var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        getStore().store(accessTokenData("expired", now.minusSeconds(10)));
+        getStore().store(accessTokenData("live", now.plusSeconds(10)));
+        getStore().store(accessTokenData("never-expiring"));
+
+        assertThat(getStore().countLive(now)).isEqualTo(2);
+    }
+
     protected abstract AccessTokenDataStore getStore();
 
     protected DataAddress dataAddress() {
@@ -162,6 +220,10 @@ public abstract class AccessTokenDataTestBase {
     }
 
     protected AccessTokenData accessTokenData(String id) {
-        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), dataAddress(), Map.of("foo", List.of("bar", "baz")));
+        return accessTokenData(id, null);
+    }
+
+    protected AccessTokenData accessTokenData(String id, Instant expiresAt) {
+        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), dataAddress(), Map.of("foo", List.of("bar", "baz")), expiresAt);
     }
 }
@@ -0,0 +1,52 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+dependencies {
+    jmh(project(":core:common:connector-core"))
+    jmh(project(":core:common:policy-engine"))
+    jmh(project(":core:common:token-core"))
+    jmh(project(":core:common:transform-core"))
+    jmh(project(":core:common:util"))
+    jmh(project(":core:control-plane:catalog-core"))
+    jmh(project(":core:control-plane:contract-core"))
+    jmh(project(":core:control-plane:control-plane-core"))
+    jmh(project(":data-protocols:dsp:dsp-catalog:dsp-catalog-transform"))
+    jmh(project(":extensions:common:json-ld"))
+    jmh(project(":extensions:data-plane:data-plane-http"))
+    jmh(libs.jackson.databind)
+    jmh(libs.nimbus.jwt)
+    jmh(libs.okhttp)
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    resultFormat.set("JSON")
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results.json"))
+    // defaults, can be overridden on the command line with e.g. -Pjmh.includes=PolicyEngineBenchmark
+    providers.gradleProperty("jmh.includes").orNull?.let { includes.set(listOf(it)) }
+    providers.gradleProperty("jmh.profilers").orNull?.let { profilers.set(listOf(it)) }
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+}
+
+edcBuild {
+    publish.set(false)
+}
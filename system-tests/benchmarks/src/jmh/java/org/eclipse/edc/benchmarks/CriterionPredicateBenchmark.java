@@ -0,0 +1,102 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.connector.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static java.util.stream.IntStream.range;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Converts {@link Criterion}s to predicates with the default {@link CriterionOperatorRegistry}, and filters synthetic
+ * assets with them, both directly and through the {@link InMemoryAssetIndex}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CriterionPredicateBenchmark {
+
+    private static final String CATEGORY = EDC_NAMESPACE + "category";
+
+    @Param({ "1000", "10000" })
+    private int assets;
+
+    private CriterionOperatorRegistry registry;
+    private AssetIndex assetIndex;
+    private List<Asset> assetList;
+    private List<Criterion> criteria;
+
+    @Setup
+    public void setUp() {
+        registry = CriterionOperatorRegistryImpl.ofDefaults();
+        assetIndex = new InMemoryAssetIndex(registry);
+        assetList = range(0, assets).mapToObj(this::asset).toList();
+        assetList.forEach(assetIndex::create);
+
+        criteria = List.of(
+                new Criterion(CATEGORY, "=", "category1"),
+                new Criterion(Asset.PROPERTY_ID, "in", range(0, 100).mapToObj(i -> "asset" + i * 10).toList()),
+                new Criterion(Asset.PROPERTY_NAME, "like", "%name 1%")
+        );
+    }
+
+    @Benchmark
+    public Predicate<Asset> toPredicate() {
+        return criteria.stream()
+                .map(registry::<Asset>toPredicate)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    @Benchmark
+    public long filter() {
+        var predicate = toPredicate();
+        return assetList.stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public long queryAssetIndex() {
+        var querySpec = QuerySpec.Builder.newInstance().filter(criteria).limit(Integer.MAX_VALUE).build();
+        return assetIndex.queryAssets(querySpec).count();
+    }
+
+    private Asset asset(int index) {
+        return Asset.Builder.newInstance()
+                .id("asset" + index)
+                .name("name " + index)
+                .property(CATEGORY, "category" + index % 10)
+                .dataAddress(DataAddress.Builder.newInstance().type("test-type").build())
+                .build();
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.catalog.spi.DataService;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.catalog.spi.Distribution;
+import org.eclipse.edc.connector.catalog.DatasetResolverImpl;
+import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
+import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
+import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.connector.defaults.storage.assetindex.InMemoryAssetIndex;
+import org.eclipse.edc.connector.defaults.storage.contractdefinition.InMemoryContractDefinitionStore;
+import org.eclipse.edc.connector.defaults.storage.policydefinition.InMemoryPolicyDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.PolicyDefinition;
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.message.Range;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.spi.types.domain.asset.Asset;
+import org.eclipse.edc.util.concurrency.LockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static java.util.stream.IntStream.range;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Resolves catalog pages with {@link DatasetResolverImpl} over the in-memory stores, filled with {@code assets}
+ * synthetic assets that are spread evenly across {@code definitions} contract definitions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DatasetResolverBenchmark {
+
+    private static final String GROUP = EDC_NAMESPACE + "group";
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "1000", "10000" })
+    private int assets;
+
+    @Param({ "10", "100" })
+    private int definitions;
+
+    private DatasetResolver datasetResolver;
+    private ParticipantAgent agent;
+
+    @Setup
+    public void setUp() {
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        var assetIndex = new InMemoryAssetIndex(criterionOperatorRegistry);
+        var contractDefinitionStore = new InMemoryContractDefinitionStore(criterionOperatorRegistry);
+        var policyDefinitionStore = new InMemoryPolicyDefinitionStore(new LockManager(new ReentrantReadWriteLock()), criterionOperatorRegistry);
+        var policyEngine = new PolicyEngineImpl(new ScopeFilter(new RuleBindingRegistryImpl()));
+
+        policyDefinitionStore.create(PolicyDefinition.Builder.newInstance().id("access").policy(Policy.Builder.newInstance().build()).build());
+        policyDefinitionStore.create(PolicyDefinition.Builder.newInstance().id("contract").policy(Fixtures.policy(3)).build());
+
+        range(0, assets).mapToObj(i -> Asset.Builder.newInstance()
+                .id("asset" + i)
+                .name("asset " + i)
+                .property(GROUP, "group" + i % definitions)
+                .dataAddress(DataAddress.Builder.newInstance().type("test-type").build())
+                .build())
+                .forEach(assetIndex::create);
+
+        range(0, definitions).mapToObj(i -> ContractDefinition.Builder.newInstance()
+                .id("definition" + i)
+                .accessPolicyId("access")
+                .contractPolicyId("contract")
+                .assetsSelectorCriterion(new Criterion(GROUP, "=", "group" + i))
+                .build())
+                .forEach(contractDefinitionStore::save);
+
+        var dataService = DataService.Builder.newInstance().id("data-service").endpointUrl("http://provider/protocol").build();
+        var distributions = List.of(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build());
+
+        var contractDefinitionResolver = new ContractDefinitionResolverImpl(new ConsoleMonitor(), contractDefinitionStore, policyEngine, policyDefinitionStore);
+        datasetResolver = new DatasetResolverImpl(contractDefinitionResolver, assetIndex, policyDefinitionStore, asset -> distributions, criterionOperatorRegistry);
+        agent = new ParticipantAgent(Map.of(), Map.of());
+    }
+
+    @Benchmark
+    public List<Dataset> firstPage() {
+        return query(QuerySpec.Builder.newInstance().range(new Range(0, PAGE_SIZE)).build());
+    }
+
+    @Benchmark
+    public List<Dataset> lastPage() {
+        return query(QuerySpec.Builder.newInstance().range(new Range(assets - PAGE_SIZE, assets)).build());
+    }
+
+    @Benchmark
+    public List<Dataset> filteredPage() {
+        var querySpec = QuerySpec.Builder.newInstance()
+                .filter(new Criterion(Asset.PROPERTY_NAME, "like", "asset 1%"))
+                .range(new Range(0, PAGE_SIZE))
+                .build();
+        return query(querySpec);
+    }
+
+    private List<Dataset> query(QuerySpec querySpec) {
+        return datasetResolver.query(agent, querySpec).toList();
+    }
+}
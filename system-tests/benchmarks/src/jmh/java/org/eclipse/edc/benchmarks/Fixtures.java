@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import org.eclipse.edc.catalog.spi.DataService;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.Distribution;
+import org.eclipse.edc.connector.core.base.agent.NoOpParticipantIdMapper;
+import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.core.transform.transformer.OdrlTransformersFactory;
+import org.eclipse.edc.core.transform.transformer.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.core.transform.transformer.to.JsonValueToGenericTypeTransformer;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.protocol.dsp.catalog.transform.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.util.Map;
+
+import static java.util.stream.IntStream.range;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_PREFIX;
+
+/**
+ * Synthetic domain objects and the components wired as the runtime does, shared by the benchmarks.
+ */
+final class Fixtures {
+
+    static final String SCOPE = "benchmark";
+
+    private Fixtures() {
+    }
+
+    /**
+     * Creates a registry with the transformers needed to turn a {@link Policy} and a {@link Dataset} into JSON-LD, and
+     * an expanded JSON-LD policy back into a {@link Policy}.
+     */
+    static TypeTransformerRegistry transformerRegistry() {
+        var jsonFactory = Json.createBuilderFactory(Map.of());
+        var mapper = JacksonJsonLd.createObjectMapper();
+        mapper.registerSubtypes(AtomicConstraint.class, LiteralExpression.class);
+        var participantIdMapper = new NoOpParticipantIdMapper();
+
+        var registry = new TypeTransformerRegistryImpl();
+        registry.register(new JsonObjectFromPolicyTransformer(jsonFactory, participantIdMapper));
+        registry.register(new JsonObjectFromDatasetTransformer(jsonFactory, mapper));
+        registry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+        OdrlTransformersFactory.jsonObjectToOdrlTransformers(participantIdMapper).forEach(registry::register);
+        registry.register(new JsonValueToGenericTypeTransformer(mapper));
+        return registry;
+    }
+
+    /**
+     * Creates a {@link JsonLd} service with the DSP namespaces registered for {@link #SCOPE}.
+     */
+    static JsonLd jsonLd() {
+        var jsonLd = new TitaniumJsonLd(new ConsoleMonitor());
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, SCOPE);
+        jsonLd.registerNamespace(DCT_PREFIX, DCT_SCHEMA, SCOPE);
+        jsonLd.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA, SCOPE);
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE, SCOPE);
+        return jsonLd;
+    }
+
+    /**
+     * Creates a policy with a single permission that carries the given number of constraints.
+     */
+    static Policy policy(int constraints) {
+        var permission = Permission.Builder.newInstance().action(Action.Builder.newInstance().type("use").build());
+        range(0, constraints).forEach(i -> permission.constraint(AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(EDC_NAMESPACE + "key" + i))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression("value" + i))
+                .build()));
+
+        return Policy.Builder.newInstance()
+                .permission(permission.build())
+                .assigner("provider")
+                .target("asset")
+                .build();
+    }
+
+    /**
+     * Creates a dataset with the given number of offers, each holding a policy with the given number of constraints.
+     */
+    static Dataset dataset(int offers, int constraints) {
+        var dataService = DataService.Builder.newInstance()
+                .id("data-service")
+                .endpointUrl("http://provider/protocol")
+                .build();
+        var dataset = Dataset.Builder.newInstance()
+                .id("asset")
+                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                .property(EDC_NAMESPACE + "name", "asset name")
+                .property(EDC_NAMESPACE + "description", "a synthetic asset used by the benchmarks")
+                .property(EDC_NAMESPACE + "contenttype", "application/json");
+        range(0, offers).forEach(i -> dataset.offer("offer" + i, policy(constraints)));
+        return dataset.build();
+    }
+}
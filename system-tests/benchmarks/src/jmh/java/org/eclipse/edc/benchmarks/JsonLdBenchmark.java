@@ -0,0 +1,68 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expands and compacts a DSP dataset document with {@link TitaniumJsonLd}, for a growing number of offers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonLdBenchmark {
+
+    @Param({ "1", "10", "50" })
+    private int offers;
+
+    private JsonLd jsonLd;
+    private JsonObject compacted;
+    private JsonObject expanded;
+
+    @Setup
+    public void setUp() {
+        jsonLd = Fixtures.jsonLd();
+        var registry = Fixtures.transformerRegistry();
+        expanded = registry.transform(Fixtures.dataset(offers, 5), JsonObject.class)
+                .compose(jsonLd::expand)
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        compacted = jsonLd.compact(expanded, Fixtures.SCOPE)
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> expand() {
+        return jsonLd.expand(compacted);
+    }
+
+    @Benchmark
+    public Result<JsonObject> compact() {
+        return jsonLd.compact(expanded, Fixtures.SCOPE);
+    }
+}
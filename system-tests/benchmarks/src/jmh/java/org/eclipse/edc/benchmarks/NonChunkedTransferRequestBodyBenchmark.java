@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import okio.Okio;
+import org.eclipse.edc.connector.dataplane.http.pipeline.NonChunkedTransferRequestBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource.Part.SIZE_UNKNOWN;
+
+/**
+ * Writes a non-chunked request body of {@code payloadSize} bytes, streamed when the size is known and spilled to a
+ * temporary file otherwise. Heap usage can be observed by running it with the GC profiler
+ * ({@code -Pjmh.profilers=gc}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class NonChunkedTransferRequestBodyBenchmark {
+
+    private static final String OCTET_STREAM = "application/octet-stream";
+
+    @Param({ "10485760", "1073741824", "10737418240" })
+    private long payloadSize;
+
+    @Param({ "true", "false" })
+    private boolean sizeKnown;
+
+    @Benchmark
+    public long writeTo() throws IOException {
+        try (var body = new NonChunkedTransferRequestBody(() -> new GeneratedInputStream(payloadSize), OCTET_STREAM, sizeKnown ? payloadSize : SIZE_UNKNOWN);
+             var sink = Okio.buffer(Okio.blackhole())) {
+            body.writeTo(sink);
+            return body.contentLength();
+        }
+    }
+
+    /**
+     * Returns the requested number of bytes without holding them in memory.
+     */
+    private static class GeneratedInputStream extends InputStream {
+
+        private long remaining;
+
+        GeneratedInputStream(long size) {
+            this.remaining = size;
+        }
+
+        @Override
+        public int read() {
+            if (remaining == 0) {
+                return -1;
+            }
+            remaining--;
+            return 'a';
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            if (remaining == 0) {
+                return -1;
+            }
+            var count = (int) Math.min(length, remaining);
+            remaining -= count;
+            return count;
+        }
+    }
+}
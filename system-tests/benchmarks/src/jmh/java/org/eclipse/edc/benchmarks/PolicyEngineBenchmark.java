@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Prohibition;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.IntStream.range;
+import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
+
+/**
+ * Evaluates a policy with a permission and a prohibition, each carrying {@code constraints} atomic constraints that are
+ * bound to the evaluated scope, so that both the scope filtering and the constraint functions are exercised.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "benchmark";
+    private static final String ACTION = "use";
+
+    @Param({ "1", "10", "50" })
+    private int constraints;
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+
+        bindingRegistry.bind(ACTION, ALL_SCOPES);
+        range(0, constraints).mapToObj(this::key).forEach(key -> {
+            bindingRegistry.bind(key, ALL_SCOPES);
+            policyEngine.registerFunction(ALL_SCOPES, Permission.class, key, (operator, rightValue, rule, context) -> "allowed".equals(rightValue));
+            policyEngine.registerFunction(ALL_SCOPES, Prohibition.class, key, (operator, rightValue, rule, context) -> "forbidden".equals(rightValue));
+        });
+
+        var permission = Permission.Builder.newInstance().action(action());
+        var prohibition = Prohibition.Builder.newInstance().action(action());
+        range(0, constraints).forEach(i -> {
+            permission.constraint(constraint(key(i), "allowed"));
+            prohibition.constraint(constraint(key(i), "allowed"));
+        });
+
+        policy = Policy.Builder.newInstance()
+                .permission(permission.build())
+                .prohibition(prohibition.build())
+                .build();
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        return policyEngine.evaluate(SCOPE, policy, PolicyContextImpl.Builder.newInstance().build());
+    }
+
+    private String key(int index) {
+        return "key" + index;
+    }
+
+    private Action action() {
+        return Action.Builder.newInstance().type(ACTION).build();
+    }
+
+    private AtomicConstraint constraint(String key, String value) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(key))
+                .operator(Operator.EQ)
+                .rightExpression(new LiteralExpression(value))
+                .build();
+    }
+}
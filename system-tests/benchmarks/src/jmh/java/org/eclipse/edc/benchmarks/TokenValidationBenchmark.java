@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSSigner;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.PublicKeyResolver;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.TokenValidationServiceImpl;
+import org.eclipse.edc.token.rules.AudienceValidationRule;
+import org.eclipse.edc.token.rules.ExpirationIssuedAtValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.PublicKey;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Validates a signed JWT with {@link TokenValidationServiceImpl}, the way the data plane and the IATP flows do for
+ * every incoming token: parsing, signature verification and the validation rules.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TokenValidationBenchmark {
+
+    private static final String KEY_ID = "key-id";
+    private static final String AUDIENCE = "audience";
+
+    @Param({ "ES256", "RS256" })
+    private String algorithm;
+
+    private TokenValidationService tokenValidationService;
+    private PublicKeyResolver publicKeyResolver;
+    private List<TokenValidationRule> rules;
+    private TokenRepresentation token;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        PublicKey publicKey;
+        JWSSigner signer;
+        if (JWSAlgorithm.ES256.getName().equals(algorithm)) {
+            var key = new ECKeyGenerator(Curve.P_256).keyID(KEY_ID).generate();
+            publicKey = key.toPublicKey();
+            signer = new ECDSASigner(key);
+        } else {
+            var key = new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+            publicKey = key.toPublicKey();
+            signer = new RSASSASigner(key);
+        }
+
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .issuer("issuer")
+                .subject("subject")
+                .audience(AUDIENCE)
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plusSeconds(3600)))
+                .claim("foo", "bar")
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.parse(algorithm)).keyID(KEY_ID).build(), claims);
+        jwt.sign(signer);
+
+        token = TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+        publicKeyResolver = id -> Result.success(publicKey);
+        rules = List.of(new AudienceValidationRule(AUDIENCE), new ExpirationIssuedAtValidationRule(Clock.systemUTC(), 0));
+        tokenValidationService = new TokenValidationServiceImpl();
+    }
+
+    @Benchmark
+    public Result<ClaimToken> validate() {
+        return tokenValidationService.validate(token, publicKeyResolver, rules);
+    }
+}
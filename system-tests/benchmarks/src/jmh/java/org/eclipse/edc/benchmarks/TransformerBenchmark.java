@@ -0,0 +1,92 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transforms a {@link Policy} and a {@link Dataset} to JSON-LD through the {@link TypeTransformerRegistry}, and a policy
+ * back from its expanded JSON-LD form, which is what happens on the wire for every catalog and negotiation message.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransformerBenchmark {
+
+    @Param({ "1", "10" })
+    private int constraints;
+
+    private TypeTransformerRegistry registry;
+    private JsonLd jsonLd;
+    private Policy policy;
+    private Dataset dataset;
+    private JsonObject expandedPolicy;
+
+    @Setup
+    public void setUp() {
+        registry = Fixtures.transformerRegistry();
+        jsonLd = Fixtures.jsonLd();
+        policy = Fixtures.policy(constraints);
+        dataset = Fixtures.dataset(3, constraints);
+        expandedPolicy = registry.transform(policy, JsonObject.class)
+                .compose(jsonLd::expand)
+                .orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> policyToJsonLd() {
+        return registry.transform(policy, JsonObject.class);
+    }
+
+    @Benchmark
+    public Result<Policy> policyFromJsonLd() {
+        return registry.transform(expandedPolicy, Policy.class);
+    }
+
+    @Benchmark
+    public Result<Policy> policyRoundTrip() {
+        return registry.transform(policy, JsonObject.class)
+                .compose(jsonLd::expand)
+                .compose(expanded -> registry.transform(expanded, Policy.class));
+    }
+
+    @Benchmark
+    public Result<JsonObject> datasetToJsonLd() {
+        return registry.transform(dataset, JsonObject.class);
+    }
+
+    @Benchmark
+    public Result<JsonObject> datasetRoundTrip() {
+        return registry.transform(dataset, JsonObject.class)
+                .compose(json -> jsonLd.compact(json, Fixtures.SCOPE))
+                .compose(jsonLd::expand);
+    }
+}